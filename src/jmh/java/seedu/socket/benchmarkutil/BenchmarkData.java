@@ -0,0 +1,51 @@
+package seedu.socket.benchmarkutil;
+
+import java.util.List;
+
+import seedu.socket.model.Socket;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.util.SyntheticDataGenerator;
+
+/**
+ * Builds the same persons and projects for every run of a benchmark, so results can be compared between runs.
+ */
+public class BenchmarkData {
+    /** The number of persons for each project. */
+    public static final int PERSONS_PER_PROJECT = 10;
+
+    private static final long SEED = 2103;
+
+    /**
+     * Returns {@code count} persons with distinct names and varied tags, languages and contact details.
+     */
+    public static List<Person> createPersons(int count) {
+        return new SyntheticDataGenerator(SEED).generatePersons(count);
+    }
+
+    /**
+     * Returns a person, numbered {@code number}, whose name differs from every other number's.
+     */
+    public static Person createPerson(int number) {
+        return new SyntheticDataGenerator(SEED).generatePerson(number);
+    }
+
+    /**
+     * Returns {@code count} projects with distinct names, deadlines spread over a year and meetings for about half of
+     * them, whose members are picked from as many persons.
+     */
+    public static List<Project> createProjects(int count) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        return generator.generateProjects(generator.generatePersons(count), count);
+    }
+
+    /**
+     * Returns a {@code Socket} of {@code personCount} persons, and a project for every {@link #PERSONS_PER_PROJECT}
+     * of them with {@code membersPerProject} members picked at random.
+     */
+    public static Socket createSocket(int personCount, int membersPerProject) {
+        return new SyntheticDataGenerator(SEED)
+                .withMembers(membersPerProject, membersPerProject, SyntheticDataGenerator.Membership.UNIFORM)
+                .generateSocket(personCount, personCount / PERSONS_PER_PROJECT);
+    }
+}
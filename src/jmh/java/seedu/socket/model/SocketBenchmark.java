@@ -0,0 +1,84 @@
+package seedu.socket.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.socket.benchmarkutil.BenchmarkData;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+
+/**
+ * Measures removing a person from a {@code Socket}, which also removes them from the members of every project.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SocketBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    /** The number of members of each project, so each person is in about a tenth as many projects on average. */
+    @Param({"5", "50"})
+    public int membersPerProject;
+
+    private Socket socket;
+    private Person removed;
+    /** The projects {@code removed} is a member of. */
+    private List<Project> projectsOfRemoved;
+
+    /**
+     * Picks the person in the most projects to be removed.
+     */
+    @Setup
+    public void setUp() {
+        socket = BenchmarkData.createSocket(size, membersPerProject);
+        Map<Person, Integer> projectCounts = new HashMap<>();
+        socket.getProjectList().forEach(project ->
+                project.getMembers().forEach(member -> projectCounts.merge(member, 1, Integer::sum)));
+        removed = Collections.max(projectCounts.entrySet(), Map.Entry.comparingByValue()).getKey();
+        projectsOfRemoved = socket.getProjectList().stream()
+                .filter(project -> project.getMembers().contains(removed))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void removePerson() {
+        socket.removePerson(removed);
+    }
+
+    /**
+     * Puts the removed person back into the socket and their projects.
+     */
+    @TearDown(Level.Invocation)
+    public void restore() {
+        socket.addPerson(removed);
+        for (Project original : projectsOfRemoved) {
+            Project withoutRemoved = socket.getProjectList().stream()
+                    .filter(original::isSameProject)
+                    .findFirst()
+                    .orElseThrow();
+            socket.setProject(withoutRemoved, original);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.socket.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.socket.benchmarkutil.BenchmarkData;
+
+/**
+ * Measures saving a state to the undo history of a {@code VersionedSocket}, and moving through the history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionedSocketBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Socket socket;
+    private VersionedSocket versionedSocket;
+
+    @Setup(Level.Trial)
+    public void setUpSocket() {
+        socket = BenchmarkData.createSocket(size, 5);
+    }
+
+    /**
+     * Starts every iteration with a history of two states, so the history does not grow across iterations.
+     */
+    @Setup(Level.Iteration)
+    public void setUpHistory() {
+        versionedSocket = new VersionedSocket(socket);
+        versionedSocket.commit(socket);
+    }
+
+    @Benchmark
+    public void commit() {
+        versionedSocket.commit(socket);
+    }
+
+    /**
+     * Undoes the last state and redoes it, which leaves the history as it was.
+     */
+    @Benchmark
+    public void undoThenRedo() {
+        versionedSocket.undo();
+        versionedSocket.redo();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.socket.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.socket.benchmarkutil.BenchmarkData;
+
+/**
+ * Measures adding, looking up and replacing a person in a {@code UniquePersonList}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniquePersonListBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private final UniquePersonList list = new UniquePersonList();
+    private Person absent;
+    private Person target;
+    private Person edited;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = BenchmarkData.createPersons(size);
+        list.setPersons(persons);
+        absent = BenchmarkData.createPerson(size);
+        target = persons.get(size / 2);
+        edited = new Person(target.getName(), target.getProfile(), new Phone("99999999"), target.getEmail(),
+                target.getAddress(), target.getLanguages(), target.getTags());
+    }
+
+    /**
+     * Adds a person who is not in the list, which has to be checked against every person in it.
+     */
+    @Benchmark
+    public void add(AddedPerson addedPerson) {
+        list.add(absent);
+    }
+
+    /**
+     * Looks up a person who is not in the list, which is the slowest lookup.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+
+    /**
+     * Replaces a person in the middle of the list with an edited copy, then swaps them for the next invocation.
+     */
+    @Benchmark
+    public void setPerson() {
+        list.setPerson(target, edited);
+        Person replaced = target;
+        target = edited;
+        edited = replaced;
+    }
+
+    /**
+     * Removes the person added by {@link #add}, so every invocation adds to a list of the same size.
+     */
+    @State(Scope.Benchmark)
+    public static class AddedPerson {
+        @TearDown(Level.Invocation)
+        public void remove(UniquePersonListBenchmark benchmark) {
+            benchmark.list.remove(benchmark.absent);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.socket.model.person.predicate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.socket.benchmarkutil.BenchmarkData;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.tag.Tag;
+
+/**
+ * Measures filtering every person by the predicates of {@code find} and {@code list}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersonPredicateBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<Person> persons;
+    private FindCommandPersonPredicate findPredicate;
+    private ListCommandTagPredicate listPredicate;
+
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.createPersons(size);
+        List<String> none = Collections.emptyList();
+        findPredicate = new FindCommandPersonPredicate(Arrays.asList("Alex", "Yu"), none, none, none, none,
+                Arrays.asList("Rust"), Arrays.asList("mentor"));
+        listPredicate = new ListCommandTagPredicate(
+                new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("cs2103t"))));
+    }
+
+    @Benchmark
+    public int find() {
+        return countMatches(findPredicate);
+    }
+
+    @Benchmark
+    public int listByTag() {
+        return countMatches(listPredicate);
+    }
+
+    private int countMatches(Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.socket.model.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.socket.benchmarkutil.BenchmarkData;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+
+/**
+ * Measures sorting every person or project, as {@code sort} and {@code sortpj} do, and keeping only the first few, as
+ * {@code sort CATEGORY COUNT} and {@code sortpj CATEGORY COUNT} do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedViewBenchmark {
+    private static final int TOP_COUNT = 20;
+
+    /**
+     * The persons to sort, and the category to sort them by.
+     */
+    @State(Scope.Benchmark)
+    public static class Persons {
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        @Param({Person.CATEGORY_NAME, Person.CATEGORY_ADDRESS})
+        public String category;
+
+        private ObservableList<Person> persons;
+
+        @Setup
+        public void setUp() {
+            persons = FXCollections.observableArrayList(BenchmarkData.createPersons(size));
+        }
+    }
+
+    /**
+     * The projects to sort, and the category to sort them by.
+     */
+    @State(Scope.Benchmark)
+    public static class Projects {
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        @Param({Project.PROJ_DEADLINE, Project.PROJ_MEETING})
+        public String category;
+
+        private ObservableList<Project> projects;
+
+        @Setup
+        public void setUp() {
+            projects = FXCollections.observableArrayList(BenchmarkData.createProjects(size));
+        }
+    }
+
+    @Benchmark
+    public Person sortAllPersons(Persons state) {
+        return sort(state.persons, person -> person.getSortKey(state.category), SortedView.NO_LIMIT);
+    }
+
+    @Benchmark
+    public Person sortTopPersons(Persons state) {
+        return sort(state.persons, person -> person.getSortKey(state.category), TOP_COUNT);
+    }
+
+    @Benchmark
+    public Project sortAllProjects(Projects state) {
+        return sort(state.projects, project -> project.getSortKey(state.category), SortedView.NO_LIMIT);
+    }
+
+    @Benchmark
+    public Project sortTopProjects(Projects state) {
+        return sort(state.projects, project -> project.getSortKey(state.category), TOP_COUNT);
+    }
+
+    private static <T> T sort(ObservableList<T> items, Function<T, SortKey> keyExtractor, int limit) {
+        SortedView<T, SortKey> view = new SortedView<>(items, keyExtractor, limit);
+        T first = view.get(0);
+        view.dispose();
+        return first;
+    }
+}
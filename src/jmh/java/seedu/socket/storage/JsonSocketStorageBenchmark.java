@@ -0,0 +1,69 @@
+package seedu.socket.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.socket.benchmarkutil.BenchmarkData;
+import seedu.socket.commons.exceptions.DataConversionException;
+import seedu.socket.model.ReadOnlySocket;
+import seedu.socket.model.Socket;
+
+/**
+ * Measures saving and loading the SOCket data file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSocketStorageBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Path folder;
+    private Socket socket;
+    private JsonSocketStorage savedStorage;
+    private JsonSocketStorage savingStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("socket-benchmark");
+        socket = BenchmarkData.createSocket(size, 5);
+        savedStorage = new JsonSocketStorage(folder.resolve("saved.json"));
+        savedStorage.saveSocket(socket);
+        savingStorage = new JsonSocketStorage(folder.resolve("saving.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getSocketFilePath());
+        Files.deleteIfExists(savingStorage.getSocketFilePath());
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        savingStorage.saveSocket(socket);
+    }
+
+    @Benchmark
+    public ReadOnlySocket load() throws DataConversionException {
+        return savedStorage.readSocket().orElseThrow();
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.socket;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.socket.commons.core.Config;
+import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.commons.core.StartupProfiler;
+import seedu.socket.commons.exceptions.DataConversionException;
+import seedu.socket.commons.util.ConfigUtil;
+import seedu.socket.commons.util.StringUtil;
+import seedu.socket.logic.Logic;
+import seedu.socket.logic.LogicManager;
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.ReadOnlySocket;
+import seedu.socket.model.ReadOnlyUserPrefs;
+import seedu.socket.model.Socket;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.util.SampleDataUtil;
+import seedu.socket.storage.JsonSocketStorage;
+import seedu.socket.storage.JsonUserPrefsStorage;
+import seedu.socket.storage.SocketStorage;
+import seedu.socket.storage.Storage;
+import seedu.socket.storage.StorageManager;
+import seedu.socket.storage.UserPrefsStorage;
+
+/**
+ * The config, storage, model and logic components of the application, wired together from the config file.
+ * Nothing here depends on the JavaFX toolkit or the {@code ui} package, so the same components can be used with or
+ * without a window.
+ */
+public class AppContext {
+    private static final Logger logger = LogsCenter.getLogger(AppContext.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppContext(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Initializes the components from the config file at {@code configFilePath}, or the default config file if
+     * {@code configFilePath} is null. Commands change the model on whichever thread executes them.
+     */
+    public static AppContext init(Path configFilePath) {
+        return init(configFilePath, Runnable::run);
+    }
+
+    /**
+     * Initializes the components from the config file at {@code configFilePath}, or the default config file if
+     * {@code configFilePath} is null. Commands submitted to the logic change the model on {@code modelThread}.
+     */
+    public static AppContext init(Path configFilePath, Executor modelThread) {
+        long start = System.nanoTime();
+        Config config = initConfig(configFilePath);
+        StartupProfiler.record("config", start);
+
+        start = System.nanoTime();
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        SocketStorage socketStorage = new JsonSocketStorage(userPrefs.getSocketFilePath());
+        Storage storage = new StorageManager(socketStorage, userPrefsStorage);
+        StartupProfiler.record("prefs", start);
+
+        LogsCenter.init(config);
+
+        Model model = initModelManager(storage, userPrefs);
+
+        start = System.nanoTime();
+        Logic logic = new LogicManager(model, storage, modelThread);
+        StartupProfiler.record("logic", start);
+        return new AppContext(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the user preferences, stopping the logic's and the model's background work first.
+     */
+    public void stop() {
+        logic.stop();
+        model.stopReminders();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s {@code Socket} and {@code userPrefs}. <br>
+     * The data from the sample {@code Socket} will be used instead if {@code storage}'s {@code Socket} is not found,
+     * or an empty {@code Socket} will be used instead if errors occur when reading {@code storage}'s {@code Socket}.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlySocket> socketOptional;
+        ReadOnlySocket initialData;
+        long start = System.nanoTime();
+        try {
+            socketOptional = storage.readSocket();
+            if (!socketOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample Socket");
+            }
+            initialData = socketOptional.orElseGet(SampleDataUtil::getSampleSocket);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty Socket");
+            initialData = new Socket();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Socket");
+            initialData = new Socket();
+        }
+        StartupProfiler.record("storage read", start);
+
+        start = System.nanoTime();
+        Model model = new ModelManager(initialData, userPrefs);
+        StartupProfiler.record("model build", start);
+        return model;
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Socket");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -6,7 +6,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 
-import javafx.application.Application;
 import seedu.socket.commons.core.LogsCenter;
 import seedu.socket.commons.util.FileUtil;
 
@@ -27,11 +26,10 @@ public class AppParameters {
     }
 
     /**
-     * Parses the application command-line parameters.
+     * Parses the named command-line parameters, such as {@code config} for {@code --config=config.json}.
      */
-    public static AppParameters parse(Application.Parameters parameters) {
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -0,0 +1,108 @@
+package seedu.socket;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.logic.Logic;
+import seedu.socket.logic.commands.CommandResult;
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.logic.parser.RunCommandParser;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a window, for use from scripts and scheduled jobs.
+ * The commands are read one per line from the file given as an argument, or from standard input if there is none,
+ * and the result of each is printed to standard output. Errors are printed to standard error and do not stop the
+ * commands that follow, but make the exit status non-zero.
+ * Neither the JavaFX toolkit nor the {@code ui} package is loaded.
+ */
+public class HeadlessMain {
+    public static final String MESSAGE_USAGE = "Usage: java -cp socket.jar " + HeadlessMain.class.getName()
+            + " [--config=CONFIG_FILE] [COMMAND_FILE]";
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_USAGE = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the commands in the file named by {@code args}, or standard input, and returns the exit status.
+     */
+    private static int run(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separator > 0) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separator),
+                        arg.substring(separator + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        if (unnamedParameters.size() > 1) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_USAGE;
+        }
+
+        logger.info("=============================[ Initializing Socket (headless) ]================");
+        AppContext context = AppContext.init(AppParameters.parse(namedParameters).getConfigPath());
+        try (BufferedReader reader = unnamedParameters.isEmpty()
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(unnamedParameters.get(0)), StandardCharsets.UTF_8)) {
+            return execute(context.getLogic(), reader, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println(e);
+            return EXIT_USAGE;
+        } finally {
+            context.stop();
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code reader} with {@code logic} until the input ends or a command exits,
+     * printing the result of each to {@code out} and each error to {@code err}.
+     * Blank lines and lines starting with {@link RunCommandParser#COMMENT_PREFIX} are skipped.
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if the input cannot be read.
+     */
+    public static int execute(Logic logic, BufferedReader reader, PrintStream out, PrintStream err)
+            throws IOException {
+        int status = EXIT_SUCCESS;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(RunCommandParser.COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                CommandResult result = logic.execute(commandText);
+                out.println(result.getFeedbackToUser());
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                status = EXIT_COMMAND_FAILED;
+            }
+        }
+        return status;
+    }
+}
@@ -0,0 +1,311 @@
+package seedu.socket;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.socket.commons.core.Config;
+import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.logic.Logic;
+import seedu.socket.logic.LogicManager;
+import seedu.socket.logic.commands.AddCommand;
+import seedu.socket.logic.commands.AssignCommand;
+import seedu.socket.logic.commands.EditCommand;
+import seedu.socket.logic.commands.FindCommand;
+import seedu.socket.logic.commands.ListCommand;
+import seedu.socket.logic.commands.UndoCommand;
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.ReadOnlySocket;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.stats.LatencyHistogram;
+import seedu.socket.model.util.SyntheticDataGenerator;
+import seedu.socket.storage.JsonSocketStorage;
+import seedu.socket.storage.JsonUserPrefsStorage;
+import seedu.socket.storage.StorageManager;
+
+/**
+ * Measures how SOCket copes with a lot of data, by executing a mix of commands on generated data without a window and
+ * reporting how many commands were executed per second and how long they took.
+ * The data is saved to a temporary folder, which is deleted afterwards, so the user's data is never touched.
+ */
+public class LoadDriver {
+    /** The kinds of commands executed, and how often each is picked relative to the others. */
+    public enum CommandKind {
+        ADD(15), EDIT(15), FIND(25), LIST(20), ASSIGN(10), UNDO(15);
+
+        private final int weight;
+
+        CommandKind(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    public static final String MESSAGE_USAGE = "Usage: java -cp socket.jar " + LoadDriver.class.getName()
+            + " [--persons=COUNT] [--projects=COUNT] [--commands=COUNT] [--seed=SEED] [--membership=uniform|skewed]";
+    public static final String MESSAGE_REPORT = "%1$d commands (%2$d failed) in %3$.2f s, %4$.1f commands/s";
+    public static final String MESSAGE_REPORT_COMMAND = "%1$s x%2$d: p50 %3$s, p95 %4$s, p99 %5$s, max %6$s ms";
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+    public static final int EXIT_USAGE = 2;
+    public static final int DEFAULT_PERSON_COUNT = 10000;
+    public static final int DEFAULT_COMMAND_COUNT = 1000;
+    public static final long DEFAULT_SEED = 2103;
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final int PERSONS_PER_PROJECT = 10;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int TOTAL_WEIGHT = Arrays.stream(CommandKind.values())
+            .mapToInt(kind -> kind.weight).sum();
+
+    private final Logic logic;
+    private final SyntheticDataGenerator generator;
+    private final Random random;
+    private int nextPersonNumber;
+
+    /**
+     * Creates a {@code LoadDriver} that executes commands with {@code logic}, generating new persons with
+     * {@code generator} and numbering them from {@code nextPersonNumber}, and picking commands with {@code random}.
+     */
+    public LoadDriver(Logic logic, SyntheticDataGenerator generator, Random random, int nextPersonNumber) {
+        this.logic = logic;
+        this.generator = generator;
+        this.random = random;
+        this.nextPersonNumber = nextPersonNumber;
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Executes commands on data generated as {@code args} describe, prints the report and returns the exit status.
+     */
+    private static int run(String[] args) {
+        Map<String, String> parameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (!arg.startsWith(NAMED_PARAMETER_PREFIX) || separator < 0) {
+                System.err.println(MESSAGE_USAGE);
+                return EXIT_USAGE;
+            }
+            parameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separator), arg.substring(separator + 1));
+        }
+
+        int personCount;
+        int projectCount;
+        int commandCount;
+        long seed;
+        SyntheticDataGenerator.Membership membership;
+        try {
+            personCount = Integer.parseInt(parameters.getOrDefault("persons", String.valueOf(DEFAULT_PERSON_COUNT)));
+            projectCount = Integer.parseInt(parameters.getOrDefault("projects",
+                    String.valueOf(personCount / PERSONS_PER_PROJECT)));
+            commandCount = Integer.parseInt(parameters.getOrDefault("commands", String.valueOf(DEFAULT_COMMAND_COUNT)));
+            seed = Long.parseLong(parameters.getOrDefault("seed", String.valueOf(DEFAULT_SEED)));
+            membership = SyntheticDataGenerator.Membership.valueOf(
+                    parameters.getOrDefault("membership", "uniform").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_USAGE;
+        }
+
+        // the log of every command would slow the commands down and drown out the report
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed)
+                .withMembers(1, 2 * PERSONS_PER_PROJECT, membership);
+        System.out.println("Generating " + personCount + " persons and " + projectCount + " projects");
+        ReadOnlySocket socket = generator.generateSocket(personCount, projectCount);
+
+        Path folder = null;
+        try {
+            folder = Files.createTempDirectory("socket-load");
+            StorageManager storage = new StorageManager(new JsonSocketStorage(folder.resolve("socket.json")),
+                    new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+            LogicManager logic = new LogicManager(new ModelManager(socket, new UserPrefs()), storage);
+            Report report = new LoadDriver(logic, generator, new Random(seed), personCount).drive(commandCount);
+            logic.stop();
+            System.out.println(report);
+            return EXIT_SUCCESS;
+        } catch (IOException e) {
+            System.err.println(e);
+            return EXIT_FAILURE;
+        } finally {
+            deleteFolder(folder);
+        }
+    }
+
+    /**
+     * Executes {@code commandCount} commands, picked at random, and returns how long they took.
+     */
+    public Report drive(int commandCount) {
+        Report report = new Report();
+        long start = System.nanoTime();
+        for (int i = 0; i < commandCount; i++) {
+            CommandKind kind = pickKind();
+            String commandText = toCommandText(kind);
+            long commandStart = System.nanoTime();
+            boolean isSuccessful = true;
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                isSuccessful = false;
+            }
+            report.record(kind, System.nanoTime() - commandStart, isSuccessful);
+        }
+        report.elapsedNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    private CommandKind pickKind() {
+        int remaining = random.nextInt(TOTAL_WEIGHT);
+        for (CommandKind kind : CommandKind.values()) {
+            remaining -= kind.weight;
+            if (remaining < 0) {
+                return kind;
+            }
+        }
+        throw new AssertionError("The weights add up to TOTAL_WEIGHT");
+    }
+
+    /**
+     * Returns the text of a command of {@code kind} that refers to the persons and projects there are now.
+     * Commands that need a person or project fall back to {@code list} when there are none.
+     */
+    private String toCommandText(CommandKind kind) {
+        List<Person> persons = logic.getSocket().getPersonList();
+        List<Project> projects = logic.getSocket().getProjectList();
+        int shownCount = logic.getFilteredPersonList().size();
+        switch (kind) {
+        case ADD:
+            return toAddCommandText(generator.generatePerson(nextPersonNumber++));
+        case EDIT:
+            return shownCount == 0
+                    ? ListCommand.COMMAND_WORD
+                    : EditCommand.COMMAND_WORD + " " + (1 + random.nextInt(shownCount)) + " p/"
+                            + (90000000 + random.nextInt(10000000));
+        case FIND:
+            return persons.isEmpty()
+                    ? ListCommand.COMMAND_WORD
+                    : FindCommand.COMMAND_WORD + " n/" + pick(persons).getName().fullName.split(" ")[0];
+        case ASSIGN:
+            return persons.isEmpty() || projects.isEmpty()
+                    ? ListCommand.COMMAND_WORD
+                    : AssignCommand.COMMAND_WORD + " \"" + pick(persons).getName() + "\" \""
+                            + pick(projects).getName() + "\"";
+        case UNDO:
+            return UndoCommand.COMMAND_WORD;
+        default:
+            return random.nextBoolean()
+                    ? ListCommand.COMMAND_WORD
+                    : ListCommand.COMMAND_WORD + " t/" + pick(SyntheticDataGenerator.DEFAULT_TAGS);
+        }
+    }
+
+    private <T> T pick(List<T> choices) {
+        return choices.get(random.nextInt(choices.size()));
+    }
+
+    private static String toAddCommandText(Person person) {
+        return AddCommand.COMMAND_WORD + " n/" + person.getName() + " g/" + person.getProfile()
+                + " p/" + person.getPhone() + " e/" + person.getEmail() + " a/" + person.getAddress()
+                + person.getLanguages().stream().map(language -> " l/" + language.languageName)
+                        .collect(Collectors.joining())
+                + person.getTags().stream().map(tag -> " t/" + tag.tagName).collect(Collectors.joining());
+    }
+
+    private static void deleteFolder(Path folder) {
+        if (folder == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+            Files.delete(folder);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + folder + ": " + e);
+        }
+    }
+
+    /**
+     * How many commands of each kind were executed, and how long they took.
+     */
+    public static class Report {
+        private final Map<CommandKind, LatencyHistogram> histograms = new EnumMap<>(CommandKind.class);
+        private final LatencyHistogram allCommands = new LatencyHistogram();
+        private int failureCount;
+        private long elapsedNanos;
+
+        private void record(CommandKind kind, long nanos, boolean isSuccessful) {
+            histograms.computeIfAbsent(kind, unused -> new LatencyHistogram()).record(nanos);
+            allCommands.record(nanos);
+            if (!isSuccessful) {
+                failureCount++;
+            }
+        }
+
+        public long getCommandCount() {
+            return allCommands.getCount();
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : getCommandCount() * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Returns how long the commands of {@code kind} took, which is empty if there were none.
+         */
+        public LatencyHistogram getHistogram(CommandKind kind) {
+            return histograms.getOrDefault(kind, new LatencyHistogram());
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder(String.format(MESSAGE_REPORT, getCommandCount(),
+                    failureCount, elapsedNanos / 1e9, getThroughput()));
+            histograms.forEach((kind, histogram) -> report.append('\n')
+                    .append(describe(kind.name().toLowerCase(Locale.ROOT), histogram)));
+            report.append('\n').append(describe("all", allCommands));
+            return report.toString();
+        }
+
+        private static String describe(String name, LatencyHistogram histogram) {
+            return String.format(MESSAGE_REPORT_COMMAND, name, histogram.getCount(),
+                    toMillis(histogram.getPercentileNanos(50)), toMillis(histogram.getPercentileNanos(95)),
+                    toMillis(histogram.getPercentileNanos(99)), toMillis(histogram.getMaxNanos()));
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format("%.2f", nanos / NANOS_PER_MILLI);
+        }
+    }
+}
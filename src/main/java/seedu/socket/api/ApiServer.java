@@ -0,0 +1,349 @@
+package seedu.socket.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.commons.util.JsonUtil;
+import seedu.socket.logic.CommandTask;
+import seedu.socket.logic.Logic;
+import seedu.socket.logic.commands.Command;
+import seedu.socket.logic.commands.CommandResult;
+import seedu.socket.logic.commands.FindCommand;
+import seedu.socket.logic.commands.ListCommand;
+import seedu.socket.logic.commands.PersonFilterCommand;
+import seedu.socket.logic.commands.QueryCommand;
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.logic.parser.SocketParser;
+import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.model.ReadOnlySocket;
+import seedu.socket.model.person.Person;
+import seedu.socket.storage.JsonAdaptedPerson;
+import seedu.socket.storage.JsonAdaptedProject;
+
+/**
+ * An HTTP server on the loopback interface that serves SOCket as JSON, for use by other tools on the same machine.
+ * <ul>
+ *     <li>{@code GET /api/persons} lists the persons, optionally only those shown by the {@code find}, {@code list}
+ *     or {@code query} command given as the {@code command} query parameter.</li>
+ *     <li>{@code GET /api/projects} lists the projects.</li>
+ *     <li>{@code POST /api/commands} executes the command given as {@code command} in a JSON object, as if it were
+ *     entered in the app.</li>
+ * </ul>
+ * Reads are served concurrently from {@link Logic#getSocketSnapshot()}, so they never wait for a write or see one
+ * half done. Writes are handled on a thread of their own, so reads are not held up by writes waiting for their turn,
+ * and submitted to the logic, which executes them one at a time in the order they arrive, in line with the commands
+ * entered in the app.
+ * <p>
+ * Only programs on the same machine may use the server, and web pages open in a browser may not: requests with an
+ * {@code Origin} header, requests for a host other than {@code localhost} or {@code 127.0.0.1} on the server's port,
+ * and commands not sent as {@code application/json} are rejected. If the server is given a token, every request must
+ * also carry it in an {@code Authorization: Bearer} header.
+ */
+public class ApiServer {
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String PROJECTS_PATH = "/api/projects";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String COMMAND_PARAMETER = "command";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported here";
+    public static final String MESSAGE_NOT_A_FILTER = "%1$s does not list persons";
+    public static final String MESSAGE_MISSING_COMMAND = "The request has no command";
+    public static final String MESSAGE_INVALID_BODY = "The request body is not a valid JSON object";
+    public static final String MESSAGE_MISSING_TOKEN = "The request does not carry the API token";
+    public static final String MESSAGE_ORIGIN_NOT_ALLOWED = "Requests from web pages are not accepted";
+    public static final String MESSAGE_HOST_NOT_ALLOWED = "Requests for host %1$s are not accepted";
+    public static final String MESSAGE_NOT_JSON = "Commands must be sent as " + JSON_CONTENT_TYPE;
+
+    static final int STATUS_OK = 200;
+    static final int STATUS_BAD_REQUEST = 400;
+    static final int STATUS_UNAUTHORIZED = 401;
+    static final int STATUS_FORBIDDEN = 403;
+    static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    static final int STATUS_INTERNAL_ERROR = 500;
+    static final int READER_THREADS = 4;
+
+    private static final Set<String> FILTER_COMMAND_WORDS =
+            Set.of(FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, QueryCommand.COMMAND_WORD);
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final Logic logic;
+    private final String token;
+    private final SocketParser socketParser = new SocketParser();
+    private final HttpServer server;
+    private final ExecutorService readers;
+    private final ExecutorService writer;
+
+    /**
+     * Creates an {@code ApiServer} for {@code logic} on {@code port} of the loopback interface, or any free port if
+     * {@code port} is 0, which does not require a token.
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, int port) throws IOException {
+        this(logic, port, null);
+    }
+
+    /**
+     * Creates an {@code ApiServer} for {@code logic} on {@code port} of the loopback interface, or any free port if
+     * {@code port} is 0, which only serves requests that carry {@code token}, unless it is null or empty.
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, int port, String token) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.token = token == null || token.isEmpty() ? null : token;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        readers = Executors.newFixedThreadPool(READER_THREADS, runnable -> createThread(runnable, "api-server"));
+        writer = Executors.newSingleThreadExecutor(runnable -> createThread(runnable, "api-writer"));
+        server.setExecutor(readers);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, "GET", this::getPersons));
+        server.createContext(PROJECTS_PATH, exchange -> handle(exchange, "GET", this::getProjects));
+        server.createContext(COMMANDS_PATH, exchange -> writer.execute(() -> handleCommand(exchange)));
+    }
+
+    /**
+     * Starts serving requests in the background.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server listening on " + server.getAddress());
+    }
+
+    /**
+     * Stops serving requests, waiting briefly for those in progress to finish.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        readers.shutdownNow();
+        writer.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private Response getPersons(HttpExchange exchange) throws ParseException {
+        ReadOnlySocket snapshot = logic.getSocketSnapshot();
+        Predicate<Person> predicate = parsePersonFilter(getQueryParameters(exchange).get(COMMAND_PARAMETER));
+        List<JsonAdaptedPerson> persons = snapshot.getPersonList().stream()
+                .filter(predicate)
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+        return new Response(STATUS_OK, Map.of("persons", persons));
+    }
+
+    private Response getProjects(HttpExchange exchange) {
+        ReadOnlySocket snapshot = logic.getSocketSnapshot();
+        List<JsonAdaptedProject> projects = snapshot.getProjectList().stream()
+                .map(JsonAdaptedProject::new)
+                .collect(Collectors.toList());
+        return new Response(STATUS_OK, Map.of("projects", projects));
+    }
+
+    private Response postCommand(HttpExchange exchange) throws IOException, CommandException, ParseException {
+        String json;
+        try (InputStream body = exchange.getRequestBody()) {
+            json = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        CommandRequest request;
+        try {
+            request = JsonUtil.fromJsonString(json, CommandRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new ParseException(MESSAGE_INVALID_BODY);
+        }
+        if (request == null || request.command == null || request.command.isBlank()) {
+            throw new ParseException(MESSAGE_MISSING_COMMAND);
+        }
+
+        CompletableFuture<CommandResult> result =
+                logic.submit(request.command, CommandTask.ProgressListener.NONE).getResult();
+        try {
+            return new Response(STATUS_OK, Map.of("feedback", result.get().getFeedbackToUser()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            } else if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the filter of the person-listing command {@code commandText}, or one that matches every person if
+     * {@code commandText} is null.
+     * Only the filter commands are parsed, as parsing some other commands, such as {@code run}, reads files.
+     */
+    private Predicate<Person> parsePersonFilter(String commandText) throws ParseException {
+        if (commandText == null) {
+            return person -> true;
+        }
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        if (!FILTER_COMMAND_WORDS.contains(commandWord)) {
+            throw new ParseException(String.format(MESSAGE_NOT_A_FILTER, commandText.trim()));
+        }
+        Command command = socketParser.parseCommand(commandText);
+        if (!(command instanceof PersonFilterCommand)) {
+            throw new ParseException(String.format(MESSAGE_NOT_A_FILTER, commandText.trim()));
+        }
+        return ((PersonFilterCommand) command).getPersonPredicate();
+    }
+
+    private static Map<String, String> getQueryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            parameters.put(URLDecoder.decode(keyValue[0], StandardCharsets.UTF_8),
+                    keyValue.length == 2 ? URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8) : "");
+        }
+        return parameters;
+    }
+
+    /**
+     * Handles a request to execute a command, on the writer thread.
+     */
+    private void handleCommand(HttpExchange exchange) {
+        try {
+            handle(exchange, "POST", this::postCommand);
+        } catch (IOException e) {
+            logger.warning("API request " + exchange.getRequestURI() + " failed: " + e);
+            exchange.close();
+        }
+    }
+
+    private void handle(HttpExchange exchange, String method, Handler handler) throws IOException {
+        Response response;
+        try {
+            Optional<Response> rejection = checkRequest(exchange, method);
+            response = rejection.isPresent() ? rejection.get() : handler.handle(exchange);
+        } catch (CommandException | ParseException e) {
+            response = Response.error(STATUS_BAD_REQUEST, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.warning("API request " + exchange.getRequestURI() + " failed: " + e);
+            response = Response.error(STATUS_INTERNAL_ERROR, e.toString());
+        }
+
+        byte[] body = JsonUtil.toJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE + "; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Returns the response that rejects {@code exchange}, if it is not a {@code method} request that this server
+     * accepts.
+     */
+    private Optional<Response> checkRequest(HttpExchange exchange, String method) {
+        Headers headers = exchange.getRequestHeaders();
+        if (token != null && !MessageDigest.isEqual(("Bearer " + token).getBytes(StandardCharsets.UTF_8),
+                String.valueOf(headers.getFirst("Authorization")).getBytes(StandardCharsets.UTF_8))) {
+            return Optional.of(Response.error(STATUS_UNAUTHORIZED, MESSAGE_MISSING_TOKEN));
+        }
+        // browsers add an Origin header to the requests that web pages make to other sites
+        if (headers.containsKey("Origin")) {
+            return Optional.of(Response.error(STATUS_FORBIDDEN, MESSAGE_ORIGIN_NOT_ALLOWED));
+        }
+        // a web page whose site resolves to this machine still asks for its own host
+        String host = String.valueOf(headers.getFirst("Host"));
+        if (!host.equalsIgnoreCase("localhost:" + getPort()) && !host.equals("127.0.0.1:" + getPort())) {
+            return Optional.of(Response.error(STATUS_FORBIDDEN, String.format(MESSAGE_HOST_NOT_ALLOWED, host)));
+        }
+        if (!exchange.getRequestMethod().equals(method)) {
+            return Optional.of(Response.error(STATUS_METHOD_NOT_ALLOWED,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod())));
+        }
+        // web pages can only send other content types without asking the server first
+        String contentType = String.valueOf(headers.getFirst("Content-Type"));
+        if (method.equals("POST") && !contentType.split(";", 2)[0].trim().equalsIgnoreCase(JSON_CONTENT_TYPE)) {
+            return Optional.of(Response.error(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_NOT_JSON));
+        }
+        return Optional.empty();
+    }
+
+    private static Thread createThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Handles a request to one of the paths of the server.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(HttpExchange exchange) throws IOException, CommandException, ParseException;
+    }
+
+    /**
+     * A status code with the object to send as the JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, Map.of("error", message));
+        }
+    }
+
+    /**
+     * Jackson-friendly body of a request to execute a command.
+     */
+    private static class CommandRequest {
+        private final String command;
+
+        @JsonCreator
+        CommandRequest(@JsonProperty("command") String command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.socket.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * A {@code Handler} that queues records in a bounded ring buffer and writes them to its targets from a background
+ * thread, so the thread that logs never waits for the console or the log file.
+ * The records queued while a batch is being written make up the next batch, which is formatted in one go and handed
+ * to each target as a single record, so a burst of records costs each target one write and one flush.
+ * When the buffer is full, records less severe than {@code WARNING} are dropped, and how many were dropped is logged
+ * once there is room again. More severe records wait for room instead.
+ */
+class AsyncLogHandler extends Handler {
+    static final int MAX_BATCH_SIZE = 256;
+    static final String MESSAGE_DROPPED = "Dropped %1$d log records because they were logged faster than they could"
+            + " be written";
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    /** Formats the records handed to the targets, whose messages are batches that have been formatted already. */
+    private static final Formatter BATCH_FORMATTER = new Formatter() {
+        @Override
+        public String format(LogRecord record) {
+            return record.getMessage();
+        }
+    };
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object writtenLock = new Object();
+    private final Thread writer;
+    // only used by the writer thread
+    private final List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    private final StringBuilder batchText = new StringBuilder();
+    private long writtenCount;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that writes to {@code targets}, and holds up to {@code capacity} records
+     * that have not been written yet.
+     * The targets are taken over by this handler: they are given a formatter that writes the batches as they are,
+     * and their level and filter are left to this handler.
+     */
+    AsyncLogHandler(List<Handler> targets, int capacity) {
+        requireNonNull(targets);
+        checkArgument(capacity > 0);
+        this.targets = new ArrayList<>(targets);
+        for (Handler target : this.targets) {
+            target.setFormatter(BATCH_FORMATTER);
+            target.setLevel(Level.ALL);
+        }
+        buffer = new ArrayBlockingQueue<>(capacity);
+        setFormatter(new SimpleFormatter());
+
+        writer = new Thread(this::write, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // the caller is found by walking the stack, which has to happen on the thread that logged the record
+        record.getSourceClassName();
+        if (buffer.offer(record)) {
+            queuedCount.incrementAndGet();
+            return;
+        }
+        if (record.getLevel().intValue() < Level.WARNING.intValue()) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        try {
+            buffer.put(record);
+            queuedCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every record published before this call has been written, or this handler is closed.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        synchronized (writtenLock) {
+            while (writtenCount < target && writer.isAlive()) {
+                try {
+                    writtenLock.wait(CLOSE_TIMEOUT_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the records that are still queued and closes the targets.
+     * Closing again does nothing.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+        writer.interrupt();
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped since they were last reported, because the buffer was full.
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Writes the queued records in batches until this handler is closed, then writes whatever is left.
+     */
+    private void write() {
+        while (!isClosed) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+            writeBatch();
+        }
+        // clears the interrupt that closed this handler, so it cannot disturb the targets
+        Thread.interrupted();
+        while (buffer.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            writeBatch();
+        }
+        synchronized (writtenLock) {
+            writtenLock.notifyAll();
+        }
+    }
+
+    private void writeBatch() {
+        int recordCount = batch.size();
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord droppedRecord = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED, dropped));
+            droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+            droppedRecord.setSourceMethodName("publish");
+            batch.add(droppedRecord);
+        }
+
+        batchText.setLength(0);
+        Level batchLevel = Level.ALL;
+        for (LogRecord record : batch) {
+            try {
+                batchText.append(getFormatter().format(record));
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.FORMAT_FAILURE);
+            }
+            if (record.getLevel().intValue() > batchLevel.intValue()) {
+                batchLevel = record.getLevel();
+            }
+        }
+        batch.clear();
+
+        LogRecord batchRecord = new LogRecord(batchLevel, batchText.toString());
+        for (Handler target : targets) {
+            try {
+                target.publish(batchRecord);
+                target.flush();
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+
+        synchronized (writtenLock) {
+            writtenCount += recordCount;
+            writtenLock.notifyAll();
+        }
+    }
+}
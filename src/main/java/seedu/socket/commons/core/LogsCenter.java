@@ -1,12 +1,16 @@
 package seedu.socket.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogManager;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
  * Configures and manages loggers and handlers, including their logging level
@@ -14,39 +18,53 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread, so logging does not make the caller wait for the console or the file.
+ *   Guard messages that are costly to build with {@link Logger#isLoggable(Level)}.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "socket.log";
+    private static final int BUFFER_CAPACITY = 4096;
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler handler;
+    private static boolean isFileHandlerMissing;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Loggers obtained before and after this initialization all log at the new level.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        AsyncLogHandler handler = getHandler();
+        handler.setLevel(currentLogLevel);
+        for (String name : Collections.list(LogManager.getLogManager().getLoggerNames())) {
+            Logger existing = LogManager.getLogManager().getLogger(name);
+            if (existing != null && Arrays.asList(existing.getHandlers()).contains(handler)) {
+                existing.setLevel(currentLogLevel);
+            }
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * A logger that has been created before is returned as it is, apart from its level.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        AsyncLogHandler handler = getHandler();
+        if (!Arrays.asList(logger.getHandlers()).contains(handler)) {
+            logger.setUseParentHandlers(false);
+            removeHandlers(logger);
+            logger.addHandler(handler);
+            if (isFileHandlerMissing) {
+                logger.warning("Error adding file handler for logger.");
+            }
+        }
+        logger.setLevel(currentLogLevel);
+        return logger;
     }
 
     /**
@@ -59,17 +77,6 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
-    /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
-     */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
-    }
-
     /**
      * Remove all the handlers from {@code logger}.
      */
@@ -79,18 +86,23 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handler that every logger shares, which writes to the console and the log file. <br>
+     * Creates the handler if it has not been created yet.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized AsyncLogHandler getHandler() {
+        if (handler != null) {
+            return handler;
+        }
+        List<Handler> targets = new ArrayList<>();
+        targets.add(new ConsoleHandler());
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            targets.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            isFileHandlerMissing = true;
         }
+        handler = new AsyncLogHandler(targets, BUFFER_CAPACITY);
+        handler.setLevel(currentLogLevel);
+        return handler;
     }
 
     /**
@@ -98,15 +110,6 @@ public class LogsCenter {
      * @throws IOException if there are problems opening the file.
      */
     private static FileHandler createFileHandler() throws IOException {
-        FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
-        fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
-        return fileHandler;
-    }
-
-    private static ConsoleHandler createConsoleHandler() {
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
-        return consoleHandler;
+        return new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
     }
 }
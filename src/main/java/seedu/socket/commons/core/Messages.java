@@ -9,6 +9,12 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX = "The project index provided is invalid";
+    public static final String MESSAGE_UNKNOWN_PERSON_KEY =
+            "No person is named or has the email, phone or GitHub profile %1$s";
+    public static final String MESSAGE_AMBIGUOUS_PERSON_KEY =
+            "More than one person has the email, phone or GitHub profile %1$s";
+    public static final String MESSAGE_UNKNOWN_PROJECT_KEY = "No project is named %1$s";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_PROJECTS_LISTED_OVERVIEW = "%1$d projects listed!";
 
 }
@@ -0,0 +1,98 @@
+package seedu.socket.commons.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Records how long each phase of starting SOCket takes, and logs a summary of them once the window is ready.
+ * Phases that happen several times, such as loading the FXML of a kind of {@code UiPart}, are added up.
+ * Nothing is recorded after the summary is logged, so parts of the UI created later do not cost anything.
+ */
+public class StartupProfiler {
+    public static final String MESSAGE_SUMMARY = "Started in %1$d ms since the JVM started: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Map<String, Phase> phases = new LinkedHashMap<>();
+    private static boolean isFinished;
+
+    /**
+     * Records that {@code phase} took from {@code startNanos}, a value of {@link System#nanoTime()}, until now.
+     */
+    public static void record(String phase, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        synchronized (phases) {
+            if (isFinished) {
+                return;
+            }
+            phases.computeIfAbsent(phase, unused -> new Phase()).add(nanos);
+        }
+    }
+
+    /**
+     * Returns whether phases are still being recorded.
+     */
+    public static boolean isRecording() {
+        synchronized (phases) {
+            return !isFinished;
+        }
+    }
+
+    /**
+     * Stops recording, logs the summary of the phases recorded and returns it.
+     */
+    public static String finish() {
+        String summary;
+        synchronized (phases) {
+            isFinished = true;
+            summary = getSummary();
+        }
+        logger.info(summary);
+        return summary;
+    }
+
+    /**
+     * Returns the summary of the phases recorded so far, in the order they were first recorded.
+     */
+    static String getSummary() {
+        synchronized (phases) {
+            StringBuilder summary = new StringBuilder();
+            phases.forEach((name, phase) -> {
+                if (summary.length() > 0) {
+                    summary.append(", ");
+                }
+                summary.append(name);
+                if (phase.count > 1) {
+                    summary.append(" x").append(phase.count);
+                }
+                summary.append(' ').append(String.format("%.1f", phase.nanos / NANOS_PER_MILLI)).append(" ms");
+            });
+            return String.format(MESSAGE_SUMMARY, ManagementFactory.getRuntimeMXBean().getUptime(), summary);
+        }
+    }
+
+    /**
+     * Forgets the phases recorded and starts recording again.
+     */
+    static void reset() {
+        synchronized (phases) {
+            phases.clear();
+            isFinished = false;
+        }
+    }
+
+    /**
+     * How many times a phase happened, and how long it took altogether.
+     */
+    private static class Phase {
+        private long nanos;
+        private int count;
+
+        private void add(long nanos) {
+            this.nanos += nanos;
+            count++;
+        }
+    }
+}
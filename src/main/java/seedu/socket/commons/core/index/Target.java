@@ -0,0 +1,70 @@
+package seedu.socket.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a person or project given either by its {@code Index} in a displayed list, or by a key that identifies
+ * it whatever is displayed, such as its name.
+ *
+ * A key lets a command address a person or project directly, without first listing it to learn its index.
+ */
+public class Target {
+    private final Index index;
+    private final String key;
+
+    private Target(Index index, String key) {
+        this.index = index;
+        this.key = key;
+    }
+
+    /**
+     * Creates a {@code Target} given by its index in a displayed list.
+     */
+    public static Target fromIndex(Index index) {
+        requireNonNull(index);
+        return new Target(index, null);
+    }
+
+    /**
+     * Creates a {@code Target} given by a key that identifies it.
+     */
+    public static Target fromKey(String key) {
+        requireNonNull(key);
+        return new Target(null, key);
+    }
+
+    /**
+     * Returns the index of the target, if it is given by index.
+     */
+    public Optional<Index> getIndex() {
+        return Optional.ofNullable(index);
+    }
+
+    /**
+     * Returns the key of the target, if it is given by key.
+     */
+    public Optional<String> getKey() {
+        return Optional.ofNullable(key);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Target // instanceof handles nulls
+                && Objects.equals(index, ((Target) other).index)
+                && Objects.equals(key, ((Target) other).key)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index == null ? null : index.getZeroBased(), key);
+    }
+
+    @Override
+    public String toString() {
+        return index != null ? String.valueOf(index.getOneBased()) : "\"" + key + "\"";
+    }
+}
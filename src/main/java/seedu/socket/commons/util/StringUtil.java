@@ -8,6 +8,7 @@ import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -40,6 +41,76 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if {@code first} can be turned into {@code second} with at most {@code maxDistance}
+     * single-character insertions, deletions or substitutions (i.e. their Levenshtein distance is within
+     * {@code maxDistance}). Ignores case.
+     * Only the band of width {@code 2 * maxDistance + 1} around the diagonal is computed, and the check stops as soon
+     * as every entry in a row exceeds {@code maxDistance}.
+     *   <br>examples:<pre>
+     *       isWithinEditDistance("Bernise", "bernice", 1) == true
+     *       isWithinEditDistance("Bernise", "Bernard", 2) == false
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        String a = toLowerCaseKey(first);
+        String b = toLowerCaseKey(second);
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return false;
+        }
+
+        int outOfBand = maxDistance + 1;
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = Math.min(j, outOfBand);
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(b.length(), i + maxDistance);
+            current[0] = Math.min(i, outOfBand);
+            if (from > 1) {
+                current[from - 1] = outOfBand;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(outOfBand, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < b.length()) {
+                current[to + 1] = outOfBand;
+            }
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxDistance;
+    }
+
+    /**
+     * Returns {@code text} in lower case, by the rules of no particular locale.
+     * Keys for case-insensitive lookups should be made with this, so that they are the same on every machine, e.g.
+     * {@code "TITLE"} does not become {@code "tıtle"} where the default locale is Turkish.
+     * @param text cannot be null
+     */
+    public static String toLowerCaseKey(String text) {
+        requireNonNull(text);
+        return text.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,76 @@
+package seedu.socket.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+
+import seedu.socket.logic.commands.CommandResult;
+
+/**
+ * A command submitted to be executed in the background, which can be cancelled until it has finished.
+ * Cancelling a command that has not started yet stops it from being executed at all, while cancelling a command made
+ * of steps, like {@code run}, rolls back the steps executed so far. Other commands cannot be stopped once started.
+ */
+public class CommandTask {
+    private final String commandText;
+    private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+    private volatile boolean isCancelled;
+
+    /**
+     * Creates a {@code CommandTask} to execute {@code commandText}.
+     */
+    CommandTask(String commandText) {
+        requireNonNull(commandText);
+        this.commandText = commandText;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    /**
+     * Returns the result of the command, which completes with the exception that stopped the command, e.g. a
+     * {@code CommandException} or {@code ParseException}, if it fails.
+     * The result is completed on a background thread.
+     */
+    public CompletableFuture<CommandResult> getResult() {
+        return result.copy();
+    }
+
+    /**
+     * Asks for the command to be cancelled. Does nothing if it has already finished.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    void complete(CommandResult commandResult) {
+        result.complete(commandResult);
+    }
+
+    void fail(Throwable cause) {
+        result.completeExceptionally(cause);
+    }
+
+    /**
+     * Receives the progress of a command made of steps.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /** A listener that ignores progress. */
+        ProgressListener NONE = (done, total) -> {};
+
+        /**
+         * Called after {@code done} of the {@code total} steps of the command have been executed.
+         */
+        void onProgress(int done, int total);
+    }
+}
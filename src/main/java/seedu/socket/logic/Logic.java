@@ -1,6 +1,8 @@
 package seedu.socket.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.socket.commons.core.GuiSettings;
@@ -8,8 +10,10 @@ import seedu.socket.logic.commands.CommandResult;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.logic.parser.exceptions.ParseException;
 import seedu.socket.model.ReadOnlySocket;
+import seedu.socket.model.SocketSnapshot;
 import seedu.socket.model.person.Person;
 import seedu.socket.model.project.Project;
+import seedu.socket.model.reminder.Reminder;
 
 /**
  * API of the Logic component
@@ -24,6 +28,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Submits the command to be executed in the background and returns without waiting for it.
+     * Submitted commands are executed one at a time, in the order they were submitted, and each is saved before the
+     * next starts. {@code listener} is told about the progress of a command made of steps, like {@code run}, on the
+     * thread that changes the model.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the submitted command, which holds its result and can be used to cancel it.
+     */
+    CommandTask submit(String commandText, CommandTask.ProgressListener listener);
+
+    /**
+     * Returns the number of submitted commands that have not finished yet, including the one being executed or saved.
+     * This can be called from any thread.
+     */
+    int getPendingCommandCount();
+
+    /**
+     * Stops executing submitted commands, waiting a short time for the command being executed to finish, and saves
+     * any changes that are not saved yet.
+     * Commands submitted afterwards, and those still waiting to be executed, fail without being executed.
+     * It must be called on the model thread, whose work on the command being executed it takes over while it waits.
+     */
+    void stop();
+
+    /**
+     * Returns suggested values for the field being typed at the end of {@code textBeforeCaret}.
+     *
+     * @see seedu.socket.logic.parser.CommandCompleter#complete(String)
+     */
+    List<String> getCompletions(String textBeforeCaret);
+
     /**
      * Returns the SOCket.
      *
@@ -31,6 +67,12 @@ public interface Logic {
      */
     ReadOnlySocket getSocket();
 
+    /**
+     * Returns a snapshot of SOCket as it was after the last command that changed it.
+     * Unlike the other methods, this can be called from any thread, and the snapshot returned is never modified.
+     */
+    SocketSnapshot getSocketSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -59,4 +101,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Starts passing each upcoming deadline and meeting reminder to {@code handler} when it is due.
+     * {@code handler} is called on a background thread.
+     */
+    void startReminders(Consumer<Reminder> handler);
 }
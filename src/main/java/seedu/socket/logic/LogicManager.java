@@ -1,7 +1,24 @@
 package seedu.socket.logic;
 
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,57 +26,404 @@ import seedu.socket.commons.core.GuiSettings;
 import seedu.socket.commons.core.LogsCenter;
 import seedu.socket.logic.commands.Command;
 import seedu.socket.logic.commands.CommandResult;
+import seedu.socket.logic.commands.SteppedCommand;
 import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.logic.parser.CommandCompleter;
 import seedu.socket.logic.parser.SocketParser;
 import seedu.socket.logic.parser.exceptions.ParseException;
 import seedu.socket.model.Model;
 import seedu.socket.model.ReadOnlySocket;
+import seedu.socket.model.SocketSnapshot;
 import seedu.socket.model.person.Person;
 import seedu.socket.model.project.Project;
+import seedu.socket.model.reminder.Reminder;
+import seedu.socket.model.stats.CommandMetrics;
 import seedu.socket.storage.Storage;
 
 /**
  * The main {@code LogicManager} of the app.
+ * Commands are either executed on the calling thread by {@link #execute(String)}, or submitted to be executed in the
+ * background by {@link #submit(String, CommandTask.ProgressListener)}. Submitted commands are parsed and saved on a
+ * single worker thread, one at a time in the order they were submitted, while every change to the model is handed to
+ * the model thread given to the {@code LogicManager}, which is the only thread that touches the model.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_CANCELLED = "%1$s was cancelled, so no changes were made";
+    public static final String MESSAGE_STOPPED = "SOCket is closing, so %1$s was not run";
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+    private static final long STOP_POLL_MILLIS = 10;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final SocketParser socketParser;
+    private final CommandCompleter commandCompleter;
+    private final Executor modelThread;
+    private final ExecutorService worker;
+    private final CommandMetrics metrics;
+    /** The number of submitted commands that have not finished, including the one being executed. */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    /** The model task the worker last handed to the model thread, which {@link #stop()} may run in its place. */
+    private final AtomicReference<Runnable> awaitedModelTask = new AtomicReference<>();
+    private final Object saveLock = new Object();
+    /** The version of the last snapshot saved to storage, guarded by {@code saveLock}. */
+    private long savedVersion = -1;
+    private volatile boolean isStopped;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which changes the model
+     * on whichever thread executes a command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which hands every change
+     * to the model of a submitted command to {@code modelThread}.
+     */
+    public LogicManager(Model model, Storage storage, Executor modelThread) {
+        requireAllNonNull(model, storage, modelThread);
         this.model = model;
         this.storage = storage;
+        this.modelThread = modelThread;
+        this.metrics = model.getCommandMetrics();
         socketParser = new SocketParser();
+        commandCompleter = new CommandCompleter(model);
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logCommand(commandText);
 
-        CommandResult commandResult;
-        Command command = socketParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        Command command = parse(commandText);
+        try {
+            return executeAndSave(command, commandText, Runnable::run, null, CommandTask.ProgressListener.NONE);
+        } finally {
+            logSummaryIfDue();
+        }
+    }
 
+    @Override
+    public CommandTask submit(String commandText, CommandTask.ProgressListener listener) {
+        requireAllNonNull(commandText, listener);
+        CommandTask task = new CommandTask(commandText);
+        try {
+            pendingCount.incrementAndGet();
+            worker.execute(() -> {
+                try {
+                    run(task, listener);
+                } finally {
+                    pendingCount.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingCount.decrementAndGet();
+            task.fail(new CommandException(String.format(MESSAGE_STOPPED, commandText)));
+        }
+        return task;
+    }
+
+    @Override
+    public int getPendingCommandCount() {
+        return pendingCount.get();
+    }
+
+    @Override
+    public void stop() {
+        isStopped = true;
+        worker.shutdown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STOP_TIMEOUT_SECONDS);
+        try {
+            // the model thread is busy here, so the model tasks the worker waits for are run here instead
+            while (!worker.awaitTermination(STOP_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (System.nanoTime() > deadline) {
+                    logger.warning("Gave up waiting for the command being executed to finish");
+                    break;
+                }
+                Runnable modelTask = awaitedModelTask.get();
+                if (modelTask != null) {
+                    modelTask.run();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        saveUnsavedChanges();
+    }
+
+    /**
+     * Saves the latest snapshot of the model, if it has changes that are not saved yet.
+     */
+    private void saveUnsavedChanges() {
+        if (!model.hasUnsavedChanges()) {
+            return;
+        }
         try {
-            storage.saveSocket(model.getSocket());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            save(model.getSocketSnapshot());
+        } catch (CommandException e) {
+            logger.severe("Failed to save the data while closing: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Executes {@code task} on the worker thread.
+     */
+    private void run(CommandTask task, CommandTask.ProgressListener listener) {
+        String commandText = task.getCommandText();
+        if (isStopped) {
+            task.fail(new CommandException(String.format(MESSAGE_STOPPED, commandText)));
+            return;
+        }
+        if (task.isCancelled()) {
+            task.fail(new CommandException(String.format(MESSAGE_CANCELLED, commandText)));
+            return;
+        }
+
+        logCommand(commandText);
+        try {
+            Command command = parse(commandText);
+            task.complete(executeAndSave(command, commandText, this::handToModelThread, task, listener));
+        } catch (CommandException | ParseException e) {
+            task.fail(e);
+        } catch (RuntimeException | Error e) {
+            logger.warning("Command " + commandText + " failed unexpectedly: " + e);
+            task.fail(e);
+        }
+        logSummaryIfDue();
+    }
+
+    /**
+     * Parses {@code commandText}, recording how long it took.
+     */
+    private Command parse(String commandText) throws ParseException {
+        long start = System.nanoTime();
+        try {
+            Command command = socketParser.parseCommand(commandText);
+            metrics.record(getCommandWord(commandText), CommandMetrics.Phase.PARSE, System.nanoTime() - start);
+            return command;
+        } catch (ParseException | RuntimeException e) {
+            metrics.record(CommandMetrics.INVALID_COMMAND, CommandMetrics.Phase.PARSE, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Logs {@code commandText}, building the message only if it will be logged, as every command passes through here.
+     */
+    private void logCommand(String commandText) {
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info("----------------[USER COMMAND][" + commandText + "]");
+        }
+    }
+
+    private void logSummaryIfDue() {
+        metrics.pollSummary().ifPresent(summary -> logger.info(summary));
+    }
+
+    /**
+     * Returns the command word of {@code commandText}, which has been parsed successfully.
+     */
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
+    /**
+     * Executes {@code command} on {@code modelThread}, then saves the model if it changed.
+     * {@code task} is checked for cancellation between the steps of a {@code SteppedCommand}, if it is not null.
+     */
+    private CommandResult executeAndSave(Command command, String commandText, Executor modelThread, CommandTask task,
+            CommandTask.ProgressListener listener) throws CommandException {
+        String commandWord = getCommandWord(commandText);
+        CommandResult commandResult;
+        if (command instanceof SteppedCommand) {
+            commandResult = executeInSteps((SteppedCommand) command, commandText, modelThread, task, listener);
+        } else {
+            commandResult = onModelThread(modelThread, () -> {
+                long start = System.nanoTime();
+                try {
+                    return command.execute(model);
+                } finally {
+                    model.publishSnapshot();
+                    metrics.record(commandWord, CommandMetrics.Phase.EXECUTE, System.nanoTime() - start);
+                }
+            });
         }
 
+        SocketSnapshot snapshot = onModelThread(modelThread, () ->
+                model.hasUnsavedChanges() ? model.getSocketSnapshot() : null);
+        if (snapshot != null) {
+            long start = System.nanoTime();
+            save(snapshot);
+            metrics.record(commandWord, CommandMetrics.Phase.SAVE, System.nanoTime() - start);
+            onModelThread(modelThread, () -> {
+                // a later change that is not saved yet must stay marked as unsaved
+                if (model.getSocketSnapshot() == snapshot) {
+                    model.markSocketSaved();
+                }
+                return null;
+            });
+        }
         return commandResult;
     }
 
+    private CommandResult executeInSteps(SteppedCommand command, String commandText, Executor modelThread,
+            CommandTask task, CommandTask.ProgressListener listener) throws CommandException {
+        int stepCount = command.getStepCount();
+        // the time spent on the model thread, leaving out the time spent waiting for it between steps
+        AtomicLong executeNanos = new AtomicLong();
+        onModelThread(modelThread, () -> {
+            long start = System.nanoTime();
+            command.start(model);
+            listener.onProgress(0, stepCount);
+            executeNanos.addAndGet(System.nanoTime() - start);
+            return null;
+        });
+        try {
+            for (int step = 0; step < stepCount; step++) {
+                int currentStep = step;
+                try {
+                    if (task != null && task.isCancelled()) {
+                        throw new CommandException(String.format(MESSAGE_CANCELLED, commandText));
+                    }
+                    onModelThread(modelThread, () -> {
+                        long start = System.nanoTime();
+                        try {
+                            command.executeStep(model, currentStep);
+                            listener.onProgress(currentStep + 1, stepCount);
+                        } finally {
+                            executeNanos.addAndGet(System.nanoTime() - start);
+                        }
+                        return null;
+                    });
+                } catch (CommandException | RuntimeException e) {
+                    onModelThread(modelThread, () -> {
+                        command.abort(model);
+                        model.publishSnapshot();
+                        return null;
+                    });
+                    throw e;
+                }
+            }
+            return onModelThread(modelThread, () -> {
+                long start = System.nanoTime();
+                CommandResult commandResult = command.finish(model);
+                model.publishSnapshot();
+                executeNanos.addAndGet(System.nanoTime() - start);
+                return commandResult;
+            });
+        } finally {
+            metrics.record(getCommandWord(commandText), CommandMetrics.Phase.EXECUTE, executeNanos.get());
+        }
+    }
+
+    /**
+     * Saves {@code snapshot} to storage, unless a later snapshot has already been saved.
+     */
+    private void save(SocketSnapshot snapshot) throws CommandException {
+        synchronized (saveLock) {
+            if (snapshot.getVersion() <= savedVersion) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                storage.saveSocket(snapshot);
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            long saveNanos = System.nanoTime() - start;
+            savedVersion = snapshot.getVersion();
+            metrics.recordSave(snapshot.getPersonList().size() + snapshot.getProjectList().size(),
+                    getSavedByteCount(), saveNanos);
+        }
+    }
+
+    /**
+     * Returns the size of the saved data file, or 0 if it cannot be read.
+     */
+    private long getSavedByteCount() {
+        try {
+            return Files.size(storage.getSocketFilePath());
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Hands {@code task} to the model thread, keeping it as the task the worker waits for, so that {@link #stop()} can
+     * run it if the model thread does not. Only the first of them to get to it runs it.
+     */
+    private void handToModelThread(Runnable task) {
+        AtomicBoolean isClaimed = new AtomicBoolean();
+        Runnable claimableTask = () -> {
+            if (isClaimed.compareAndSet(false, true)) {
+                task.run();
+            }
+        };
+        awaitedModelTask.set(claimableTask);
+        modelThread.execute(claimableTask);
+    }
+
+    /**
+     * Runs {@code task} on {@code modelThread} and waits for its result.
+     */
+    private static <T> T onModelThread(Executor modelThread, ModelTask<T> task) throws CommandException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        modelThread.execute(() -> {
+            try {
+                result.complete(task.run());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(e.toString(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CommandException(cause.toString(), cause);
+        }
+    }
+
+    /**
+     * A piece of work on the model that is run on the model thread.
+     */
+    @FunctionalInterface
+    private interface ModelTask<T> {
+        T run() throws CommandException;
+    }
+
+    @Override
+    public List<String> getCompletions(String textBeforeCaret) {
+        return commandCompleter.complete(textBeforeCaret);
+    }
+
     @Override
     public ReadOnlySocket getSocket() {
         return model.getSocket();
     }
 
+    @Override
+    public SocketSnapshot getSocketSnapshot() {
+        return model.getSocketSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -98,4 +462,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void startReminders(Consumer<Reminder> handler) {
+        model.startReminders(handler);
+    }
 }
@@ -69,7 +69,7 @@ public class AddCommand extends Command {
         }
         model.addPerson(toAdd);
         model.commitSocket();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd) + KeyCollisionWarning.of(model, toAdd));
     }
 
     @Override
@@ -56,7 +56,7 @@ public class AddProjectCommand extends Command {
 
         model.addProject(toAdd);
         model.commitSocket();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd) + MeetingConflictWarning.of(model, toAdd));
     }
 
     @Override
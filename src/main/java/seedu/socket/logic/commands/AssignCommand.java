@@ -3,11 +3,10 @@ package seedu.socket.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
 import seedu.socket.model.person.Person;
@@ -21,45 +20,43 @@ public class AssignCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a person to a project.\n"
             + "Person & project are identified by the index number "
-            + "used in the displayed person & project list respectively.\n"
-            + "Parameters: PERSON_INDEX (must be a positive integer) "
-            + "PROJECT_INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1 3";
+            + "used in the displayed person & project list respectively, or by their name in double quotes.\n"
+            + "Parameters: PERSON_INDEX (must be a positive integer, or a name in double quotes) "
+            + "PROJECT_INDEX (must be a positive integer, or a name in double quotes)\n"
+            + "Example: " + COMMAND_WORD + " 1 3, " + COMMAND_WORD + " \"Alex Yeoh\" \"Alpha Project\"";
 
     public static final String MESSAGE_ASSIGN_SUCCESS = "Added %1$s to project: %2$s";
     public static final String MESSAGE_ALREADY_IN_PROJECT = "%1$s is already a member of this project.";
-    private final Index personIndex;
-    private final Index projectIndex;
+    private final Target personTarget;
+    private final Target projectTarget;
+
+    /**
+     * @param personTarget the person to be added to the project, by index in the person list or by key
+     * @param projectTarget the project that the person is to be added to, by index in the project list or by key
+     */
+    public AssignCommand(Target personTarget, Target projectTarget) {
+        requireNonNull(personTarget);
+        requireNonNull(projectTarget);
+
+        this.personTarget = personTarget;
+        this.projectTarget = projectTarget;
+    }
 
     /**
      * @param personIndex Index of the person in the person list to be added to project
      * @param projectIndex Index of the project in the project list that person is to be added to
      */
     public AssignCommand(Index personIndex, Index projectIndex) {
-        requireNonNull(personIndex);
-        requireNonNull(projectIndex);
-
-        this.personIndex = personIndex;
-        this.projectIndex = projectIndex;
+        this(Target.fromIndex(personIndex), Target.fromIndex(projectIndex));
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownPersonList = model.getFilteredPersonList();
-        List<Project> lastShownProjectList = model.getFilteredProjectList();
-
-        // Checks if index provided is valid.
-        if (personIndex.getZeroBased() >= lastShownPersonList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-        if (projectIndex.getZeroBased() >= lastShownProjectList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
-        }
 
         // Gets Project and Person to be assigned, prepares Set for transfer.
-        Person personToAssign = lastShownPersonList.get(personIndex.getZeroBased());
-        Project projectToAssign = lastShownProjectList.get(projectIndex.getZeroBased());
+        Person personToAssign = TargetResolver.resolvePerson(model, personTarget);
+        Project projectToAssign = TargetResolver.resolveProject(model, projectTarget);
         Set<Person> members = projectToAssign.getMembers();
         Set<Person> newMembers = new HashSet<>();
 
@@ -81,7 +78,8 @@ public class AssignCommand extends Command {
         model.setProject(projectToAssign, editedProject);
         model.commitSocket();
         return new CommandResult(String.format(
-                MESSAGE_ASSIGN_SUCCESS, personToAssign.getName(), editedProject.getName()));
+                MESSAGE_ASSIGN_SUCCESS, personToAssign.getName(), editedProject.getName())
+                + MeetingConflictWarning.of(model, editedProject));
     }
 
     @Override
@@ -98,7 +96,7 @@ public class AssignCommand extends Command {
 
         // state check
         AssignCommand e = (AssignCommand) other;
-        return personIndex.equals(e.personIndex)
-                && projectIndex.equals(e.projectIndex);
+        return personTarget.equals(e.personTarget)
+                && projectTarget.equals(e.projectTarget);
     }
 }
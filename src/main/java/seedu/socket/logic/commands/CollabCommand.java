@@ -0,0 +1,68 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+import seedu.socket.model.person.Person;
+
+/**
+ * Lists the persons who share a project with a person in the filtered list, directly or through other persons.
+ */
+public class CollabCommand extends Command {
+
+    public static final String COMMAND_WORD = "collab";
+    public static final int DEFAULT_HOPS = 1;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the persons who share a project with the person identified by the index number used in the "
+            + "contact list or by their name in double quotes. If HOPS is given, also lists the persons reachable "
+            + "through up to HOPS shared projects.\n"
+            + "Parameters: INDEX (must be a positive integer, or a name in double quotes) [HOPS]\n"
+            + "Example: " + COMMAND_WORD + " 1 2";
+
+    private final Target target;
+    private final int hops;
+
+    /**
+     * Creates a {@code CollabCommand} to list the persons at most {@code hops} shared projects away from the person
+     * given by {@code target}.
+     */
+    public CollabCommand(Target target, int hops) {
+        requireNonNull(target);
+        this.target = target;
+        this.hops = hops;
+    }
+
+    /**
+     * Creates a {@code CollabCommand} to list the persons at most {@code hops} shared projects away from the person
+     * at {@code index}.
+     */
+    public CollabCommand(Index index, int hops) {
+        this(Target.fromIndex(index), hops);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Person person = TargetResolver.resolvePerson(model, target);
+        Set<String> collaborators = new HashSet<>(model.findCollaborators(person, hops));
+        model.updateFilteredPersonList(other -> collaborators.contains(other.getName().toString()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CollabCommand // instanceof handles nulls
+                && target.equals(((CollabCommand) other).target)
+                && hops == ((CollabCommand) other).hops); // state check
+    }
+}
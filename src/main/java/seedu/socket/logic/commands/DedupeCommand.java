@@ -0,0 +1,71 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.dedupe.DuplicateCandidate;
+import seedu.socket.model.person.Person;
+
+/**
+ * Lists the pairs of persons that are likely to be the same person, so that they can be merged.
+ */
+public class DedupeCommand extends Command {
+
+    public static final String COMMAND_WORD = "dedupe";
+    public static final int MAX_PAIRS_SHOWN = 20;
+
+    public static final String MESSAGE_NO_DUPLICATES = "No likely duplicates found";
+    public static final String MESSAGE_SUCCESS = "%1$d likely duplicate pairs found. Merge a pair with "
+            + MergeCommand.COMMAND_WORD + " INDEX INDEX:";
+    public static final String MESSAGE_PAIR = "\n%1$d & %2$d: %3$s / %4$s (%5$s)";
+    public static final String MESSAGE_SIMILARITY = "%1$d%% similar";
+    public static final String MESSAGE_SHARED_KEY = "same email, phone or profile";
+    public static final String MESSAGE_MORE_PAIRS = "\n...and %1$d more";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<DuplicateCandidate> candidates = model.findDuplicates();
+        if (candidates.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+
+        Set<String> names = new HashSet<>();
+        for (DuplicateCandidate candidate : candidates) {
+            names.add(candidate.getFirst().getName().toString());
+            names.add(candidate.getSecond().getName().toString());
+        }
+        model.updateFilteredPersonList(person -> names.contains(person.getName().toString()));
+        Map<String, Integer> displayedIndexes = new HashMap<>();
+        List<Person> shownList = model.getFilteredPersonList();
+        for (int i = 0; i < shownList.size(); i++) {
+            displayedIndexes.put(shownList.get(i).getName().toString(), i + 1);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, candidates.size()));
+        for (DuplicateCandidate candidate : candidates.subList(0, Math.min(MAX_PAIRS_SHOWN, candidates.size()))) {
+            String reason = candidate.hasSharedKey()
+                    ? MESSAGE_SHARED_KEY
+                    : String.format(MESSAGE_SIMILARITY, Math.round(candidate.getSimilarity() * 100));
+            // shows the pair in list order, so that it reads the same as the merge command that keeps the first
+            Person first = candidate.getFirst();
+            Person second = candidate.getSecond();
+            if (displayedIndexes.get(first.getName().toString()) > displayedIndexes.get(second.getName().toString())) {
+                first = candidate.getSecond();
+                second = candidate.getFirst();
+            }
+            message.append(String.format(MESSAGE_PAIR, displayedIndexes.get(first.getName().toString()),
+                    displayedIndexes.get(second.getName().toString()), first.getName(), second.getName(), reason));
+        }
+        if (candidates.size() > MAX_PAIRS_SHOWN) {
+            message.append(String.format(MESSAGE_MORE_PAIRS, candidates.size() - MAX_PAIRS_SHOWN));
+        }
+        return new CommandResult(message.toString());
+    }
+}
@@ -2,10 +2,8 @@ package seedu.socket.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
 import seedu.socket.model.person.Person;
@@ -19,27 +17,32 @@ public class DeleteCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEX (must be a positive integer, or a name in double quotes)\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " \"Alex Yeoh\"";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
 
-    private final Index targetIndex;
+    private final Target target;
+
+    /**
+     * @param target the person to delete, by index in the filtered person list or by key
+     */
+    public DeleteCommand(Target target) {
+        requireNonNull(target);
+        this.target = target;
+    }
 
+    /**
+     * Creates a {@code DeleteCommand} for the person at {@code targetIndex} in the filtered person list.
+     */
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(Target.fromIndex(targetIndex));
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Person personToDelete = TargetResolver.resolvePerson(model, target);
         if (!model.getViewedPerson().isEmpty()
                 && personToDelete.isSamePerson(model.getViewedPerson().get(0))) {
             model.updateViewedPerson(null);
@@ -53,6 +56,6 @@ public class DeleteCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && target.equals(((DeleteCommand) other).target)); // state check
     }
 }
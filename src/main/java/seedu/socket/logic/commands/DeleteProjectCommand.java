@@ -2,10 +2,8 @@ package seedu.socket.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
 import seedu.socket.model.project.Project;
@@ -19,27 +17,32 @@ public class DeleteProjectCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the project identified by the index number used in the displayed project list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEX (must be a positive integer, or a name in double quotes)\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " \"Alpha Project\"";
 
     public static final String MESSAGE_DELETE_PROJECT_SUCCESS = "Deleted Project: %1$s";
 
-    private final Index targetIndex;
+    private final Target target;
+
+    /**
+     * @param target the project to delete, by index in the filtered project list or by key
+     */
+    public DeleteProjectCommand(Target target) {
+        requireNonNull(target);
+        this.target = target;
+    }
 
+    /**
+     * Creates a {@code DeleteProjectCommand} for the project at {@code targetIndex} in the filtered project list.
+     */
     public DeleteProjectCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(Target.fromIndex(targetIndex));
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Project> lastShownList = model.getFilteredProjectList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
-        }
-
-        Project projectToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Project projectToDelete = TargetResolver.resolveProject(model, target);
         if (!model.getViewedProject().isEmpty()
                 && projectToDelete.isSameProject(model.getViewedProject().get(0))) {
             model.updateViewedProject(null);
@@ -53,6 +56,6 @@ public class DeleteProjectCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteProjectCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteProjectCommand) other).targetIndex)); // state check
+                && target.equals(((DeleteProjectCommand) other).target)); // state check
     }
 }
@@ -0,0 +1,48 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+
+/**
+ * Deletes a saved view of projects. The projects in it are not affected.
+ */
+public class DeleteProjectViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "deleteviewpj";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Deletes the saved project view "
+            + "with the given name (case-insensitive). The projects in the view are not deleted.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " duethisweek";
+
+    public static final String MESSAGE_SUCCESS = "Deleted project view %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a {@code DeleteProjectViewCommand} to delete the project view {@code name}.
+     */
+    public DeleteProjectViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasProjectView(name)) {
+            throw new CommandException(String.format(ShowProjectViewCommand.MESSAGE_VIEW_NOT_FOUND, name));
+        }
+        model.deleteProjectView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeleteProjectViewCommand // instanceof handles nulls
+                && name.equalsIgnoreCase(((DeleteProjectViewCommand) other).name));
+    }
+}
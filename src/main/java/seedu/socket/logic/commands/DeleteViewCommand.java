@@ -0,0 +1,48 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+
+/**
+ * Deletes a saved view of persons. The persons in it are not affected.
+ */
+public class DeleteViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "deleteview";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Deletes the saved view "
+            + "with the given name (case-insensitive). The persons in the view are not deleted.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " javafriends";
+
+    public static final String MESSAGE_SUCCESS = "Deleted view %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a {@code DeleteViewCommand} to delete the view {@code name}.
+     */
+    public DeleteViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasPersonView(name)) {
+            throw new CommandException(String.format(ShowViewCommand.MESSAGE_VIEW_NOT_FOUND, name));
+        }
+        model.deletePersonView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeleteViewCommand // instanceof handles nulls
+                && name.equalsIgnoreCase(((DeleteViewCommand) other).name));
+    }
+}
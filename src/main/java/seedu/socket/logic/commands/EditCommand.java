@@ -12,12 +12,11 @@ import static seedu.socket.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.commons.util.CollectionUtil;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
@@ -40,7 +39,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the person identified "
             + "by the index number used in the displayed person list. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer, or a name in double quotes) "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PROFILE + "GITHUBPROFILE] "
             + "[" + PREFIX_PHONE + "PHONE] "
@@ -57,31 +56,32 @@ public class EditCommand extends Command {
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in SOCket.";
     public static final String MESSAGE_EXCEED_TAG = "There are %1$s tags which exceeds the limit of 10 tags";
 
-    private final Index index;
+    private final Target target;
     private final EditPersonDescriptor editPersonDescriptor;
 
     /**
-     * @param index of the person in the filtered person list to edit
+     * @param target the person to edit, by index in the filtered person list or by key
      * @param editPersonDescriptor details to edit the person with
      */
-    public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
-        requireNonNull(index);
+    public EditCommand(Target target, EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(target);
         requireNonNull(editPersonDescriptor);
 
-        this.index = index;
+        this.target = target;
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
     }
 
+    /**
+     * Creates an {@code EditCommand} for the person at {@code index} in the filtered person list.
+     */
+    public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
+        this(Target.fromIndex(index), editPersonDescriptor);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToEdit = lastShownList.get(index.getZeroBased());
+        Person personToEdit = TargetResolver.resolvePerson(model, target);
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
@@ -97,7 +97,8 @@ public class EditCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         model.commitSocket();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson)
+                + KeyCollisionWarning.of(model, editedPerson, personToEdit));
     }
 
     /**
@@ -138,7 +139,7 @@ public class EditCommand extends Command {
 
         // state check
         EditCommand e = (EditCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
                 && editPersonDescriptor.equals(e.editPersonDescriptor);
     }
 
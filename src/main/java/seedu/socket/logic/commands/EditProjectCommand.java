@@ -8,12 +8,11 @@ import static seedu.socket.logic.parser.CliSyntax.PREFIX_REPO_HOST;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_REPO_NAME;
 import static seedu.socket.model.Model.PREDICATE_SHOW_ALL_PROJECTS;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.commons.util.CollectionUtil;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
@@ -37,7 +36,7 @@ public class EditProjectCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of this project identified "
             + "by the index number used in the displayed project list. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer, or a name in double quotes) "
             + "[" + PREFIX_NAME + "PROJECT_NAME] "
             + "[" + PREFIX_REPO_HOST + "REPO_HOST] "
             + "[" + PREFIX_REPO_NAME + "REPO_NAME] "
@@ -51,31 +50,32 @@ public class EditProjectCommand extends Command {
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PROJECT = "This project already exists in SOCket.";
 
-    private final Index index;
+    private final Target target;
     private final EditProjectDescriptor editProjectDescriptor;
 
     /**
-     * @param index of the person in the filtered project list to edit
+     * @param target the project to edit, by index in the filtered project list or by key
      * @param editProjectDescriptor details to edit the project with
      */
-    public EditProjectCommand(Index index, EditProjectDescriptor editProjectDescriptor) {
-        requireNonNull(index);
+    public EditProjectCommand(Target target, EditProjectDescriptor editProjectDescriptor) {
+        requireNonNull(target);
         requireNonNull(editProjectDescriptor);
 
-        this.index = index;
+        this.target = target;
         this.editProjectDescriptor = new EditProjectDescriptor(editProjectDescriptor);
     }
 
+    /**
+     * Creates an {@code EditProjectCommand} for the project at {@code index} in the filtered project list.
+     */
+    public EditProjectCommand(Index index, EditProjectDescriptor editProjectDescriptor) {
+        this(Target.fromIndex(index), editProjectDescriptor);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Project> lastShownList = model.getFilteredProjectList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
-        }
-
-        Project projectToEdit = lastShownList.get(index.getZeroBased());
+        Project projectToEdit = TargetResolver.resolveProject(model, target);
         Project editedProject = createEditedProject(projectToEdit, editProjectDescriptor);
 
         if (!projectToEdit.isSameProject(editedProject) && model.hasProject(editedProject)) {
@@ -85,7 +85,10 @@ public class EditProjectCommand extends Command {
         model.setProject(projectToEdit, editedProject);
         model.commitSocket();
         model.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
-        return new CommandResult(String.format(MESSAGE_EDIT_PROJECT_SUCCESS, editedProject));
+        String warning = editProjectDescriptor.getMeeting().isPresent()
+                ? MeetingConflictWarning.of(model, editedProject)
+                : "";
+        return new CommandResult(String.format(MESSAGE_EDIT_PROJECT_SUCCESS, editedProject) + warning);
     }
 
     /**
@@ -119,7 +122,7 @@ public class EditProjectCommand extends Command {
 
         // state check
         EditProjectCommand e = (EditProjectCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
                 && editProjectDescriptor.equals(e.editProjectDescriptor);
     }
 
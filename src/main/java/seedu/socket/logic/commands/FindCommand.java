@@ -9,15 +9,24 @@ import static seedu.socket.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_PROFILE;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
 import seedu.socket.commons.core.Messages;
 import seedu.socket.model.Model;
+import seedu.socket.model.index.PersonKeyIndex;
+import seedu.socket.model.person.Person;
 import seedu.socket.model.person.predicate.FindCommandPersonPredicate;
 
 /**
  * Finds & lists all persons in SOCket whose fields contain any of the argument keyword(s) for the respective fields.
  * Keyword matching is case-insensitive.
  */
-public class FindCommand extends Command {
+public class FindCommand extends Command implements PersonFilterCommand {
 
     public static final String COMMAND_WORD = "find";
 
@@ -43,11 +52,24 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(personPredicate);
+        Optional<Map<PersonKeyIndex.Field, List<String>>> keyLookups = personPredicate.getKeyLookups();
+        if (keyLookups.isPresent()) {
+            Set<Person> matches = new HashSet<>();
+            keyLookups.get().forEach((field, keys) ->
+                    keys.forEach(key -> matches.addAll(model.findPersonsByKey(field, key))));
+            model.updateFilteredPersonList(matches::contains);
+        } else {
+            model.updateFilteredPersonList(personPredicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public Predicate<Person> getPersonPredicate() {
+        return personPredicate;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,72 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PROFILE;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.model.Model;
+import seedu.socket.model.index.FuzzyPersonIndex.Field;
+import seedu.socket.model.person.Person;
+
+/**
+ * Finds & lists all persons in SOCket whose name, email or GitHub profile is close to any of the argument keyword(s)
+ * for the respective fields, tolerating typos.
+ * Keyword matching is case-insensitive.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+    public static final String MODE_WORD = "fuzzy";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + MODE_WORD + ": Finds all persons whose fields "
+            + "contain a word close to any of the specified keyword(s) (case-insensitive, typos allowed) in the "
+            + "respective fields and displays them as a list with index numbers.\n"
+            + "Parameters: "
+            + "[" + PREFIX_NAME + "NAME] "
+            + "[" + PREFIX_PROFILE + "GITHUBPROFILE] "
+            + "[" + PREFIX_EMAIL + "EMAIL]\n"
+            + "Example: " + COMMAND_WORD + " " + MODE_WORD + " n/bernise";
+
+    private final List<String> nameKeywords;
+    private final List<String> profileKeywords;
+    private final List<String> emailKeywords;
+
+    /**
+     * Creates a {@code FuzzyFindCommand} to find persons close to the given keywords.
+     */
+    public FuzzyFindCommand(List<String> nameKeywords, List<String> profileKeywords, List<String> emailKeywords) {
+        requireNonNull(nameKeywords);
+        requireNonNull(profileKeywords);
+        requireNonNull(emailKeywords);
+        this.nameKeywords = nameKeywords;
+        this.profileKeywords = profileKeywords;
+        this.emailKeywords = emailKeywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = new HashSet<>();
+        nameKeywords.forEach(keyword -> matches.addAll(model.findPersonsFuzzy(Field.NAME, keyword)));
+        profileKeywords.forEach(keyword -> matches.addAll(model.findPersonsFuzzy(Field.PROFILE, keyword)));
+        emailKeywords.forEach(keyword -> matches.addAll(model.findPersonsFuzzy(Field.EMAIL, keyword)));
+        model.updateFilteredPersonList(matches::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyFindCommand // instanceof handles nulls
+                && nameKeywords.equals(((FuzzyFindCommand) other).nameKeywords)
+                && profileKeywords.equals(((FuzzyFindCommand) other).profileKeywords)
+                && emailKeywords.equals(((FuzzyFindCommand) other).emailKeywords));
+    }
+}
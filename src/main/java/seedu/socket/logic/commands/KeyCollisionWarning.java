@@ -0,0 +1,45 @@
+package seedu.socket.logic.commands;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.index.PersonKeyIndex;
+import seedu.socket.model.person.Person;
+
+/**
+ * Builds the warning shown when a person shares their email, phone or GitHub profile with another person.
+ */
+class KeyCollisionWarning {
+
+    public static final String MESSAGE_KEY_COLLISION = "\nWarning: %1$s also has this %2$s";
+
+    private KeyCollisionWarning() {}
+
+    /**
+     * Returns the warnings for the other persons in {@code model} sharing a key with {@code person}, one per field,
+     * or an empty string if there are none.
+     */
+    static String of(Model model, Person person) {
+        return of(model, person, null);
+    }
+
+    /**
+     * Returns the warnings for the other persons in {@code model} sharing a key with {@code editedPerson}, leaving out
+     * the keys that are unchanged from {@code originalPerson}, or an empty string if there are none.
+     */
+    static String of(Model model, Person editedPerson, Person originalPerson) {
+        Map<PersonKeyIndex.Field, List<Person>> collisions = model.findKeyCollisions(editedPerson);
+        StringBuilder warning = new StringBuilder();
+        collisions.forEach((field, persons) -> {
+            if (originalPerson != null && field.getKey(editedPerson).equals(field.getKey(originalPerson))) {
+                return;
+            }
+            warning.append(String.format(MESSAGE_KEY_COLLISION,
+                    persons.stream().map(person -> person.getName().toString()).collect(Collectors.joining(", ")),
+                    field));
+        });
+        return warning.toString();
+    }
+}
@@ -14,7 +14,7 @@ import seedu.socket.model.person.predicate.ListCommandTagPredicate;
 /**
  * Lists all persons in SOCket to the user or based on tag or language.
  */
-public class ListCommand extends Command {
+public class ListCommand extends Command implements PersonFilterCommand {
 
     public static final String COMMAND_WORD = "list";
 
@@ -49,6 +49,11 @@ public class ListCommand extends Command {
         }
     }
 
+    @Override
+    public Predicate<Person> getPersonPredicate() {
+        return isKeywordPresent ? predicate : PREDICATE_SHOW_ALL_PERSONS;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,31 @@
+package seedu.socket.logic.commands;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+
+/**
+ * Builds the warning shown when the meeting of a project clashes with another meeting of one of its members.
+ */
+class MeetingConflictWarning {
+
+    public static final String MESSAGE_MEETING_CONFLICT = "\nWarning: %1$s also has a meeting for %2$s around then";
+
+    private MeetingConflictWarning() {}
+
+    /**
+     * Returns the warnings for the clashes with the meeting of {@code project} in {@code model}, one per line,
+     * or an empty string if there are none.
+     */
+    static String of(Model model, Project project) {
+        Map<Person, List<Project>> conflicts = model.findMeetingConflicts(project);
+        StringBuilder warning = new StringBuilder();
+        conflicts.forEach((member, projects) -> warning.append(String.format(MESSAGE_MEETING_CONFLICT,
+                member.getName(), projects.stream().map(Project::toString).collect(Collectors.joining(", ")))));
+        return warning.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+import seedu.socket.model.person.Person;
+
+/**
+ * Merges a person in the filtered list into another, keeping the projects of both.
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Merges the second person identified by the index numbers used in the contact list, or by their "
+            + "names in double quotes, into the first. "
+            + "Details missing from the first person are taken from the second, languages and tags of both are kept, "
+            + "and the second person is replaced by the first in all of their projects.\n"
+            + "Parameters: INDEX INDEX (must be positive integers, or names in double quotes)\n"
+            + "Example: " + COMMAND_WORD + " 1 2";
+
+    public static final String MESSAGE_MERGE_SUCCESS = "Merged %2$s into %1$s";
+    public static final String MESSAGE_SAME_PERSON = "A person cannot be merged with themselves";
+
+    private final Target targetPerson;
+    private final Target sourcePerson;
+
+    /**
+     * Creates a {@code MergeCommand} to merge {@code sourcePerson} into {@code targetPerson}, each given by index in
+     * the filtered person list or by key.
+     */
+    public MergeCommand(Target targetPerson, Target sourcePerson) {
+        requireNonNull(targetPerson);
+        requireNonNull(sourcePerson);
+        this.targetPerson = targetPerson;
+        this.sourcePerson = sourcePerson;
+    }
+
+    /**
+     * Creates a {@code MergeCommand} to merge the person at {@code sourceIndex} into the person at
+     * {@code targetIndex}.
+     */
+    public MergeCommand(Index targetIndex, Index sourceIndex) {
+        this(Target.fromIndex(targetIndex), Target.fromIndex(sourceIndex));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Person target = TargetResolver.resolvePerson(model, targetPerson);
+        Person source = TargetResolver.resolvePerson(model, sourcePerson);
+        if (target.isSamePerson(source)) {
+            throw new CommandException(MESSAGE_SAME_PERSON);
+        }
+
+        boolean isViewed = !model.getViewedPerson().isEmpty()
+                && (target.isSamePerson(model.getViewedPerson().get(0))
+                || source.isSamePerson(model.getViewedPerson().get(0)));
+        Person merged = model.mergePersons(target, source);
+        if (isViewed) {
+            model.updateViewedPerson(merged);
+        }
+        model.commitSocket();
+        return new CommandResult(String.format(MESSAGE_MERGE_SUCCESS, merged.getName(), source.getName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MergeCommand // instanceof handles nulls
+                && targetPerson.equals(((MergeCommand) other).targetPerson)
+                && sourcePerson.equals(((MergeCommand) other).sourcePerson)); // state check
+    }
+}
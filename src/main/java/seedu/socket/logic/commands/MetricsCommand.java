@@ -0,0 +1,19 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.socket.model.Model;
+
+/**
+ * Shows how long each phase of the commands run so far took, and how much has been saved.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(model.getCommandMetrics().getSummary());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+import seedu.socket.model.person.Person;
+
+/**
+ * Finds the shortest chain of shared projects between two persons in the filtered list.
+ */
+public class PathCommand extends Command {
+
+    public static final String COMMAND_WORD = "path";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the shortest chain of shared projects between the two persons identified by the index numbers "
+            + "used in the contact list or by their names in double quotes, and lists the persons along it.\n"
+            + "Parameters: INDEX INDEX (must be positive integers, or names in double quotes)\n"
+            + "Example: " + COMMAND_WORD + " 1 3";
+
+    public static final String MESSAGE_SUCCESS = "Collaboration path: %1$s";
+    public static final String MESSAGE_NO_PATH = "%1$s and %2$s are not connected through any projects";
+
+    private final Target fromPerson;
+    private final Target toPerson;
+
+    /**
+     * Creates a {@code PathCommand} to find a chain of shared projects between the persons given by
+     * {@code fromPerson} and {@code toPerson}.
+     */
+    public PathCommand(Target fromPerson, Target toPerson) {
+        requireNonNull(fromPerson);
+        requireNonNull(toPerson);
+        this.fromPerson = fromPerson;
+        this.toPerson = toPerson;
+    }
+
+    /**
+     * Creates a {@code PathCommand} to find a chain of shared projects between the persons at {@code fromIndex} and
+     * {@code toIndex}.
+     */
+    public PathCommand(Index fromIndex, Index toIndex) {
+        this(Target.fromIndex(fromIndex), Target.fromIndex(toIndex));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Person from = TargetResolver.resolvePerson(model, fromPerson);
+        Person to = TargetResolver.resolvePerson(model, toPerson);
+        List<String> path = model.findCollaborationPath(from, to);
+        if (path.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_PATH, from.getName(), to.getName()));
+        }
+
+        Set<String> namesOnPath = new HashSet<>(path);
+        model.updateFilteredPersonList(person -> namesOnPath.contains(person.getName().toString()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join(" -> ", path)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PathCommand // instanceof handles nulls
+                && fromPerson.equals(((PathCommand) other).fromPerson)
+                && toPerson.equals(((PathCommand) other).toPerson)); // state check
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.socket.logic.commands;
+
+import java.util.function.Predicate;
+
+import seedu.socket.model.person.Person;
+
+/**
+ * A command that filters the person list, whose filter can also be applied to persons outside of a {@code Model}.
+ */
+public interface PersonFilterCommand {
+
+    /**
+     * Returns the predicate that the persons shown by this command match.
+     */
+    Predicate<Person> getPersonPredicate();
+}
@@ -0,0 +1,59 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.model.Model;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.predicate.QueryPredicate;
+
+/**
+ * Finds & lists all persons in SOCket that match a query combining field keywords with AND, OR and NOT.
+ * Keyword matching is case-insensitive.
+ */
+public class QueryCommand extends Command implements PersonFilterCommand {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching the given query "
+            + "and displays them as a list with index numbers.\n"
+            + "A query is made of PREFIX/KEYWORD terms (case-insensitive, full words only) for the fields "
+            + "n/ g/ p/ e/ a/ l/ t/, combined with AND, OR, NOT and parentheses. "
+            + "Terms without an operator between them are combined with AND.\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " l/java AND (t/colleagues OR t/friends) AND NOT t/alumni";
+
+    private final QueryPredicate query;
+
+    /**
+     * Creates a {@code QueryCommand} to find the persons matching {@code query}.
+     */
+    public QueryCommand(QueryPredicate query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = model.findPersons(query);
+        model.updateFilteredPersonList(matches::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public Predicate<Person> getPersonPredicate() {
+        return query;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCommand // instanceof handles nulls
+                && query.equals(((QueryCommand) other).query));
+    }
+}
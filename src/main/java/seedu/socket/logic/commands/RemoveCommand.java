@@ -11,12 +11,11 @@ import static seedu.socket.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.commons.util.CollectionUtil;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
@@ -38,7 +37,7 @@ public class RemoveCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes the field of the person identified "
             + "by the index number used in the displayed person list. "
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer, or a name in double quotes) "
             + "[" + PREFIX_PROFILE + "[GITHUBPROFILE]] "
             + "[" + PREFIX_PHONE + "[PHONE]] "
             + "[" + PREFIX_EMAIL + "[EMAIL]] "
@@ -55,31 +54,32 @@ public class RemoveCommand extends Command {
 
     public static final String MESSAGE_REMOVE_FIELD_NOT_MATCH = "The field provided does not exist in the SOCket.";
 
-    private final Index index;
+    private final Target target;
 
     private final RemovePersonDescriptor removePersonDescriptor;
 
     /**
-     * @param index of the person in the filtered person list to remove
+     * @param target the person to remove fields from, by index in the filtered person list or by key
      * @param removePersonDescriptor details to remove from the person
      */
-    public RemoveCommand(Index index, RemovePersonDescriptor removePersonDescriptor) {
-        requireNonNull(index);
+    public RemoveCommand(Target target, RemovePersonDescriptor removePersonDescriptor) {
+        requireNonNull(target);
 
-        this.index = index;
+        this.target = target;
         this.removePersonDescriptor = new RemovePersonDescriptor(removePersonDescriptor);
     }
 
+    /**
+     * Creates a {@code RemoveCommand} for the person at {@code index} in the filtered person list.
+     */
+    public RemoveCommand(Index index, RemovePersonDescriptor removePersonDescriptor) {
+        this(Target.fromIndex(index), removePersonDescriptor);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personFieldToRemove = lastShownList.get(index.getZeroBased());
+        Person personFieldToRemove = TargetResolver.resolvePerson(model, target);
         Person removedFieldPerson = createRemoveFieldPerson(personFieldToRemove, removePersonDescriptor);
 
         if (!removePersonDescriptor.isAnyFieldRemoved()) {
@@ -129,7 +129,7 @@ public class RemoveCommand extends Command {
 
         // state check
         RemoveCommand e = (RemoveCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
                 && removePersonDescriptor.equals(e.removePersonDescriptor);
     }
 
@@ -10,9 +10,8 @@ import static seedu.socket.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import java.util.Optional;
 import java.util.Set;
 
-import javafx.collections.ObservableList;
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.commons.util.CollectionUtil;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
@@ -33,7 +32,7 @@ public class RemoveProjectCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes the field of the project identified "
             + "by the index number used in the displayed project list. "
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer, or a name in double quotes) "
             + "[" + PREFIX_REPO_HOST + "[REPO_HOST]] "
             + "[" + PREFIX_REPO_NAME + "[REPO_NAME]] "
             + "[" + PREFIX_DEADLINE + "[DEADLINE]] "
@@ -48,30 +47,31 @@ public class RemoveProjectCommand extends Command {
 
     public static final String MESSAGE_REMOVE_FIELD_NOT_MATCH = "The field provided does not exist in the SOCket.";
 
-    private final Index index;
+    private final Target target;
 
     private final RemoveProjectDescriptor removeProjectDescriptor;
 
     /**
-     * @param index of the project in the filtered project list to remove
+     * @param target the project to remove fields from, by index in the filtered project list or by key
      * @param removeProjectDescriptor details to remove from the project
      */
-    public RemoveProjectCommand(Index index, RemoveProjectDescriptor removeProjectDescriptor) {
-        requireNonNull(index);
-        this.index = index;
+    public RemoveProjectCommand(Target target, RemoveProjectDescriptor removeProjectDescriptor) {
+        requireNonNull(target);
+        this.target = target;
         this.removeProjectDescriptor = new RemoveProjectDescriptor(removeProjectDescriptor);
     }
 
+    /**
+     * Creates a {@code RemoveProjectCommand} for the project at {@code index} in the filtered project list.
+     */
+    public RemoveProjectCommand(Index index, RemoveProjectDescriptor removeProjectDescriptor) {
+        this(Target.fromIndex(index), removeProjectDescriptor);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        ObservableList<Project> lastShownList = model.getFilteredProjectList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
-        }
-
-        Project projectFieldToRemove = lastShownList.get(index.getZeroBased());
+        Project projectFieldToRemove = TargetResolver.resolveProject(model, target);
         Project removedFieldProject = createRemoveFieldProject(projectFieldToRemove, removeProjectDescriptor);
 
         if (!removeProjectDescriptor.isAnyFieldRemoved()) {
@@ -115,7 +115,7 @@ public class RemoveProjectCommand extends Command {
 
         // state check
         RemoveProjectCommand e = (RemoveProjectCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
                 && removeProjectDescriptor.equals(e.removeProjectDescriptor);
     }
 
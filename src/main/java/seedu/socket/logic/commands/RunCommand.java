@@ -0,0 +1,104 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+
+/**
+ * Runs the commands in a script file as a single change, which is undone and saved as a whole.
+ * If any command fails, the changes made by the commands before it are rolled back.
+ * Each command of the script is a step, so a long script can be cancelled while it runs.
+ */
+public class RunCommand extends Command implements SteppedCommand {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line, as a single change that is undone with a single undo. "
+            + "Blank lines and lines starting with # are skipped. If a command fails, no changes are made.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/onboarding.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d of %2$s failed, so no changes were made: %3$s";
+
+    private final Path file;
+    /** The commands of the script with their line numbers, in order of line number. */
+    private final List<Map.Entry<Integer, Command>> commandsByLine;
+
+    /**
+     * Creates a {@code RunCommand} to run {@code commandsByLine}, which were read from {@code file}, in order of line
+     * number.
+     */
+    public RunCommand(Path file, Map<Integer, Command> commandsByLine) {
+        requireAllNonNull(file, commandsByLine);
+        this.file = file;
+        this.commandsByLine = new ArrayList<>(new TreeMap<>(commandsByLine).entrySet());
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        start(model);
+        for (int step = 0; step < getStepCount(); step++) {
+            try {
+                executeStep(model, step);
+            } catch (CommandException e) {
+                abort(model);
+                throw e;
+            }
+        }
+        return finish(model);
+    }
+
+    @Override
+    public int getStepCount() {
+        return commandsByLine.size();
+    }
+
+    @Override
+    public void start(Model model) {
+        requireNonNull(model);
+        model.startBatch();
+    }
+
+    @Override
+    public void executeStep(Model model, int step) throws CommandException {
+        requireNonNull(model);
+        Map.Entry<Integer, Command> entry = commandsByLine.get(step);
+        try {
+            entry.getValue().execute(model);
+        } catch (CommandException | RuntimeException e) {
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, entry.getKey(), file, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public CommandResult finish(Model model) {
+        requireNonNull(model);
+        model.commitBatch();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandsByLine.size(), file));
+    }
+
+    @Override
+    public void abort(Model model) {
+        requireNonNull(model);
+        model.rollbackBatch();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && file.equals(((RunCommand) other).file)
+                && commandsByLine.equals(((RunCommand) other).commandsByLine)); // state check
+    }
+}
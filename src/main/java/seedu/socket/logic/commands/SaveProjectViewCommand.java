@@ -0,0 +1,56 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import seedu.socket.model.Model;
+
+/**
+ * Saves the projects with a deadline or meeting in a period as a named view, which is kept up to date as projects
+ * are added, edited and deleted, and shows it.
+ */
+public class SaveProjectViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "saveviewpj";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the projects with a deadline or meeting "
+            + "from today until the given number of days from today as a view with the given name, replacing any "
+            + "project view with the same name, and displays it. The period is fixed on the day the view is saved.\n"
+            + "The name must be alphanumeric and the rest has the same format as in the upcoming command.\n"
+            + "Parameters: NAME [" + UpcomingCommand.CATEGORY_DEADLINE + "|" + UpcomingCommand.CATEGORY_MEETING
+            + "] [DAYS]\n"
+            + "Example: " + COMMAND_WORD + " duethisweek " + UpcomingCommand.CATEGORY_DEADLINE + " 7";
+
+    public static final String MESSAGE_SUCCESS = "Saved project view %1$s with %2$d projects";
+
+    private final String name;
+    private final UpcomingCommand upcoming;
+
+    /**
+     * Creates a {@code SaveProjectViewCommand} to save the projects that {@code upcoming} lists as the view
+     * {@code name}.
+     */
+    public SaveProjectViewCommand(String name, UpcomingCommand upcoming) {
+        requireNonNull(name);
+        requireNonNull(upcoming);
+        this.name = name;
+        this.upcoming = upcoming;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.saveProjectView(name, upcoming.getProjectPredicate(LocalDate.now()));
+        model.showProjectView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, model.getFilteredProjectList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveProjectViewCommand // instanceof handles nulls
+                && name.equalsIgnoreCase(((SaveProjectViewCommand) other).name)
+                && upcoming.equals(((SaveProjectViewCommand) other).upcoming));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.person.predicate.QueryPredicate;
+
+/**
+ * Saves the persons matching a query as a named view, which is kept up to date as persons are added, edited
+ * and deleted, and shows it.
+ */
+public class SaveViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "saveview";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the persons matching the given query "
+            + "as a view with the given name, replacing any view with the same name, and displays it.\n"
+            + "The name must be alphanumeric and the query has the same format as in the query command.\n"
+            + "Parameters: NAME QUERY\n"
+            + "Example: " + COMMAND_WORD + " javafriends l/java AND t/friends";
+
+    public static final String MESSAGE_SUCCESS = "Saved view %1$s with %2$d persons";
+
+    private final String name;
+    private final QueryPredicate query;
+
+    /**
+     * Creates a {@code SaveViewCommand} to save the persons matching {@code query} as the view {@code name}.
+     */
+    public SaveViewCommand(String name, QueryPredicate query) {
+        requireNonNull(name);
+        requireNonNull(query);
+        this.name = name;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.savePersonView(name, query);
+        model.showPersonView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveViewCommand // instanceof handles nulls
+                && name.equalsIgnoreCase(((SaveViewCommand) other).name)
+                && query.equals(((SaveViewCommand) other).query));
+    }
+}
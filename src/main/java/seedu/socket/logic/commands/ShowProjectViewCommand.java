@@ -0,0 +1,49 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+
+/**
+ * Shows a saved view of projects.
+ */
+public class ShowProjectViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "showviewpj";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the projects in the saved project view "
+            + "with the given name (case-insensitive).\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " duethisweek";
+
+    public static final String MESSAGE_SUCCESS = "Showing project view %1$s with %2$d projects";
+    public static final String MESSAGE_VIEW_NOT_FOUND = "There is no saved project view named %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a {@code ShowProjectViewCommand} to show the project view {@code name}.
+     */
+    public ShowProjectViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasProjectView(name)) {
+            throw new CommandException(String.format(MESSAGE_VIEW_NOT_FOUND, name));
+        }
+        model.showProjectView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, model.getFilteredProjectList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShowProjectViewCommand // instanceof handles nulls
+                && name.equalsIgnoreCase(((ShowProjectViewCommand) other).name));
+    }
+}
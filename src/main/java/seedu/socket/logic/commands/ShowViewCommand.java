@@ -0,0 +1,49 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+
+/**
+ * Shows a saved view of persons.
+ */
+public class ShowViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "showview";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the persons in the saved view "
+            + "with the given name (case-insensitive).\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " javafriends";
+
+    public static final String MESSAGE_SUCCESS = "Showing view %1$s with %2$d persons";
+    public static final String MESSAGE_VIEW_NOT_FOUND = "There is no saved view named %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a {@code ShowViewCommand} to show the view {@code name}.
+     */
+    public ShowViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasPersonView(name)) {
+            throw new CommandException(String.format(MESSAGE_VIEW_NOT_FOUND, name));
+        }
+        model.showPersonView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShowViewCommand // instanceof handles nulls
+                && name.equalsIgnoreCase(((ShowViewCommand) other).name));
+    }
+}
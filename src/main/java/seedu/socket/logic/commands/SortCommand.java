@@ -1,6 +1,7 @@
 package seedu.socket.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 
 import seedu.socket.model.Model;
 
@@ -15,21 +16,30 @@ public class SortCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
         + ": Sorts the list of contacts by the given category. "
         + "Sorts by name if no category is given.\n"
-        + "Parameters: [KEYWORD]\n"
+        + "If a count is given, only that many contacts are shown.\n"
+        + "Parameters: [KEYWORD] [COUNT]\n"
         + "Example: \"" + COMMAND_WORD + " address\"\n"
         + "The following are the available categories:\n"
         + "name, github, phone, email, address";
 
     private final String category;
+    private final int limit;
 
     public SortCommand(String category) {
+        this(category, NO_LIMIT);
+    }
+
+    /**
+     * Creates a {@code SortCommand} to sort by {@code category} and show only the first {@code limit} contacts.
+     */
+    public SortCommand(String category, int limit) {
         this.category = category;
+        this.limit = limit;
     }
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.sortPersonList(category);
-        model.commitSocket();
+        model.sortPersonList(category, limit);
         return new CommandResult(MESSAGE_SUCCESS + category);
     }
 
@@ -37,6 +47,7 @@ public class SortCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof SortCommand // instanceof handles nulls
-            && category.equals(((SortCommand) other).category)); // state check
+            && category.equals(((SortCommand) other).category)
+            && limit == ((SortCommand) other).limit); // state check
     }
 }
@@ -1,6 +1,7 @@
 package seedu.socket.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 
 import seedu.socket.model.Model;
 
@@ -15,21 +16,30 @@ public class SortProjectCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
         + ": Sorts the list of projects by the given category. "
         + "Sorts by deadline if no category is given.\n"
-        + "Parameters: [KEYWORD]\n"
+        + "If a count is given, only that many projects are shown.\n"
+        + "Parameters: [KEYWORD] [COUNT]\n"
         + "Example: \"" + COMMAND_WORD + " name\"\n"
         + "The following are the available categories:\n"
         + "name, repohost, reponame, deadline, meeting";
 
     private final String category;
+    private final int limit;
 
     public SortProjectCommand(String category) {
+        this(category, NO_LIMIT);
+    }
+
+    /**
+     * Creates a {@code SortProjectCommand} to sort by {@code category} and show only the first {@code limit} projects.
+     */
+    public SortProjectCommand(String category, int limit) {
         this.category = category;
+        this.limit = limit;
     }
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.sortProjectList(category);
-        model.commitSocket();
+        model.sortProjectList(category, limit);
         return new CommandResult(MESSAGE_SUCCESS + category);
     }
 
@@ -37,6 +47,7 @@ public class SortProjectCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof SortProjectCommand // instanceof handles nulls
-            && category.equals(((SortProjectCommand) other).category)); // state check
+            && category.equals(((SortProjectCommand) other).category)
+            && limit == ((SortProjectCommand) other).limit); // state check
     }
 }
@@ -0,0 +1,51 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.stats.Counter;
+import seedu.socket.model.stats.SocketStatistics;
+
+/**
+ * Shows statistics of the persons and projects in SOCket.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final int MAX_ENTRIES = 10;
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons, %2$d projects\n"
+            + "Projects per member: %3$s\n"
+            + "Tags: %4$s\n"
+            + "Languages: %5$s\n"
+            + "Projects per repo host: %6$s";
+    public static final String MESSAGE_NONE = "none";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SocketStatistics statistics = model.getStatistics();
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                statistics.getPersonCount(), statistics.getProjectCount(),
+                describe(statistics.getProjectsPerMember()), describe(statistics.getTags()),
+                describe(statistics.getLanguages()), describe(statistics.getProjectsPerRepoHost())));
+    }
+
+    /**
+     * Returns the {@code MAX_ENTRIES} most frequent keys of {@code counter} with their counts.
+     */
+    private static String describe(Counter<String> counter) {
+        List<String> keys = counter.getMostFrequent(MAX_ENTRIES);
+        if (keys.isEmpty()) {
+            return MESSAGE_NONE;
+        }
+        String description = keys.stream()
+                .map(key -> key + " (" + counter.get(key) + ")")
+                .collect(Collectors.joining(", "));
+        int remaining = counter.asMap().size() - keys.size();
+        return remaining > 0 ? description + " and " + remaining + " more" : description;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.socket.logic.commands;
+
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+
+/**
+ * A command made of steps that can be executed one at a time, so that the app stays responsive between them and the
+ * command can be cancelled part way through.
+ * A command is executed by calling {@code start}, then {@code executeStep} for each step in order, then
+ * {@code finish}. If a step fails or the command is cancelled, {@code abort} is called instead of {@code finish}
+ * and must undo the steps executed so far.
+ */
+public interface SteppedCommand {
+
+    /**
+     * Returns the number of steps of the command.
+     */
+    int getStepCount();
+
+    /**
+     * Prepares {@code model} for the steps of the command.
+     */
+    void start(Model model);
+
+    /**
+     * Executes the step numbered {@code step}, counting from 0.
+     *
+     * @throws CommandException If the step fails.
+     */
+    void executeStep(Model model, int step) throws CommandException;
+
+    /**
+     * Completes the command after every step has been executed and returns its result.
+     */
+    CommandResult finish(Model model);
+
+    /**
+     * Undoes the steps executed so far.
+     */
+    void abort(Model model);
+}
@@ -0,0 +1,78 @@
+package seedu.socket.logic.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+import seedu.socket.model.index.PersonKeyIndex;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+
+/**
+ * Finds the person or project that a {@code Target} refers to.
+ * A target given by index refers to the displayed lists, while one given by key is looked up in the indexes of the
+ * model, so it does not matter what is displayed.
+ */
+class TargetResolver {
+
+    private TargetResolver() {}
+
+    /**
+     * Returns the person {@code target} refers to: the person at its index in the filtered person list, or the person
+     * named by its key, or else the only person with its key as email, phone or GitHub profile.
+     * @throws CommandException if there is no such person, or more than one person has the key
+     */
+    static Person resolvePerson(Model model, Target target) throws CommandException {
+        Optional<Index> index = target.getIndex();
+        if (index.isPresent()) {
+            List<Person> lastShownList = model.getFilteredPersonList();
+            if (index.get().getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            return lastShownList.get(index.get().getZeroBased());
+        }
+
+        String key = target.getKey().get();
+        Optional<Person> named = model.getPersonByName(key);
+        if (named.isPresent()) {
+            return named.get();
+        }
+        Set<Person> matches = new HashSet<>();
+        for (PersonKeyIndex.Field field : PersonKeyIndex.Field.values()) {
+            matches.addAll(model.findPersonsByKey(field, key));
+        }
+        if (matches.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_PERSON_KEY, key));
+        }
+        if (matches.size() > 1) {
+            throw new CommandException(String.format(Messages.MESSAGE_AMBIGUOUS_PERSON_KEY, key));
+        }
+        return matches.iterator().next();
+    }
+
+    /**
+     * Returns the project {@code target} refers to: the project at its index in the filtered project list, or the
+     * project named by its key.
+     * @throws CommandException if there is no such project
+     */
+    static Project resolveProject(Model model, Target target) throws CommandException {
+        Optional<Index> index = target.getIndex();
+        if (index.isPresent()) {
+            List<Project> lastShownList = model.getFilteredProjectList();
+            if (index.get().getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
+            }
+            return lastShownList.get(index.get().getZeroBased());
+        }
+
+        String key = target.getKey().get();
+        return model.getProjectByName(key).orElseThrow(() ->
+                new CommandException(String.format(Messages.MESSAGE_UNKNOWN_PROJECT_KEY, key)));
+    }
+}
@@ -4,11 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
 import seedu.socket.model.person.Name;
@@ -24,34 +23,37 @@ public class UnassignCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes the specified member from the project "
         + "identified by the index number used in the displayed project list.\n"
-        + "Parameters: INDEX (must be a positive integer) "
+        + "Parameters: INDEX (must be a positive integer, or a name in double quotes) "
         + PREFIX_NAME + "NAME (must be the name of a member of the project)\n"
         + "Example: " + COMMAND_WORD + " 1 n/Amy Bee";
 
     public static final String MESSAGE_UNASSIGN_SUCCESS = "Removed %1$s from project: %2$s";
     public static final String MESSAGE_NOT_IN_PROJECT = "%1$s is not a member of this project.";
-    private final Index index;
+    private final Target target;
     private final Name name;
 
     /**
-     * @param index of the project in the filtered project list to remove member from
+     * @param target the project to remove the member from, by index in the filtered project list or by key
      * @param name of the member to remove from the project
      */
-    public UnassignCommand(Index index, Name name) {
-        requireNonNull(index);
+    public UnassignCommand(Target target, Name name) {
+        requireNonNull(target);
         requireNonNull(name);
 
-        this.index = index;
+        this.target = target;
         this.name = name;
     }
+
+    /**
+     * Creates an {@code UnassignCommand} for the project at {@code index} in the filtered project list.
+     */
+    public UnassignCommand(Index index, Name name) {
+        this(Target.fromIndex(index), name);
+    }
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Project> lastShownList = model.getFilteredProjectList();
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
-        }
-        Project projectToUnassign = lastShownList.get(index.getZeroBased());
+        Project projectToUnassign = TargetResolver.resolveProject(model, target);
         Set<Person> members = projectToUnassign.getMembers();
         Set<Person> newMembers = new HashSet<>();
         if (!projectToUnassign.hasMember(name)) {
@@ -84,7 +86,7 @@ public class UnassignCommand extends Command {
 
         // state check
         UnassignCommand e = (UnassignCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
             && name.equals(e.name);
     }
 }
@@ -0,0 +1,69 @@
+package seedu.socket.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.model.Model;
+import seedu.socket.model.index.ProjectTimeIndex;
+import seedu.socket.model.person.predicate.UpcomingCommandPredicate;
+import seedu.socket.model.project.Project;
+
+/**
+ * Lists the projects with a deadline or meeting from today until a number of days from today.
+ */
+public class UpcomingCommand extends Command {
+
+    public static final String COMMAND_WORD = "upcoming";
+    public static final String CATEGORY_DEADLINE = "deadline";
+    public static final String CATEGORY_MEETING = "meeting";
+    public static final int DEFAULT_DAYS = 7;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Lists the projects with a deadline or meeting from today until the given number of days from today. "
+        + "Lists deadlines if no category is given, and the next " + DEFAULT_DAYS + " days if no number is given.\n"
+        + "Parameters: [" + CATEGORY_DEADLINE + "|" + CATEGORY_MEETING + "] [DAYS]\n"
+        + "Example: \"" + COMMAND_WORD + " " + CATEGORY_MEETING + " 0\" lists the projects meeting today";
+
+    private final ProjectTimeIndex.Field field;
+    private final int days;
+
+    /**
+     * Creates an {@code UpcomingCommand} to list the projects with a {@code field} from today until {@code days}
+     * days from today.
+     */
+    public UpcomingCommand(ProjectTimeIndex.Field field, int days) {
+        requireNonNull(field);
+        this.field = field;
+        this.days = days;
+    }
+
+    /**
+     * Returns the predicate that the projects listed by this command on {@code today} match.
+     */
+    public UpcomingCommandPredicate getProjectPredicate(LocalDate today) {
+        requireNonNull(today);
+        return new UpcomingCommandPredicate(field, today.atStartOfDay(), today.plusDays(days + 1L).atStartOfDay());
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        UpcomingCommandPredicate window = getProjectPredicate(LocalDate.now());
+        Set<Project> upcoming = new HashSet<>(model.findProjectsBetween(field, window.getStart(), window.getEnd()));
+        model.updateFilteredProjectList(upcoming::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW, model.getFilteredProjectList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof UpcomingCommand // instanceof handles nulls
+            && field == ((UpcomingCommand) other).field
+            && days == ((UpcomingCommand) other).days); // state check
+    }
+}
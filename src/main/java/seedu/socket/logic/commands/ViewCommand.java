@@ -1,46 +1,92 @@
 package seedu.socket.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PROFILE;
 
-import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
-import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.model.Model;
+import seedu.socket.model.index.PersonKeyIndex;
 import seedu.socket.model.person.Person;
 
 /**
- * Views the details of a person in the filtered list.
+ * Views the details of a person in the filtered list, or of the person with a given email, phone or GitHub profile.
  */
 public class ViewCommand extends Command {
     public static final String COMMAND_WORD = "view";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Views the person identified by the index number used in the contact list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";;
+            + ": Views the person identified by the index number used in the contact list, "
+            + "or by their name in double quotes, or by their GitHub profile, phone or email.\n"
+            + "Parameters: INDEX (must be a positive integer, or a name in double quotes) "
+            + "or " + PREFIX_PROFILE + "GITHUBPROFILE "
+            + "or " + PREFIX_PHONE + "PHONE "
+            + "or " + PREFIX_EMAIL + "EMAIL\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " " + PREFIX_PROFILE + "alex-yeoh";
 
     public static final String MESSAGE_VIEW_PERSON_SUCCESS = "Viewed Person: %1$s";
-    private final Index index;
+    public static final String MESSAGE_PERSON_NOT_FOUND = "No person has the %1$s %2$s";
+    public static final String MESSAGE_MULTIPLE_PERSONS = "%1$d persons have the %2$s %3$s, "
+            + "view one of them by index";
+
+    private final Target target;
+    private final PersonKeyIndex.Field keyField;
+    private final String key;
+
+    /**
+     * @param target the person to view, by index in the filtered person list or by key
+     */
+    public ViewCommand(Target target) {
+        requireNonNull(target);
+
+        this.target = target;
+        this.keyField = null;
+        this.key = null;
+    }
+
     /**
      * @param index of the person in the filtered person list to view
      */
     public ViewCommand(Index index) {
-        requireNonNull(index);
+        this(Target.fromIndex(index));
+    }
+
+    /**
+     * @param keyField the field to look the person up by
+     * @param key the value of {@code keyField} of the person to view
+     */
+    public ViewCommand(PersonKeyIndex.Field keyField, String key) {
+        requireNonNull(keyField);
+        requireNonNull(key);
 
-        this.index = index;
+        this.target = null;
+        this.keyField = keyField;
+        this.key = key;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        Person viewedPerson;
+        if (target != null) {
+            viewedPerson = TargetResolver.resolvePerson(model, target);
+        } else {
+            Set<Person> matches = model.findPersonsByKey(keyField, key);
+            if (matches.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, keyField, key));
+            }
+            if (matches.size() > 1) {
+                model.updateFilteredPersonList(matches::contains);
+                return new CommandResult(String.format(MESSAGE_MULTIPLE_PERSONS, matches.size(), keyField, key));
+            }
+            viewedPerson = matches.iterator().next();
         }
-        Person viewedPerson = lastShownList.get(index.getZeroBased());
         model.updateViewedPerson(viewedPerson);
         return new CommandResult(String.format(MESSAGE_VIEW_PERSON_SUCCESS, viewedPerson));
     }
@@ -49,6 +95,8 @@ public class ViewCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ViewCommand // instanceof handles nulls
-                && index.equals(((ViewCommand) other).index)); // state check
+                && Objects.equals(target, ((ViewCommand) other).target)
+                && keyField == ((ViewCommand) other).keyField
+                && Objects.equals(key, ((ViewCommand) other).key)); // state check
     }
 }
@@ -3,7 +3,9 @@ package seedu.socket.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.socket.commons.core.index.Index;
+import java.util.List;
+
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.AssignCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
 
@@ -28,24 +30,23 @@ public class AssignCommandParser implements Parser<AssignCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE));
         }
 
-        // Check if number of args is correct.
-        String[] indexArgs = trimmedArgs.split("\\s+");
-        if (indexArgs.length != 2) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE));
-        }
-
-        // Parse args into Index class and return command object.
-        Index personIndex;
-        Index projectIndex;
+        // Parse args into Target class and return command object.
+        Target personTarget;
+        Target projectTarget;
         try {
-            personIndex = ParserUtil.parseIndex(indexArgs[0]);
-            projectIndex = ParserUtil.parseIndex(indexArgs[1]);
+            List<String> targetArgs = ParserUtil.splitTargets(trimmedArgs);
+            // Check if number of args is correct.
+            if (targetArgs.size() != 2) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE));
+            }
+            personTarget = ParserUtil.parseTarget(targetArgs.get(0));
+            projectTarget = ParserUtil.parseTarget(targetArgs.get(1));
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AssignCommand.MESSAGE_USAGE), pe);
         }
 
-        return new AssignCommand(personIndex, projectIndex);
+        return new AssignCommand(personTarget, projectTarget);
     }
 }
@@ -0,0 +1,41 @@
+package seedu.socket.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import seedu.socket.commons.core.index.Target;
+import seedu.socket.commons.util.StringUtil;
+import seedu.socket.logic.commands.CollabCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CollabCommand object
+ */
+public class CollabCommandParser implements Parser<CollabCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the CollabCommand
+     * and returns a CollabCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CollabCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        List<String> words;
+        Target target;
+        try {
+            words = ParserUtil.splitTargets(args);
+            if (words.isEmpty()) {
+                throw new ParseException(ParserUtil.MESSAGE_INVALID_TARGET);
+            }
+            target = ParserUtil.parseTarget(words.get(0));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CollabCommand.MESSAGE_USAGE), pe);
+        }
+        if (words.size() > 2 || (words.size() == 2 && !StringUtil.isNonZeroUnsignedInteger(words.get(1)))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CollabCommand.MESSAGE_USAGE));
+        }
+        int hops = words.size() == 2 ? Integer.parseInt(words.get(1)) : CollabCommand.DEFAULT_HOPS;
+        return new CollabCommand(target, hops);
+    }
+}
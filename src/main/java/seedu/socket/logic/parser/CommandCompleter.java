@@ -0,0 +1,91 @@
+package seedu.socket.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_LANGUAGE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PROFILE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.socket.logic.commands.AddProjectCommand;
+import seedu.socket.logic.commands.EditProjectCommand;
+import seedu.socket.model.Model;
+import seedu.socket.model.index.AutocompleteIndex.Field;
+
+/**
+ * Suggests values for the field prefix (e.g. {@code t/}) that the user is currently typing.
+ * Suggestions are drawn from the existing values of that field in the {@code Model}.
+ */
+public class CommandCompleter {
+    /** The maximum number of suggestions returned for a single request. */
+    public static final int MAX_COMPLETIONS = 10;
+
+    /** Matches the last field prefix in the input, together with the partial value typed after it. */
+    private static final Pattern LAST_PREFIX_FORMAT =
+            Pattern.compile(".*\\s(?<prefix>[a-z]+/)(?<partial>[^/]*)$", Pattern.DOTALL);
+
+    private final Model model;
+
+    /**
+     * Creates a {@code CommandCompleter} that draws its suggestions from {@code model}.
+     */
+    public CommandCompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns suggested values for the partial value at the end of {@code textBeforeCaret}.
+     * Returns an empty list if the caret is not within a completable field.
+     */
+    public List<String> complete(String textBeforeCaret) {
+        requireNonNull(textBeforeCaret);
+        Matcher matcher = LAST_PREFIX_FORMAT.matcher(textBeforeCaret);
+        if (!matcher.matches()) {
+            return Collections.emptyList();
+        }
+
+        String prefix = matcher.group("prefix");
+        String partial = matcher.group("partial");
+        Field field = toField(prefix, isProjectCommand(textBeforeCaret));
+        if (field == null || (field != Field.NAME && field != Field.PROJECT && partial.contains(" "))) {
+            // only names may contain spaces
+            return Collections.emptyList();
+        }
+        return model.getCompletions(field, partial.stripLeading(), MAX_COMPLETIONS);
+    }
+
+    /**
+     * Returns the index in {@code textBeforeCaret} at which the partial value being completed starts,
+     * or -1 if the caret is not within a field.
+     */
+    public static int getPartialStart(String textBeforeCaret) {
+        requireNonNull(textBeforeCaret);
+        Matcher matcher = LAST_PREFIX_FORMAT.matcher(textBeforeCaret);
+        return matcher.matches() ? matcher.start("partial") : -1;
+    }
+
+    private static Field toField(String prefix, boolean isProjectCommand) {
+        if (prefix.equals(PREFIX_NAME.getPrefix())) {
+            return isProjectCommand ? Field.PROJECT : Field.NAME;
+        } else if (prefix.equals(PREFIX_PROFILE.getPrefix())) {
+            return Field.PROFILE;
+        } else if (prefix.equals(PREFIX_TAG.getPrefix())) {
+            return Field.TAG;
+        } else if (prefix.equals(PREFIX_LANGUAGE.getPrefix())) {
+            return Field.LANGUAGE;
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean isProjectCommand(String input) {
+        String commandWord = input.trim().split("\\s+", 2)[0];
+        return commandWord.equals(AddProjectCommand.COMMAND_WORD)
+                || commandWord.equals(EditProjectCommand.COMMAND_WORD);
+    }
+}
@@ -2,7 +2,7 @@ package seedu.socket.logic.parser;
 
 import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.DeleteCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
 
@@ -18,8 +18,8 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteCommand(index);
+            Target target = ParserUtil.parseTarget(args);
+            return new DeleteCommand(target);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), pe);
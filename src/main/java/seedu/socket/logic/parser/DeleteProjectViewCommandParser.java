@@ -0,0 +1,26 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.socket.logic.commands.DeleteProjectViewCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DeleteProjectViewCommand object.
+ */
+public class DeleteProjectViewCommandParser implements Parser<DeleteProjectViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteProjectViewCommand
+     * and returns a DeleteProjectViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeleteProjectViewCommand parse(String args) throws ParseException {
+        String name = args.trim();
+        if (!ParserUtil.isValidViewName(name)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteProjectViewCommand.MESSAGE_USAGE));
+        }
+        return new DeleteProjectViewCommand(name);
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.socket.logic.commands.DeleteViewCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DeleteViewCommand object.
+ */
+public class DeleteViewCommandParser implements Parser<DeleteViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteViewCommand
+     * and returns a DeleteViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeleteViewCommand parse(String args) throws ParseException {
+        String name = args.trim();
+        if (!ParserUtil.isValidViewName(name)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteViewCommand.MESSAGE_USAGE));
+        }
+        return new DeleteViewCommand(name);
+    }
+}
@@ -8,7 +8,7 @@ import static seedu.socket.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_REPO_HOST;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_REPO_NAME;
 
-import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.EditProjectCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
 import seedu.socket.model.project.ProjectDeadline;
@@ -32,10 +32,10 @@ public class EditProjectCommandParser implements Parser<EditProjectCommand> {
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_REPO_HOST,
                         PREFIX_REPO_NAME, PREFIX_DEADLINE, PREFIX_MEETING);
 
-        Index index;
+        Target target;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            target = ParserUtil.parseTarget(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     EditProjectCommand.MESSAGE_USAGE), pe);
@@ -82,7 +82,7 @@ public class EditProjectCommandParser implements Parser<EditProjectCommand> {
             throw new ParseException(EditProjectCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditProjectCommand(index, editProjectDescriptor);
+        return new EditProjectCommand(target, editProjectDescriptor);
     }
 }
 
@@ -0,0 +1,63 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_LANGUAGE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PROFILE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+
+import seedu.socket.commons.util.StringUtil;
+import seedu.socket.logic.commands.FuzzyFindCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FuzzyFindCommand object
+ */
+public class FuzzyFindCommandParser implements Parser<FuzzyFindCommand> {
+
+    /**
+     * Returns true if the arguments of a {@code find} command ask for the fuzzy mode.
+     */
+    public static boolean isFuzzyMode(String args) {
+        return args.trim().split("\\s+", 2)[0].equals(FuzzyFindCommand.MODE_WORD);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FuzzyFindCommand
+     * and returns a FuzzyFindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FuzzyFindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PROFILE, PREFIX_PHONE, PREFIX_EMAIL,
+                        PREFIX_ADDRESS, PREFIX_LANGUAGE, PREFIX_TAG);
+
+        // only the mode word may come before the first prefix, and only names, profiles and emails are indexed
+        if (!argMultimap.getPreamble().equals(FuzzyFindCommand.MODE_WORD)
+                || argMultimap.getValue(PREFIX_PHONE).isPresent()
+                || argMultimap.getValue(PREFIX_ADDRESS).isPresent()
+                || argMultimap.getValue(PREFIX_LANGUAGE).isPresent()
+                || argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+        }
+
+        List<String> nameArguments = StringUtil.convertArgumentsIntoList(
+                argMultimap.getValue(PREFIX_NAME).orElse(""));
+        List<String> profileArguments = StringUtil.convertArgumentsIntoList(
+                argMultimap.getValue(PREFIX_PROFILE).orElse(""));
+        List<String> emailArguments = StringUtil.convertArgumentsIntoList(
+                argMultimap.getValue(PREFIX_EMAIL).orElse(""));
+
+        if (nameArguments.isEmpty() && profileArguments.isEmpty() && emailArguments.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+        }
+
+        return new FuzzyFindCommand(nameArguments, profileArguments, emailArguments);
+    }
+
+}
@@ -0,0 +1,36 @@
+package seedu.socket.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import seedu.socket.commons.core.index.Target;
+import seedu.socket.logic.commands.MergeCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        try {
+            List<String> targetArgs = ParserUtil.splitTargets(args);
+            if (targetArgs.size() != 2) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+            }
+            Target targetPerson = ParserUtil.parseTarget(targetArgs.get(0));
+            Target sourcePerson = ParserUtil.parseTarget(targetArgs.get(1));
+            return new MergeCommand(targetPerson, sourcePerson);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
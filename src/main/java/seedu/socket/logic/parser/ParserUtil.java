@@ -2,11 +2,14 @@ package seedu.socket.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.commons.util.StringUtil;
 import seedu.socket.logic.parser.exceptions.ParseException;
 import seedu.socket.model.person.Address;
@@ -29,6 +32,10 @@ import seedu.socket.model.project.ProjectRepoName;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_TARGET =
+            "Target is neither a non-zero unsigned integer nor a non-empty name in double quotes.";
+
+    private static final String TARGET_KEY_QUOTE = "\"";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -43,6 +50,54 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code target} into a {@code Target} and returns it. A target in double quotes is a key, such as a name,
+     * and anything else must be a one-based index. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified target is neither a valid index nor a non-empty quoted key.
+     */
+    public static Target parseTarget(String target) throws ParseException {
+        requireNonNull(target);
+        String trimmedTarget = target.trim();
+        if (!isQuoted(trimmedTarget)) {
+            return Target.fromIndex(parseIndex(trimmedTarget));
+        }
+        String key = trimmedTarget.substring(1, trimmedTarget.length() - 1).trim();
+        if (key.isEmpty() || key.contains(TARGET_KEY_QUOTE)) {
+            throw new ParseException(MESSAGE_INVALID_TARGET);
+        }
+        return Target.fromKey(key);
+    }
+
+    /**
+     * Splits {@code args} into its targets, which are separated by whitespace. A target in double quotes is kept
+     * whole, along with the quotes, even if it contains whitespace.
+     * @throws ParseException if a double quote is left unclosed.
+     */
+    public static List<String> splitTargets(String args) throws ParseException {
+        requireNonNull(args);
+        List<String> targets = new ArrayList<>();
+        String remaining = args.trim();
+        while (!remaining.isEmpty()) {
+            int end;
+            if (remaining.startsWith(TARGET_KEY_QUOTE)) {
+                end = remaining.indexOf(TARGET_KEY_QUOTE, 1) + 1;
+                if (end == 0) {
+                    throw new ParseException(MESSAGE_INVALID_TARGET);
+                }
+            } else {
+                String[] parts = remaining.split("\\s", 2);
+                end = parts[0].length();
+            }
+            targets.add(remaining.substring(0, end));
+            remaining = remaining.substring(end).trim();
+        }
+        return targets;
+    }
+
+    private static boolean isQuoted(String target) {
+        return target.length() >= 2 && target.startsWith(TARGET_KEY_QUOTE) && target.endsWith(TARGET_KEY_QUOTE);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -247,4 +302,12 @@ public class ParserUtil {
         return new ProjectMeeting(trimmedName);
     }
 
+    /**
+     * Returns true if {@code name} is a valid name for a saved view, i.e. non-empty and alphanumeric.
+     */
+    public static boolean isValidViewName(String name) {
+        requireNonNull(name);
+        return name.matches("\\p{Alnum}+");
+    }
+
 }
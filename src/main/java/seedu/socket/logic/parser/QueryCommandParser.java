@@ -0,0 +1,153 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_LANGUAGE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PROFILE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.socket.logic.commands.QueryCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.model.person.predicate.QueryPredicate;
+import seedu.socket.model.person.predicate.QueryPredicate.And;
+import seedu.socket.model.person.predicate.QueryPredicate.Field;
+import seedu.socket.model.person.predicate.QueryPredicate.Not;
+import seedu.socket.model.person.predicate.QueryPredicate.Or;
+import seedu.socket.model.person.predicate.QueryPredicate.Term;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * The grammar, from lowest to highest precedence, is:
+ * <pre>
+ *     query   := and ("OR" and)*
+ *     and     := not ("AND"? not)*
+ *     not     := "NOT" not | primary
+ *     primary := "(" query ")" | PREFIX/KEYWORD
+ * </pre>
+ * Operators are case-insensitive.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private static final Map<Prefix, Field> FIELDS_BY_PREFIX = new LinkedHashMap<>();
+
+    static {
+        FIELDS_BY_PREFIX.put(PREFIX_NAME, Field.NAME);
+        FIELDS_BY_PREFIX.put(PREFIX_PROFILE, Field.PROFILE);
+        FIELDS_BY_PREFIX.put(PREFIX_PHONE, Field.PHONE);
+        FIELDS_BY_PREFIX.put(PREFIX_EMAIL, Field.EMAIL);
+        FIELDS_BY_PREFIX.put(PREFIX_ADDRESS, Field.ADDRESS);
+        FIELDS_BY_PREFIX.put(PREFIX_LANGUAGE, Field.LANGUAGE);
+        FIELDS_BY_PREFIX.put(PREFIX_TAG, Field.TAG);
+    }
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        return new QueryCommand(parseQuery(args));
+    }
+
+    /**
+     * Parses the given {@code String} as a query.
+     * @throws ParseException if the query does not conform the grammar
+     */
+    public QueryPredicate parseQuery(String args) throws ParseException {
+        String spacedArgs = args.replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ")
+                .trim();
+        if (spacedArgs.isEmpty()) {
+            throw invalidFormat();
+        }
+        tokens = Arrays.asList(spacedArgs.split("\\s+"));
+        position = 0;
+
+        QueryPredicate query = parseOr();
+        if (position != tokens.size()) {
+            throw invalidFormat();
+        }
+        return query;
+    }
+
+    private QueryPredicate parseOr() throws ParseException {
+        List<QueryPredicate> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (isNext(OPERATOR_OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    private QueryPredicate parseAnd() throws ParseException {
+        List<QueryPredicate> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (position < tokens.size() && !isNext(OPERATOR_OR) && !isNext(CLOSE_PARENTHESIS)) {
+            if (isNext(OPERATOR_AND)) {
+                position++;
+            }
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    private QueryPredicate parseNot() throws ParseException {
+        if (isNext(OPERATOR_NOT)) {
+            position++;
+            return new Not(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private QueryPredicate parsePrimary() throws ParseException {
+        if (position >= tokens.size()) {
+            throw invalidFormat();
+        }
+        String token = tokens.get(position++);
+        if (token.equals(OPEN_PARENTHESIS)) {
+            QueryPredicate query = parseOr();
+            if (!isNext(CLOSE_PARENTHESIS)) {
+                throw invalidFormat();
+            }
+            position++;
+            return query;
+        }
+        return parseTerm(token);
+    }
+
+    private static QueryPredicate parseTerm(String token) throws ParseException {
+        for (Map.Entry<Prefix, Field> entry : FIELDS_BY_PREFIX.entrySet()) {
+            String prefix = entry.getKey().getPrefix();
+            if (token.startsWith(prefix) && token.length() > prefix.length()) {
+                return new Term(entry.getValue(), token.substring(prefix.length()));
+            }
+        }
+        throw invalidFormat();
+    }
+
+    private boolean isNext(String keyword) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+}
@@ -14,7 +14,7 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.RemoveCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
 import seedu.socket.model.person.tag.Language;
@@ -36,10 +36,10 @@ public class RemoveCommandParser implements Parser<RemoveCommand> {
                 ArgumentTokenizer.tokenize(args, PREFIX_PROFILE, PREFIX_PHONE, PREFIX_EMAIL,
                         PREFIX_ADDRESS, PREFIX_LANGUAGE, PREFIX_TAG);
 
-        Index index;
+        Target target;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            target = ParserUtil.parseTarget(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemoveCommand.MESSAGE_USAGE), pe);
         }
@@ -66,7 +66,7 @@ public class RemoveCommandParser implements Parser<RemoveCommand> {
             throw new ParseException(RemoveCommand.MESSAGE_NOT_REMOVE);
         }
 
-        return new RemoveCommand(index, removePersonDescriptor);
+        return new RemoveCommand(target, removePersonDescriptor);
     }
 
     /**
@@ -7,7 +7,7 @@ import static seedu.socket.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_REPO_HOST;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_REPO_NAME;
 
-import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.RemoveProjectCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
 
@@ -26,10 +26,10 @@ public class RemoveProjectCommandParser implements Parser<RemoveProjectCommand>
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_REPO_HOST, PREFIX_REPO_NAME, PREFIX_DEADLINE, PREFIX_MEETING);
 
-        Index index;
+        Target target;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            target = ParserUtil.parseTarget(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     RemoveProjectCommand.MESSAGE_USAGE), pe);
@@ -54,6 +54,6 @@ public class RemoveProjectCommandParser implements Parser<RemoveProjectCommand>
             throw new ParseException(RemoveProjectCommand.MESSAGE_NOT_REMOVE);
         }
 
-        return new RemoveProjectCommand(index, removeProjectDescriptor);
+        return new RemoveProjectCommand(target, removeProjectDescriptor);
     }
 }
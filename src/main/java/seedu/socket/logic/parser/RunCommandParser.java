@@ -0,0 +1,83 @@
+package seedu.socket.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.socket.commons.util.FileUtil;
+import seedu.socket.logic.commands.Command;
+import seedu.socket.logic.commands.RedoCommand;
+import seedu.socket.logic.commands.RunCommand;
+import seedu.socket.logic.commands.UndoCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and the script file they name, and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d of %2$s is invalid: %3$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used in a script";
+    public static final String COMMENT_PREFIX = "#";
+
+    private final SocketParser socketParser;
+
+    /**
+     * Creates a {@code RunCommandParser} that parses the commands in a script with {@code socketParser}.
+     */
+    public RunCommandParser(SocketParser socketParser) {
+        requireNonNull(socketParser);
+        this.socketParser = socketParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * Every command in the script is parsed before any of them is run.
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read or
+     *     any command in it is invalid
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        Path file = Paths.get(trimmedArgs);
+        String script;
+        try {
+            script = FileUtil.readFromFile(file);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_READ, file, ioe), ioe);
+        }
+
+        Map<Integer, Command> commandsByLine = new HashMap<>();
+        String[] lines = script.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            try {
+                commandsByLine.put(lineNumber, parseLine(line));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, file, pe.getMessage()), pe);
+            }
+        }
+        return new RunCommand(file, commandsByLine);
+    }
+
+    private Command parseLine(String line) throws ParseException {
+        Command command = socketParser.parseCommand(line);
+        if (command instanceof RunCommand || command instanceof UndoCommand || command instanceof RedoCommand) {
+            throw new ParseException(String.format(MESSAGE_COMMAND_NOT_ALLOWED, line.split("\\s+")[0]));
+        }
+        return command;
+    }
+}
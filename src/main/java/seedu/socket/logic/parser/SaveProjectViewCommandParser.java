@@ -0,0 +1,34 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.socket.logic.commands.SaveProjectViewCommand;
+import seedu.socket.logic.commands.UpcomingCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SaveProjectViewCommand object.
+ */
+public class SaveProjectViewCommandParser implements Parser<SaveProjectViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SaveProjectViewCommand
+     * and returns a SaveProjectViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SaveProjectViewCommand parse(String args) throws ParseException {
+        String[] nameAndPeriod = args.trim().split("\\s+", 2);
+        if (!ParserUtil.isValidViewName(nameAndPeriod[0])) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveProjectViewCommand.MESSAGE_USAGE));
+        }
+        UpcomingCommand upcoming;
+        try {
+            upcoming = new UpcomingCommandParser().parse(nameAndPeriod.length < 2 ? "" : nameAndPeriod[1]);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveProjectViewCommand.MESSAGE_USAGE), pe);
+        }
+        return new SaveProjectViewCommand(nameAndPeriod[0], upcoming);
+    }
+}
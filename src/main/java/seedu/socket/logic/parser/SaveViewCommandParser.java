@@ -0,0 +1,32 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.socket.logic.commands.SaveViewCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.model.person.predicate.QueryPredicate;
+
+/**
+ * Parses input arguments and creates a new SaveViewCommand object.
+ */
+public class SaveViewCommandParser implements Parser<SaveViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SaveViewCommand
+     * and returns a SaveViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SaveViewCommand parse(String args) throws ParseException {
+        String[] nameAndQuery = args.trim().split("\\s+", 2);
+        if (nameAndQuery.length < 2 || !ParserUtil.isValidViewName(nameAndQuery[0])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE));
+        }
+        QueryPredicate query;
+        try {
+            query = new QueryCommandParser().parseQuery(nameAndQuery[1]);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE), pe);
+        }
+        return new SaveViewCommand(nameAndQuery[0], query);
+    }
+}
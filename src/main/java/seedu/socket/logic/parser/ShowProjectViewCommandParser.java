@@ -0,0 +1,26 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.socket.logic.commands.ShowProjectViewCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ShowProjectViewCommand object.
+ */
+public class ShowProjectViewCommandParser implements Parser<ShowProjectViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShowProjectViewCommand
+     * and returns a ShowProjectViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShowProjectViewCommand parse(String args) throws ParseException {
+        String name = args.trim();
+        if (!ParserUtil.isValidViewName(name)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowProjectViewCommand.MESSAGE_USAGE));
+        }
+        return new ShowProjectViewCommand(name);
+    }
+}
@@ -11,22 +11,37 @@ import seedu.socket.logic.commands.AddProjectCommand;
 import seedu.socket.logic.commands.AssignCommand;
 import seedu.socket.logic.commands.ClearCommand;
 import seedu.socket.logic.commands.ClearProjectCommand;
+import seedu.socket.logic.commands.CollabCommand;
 import seedu.socket.logic.commands.Command;
+import seedu.socket.logic.commands.DedupeCommand;
 import seedu.socket.logic.commands.DeleteCommand;
 import seedu.socket.logic.commands.DeleteProjectCommand;
+import seedu.socket.logic.commands.DeleteProjectViewCommand;
+import seedu.socket.logic.commands.DeleteViewCommand;
 import seedu.socket.logic.commands.EditCommand;
 import seedu.socket.logic.commands.EditProjectCommand;
 import seedu.socket.logic.commands.ExitCommand;
 import seedu.socket.logic.commands.FindCommand;
 import seedu.socket.logic.commands.HelpCommand;
 import seedu.socket.logic.commands.ListCommand;
+import seedu.socket.logic.commands.MergeCommand;
+import seedu.socket.logic.commands.MetricsCommand;
+import seedu.socket.logic.commands.PathCommand;
+import seedu.socket.logic.commands.QueryCommand;
 import seedu.socket.logic.commands.RedoCommand;
 import seedu.socket.logic.commands.RemoveCommand;
 import seedu.socket.logic.commands.RemoveProjectCommand;
+import seedu.socket.logic.commands.RunCommand;
+import seedu.socket.logic.commands.SaveProjectViewCommand;
+import seedu.socket.logic.commands.SaveViewCommand;
+import seedu.socket.logic.commands.ShowProjectViewCommand;
+import seedu.socket.logic.commands.ShowViewCommand;
 import seedu.socket.logic.commands.SortCommand;
 import seedu.socket.logic.commands.SortProjectCommand;
+import seedu.socket.logic.commands.StatsCommand;
 import seedu.socket.logic.commands.UnassignCommand;
 import seedu.socket.logic.commands.UndoCommand;
+import seedu.socket.logic.commands.UpcomingCommand;
 import seedu.socket.logic.commands.ViewCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
 
@@ -70,11 +85,35 @@ public class SocketParser {
             return new ClearCommandParser().parse(arguments);
 
         case FindCommand.COMMAND_WORD:
+            if (FuzzyFindCommandParser.isFuzzyMode(arguments)) {
+                return new FuzzyFindCommandParser().parse(arguments);
+            }
             return new FindCommandParser().parse(arguments);
 
         case ListCommand.COMMAND_WORD:
             return new ListCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
+        case SaveViewCommand.COMMAND_WORD:
+            return new SaveViewCommandParser().parse(arguments);
+
+        case ShowViewCommand.COMMAND_WORD:
+            return new ShowViewCommandParser().parse(arguments);
+
+        case DeleteViewCommand.COMMAND_WORD:
+            return new DeleteViewCommandParser().parse(arguments);
+
+        case SaveProjectViewCommand.COMMAND_WORD:
+            return new SaveProjectViewCommandParser().parse(arguments);
+
+        case ShowProjectViewCommand.COMMAND_WORD:
+            return new ShowProjectViewCommandParser().parse(arguments);
+
+        case DeleteProjectViewCommand.COMMAND_WORD:
+            return new DeleteProjectViewCommandParser().parse(arguments);
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
@@ -97,6 +136,22 @@ public class SocketParser {
             return new SortProjectCommandParser().parse(arguments);
         case RemoveProjectCommand.COMMAND_WORD:
             return new RemoveProjectCommandParser().parse(arguments);
+        case UpcomingCommand.COMMAND_WORD:
+            return new UpcomingCommandParser().parse(arguments);
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+        case MetricsCommand.COMMAND_WORD:
+            return new MetricsCommand();
+        case CollabCommand.COMMAND_WORD:
+            return new CollabCommandParser().parse(arguments);
+        case PathCommand.COMMAND_WORD:
+            return new PathCommandParser().parse(arguments);
+        case DedupeCommand.COMMAND_WORD:
+            return new DedupeCommand();
+        case MergeCommand.COMMAND_WORD:
+            return new MergeCommandParser().parse(arguments);
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser(this).parse(arguments);
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
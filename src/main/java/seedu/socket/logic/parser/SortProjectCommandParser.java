@@ -4,7 +4,9 @@ package seedu.socket.logic.parser;
 import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.socket.model.project.Project.CATEGORIES;
 import static seedu.socket.model.project.Project.PROJ_DEADLINE;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 
+import seedu.socket.commons.util.StringUtil;
 import seedu.socket.logic.commands.SortProjectCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
 
@@ -22,8 +24,19 @@ public class SortProjectCommandParser implements Parser<SortProjectCommand> {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             return new SortProjectCommand(PROJ_DEADLINE);
-        } else if (CATEGORIES.contains(trimmedArgs)) {
-            return new SortProjectCommand(trimmedArgs);
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        int limit = NO_LIMIT;
+        int categoryWordCount = words.length;
+        if (StringUtil.isNonZeroUnsignedInteger(words[words.length - 1])) {
+            limit = Integer.parseInt(words[words.length - 1]);
+            categoryWordCount--;
+        }
+        if (categoryWordCount == 0) {
+            return new SortProjectCommand(PROJ_DEADLINE, limit);
+        } else if (categoryWordCount == 1 && CATEGORIES.contains(words[0])) {
+            return new SortProjectCommand(words[0], limit);
         } else {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortProjectCommand.MESSAGE_USAGE));
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.socket.logic.parser.CliSyntax.PREFIX_NAME;
 
-import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.UnassignCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
 import seedu.socket.model.person.Name;
@@ -25,9 +25,9 @@ public class UnassignCommandParser implements Parser<UnassignCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME);
-        Index index;
+        Target target;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            target = ParserUtil.parseTarget(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     UnassignCommand.MESSAGE_USAGE), pe);
@@ -39,6 +39,6 @@ public class UnassignCommandParser implements Parser<UnassignCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     UnassignCommand.MESSAGE_USAGE), pe);
         }
-        return new UnassignCommand(index, name);
+        return new UnassignCommand(target, name);
     }
 }
@@ -0,0 +1,52 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.commands.UpcomingCommand.CATEGORY_DEADLINE;
+import static seedu.socket.logic.commands.UpcomingCommand.CATEGORY_MEETING;
+import static seedu.socket.logic.commands.UpcomingCommand.DEFAULT_DAYS;
+
+import seedu.socket.logic.commands.UpcomingCommand;
+import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.model.index.ProjectTimeIndex;
+
+/**
+ * Parses input arguments and creates a new UpcomingCommand object
+ */
+public class UpcomingCommandParser implements Parser<UpcomingCommand> {
+    private static final String UNSIGNED_INTEGER = "\\d{1,4}";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingCommand
+     * and returns an UpcomingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UpcomingCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        String[] words = trimmedArgs.isEmpty() ? new String[0] : trimmedArgs.split("\\s+");
+        if (words.length > 2) {
+            throw invalidFormat();
+        }
+
+        ProjectTimeIndex.Field field = ProjectTimeIndex.Field.DEADLINE;
+        int days = DEFAULT_DAYS;
+        int next = 0;
+        if (next < words.length && words[next].equals(CATEGORY_DEADLINE)) {
+            next++;
+        } else if (next < words.length && words[next].equals(CATEGORY_MEETING)) {
+            field = ProjectTimeIndex.Field.MEETING;
+            next++;
+        }
+        if (next < words.length && words[next].matches(UNSIGNED_INTEGER)) {
+            days = Integer.parseInt(words[next]);
+            next++;
+        }
+        if (next != words.length) {
+            throw invalidFormat();
+        }
+        return new UpcomingCommand(field, days);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE));
+    }
+}
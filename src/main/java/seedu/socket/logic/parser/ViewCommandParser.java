@@ -1,10 +1,16 @@
 package seedu.socket.logic.parser;
 
 import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.socket.logic.parser.CliSyntax.PREFIX_PROFILE;
 
-import seedu.socket.commons.core.index.Index;
+import java.util.Optional;
+
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.ViewCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.model.index.PersonKeyIndex;
 
 /**
  * Parses input arguments and creates a new ViewCommand object
@@ -16,12 +22,50 @@ public class ViewCommandParser implements Parser<ViewCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ViewCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PROFILE, PREFIX_PHONE, PREFIX_EMAIL);
+        Optional<ViewCommand> keyCommand = parseKey(argMultimap);
+        if (keyCommand.isPresent()) {
+            return keyCommand.get();
+        }
+
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new ViewCommand(index);
+            Target target = ParserUtil.parseTarget(args);
+            return new ViewCommand(target);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE), pe);
         }
     }
+
+    /**
+     * Returns a {@code ViewCommand} looking the person up by the GitHub profile, phone or email in
+     * {@code argMultimap}, if one is given on its own.
+     * @throws ParseException if the given value is not valid
+     */
+    private static Optional<ViewCommand> parseKey(ArgumentMultimap argMultimap) throws ParseException {
+        int prefixCount = argMultimap.getAllValues(PREFIX_PROFILE).size()
+                + argMultimap.getAllValues(PREFIX_PHONE).size() + argMultimap.getAllValues(PREFIX_EMAIL).size();
+        if (prefixCount == 0) {
+            return Optional.empty();
+        }
+        if (prefixCount > 1 || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> profile = argMultimap.getValue(PREFIX_PROFILE);
+        Optional<String> phone = argMultimap.getValue(PREFIX_PHONE);
+        Optional<String> email = argMultimap.getValue(PREFIX_EMAIL);
+        if (profile.orElse(phone.orElse(email.orElse(""))).isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
+
+        if (profile.isPresent()) {
+            return Optional.of(new ViewCommand(PersonKeyIndex.Field.PROFILE,
+                    ParserUtil.parseProfile(profile.get()).value));
+        } else if (phone.isPresent()) {
+            return Optional.of(new ViewCommand(PersonKeyIndex.Field.PHONE, ParserUtil.parsePhone(phone.get()).value));
+        } else {
+            return Optional.of(new ViewCommand(PersonKeyIndex.Field.EMAIL, ParserUtil.parseEmail(email.get()).value));
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package seedu.socket.management;
+
+import java.util.Map;
+
+/**
+ * The attributes of a running SOCket that are published over JMX.
+ * Every attribute is read without waiting for the command being executed.
+ */
+public interface SocketMXBean {
+
+    /** Returns the number of persons in the last snapshot of SOCket. */
+    int getPersonCount();
+
+    /** Returns the number of projects in the last snapshot of SOCket. */
+    int getProjectCount();
+
+    /** Returns the number of changes that can be undone. */
+    int getUndoDepth();
+
+    /** Returns a rough estimate of the memory, in bytes, kept alive by the undo history. */
+    long getUndoHistorySizeEstimate();
+
+    /** Returns the number of times the data file has been saved. */
+    long getSaveCount();
+
+    /** Returns how long the last save of the data file took, in milliseconds. */
+    double getLastSaveMillis();
+
+    /** Returns the size of the data file after the last save, in bytes. */
+    long getLastSaveBytes();
+
+    /** Returns the number of submitted commands that have not been executed and saved yet. */
+    int getPendingCommandCount();
+
+    /** Returns the number of commands that have been run with each command word. */
+    Map<String, Long> getCommandCounts();
+}
@@ -0,0 +1,122 @@
+package seedu.socket.management;
+
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.logic.Logic;
+import seedu.socket.model.Model;
+import seedu.socket.model.stats.CommandMetrics;
+
+/**
+ * Publishes the attributes of a running SOCket as a platform MBean, so they can be watched with any JMX client.
+ * The attributes are read from the parts of the logic and model that can be read from any thread.
+ */
+public class SocketMonitor implements SocketMXBean {
+    public static final String OBJECT_NAME = "seedu.socket:type=Socket";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Logger logger = LogsCenter.getLogger(SocketMonitor.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    /**
+     * Creates a {@code SocketMonitor} of {@code logic} and the {@code model} it executes commands on.
+     */
+    public SocketMonitor(Logic logic, Model model) {
+        requireAllNonNull(logic, model);
+        this.logic = logic;
+        this.model = model;
+    }
+
+    /**
+     * Registers this with the platform MBean server under {@link #OBJECT_NAME}.
+     *
+     * @throws JMException if another MBean is registered under the same name.
+     */
+    public void register() throws JMException {
+        server.registerMBean(this, getObjectName());
+    }
+
+    /**
+     * Unregisters this from the platform MBean server, if it is registered.
+     */
+    public void unregister() {
+        try {
+            if (server.isRegistered(getObjectName())) {
+                server.unregisterMBean(getObjectName());
+            }
+        } catch (JMException e) {
+            logger.warning("Could not unregister " + OBJECT_NAME + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the name this is registered under.
+     */
+    public static ObjectName getObjectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new AssertionError("OBJECT_NAME is a valid name", e);
+        }
+    }
+
+    @Override
+    public int getPersonCount() {
+        return logic.getSocketSnapshot().getPersonList().size();
+    }
+
+    @Override
+    public int getProjectCount() {
+        return logic.getSocketSnapshot().getProjectList().size();
+    }
+
+    @Override
+    public int getUndoDepth() {
+        return model.getUndoDepth();
+    }
+
+    @Override
+    public long getUndoHistorySizeEstimate() {
+        return model.getUndoHistorySizeEstimate();
+    }
+
+    @Override
+    public long getSaveCount() {
+        return getMetrics().getSaveCount();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return getMetrics().getLastSaveNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return getMetrics().getLastSaveByteCount();
+    }
+
+    @Override
+    public int getPendingCommandCount() {
+        return logic.getPendingCommandCount();
+    }
+
+    @Override
+    public Map<String, Long> getCommandCounts() {
+        return getMetrics().getCommandCounts();
+    }
+
+    private CommandMetrics getMetrics() {
+        return model.getCommandMetrics();
+    }
+}
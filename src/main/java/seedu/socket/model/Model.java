@@ -1,16 +1,33 @@
 package seedu.socket.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.socket.commons.core.GuiSettings;
+import seedu.socket.model.dedupe.DuplicateCandidate;
+import seedu.socket.model.index.AutocompleteIndex;
+import seedu.socket.model.index.FuzzyPersonIndex;
+import seedu.socket.model.index.PersonKeyIndex;
+import seedu.socket.model.index.ProjectTimeIndex;
 import seedu.socket.model.person.Person;
+import seedu.socket.model.person.predicate.QueryPredicate;
 import seedu.socket.model.project.Project;
+import seedu.socket.model.reminder.Reminder;
+import seedu.socket.model.stats.CommandMetrics;
+import seedu.socket.model.stats.SocketStatistics;
 
 /**
  * The API of the Model component.
+ * A model has a single writer: every method not documented as callable from any thread, like
+ * {@link #getSocketSnapshot()}, must be called from the same thread, which in the app is the JavaFX application
+ * thread. Other threads read the model through its snapshots.
  */
 public interface Model {
     /** {@code Predicate} that always evaluate to true */
@@ -57,11 +74,29 @@ public interface Model {
     /** Returns the {@code Socket} */
     ReadOnlySocket getSocket();
 
+    /**
+     * Returns the last snapshot of the {@code Socket} published by {@link #publishSnapshot()}.
+     * This can be called from any thread without blocking, and the snapshot returned is never modified.
+     */
+    SocketSnapshot getSocketSnapshot();
+
+    /**
+     * Publishes a snapshot of the current {@code Socket} to readers on other threads, if it has changed since the
+     * last snapshot was published. Should be called once the {@code Socket} is in a consistent state, e.g. after
+     * each command.
+     */
+    void publishSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the {@code Socket}.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person named {@code name}, ignoring case, if any.
+     */
+    Optional<Person> getPersonByName(String name);
+
     /**
      * Deletes the given person.
      * The person must exist in the {@code Socket}.
@@ -88,6 +123,12 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Merges {@code source} into {@code target}, keeping the projects of both, and returns the merged person.
+     * Both persons must exist in the {@code Socket}.
+     */
+    Person mergePersons(Person target, Person source);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -107,15 +148,23 @@ public interface Model {
     void updateViewedPerson(Person person);
 
     /**
-     * Sorts the list of people by given {@code category}
+     * Shows all persons in the filtered person list, sorted by given {@code category} and keeping only the first
+     * {@code limit} persons. The order of the persons in the {@code Socket} is not changed.
+     * The sort order stays in place when the filter is updated, until the next sort, but the limit is lifted so
+     * that every person matching the new filter is shown.
      */
-    void sortPersonList(String category);
+    void sortPersonList(String category, int limit);
 
     /**
      * Returns true if a project with the same identity as {@code project} exists in the {@code Socket}.
      */
     boolean hasProject(Project project);
 
+    /**
+     * Returns the project named {@code name}, ignoring case, if any.
+     */
+    Optional<Project> getProjectByName(String name);
+
     /**
      * Deletes the given project.
      * The project must exist in the {@code Socket}.
@@ -161,9 +210,12 @@ public interface Model {
     void updateViewedProject(Project project);
 
     /**
-     * Sorts the list of projects by given {@code category}
+     * Shows all projects in the filtered project list, sorted by given {@code category} and keeping only the first
+     * {@code limit} projects. The order of the projects in the {@code Socket} is not changed.
+     * The sort order stays in place when the filter is updated, until the next sort, but the limit is lifted so
+     * that every project matching the new filter is shown.
      */
-    void sortProjectList(String category);
+    void sortProjectList(String category, int limit);
 
     /**
      * Saves the current {@code Socket} state.
@@ -189,4 +241,166 @@ public interface Model {
      * Checks if there are any undone {@code Socket} states to restore.
      */
     boolean canRedoSocket();
+
+    /**
+     * Returns the number of {@code Socket} states that can be undone.
+     * Unlike most other methods, this can be called from any thread.
+     */
+    int getUndoDepth();
+
+    /**
+     * Returns a rough estimate, in bytes, of the memory kept alive by the undo history.
+     * Unlike most other methods, this can be called from any thread.
+     */
+    long getUndoHistorySizeEstimate();
+
+    /**
+     * Returns true if the {@code Socket} has been modified since it was last saved to storage.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Records that the current {@code Socket} has been saved to storage.
+     */
+    void markSocketSaved();
+
+    /**
+     * Starts a batch of changes that are undone and redone together. Until the batch ends, {@code commitSocket}
+     * saves no state, and nothing can be undone or redone.
+     */
+    void startBatch();
+
+    /**
+     * Ends the current batch, saving the {@code Socket} state once if any change in the batch was committed.
+     */
+    void commitBatch();
+
+    /**
+     * Ends the current batch, restoring the {@code Socket} to its state when the batch started.
+     */
+    void rollbackBatch();
+
+    /**
+     * Returns up to {@code limit} existing values of {@code field} that start with {@code prefix}, ignoring case.
+     */
+    List<String> getCompletions(AutocompleteIndex.Field field, String prefix, int limit);
+
+    /**
+     * Returns the persons whose {@code field} has a word close to {@code keyword}, tolerating typos.
+     */
+    Set<Person> findPersonsFuzzy(FuzzyPersonIndex.Field field, String keyword);
+
+    /**
+     * Returns the persons matching {@code query}.
+     */
+    Set<Person> findPersons(QueryPredicate query);
+
+    /**
+     * Returns the persons whose {@code field} is {@code key}, ignoring case.
+     */
+    Set<Person> findPersonsByKey(PersonKeyIndex.Field field, String key);
+
+    /**
+     * Returns the persons, other than {@code person}, that share its email, phone or GitHub profile, by field.
+     */
+    Map<PersonKeyIndex.Field, List<Person>> findKeyCollisions(Person person);
+
+    /**
+     * Saves a view named {@code name} of the persons matching {@code predicate}, replacing any view with the same
+     * name (case-insensitive). The view is kept up to date as persons are added, edited and deleted.
+     * @throws NullPointerException if {@code name} or {@code predicate} is null.
+     */
+    void savePersonView(String name, Predicate<Person> predicate);
+
+    /**
+     * Returns true if a person view named {@code name} (case-insensitive) exists.
+     */
+    boolean hasPersonView(String name);
+
+    /**
+     * Shows the person view named {@code name} in the filtered person list, until the filter is next updated.
+     * The view must exist.
+     */
+    void showPersonView(String name);
+
+    /**
+     * Deletes the person view named {@code name}, if it exists.
+     */
+    void deletePersonView(String name);
+
+    /**
+     * Saves a view named {@code name} of the projects matching {@code predicate}, replacing any view with the same
+     * name (case-insensitive). The view is kept up to date as projects are added, edited and deleted.
+     * @throws NullPointerException if {@code name} or {@code predicate} is null.
+     */
+    void saveProjectView(String name, Predicate<Project> predicate);
+
+    /**
+     * Returns true if a project view named {@code name} (case-insensitive) exists.
+     */
+    boolean hasProjectView(String name);
+
+    /**
+     * Shows the project view named {@code name} in the filtered project list, until the filter is next updated.
+     * The view must exist.
+     */
+    void showProjectView(String name);
+
+    /**
+     * Deletes the project view named {@code name}, if it exists.
+     */
+    void deleteProjectView(String name);
+
+    /**
+     * Returns the projects whose {@code field} is at or after {@code start} and before {@code end},
+     * in order of {@code field}.
+     * @throws NullPointerException if any argument is null.
+     */
+    List<Project> findProjectsBetween(ProjectTimeIndex.Field field, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the other projects whose meeting overlaps with the meeting of {@code project} and that share a member
+     * with it, grouped by member. Meetings are assumed to last the duration in the user prefs.
+     */
+    Map<Person, List<Project>> findMeetingConflicts(Project project);
+
+    /**
+     * Returns the statistics of the persons and projects in the {@code Socket}.
+     * The statistics are kept up to date as the {@code Socket} changes.
+     */
+    SocketStatistics getStatistics();
+
+    /**
+     * Returns the latency and save metrics of the commands run on this model.
+     * Unlike most other methods, this can be called from any thread.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Returns the names of the persons who share a project with {@code person}, directly or through at most
+     * {@code hops - 1} other persons, in alphabetical order.
+     */
+    List<String> findCollaborators(Person person, int hops);
+
+    /**
+     * Returns the names of the persons along a shortest chain of shared projects from {@code from} to {@code to},
+     * or an empty list if there is none.
+     */
+    List<String> findCollaborationPath(Person from, Person to);
+
+    /**
+     * Returns the pairs of persons that are likely to be the same person, most likely first.
+     */
+    List<DuplicateCandidate> findDuplicates();
+
+    /**
+     * Starts passing each upcoming deadline and meeting reminder to {@code handler} when it is due.
+     * {@code handler} is called on a background thread.
+     */
+    void startReminders(Consumer<Reminder> handler);
+
+    /**
+     * Stops passing reminders to the handler given to {@link #startReminders(Consumer)}.
+     */
+    void stopReminders();
 }
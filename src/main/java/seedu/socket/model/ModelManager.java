@@ -2,21 +2,56 @@ package seedu.socket.model;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.socket.commons.util.StringUtil.toLowerCaseKey;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.socket.commons.core.GuiSettings;
 import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.model.dedupe.DuplicateCandidate;
+import seedu.socket.model.dedupe.DuplicateDetector;
+import seedu.socket.model.graph.CollaborationGraph;
+import seedu.socket.model.index.AutocompleteIndex;
+import seedu.socket.model.index.FuzzyPersonIndex;
+import seedu.socket.model.index.IdentityIndex;
+import seedu.socket.model.index.MeetingConflictIndex;
+import seedu.socket.model.index.PersonAttributeIndex;
+import seedu.socket.model.index.PersonKeyIndex;
+import seedu.socket.model.index.ProjectTimeIndex;
+import seedu.socket.model.index.QueryPlanner;
 import seedu.socket.model.person.Person;
+import seedu.socket.model.person.predicate.QueryPredicate;
 import seedu.socket.model.project.Project;
+import seedu.socket.model.reminder.Reminder;
+import seedu.socket.model.reminder.ReminderScheduler;
+import seedu.socket.model.stats.CommandMetrics;
+import seedu.socket.model.stats.SocketStatistics;
+import seedu.socket.model.util.ListDeltaListener;
+import seedu.socket.model.util.SortKey;
+import seedu.socket.model.util.SortedView;
+import seedu.socket.model.util.SwitchableList;
+import seedu.socket.model.view.SavedViewRegistry;
 
 /**
  * Represents the in-memory model of the {@code Socket} data.
+ * The {@code Socket}, its indexes and its views are only touched by the single writer thread. Readers on other
+ * threads see the {@code SocketSnapshot} last published by the writer, which is swapped in with a single volatile
+ * write, so reads take no locks and never see a change half done.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -24,8 +59,38 @@ public class ModelManager implements Model {
     private final Socket socket;
     private final VersionedSocket versionedSocket;
     private final UserPrefs userPrefs;
+    private final IdentityIndex<Person> personIdentities;
+    private final IdentityIndex<Project> projectIdentities;
+    private final AutocompleteIndex autocompleteIndex;
+    private final FuzzyPersonIndex fuzzyPersonIndex;
+    private final PersonAttributeIndex personAttributeIndex;
+    private final PersonKeyIndex personKeyIndex;
+    private final QueryPlanner queryPlanner;
+    private final ProjectTimeIndex projectTimeIndex;
+    private final MeetingConflictIndex meetingConflictIndex;
+    private final SocketStatistics statistics;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final CollaborationGraph collaborationGraph;
+    private final DuplicateDetector duplicateDetector;
+    private final ReminderScheduler reminderScheduler;
+    private final SavedViewRegistry<Person> personViews;
+    private final SavedViewRegistry<Project> projectViews;
     private FilteredList<Person> filteredPersons;
     private FilteredList<Project> filteredProjects;
+    private SwitchableList<Person> selectedPersons;
+    private SwitchableList<Project> selectedProjects;
+    private SortedView<Person, SortKey> sortedPersons;
+    private SortedView<Project, SortKey> sortedProjects;
+    private SwitchableList<Person> displayedPersons;
+    private SwitchableList<Project> displayedProjects;
+    private boolean hasUnsavedChanges;
+    private volatile SocketSnapshot snapshot;
+    private boolean isPersonListChangedSinceSnapshot;
+    private boolean isProjectListChangedSinceSnapshot;
+    /** The {@code Socket} state when the current batch started, or null if there is no batch. */
+    private Socket batchStart;
+    private boolean hasUnsavedChangesBeforeBatch;
+    private boolean isBatchCommitted;
 
     private FilteredList<Person> viewedPerson;
     private FilteredList<Project> viewedProject;
@@ -38,17 +103,62 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlySocket socket, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(socket, userPrefs);
 
-        logger.fine("Initializing with address book: " + socket + " and user prefs " + userPrefs);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Initializing with address book: " + socket + " and user prefs " + userPrefs);
+        }
 
-        this.socket = new Socket(socket);
+        this.personIdentities = new IdentityIndex<>(person -> toIdentity(person.getName().fullName));
+        this.projectIdentities = new IdentityIndex<>(project -> toIdentity(project.getName().projectName));
+        this.autocompleteIndex = new AutocompleteIndex();
+        this.fuzzyPersonIndex = new FuzzyPersonIndex();
+        this.personAttributeIndex = new PersonAttributeIndex();
+        this.personKeyIndex = new PersonKeyIndex();
+        this.queryPlanner = new QueryPlanner(personAttributeIndex);
+        this.projectTimeIndex = new ProjectTimeIndex();
+        this.meetingConflictIndex = new MeetingConflictIndex();
+        this.statistics = new SocketStatistics();
+        this.collaborationGraph = new CollaborationGraph();
+        this.duplicateDetector = new DuplicateDetector();
+        this.reminderScheduler = new ReminderScheduler(ReminderScheduler.DEFAULT_LEAD_TIME,
+                Clock.systemDefaultZone());
+        this.socket = new Socket();
+        this.personViews = new SavedViewRegistry<>(this.socket.getPersonList());
+        this.projectViews = new SavedViewRegistry<>(this.socket.getProjectList());
+        this.socket.addPersonListener(personIdentities);
+        this.socket.addProjectListener(projectIdentities);
+        this.socket.addPersonListener(personViews);
+        this.socket.addProjectListener(projectViews);
+        this.socket.addPersonListener(autocompleteIndex.getPersonListener());
+        this.socket.addProjectListener(autocompleteIndex.getProjectListener());
+        this.socket.addPersonListener(fuzzyPersonIndex);
+        this.socket.addPersonListener(personAttributeIndex);
+        this.socket.addPersonListener(personKeyIndex);
+        this.socket.addProjectListener(projectTimeIndex);
+        this.socket.addProjectListener(meetingConflictIndex);
+        this.socket.addPersonListener(statistics.getPersonListener());
+        this.socket.addProjectListener(statistics.getProjectListener());
+        this.socket.addProjectListener(collaborationGraph);
+        this.socket.addPersonListener(duplicateDetector);
+        this.socket.addProjectListener(reminderScheduler);
+        this.socket.addPersonListener(new ModificationListener<>(() -> isPersonListChangedSinceSnapshot = true));
+        this.socket.addProjectListener(new ModificationListener<>(() -> isProjectListChangedSinceSnapshot = true));
+        this.socket.resetData(socket);
         this.versionedSocket = new VersionedSocket(this.socket);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.socket.getPersonList());
+        selectedPersons = new SwitchableList<>(filteredPersons);
+        displayedPersons = new SwitchableList<>(selectedPersons);
         viewedPerson = new FilteredList<>(this.socket.getPersonList());
         viewedPerson.setPredicate(x -> false);
         filteredProjects = new FilteredList<>(this.socket.getProjectList());
+        selectedProjects = new SwitchableList<>(filteredProjects);
+        displayedProjects = new SwitchableList<>(selectedProjects);
         viewedProject = new FilteredList<>(this.socket.getProjectList());
         viewedProject.setPredicate(x -> false);
+        hasUnsavedChanges = false;
+        snapshot = SocketSnapshot.of(this.socket);
+        isPersonListChangedSinceSnapshot = false;
+        isProjectListChangedSinceSnapshot = false;
     }
 
     public ModelManager() {
@@ -102,10 +212,34 @@ public class ModelManager implements Model {
         return socket;
     }
 
+    @Override
+    public SocketSnapshot getSocketSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public void publishSnapshot() {
+        if (batchStart != null) {
+            return; // the batch may still be rolled back, so readers only see it once it ends
+        }
+        if (!isPersonListChangedSinceSnapshot && !isProjectListChangedSinceSnapshot) {
+            return;
+        }
+        snapshot = snapshot.next(socket, isPersonListChangedSinceSnapshot, isProjectListChangedSinceSnapshot);
+        isPersonListChangedSinceSnapshot = false;
+        isProjectListChangedSinceSnapshot = false;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return socket.hasPerson(person);
+        return personIdentities.get(person).isPresent();
+    }
+
+    @Override
+    public Optional<Person> getPersonByName(String name) {
+        requireNonNull(name);
+        return personIdentities.get(toIdentity(name.trim()));
     }
 
     @Override
@@ -132,10 +266,22 @@ public class ModelManager implements Model {
         socket.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Person mergePersons(Person target, Person source) {
+        requireAllNonNull(target, source);
+        return socket.mergePersons(target, source);
+    }
+
     @Override
     public boolean hasProject(Project project) {
         requireNonNull(project);
-        return socket.hasProject(project);
+        return projectIdentities.get(project).isPresent();
+    }
+
+    @Override
+    public Optional<Project> getProjectByName(String name) {
+        requireNonNull(name);
+        return projectIdentities.get(toIdentity(name.trim()));
     }
 
     @Override
@@ -163,6 +309,10 @@ public class ModelManager implements Model {
 
     @Override
     public void commitSocket() {
+        if (batchStart != null) {
+            isBatchCommitted = true;
+            return;
+        }
         versionedSocket.commit(socket);
     }
 
@@ -178,12 +328,203 @@ public class ModelManager implements Model {
 
     @Override
     public boolean canUndoSocket() {
-        return versionedSocket.canUndoSocket();
+        return batchStart == null && versionedSocket.canUndoSocket();
     }
 
     @Override
     public boolean canRedoSocket() {
-        return versionedSocket.canRedoSocket();
+        return batchStart == null && versionedSocket.canRedoSocket();
+    }
+
+    @Override
+    public int getUndoDepth() {
+        return versionedSocket.getUndoDepth();
+    }
+
+    @Override
+    public long getUndoHistorySizeEstimate() {
+        return versionedSocket.getRetainedSizeEstimate();
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    @Override
+    public void markSocketSaved() {
+        hasUnsavedChanges = false;
+    }
+
+    @Override
+    public void startBatch() {
+        assert batchStart == null : "Batches cannot be nested";
+        batchStart = new Socket(socket);
+        hasUnsavedChangesBeforeBatch = hasUnsavedChanges;
+        isBatchCommitted = false;
+    }
+
+    @Override
+    public void commitBatch() {
+        assert batchStart != null;
+        batchStart = null;
+        if (isBatchCommitted) {
+            versionedSocket.commit(socket);
+        }
+    }
+
+    @Override
+    public void rollbackBatch() {
+        assert batchStart != null;
+        socket.resetData(batchStart);
+        hasUnsavedChanges = hasUnsavedChangesBeforeBatch;
+        batchStart = null;
+    }
+
+    //=========== Indexes ====================================================================================
+
+    @Override
+    public List<String> getCompletions(AutocompleteIndex.Field field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        return autocompleteIndex.complete(field, prefix, limit);
+    }
+
+    @Override
+    public Set<Person> findPersonsFuzzy(FuzzyPersonIndex.Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+        return fuzzyPersonIndex.search(field, keyword);
+    }
+
+    @Override
+    public Set<Person> findPersons(QueryPredicate query) {
+        requireNonNull(query);
+        return queryPlanner.evaluate(query, socket.getPersonList());
+    }
+
+    @Override
+    public Set<Person> findPersonsByKey(PersonKeyIndex.Field field, String key) {
+        requireAllNonNull(field, key);
+        return personKeyIndex.find(field, key);
+    }
+
+    @Override
+    public Map<PersonKeyIndex.Field, List<Person>> findKeyCollisions(Person person) {
+        requireNonNull(person);
+        return personKeyIndex.findCollisions(person);
+    }
+
+    @Override
+    public List<Project> findProjectsBetween(ProjectTimeIndex.Field field, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(field, start, end);
+        return projectTimeIndex.findBetween(field, start, end);
+    }
+
+    @Override
+    public Map<Person, List<Project>> findMeetingConflicts(Project project) {
+        requireNonNull(project);
+        return meetingConflictIndex.findConflicts(project, Duration.ofMinutes(userPrefs.getMeetingMinutes()));
+    }
+
+    @Override
+    public SocketStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    @Override
+    public List<String> findCollaborators(Person person, int hops) {
+        requireNonNull(person);
+        return collaborationGraph.getCollaborators(person, hops);
+    }
+
+    @Override
+    public List<String> findCollaborationPath(Person from, Person to) {
+        requireAllNonNull(from, to);
+        return collaborationGraph.findShortestPath(from, to);
+    }
+
+    @Override
+    public List<DuplicateCandidate> findDuplicates() {
+        return duplicateDetector.findCandidates();
+    }
+
+    //=========== Reminders ==================================================================================
+
+    @Override
+    public void startReminders(Consumer<Reminder> handler) {
+        requireNonNull(handler);
+        reminderScheduler.start(handler);
+    }
+
+    @Override
+    public void stopReminders() {
+        reminderScheduler.stop();
+    }
+
+    //=========== Saved Views ================================================================================
+
+    @Override
+    public void savePersonView(String name, Predicate<Person> predicate) {
+        requireAllNonNull(name, predicate);
+        personViews.save(name, predicate);
+    }
+
+    @Override
+    public boolean hasPersonView(String name) {
+        requireNonNull(name);
+        return personViews.get(name).isPresent();
+    }
+
+    @Override
+    public void showPersonView(String name) {
+        requireNonNull(name);
+        selectedPersons.setSource(personViews.get(name).orElseThrow().asUnmodifiableObservableList());
+        liftPersonSortLimit();
+    }
+
+    @Override
+    public void deletePersonView(String name) {
+        requireNonNull(name);
+        personViews.get(name).ifPresent(view -> {
+            if (selectedPersons.getSource() == view.asUnmodifiableObservableList()) {
+                updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            }
+        });
+        personViews.remove(name);
+    }
+
+    @Override
+    public void saveProjectView(String name, Predicate<Project> predicate) {
+        requireAllNonNull(name, predicate);
+        projectViews.save(name, predicate);
+    }
+
+    @Override
+    public boolean hasProjectView(String name) {
+        requireNonNull(name);
+        return projectViews.get(name).isPresent();
+    }
+
+    @Override
+    public void showProjectView(String name) {
+        requireNonNull(name);
+        selectedProjects.setSource(projectViews.get(name).orElseThrow().asUnmodifiableObservableList());
+        liftProjectSortLimit();
+    }
+
+    @Override
+    public void deleteProjectView(String name) {
+        requireNonNull(name);
+        projectViews.get(name).ifPresent(view -> {
+            if (selectedProjects.getSource() == view.asUnmodifiableObservableList()) {
+                updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+            }
+        });
+        projectViews.remove(name);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -194,13 +535,24 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        PersonFilterEvent event = new PersonFilterEvent();
+        event.begin();
+        selectedPersons.setSource(filteredPersons);
         filteredPersons.setPredicate(predicate);
+        liftPersonSortLimit();
+        event.end();
+        if (event.shouldCommit()) {
+            event.predicateType = predicate.getClass().getName();
+            event.inputSize = socket.getPersonList().size();
+            event.matches = filteredPersons.size();
+            event.commit();
+        }
     }
 
     @Override
@@ -214,9 +566,28 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortPersonList(String category) {
-        socket.sort(category);
+    public void sortPersonList(String category, int limit) {
+        requireNonNull(category);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        setSortedPersons(person -> person.getSortKey(category), limit);
+    }
+
+    private void setSortedPersons(Function<? super Person, ? extends SortKey> keyExtractor, int limit) {
+        if (sortedPersons != null) {
+            sortedPersons.dispose();
+        }
+        sortedPersons = new SortedView<>(selectedPersons, keyExtractor, limit);
+        displayedPersons.setSource(sortedPersons);
+    }
+
+    /**
+     * Keeps every person in the sorted person list, if it was cut off after the first few persons, so the displayed
+     * list shows everyone that the filter matches. The sort order is kept.
+     */
+    private void liftPersonSortLimit() {
+        if (sortedPersons != null && sortedPersons.getLimit() != NO_LIMIT) {
+            setSortedPersons(sortedPersons.getKeyExtractor(), NO_LIMIT);
+        }
     }
 
     /**
@@ -225,13 +596,15 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Project> getFilteredProjectList() {
-        return filteredProjects;
+        return displayedProjects;
     }
 
     @Override
     public void updateFilteredProjectList(Predicate<Project> predicate) {
         requireNonNull(predicate);
+        selectedProjects.setSource(filteredProjects);
         filteredProjects.setPredicate(predicate);
+        liftProjectSortLimit();
     }
 
     @Override
@@ -245,9 +618,28 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortProjectList(String category) {
-        socket.sortProjects(category);
+    public void sortProjectList(String category, int limit) {
+        requireNonNull(category);
         updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+        setSortedProjects(project -> project.getSortKey(category), limit);
+    }
+
+    private void setSortedProjects(Function<? super Project, ? extends SortKey> keyExtractor, int limit) {
+        if (sortedProjects != null) {
+            sortedProjects.dispose();
+        }
+        sortedProjects = new SortedView<>(selectedProjects, keyExtractor, limit);
+        displayedProjects.setSource(sortedProjects);
+    }
+
+    /**
+     * Keeps every project in the sorted project list, if it was cut off after the first few projects, so the
+     * displayed list shows every project that the filter matches. The sort order is kept.
+     */
+    private void liftProjectSortLimit() {
+        if (sortedProjects != null && sortedProjects.getLimit() != NO_LIMIT) {
+            setSortedProjects(sortedProjects.getKeyExtractor(), NO_LIMIT);
+        }
     }
 
     @Override
@@ -266,10 +658,49 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return socket.equals(other.socket)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons)
+                && displayedPersons.equals(other.displayedPersons)
                 && viewedPerson.equals(other.viewedPerson)
-                && filteredProjects.equals(other.filteredProjects)
+                && displayedProjects.equals(other.displayedProjects)
                 && viewedProject.equals(other.viewedProject);
     }
 
+    /**
+     * Returns the identity of a person or project named {@code name}, which matches the case-insensitive equality of
+     * their names.
+     */
+    private static String toIdentity(String name) {
+        return toLowerCaseKey(name);
+    }
+
+    /**
+     * Records that the {@code Socket} has been modified whenever one of its lists changes, and runs
+     * {@code onModified} to record which list it was.
+     */
+    private class ModificationListener<T> implements ListDeltaListener<T> {
+        private final Runnable onModified;
+
+        ModificationListener(Runnable onModified) {
+            this.onModified = onModified;
+        }
+
+        @Override
+        public void onAdd(T added) {
+            modified();
+        }
+
+        @Override
+        public void onRemove(T removed) {
+            modified();
+        }
+
+        @Override
+        public void onReset(List<T> elements) {
+            modified();
+        }
+
+        private void modified() {
+            hasUnsavedChanges = true;
+            onModified.run();
+        }
+    }
 }
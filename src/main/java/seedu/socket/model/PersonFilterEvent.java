@@ -0,0 +1,27 @@
+package seedu.socket.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a change of the predicate that filters the displayed persons.
+ */
+@Name("seedu.socket.PersonFilter")
+@Label("Person Filter")
+@Category({"SOCket", "Model"})
+@Description("A filter of the person list by a new predicate")
+class PersonFilterEvent extends Event {
+    @Label("Predicate Type")
+    String predicateType;
+
+    @Label("Input Size")
+    @Description("The number of persons the predicate was tested against")
+    int inputSize;
+
+    @Label("Matches")
+    @Description("The number of persons that matched the predicate")
+    int matches;
+}
@@ -10,6 +10,7 @@ import seedu.socket.model.person.Person;
 import seedu.socket.model.person.UniquePersonList;
 import seedu.socket.model.project.Project;
 import seedu.socket.model.project.UniqueProjectList;
+import seedu.socket.model.util.ListDeltaListener;
 
 /**
  * Wraps all data at the SOCket level.
@@ -109,6 +110,24 @@ public class Socket implements ReadOnlySocket {
         projects.updateMemberInProjects(target, editedPerson);
     }
 
+    /**
+     * Merges {@code source} into {@code target} and returns the merged person (see {@link Person#mergeWith(Person)}).
+     * The merged person replaces {@code target} and {@code source} in the person list and in the members of every
+     * project. Both persons must exist in {@code Socket}.
+     */
+    public Person mergePersons(Person target, Person source) {
+        requireNonNull(target);
+        requireNonNull(source);
+
+        Person merged = target.mergeWith(source);
+        persons.remove(source);
+        persons.setPerson(target, merged);
+        // update references, keeping the projects of both
+        projects.updateMemberInProjects(target, merged);
+        projects.updateMemberInProjects(source, merged);
+        return merged;
+    }
+
     /**
      * Removes {@code key} from this {@code Socket}.
      * {@code key} must exist in {@code Socket}.
@@ -164,6 +183,22 @@ public class Socket implements ReadOnlySocket {
         projects.remove(key);
     }
 
+    //// listener registration
+
+    /**
+     * Registers {@code listener} to be notified of every change made to the person list.
+     */
+    public void addPersonListener(ListDeltaListener<Person> listener) {
+        persons.addDeltaListener(listener);
+    }
+
+    /**
+     * Registers {@code listener} to be notified of every change made to the project list.
+     */
+    public void addProjectListener(ListDeltaListener<Project> listener) {
+        projects.addDeltaListener(listener);
+    }
+
     //// util methods
 
     @Override
@@ -195,12 +230,4 @@ public class Socket implements ReadOnlySocket {
     public int hashCode() {
         return persons.hashCode();
     }
-
-    public void sort(String category) {
-        persons.sort(category);
-    }
-
-    public void sortProjects(String category) {
-        projects.sort(category);
-    }
 }
@@ -0,0 +1,83 @@
+package seedu.socket.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+
+/**
+ * An immutable copy of a {@code Socket} at one version, which can be read from any thread.
+ * Each snapshot is numbered one higher than the one it follows. A snapshot shares the list of the snapshot before it
+ * that did not change, so publishing a snapshot after a change to one list only copies that list.
+ */
+public class SocketSnapshot implements ReadOnlySocket {
+    private final long version;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Project> projects;
+
+    private SocketSnapshot(long version, ObservableList<Person> persons, ObservableList<Project> projects) {
+        this.version = version;
+        this.persons = persons;
+        this.projects = projects;
+    }
+
+    /**
+     * Returns the first snapshot of {@code socket}.
+     */
+    public static SocketSnapshot of(ReadOnlySocket socket) {
+        requireNonNull(socket);
+        return new SocketSnapshot(0, copy(socket.getPersonList()), copy(socket.getProjectList()));
+    }
+
+    /**
+     * Returns the snapshot of {@code socket} that follows this one, copying only the lists that are marked as changed
+     * since this snapshot was taken.
+     */
+    public SocketSnapshot next(ReadOnlySocket socket, boolean isPersonListChanged, boolean isProjectListChanged) {
+        requireNonNull(socket);
+        return new SocketSnapshot(version + 1,
+                isPersonListChanged ? copy(socket.getPersonList()) : persons,
+                isProjectListChanged ? copy(socket.getProjectList()) : projects);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Project> getProjectList() {
+        return projects;
+    }
+
+    private static <T> ObservableList<T> copy(ObservableList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SocketSnapshot // instanceof handles nulls
+                && version == ((SocketSnapshot) other).version
+                && persons.equals(((SocketSnapshot) other).persons)
+                && projects.equals(((SocketSnapshot) other).projects));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, persons, projects);
+    }
+
+    @Override
+    public String toString() {
+        return "Version " + version + ": " + persons.size() + " persons, " + projects.size() + " projects";
+    }
+}
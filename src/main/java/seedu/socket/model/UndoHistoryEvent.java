@@ -0,0 +1,40 @@
+package seedu.socket.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a commit, undo or redo of a {@code VersionedSocket}.
+ */
+@Name("seedu.socket.UndoHistory")
+@Label("Undo History")
+@Category({"SOCket", "Model"})
+@Description("A commit, undo or redo of the undo history")
+class UndoHistoryEvent extends Event {
+    static final String COMMIT = "commit";
+    static final String UNDO = "undo";
+    static final String REDO = "redo";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("State Count")
+    @Description("The number of states kept, including the current one")
+    int stateCount;
+
+    @Label("Undo Depth")
+    @Description("The number of states that can be undone")
+    int undoDepth;
+
+    @Label("Retained Size Estimate")
+    @DataAmount
+    long retainedSizeEstimate;
+
+    UndoHistoryEvent(String operation) {
+        this.operation = operation;
+    }
+}
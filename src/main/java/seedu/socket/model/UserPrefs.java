@@ -1,6 +1,7 @@
 package seedu.socket.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,12 @@ import seedu.socket.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_MEETING_MINUTES = 60;
+    public static final String MESSAGE_MEETING_MINUTES_CONSTRAINTS = "Meeting duration should be a positive number";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path socketFilePath = Paths.get("data" , "socket.json");
+    private int meetingMinutes = DEFAULT_MEETING_MINUTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setSocketFilePath(newUserPrefs.getSocketFilePath());
+        setMeetingMinutes(newUserPrefs.getMeetingMinutes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.socketFilePath = socketFilePath;
     }
 
+    public int getMeetingMinutes() {
+        return meetingMinutes;
+    }
+
+    /**
+     * Sets the number of minutes a project meeting is assumed to last.
+     */
+    public void setMeetingMinutes(int meetingMinutes) {
+        checkArgument(meetingMinutes > 0, MESSAGE_MEETING_MINUTES_CONSTRAINTS);
+        this.meetingMinutes = meetingMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +86,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && socketFilePath.equals(o.socketFilePath);
+                && socketFilePath.equals(o.socketFilePath)
+                && meetingMinutes == o.meetingMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, socketFilePath);
+        return Objects.hash(guiSettings, socketFilePath, meetingMinutes);
     }
 
     @Override
@@ -81,6 +100,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + socketFilePath);
+        sb.append("\nMeeting duration (minutes) : " + meetingMinutes);
         return sb.toString();
     }
 
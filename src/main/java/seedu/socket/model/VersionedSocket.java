@@ -1,19 +1,30 @@
 package seedu.socket.model;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Facilitates undo/redo mechanism by maintaining {@code Socket} states.
+ * Each commit, undo and redo is reported as an {@code UndoHistoryEvent} to Java Flight Recorder.
+ * The sizes of the history can be read from any thread, while it is changed by the model's single writer.
  */
 public class VersionedSocket extends Socket {
     /** The initial value of currentStatePointer. */
     private static final int INIT_POINTER = 0;
+    /** The estimated size of a state without its entries: the {@code Socket}, its two lists and their wrappers. */
+    static final long ESTIMATED_STATE_BYTES = 512;
+    /** The estimated size of an entry of a state, which is a reference to a person or project shared between states. */
+    static final long ESTIMATED_ENTRY_BYTES = 8;
     /** The {@code ArrayList<ReadOnlySocket>} in which the {@code Socket} states are stored. */
     private final ArrayList<ReadOnlySocket> socketStateList;
     /** The pointer to the current {@code Socket} state. */
-    private int currentStatePointer;
+    private volatile int currentStatePointer;
+    /** The size of {@code socketStateList}, kept separately so it can be read from other threads. */
+    private volatile int stateCount;
     /** The associated {@code Socket} instance. */
     private final Socket socket;
+    /** The total number of persons and projects in {@code socketStateList}. */
+    private volatile long entryCount;
 
     /**
      * Constructs a {@code VersionedSocket} with the given {@code Socket} and initializes the
@@ -24,7 +35,7 @@ public class VersionedSocket extends Socket {
     public VersionedSocket(Socket initialSocket) {
         socket = initialSocket;
         socketStateList = new ArrayList<>();
-        socketStateList.add(new Socket(initialSocket));
+        addState(initialSocket);
         currentStatePointer = INIT_POINTER;
     }
 
@@ -33,25 +44,78 @@ public class VersionedSocket extends Socket {
      */
     public void commit(Socket socket) {
         assert currentStatePointer >= 0;
+        UndoHistoryEvent event = new UndoHistoryEvent(UndoHistoryEvent.COMMIT);
+        event.begin();
         if (currentStatePointer != (socketStateList.size() - 1)) {
-            socketStateList.subList(currentStatePointer + 1, socketStateList.size()).clear();
+            List<ReadOnlySocket> undone = socketStateList.subList(currentStatePointer + 1, socketStateList.size());
+            entryCount -= undone.stream().mapToLong(VersionedSocket::getEntryCount).sum();
+            undone.clear();
         }
-        socketStateList.add(new Socket(socket));
+        addState(socket);
         currentStatePointer++;
+        commitEvent(event);
     }
     /**
      * Restores the previous {@code Socket} state.
      */
     public void undo() {
+        UndoHistoryEvent event = new UndoHistoryEvent(UndoHistoryEvent.UNDO);
+        event.begin();
         --currentStatePointer;
         socket.resetData(socketStateList.get(currentStatePointer));
+        commitEvent(event);
     }
     /**
      * Restores a previously undone {@code Socket} state.
      */
     public void redo() {
+        UndoHistoryEvent event = new UndoHistoryEvent(UndoHistoryEvent.REDO);
+        event.begin();
         ++currentStatePointer;
         socket.resetData(socketStateList.get(currentStatePointer));
+        commitEvent(event);
+    }
+
+    /**
+     * Returns the number of states kept, including the current one.
+     */
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    /**
+     * Returns the number of states that can be undone.
+     */
+    public int getUndoDepth() {
+        return currentStatePointer;
+    }
+
+    /**
+     * Returns a rough estimate, in bytes, of the memory kept alive by the saved states.
+     * Persons and projects are shared between states, so only the references to them are counted.
+     */
+    public long getRetainedSizeEstimate() {
+        return stateCount * ESTIMATED_STATE_BYTES + entryCount * ESTIMATED_ENTRY_BYTES;
+    }
+
+    private void addState(ReadOnlySocket state) {
+        socketStateList.add(new Socket(state));
+        entryCount += getEntryCount(state);
+        stateCount = socketStateList.size();
+    }
+
+    private void commitEvent(UndoHistoryEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.stateCount = getStateCount();
+            event.undoDepth = getUndoDepth();
+            event.retainedSizeEstimate = getRetainedSizeEstimate();
+            event.commit();
+        }
+    }
+
+    private static long getEntryCount(ReadOnlySocket state) {
+        return state.getPersonList().size() + state.getProjectList().size();
     }
 
     /**
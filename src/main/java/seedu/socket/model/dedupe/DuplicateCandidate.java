@@ -0,0 +1,66 @@
+package seedu.socket.model.dedupe;
+
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.socket.model.person.Person;
+
+/**
+ * A pair of persons that may be the same person.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class DuplicateCandidate {
+    private final Person first;
+    private final Person second;
+    private final double similarity;
+    private final boolean hasSharedKey;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param similarity the Jaccard similarity of the details of both persons, between 0 and 1.
+     * @param hasSharedKey whether both persons have the same email, phone or GitHub profile.
+     */
+    public DuplicateCandidate(Person first, Person second, double similarity, boolean hasSharedKey) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+        this.similarity = similarity;
+        this.hasSharedKey = hasSharedKey;
+    }
+
+    public Person getFirst() {
+        return first;
+    }
+
+    public Person getSecond() {
+        return second;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    public boolean hasSharedKey() {
+        return hasSharedKey;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof DuplicateCandidate // instanceof handles nulls
+            && first.equals(((DuplicateCandidate) other).first)
+            && second.equals(((DuplicateCandidate) other).second)
+            && similarity == ((DuplicateCandidate) other).similarity
+            && hasSharedKey == ((DuplicateCandidate) other).hasSharedKey); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return first.hashCode() * 31 + second.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return first.getName() + " / " + second.getName();
+    }
+}
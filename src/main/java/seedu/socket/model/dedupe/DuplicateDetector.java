@@ -0,0 +1,202 @@
+package seedu.socket.model.dedupe;
+
+import static seedu.socket.commons.util.StringUtil.toLowerCaseKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * Finds persons that are likely to be duplicates of each other without comparing every pair of persons.
+ * Each person is described by a set of shingles: the 3-letter substrings of their name and of the local part of their
+ * email, and their whole email, phone and GitHub profile. Persons are hashed into buckets twice over:
+ * <ul>
+ *     <li>by MinHash signature, split into bands, so that persons with similar shingle sets are likely to share a
+ *     bucket (locality-sensitive hashing); and</li>
+ *     <li>by their exact email, phone and GitHub profile, so that persons sharing any of them always share a
+ *     bucket.</li>
+ * </ul>
+ * Only persons sharing a bucket are compared. The buckets are updated from the per-element changes of the person list.
+ */
+public class DuplicateDetector implements ListDeltaListener<Person> {
+    /** The minimum Jaccard similarity of the shingle sets of two persons for them to be reported. */
+    public static final double SIMILARITY_THRESHOLD = 0.5;
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int BANDS = 20;
+    private static final int ROWS_PER_BAND = 3;
+    private static final int SIGNATURE_LENGTH = BANDS * ROWS_PER_BAND;
+    private static final long PRIME = 2_147_483_647L; // 2^31 - 1
+    private static final long[] HASH_MULTIPLIERS = new long[SIGNATURE_LENGTH];
+    private static final long[] HASH_OFFSETS = new long[SIGNATURE_LENGTH];
+
+    static {
+        Random random = new Random(SIGNATURE_LENGTH); // fixed seed, so signatures are stable across runs
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            HASH_MULTIPLIERS[i] = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            HASH_OFFSETS[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    private final Map<Person, Set<String>> shingles = new HashMap<>();
+    private final Map<Person, List<Object>> bucketKeys = new HashMap<>();
+    private final Map<Object, Set<Person>> buckets = new HashMap<>();
+
+    /**
+     * Returns the pairs of persons that share an email, phone or GitHub profile, or whose details have a Jaccard
+     * similarity of at least {@code SIMILARITY_THRESHOLD}, most similar first.
+     */
+    public List<DuplicateCandidate> findCandidates() {
+        Set<List<Person>> compared = new HashSet<>();
+        List<DuplicateCandidate> candidates = new ArrayList<>();
+        for (Map.Entry<Object, Set<Person>> bucket : buckets.entrySet()) {
+            if (bucket.getValue().size() < 2) {
+                continue;
+            }
+            List<Person> members = new ArrayList<>(bucket.getValue());
+            members.sort(Comparator.comparing(person -> person.getName().toString()));
+            for (int i = 0; i < members.size(); i++) {
+                for (int j = i + 1; j < members.size(); j++) {
+                    Person first = members.get(i);
+                    Person second = members.get(j);
+                    if (!compared.add(Arrays.asList(first, second))) {
+                        continue;
+                    }
+                    double similarity = getJaccardSimilarity(shingles.get(first), shingles.get(second));
+                    boolean hasSharedKey = hasSharedKey(first, second);
+                    if (hasSharedKey || similarity >= SIMILARITY_THRESHOLD) {
+                        candidates.add(new DuplicateCandidate(first, second, similarity, hasSharedKey));
+                    }
+                }
+            }
+        }
+        candidates.sort(Comparator.comparing(DuplicateCandidate::hasSharedKey)
+                .thenComparingDouble(DuplicateCandidate::getSimilarity).reversed()
+                .thenComparing(DuplicateCandidate::toString));
+        return candidates;
+    }
+
+    @Override
+    public void onAdd(Person added) {
+        Set<String> personShingles = getShingles(added);
+        List<Object> keys = getBucketKeys(added, personShingles);
+        shingles.put(added, personShingles);
+        bucketKeys.put(added, keys);
+        keys.forEach(key -> buckets.computeIfAbsent(key, unused -> new HashSet<>()).add(added));
+    }
+
+    @Override
+    public void onRemove(Person removed) {
+        shingles.remove(removed);
+        List<Object> keys = bucketKeys.remove(removed);
+        assert keys != null;
+        keys.forEach(key -> buckets.computeIfPresent(key, (unused, persons) -> {
+            persons.remove(removed);
+            return persons.isEmpty() ? null : persons;
+        }));
+    }
+
+    @Override
+    public void onReset(List<Person> elements) {
+        shingles.clear();
+        bucketKeys.clear();
+        buckets.clear();
+        elements.forEach(this::onAdd);
+    }
+
+    /**
+     * Returns the shingles describing {@code person}, each prefixed by the field it comes from.
+     */
+    static Set<String> getShingles(Person person) {
+        Set<String> personShingles = new LinkedHashSet<>();
+        addSubstrings(personShingles, "n:", person.getName().fullName);
+        if (!person.getEmail().isEmptyEmail()) {
+            String email = toLowerCaseKey(person.getEmail().value);
+            personShingles.add("e:" + email);
+            addSubstrings(personShingles, "l:", email.substring(0, Math.max(0, email.indexOf('@'))));
+        }
+        if (!person.getPhone().isEmptyPhone()) {
+            personShingles.add("p:" + person.getPhone().value);
+        }
+        if (!person.getProfile().isEmptyProfile()) {
+            personShingles.add("g:" + toLowerCaseKey(person.getProfile().value));
+        }
+        return personShingles;
+    }
+
+    /**
+     * Adds the {@code SHINGLE_LENGTH}-letter substrings of the letters and digits in {@code text} to
+     * {@code personShingles}, or the whole of them if there are fewer.
+     */
+    private static void addSubstrings(Set<String> personShingles, String prefix, String text) {
+        String normalized = toLowerCaseKey(text).replaceAll("[^\\p{Alnum}]", "");
+        if (normalized.length() <= SHINGLE_LENGTH) {
+            if (!normalized.isEmpty()) {
+                personShingles.add(prefix + normalized);
+            }
+            return;
+        }
+        for (int i = 0; i + SHINGLE_LENGTH <= normalized.length(); i++) {
+            personShingles.add(prefix + normalized.substring(i, i + SHINGLE_LENGTH));
+        }
+    }
+
+    private static List<Object> getBucketKeys(Person person, Set<String> personShingles) {
+        List<Object> keys = new ArrayList<>();
+        int[] signature = getSignature(personShingles);
+        for (int band = 0; band < BANDS; band++) {
+            int[] rows = Arrays.copyOfRange(signature, band * ROWS_PER_BAND, (band + 1) * ROWS_PER_BAND);
+            keys.add(Arrays.asList(band, Arrays.hashCode(rows)));
+        }
+        personShingles.stream()
+                .filter(shingle -> shingle.startsWith("e:") || shingle.startsWith("p:") || shingle.startsWith("g:"))
+                .forEach(keys::add);
+        return keys;
+    }
+
+    /**
+     * Returns the MinHash signature of {@code personShingles}: the minimum of each of the hash functions over them.
+     */
+    private static int[] getSignature(Set<String> personShingles) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : personShingles) {
+            long hash = shingle.hashCode() & 0xffffffffL;
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int value = (int) ((HASH_MULTIPLIERS[i] * hash + HASH_OFFSETS[i]) % PRIME);
+                signature[i] = Math.min(signature[i], value);
+            }
+        }
+        return signature;
+    }
+
+    private static double getJaccardSimilarity(Set<String> first, Set<String> second) {
+        if (first.isEmpty() && second.isEmpty()) {
+            return 0;
+        }
+        int shared = 0;
+        for (String shingle : first) {
+            if (second.contains(shingle)) {
+                shared++;
+            }
+        }
+        return (double) shared / (first.size() + second.size() - shared);
+    }
+
+    private static boolean hasSharedKey(Person first, Person second) {
+        return (!first.getEmail().isEmptyEmail() && first.getEmail().value.equalsIgnoreCase(second.getEmail().value))
+                || (!first.getPhone().isEmptyPhone() && first.getPhone().equals(second.getPhone()))
+                || (!first.getProfile().isEmptyProfile()
+                        && first.getProfile().value.equalsIgnoreCase(second.getProfile().value));
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.socket.model.graph;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * A graph of the persons who are members of projects, with an edge between every two persons who share a project.
+ * Each member is given a small integer id and its neighbours are kept in a {@code BitSet}, so a breadth-first search
+ * over the graph only touches words of bits instead of the member sets of the projects.
+ * The graph is updated from the per-element changes of the project list.
+ */
+public class CollaborationGraph implements ListDeltaListener<Project> {
+    public static final String MESSAGE_HOPS_CONSTRAINTS = "The number of hops should be positive";
+
+    private static final int NO_ID = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<BitSet> adjacency = new ArrayList<>();
+    /** The number of projects of the member with each id. Ids of members without projects are free for reuse. */
+    private final List<Integer> projectCounts = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    /** The number of projects shared by each pair of members, keyed by {@link #getEdgeKey(int, int)}. */
+    private final Map<Long, Integer> edgeCounts = new HashMap<>();
+
+    /**
+     * Returns the names of the persons at most {@code hops} edges away from {@code person}, in alphabetical order.
+     * {@code person} itself is not included.
+     */
+    public List<String> getCollaborators(Person person, int hops) {
+        requireNonNull(person);
+        checkArgument(hops > 0, MESSAGE_HOPS_CONSTRAINTS);
+        int source = getId(person);
+        if (source == NO_ID) {
+            return Collections.emptyList();
+        }
+
+        BitSet visited = new BitSet();
+        visited.set(source);
+        BitSet frontier = (BitSet) adjacency.get(source).clone();
+        for (int hop = 1; hop <= hops && !frontier.isEmpty(); hop++) {
+            frontier.andNot(visited);
+            visited.or(frontier);
+            if (hop < hops) {
+                BitSet next = new BitSet();
+                for (int id = frontier.nextSetBit(0); id >= 0; id = frontier.nextSetBit(id + 1)) {
+                    next.or(adjacency.get(id));
+                }
+                frontier = next;
+            }
+        }
+        visited.clear(source);
+
+        List<String> collaborators = new ArrayList<>();
+        visited.stream().forEach(id -> collaborators.add(names.get(id)));
+        Collections.sort(collaborators);
+        return collaborators;
+    }
+
+    /**
+     * Returns the names of the persons along a shortest path of edges from {@code from} to {@code to}, including both,
+     * or an empty list if there is no such path.
+     */
+    public List<String> findShortestPath(Person from, Person to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int source = getId(from);
+        int target = getId(to);
+        if (source == NO_ID || target == NO_ID) {
+            return Collections.emptyList();
+        }
+
+        int[] parents = new int[names.size()];
+        Arrays.fill(parents, NO_ID);
+        BitSet visited = new BitSet();
+        visited.set(source);
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(source);
+        while (!queue.isEmpty() && !visited.get(target)) {
+            int current = queue.poll();
+            BitSet unvisited = (BitSet) adjacency.get(current).clone();
+            unvisited.andNot(visited);
+            for (int id = unvisited.nextSetBit(0); id >= 0; id = unvisited.nextSetBit(id + 1)) {
+                parents[id] = current;
+                queue.add(id);
+            }
+            visited.or(unvisited);
+        }
+        if (!visited.get(target)) {
+            return Collections.emptyList();
+        }
+
+        LinkedList<String> path = new LinkedList<>();
+        for (int id = target; id != NO_ID; id = parents[id]) {
+            path.addFirst(names.get(id));
+        }
+        return path;
+    }
+
+    @Override
+    public void onAdd(Project added) {
+        int[] members = added.getMembers().stream().mapToInt(this::acquireId).toArray();
+        for (int i = 0; i < members.length; i++) {
+            for (int j = i + 1; j < members.length; j++) {
+                if (edgeCounts.merge(getEdgeKey(members[i], members[j]), 1, Integer::sum) == 1) {
+                    adjacency.get(members[i]).set(members[j]);
+                    adjacency.get(members[j]).set(members[i]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onRemove(Project removed) {
+        int[] members = removed.getMembers().stream().mapToInt(this::getId).toArray();
+        assert Arrays.stream(members).noneMatch(id -> id == NO_ID);
+        for (int i = 0; i < members.length; i++) {
+            for (int j = i + 1; j < members.length; j++) {
+                Integer count = edgeCounts.computeIfPresent(getEdgeKey(members[i], members[j]),
+                    (unused, current) -> current == 1 ? null : current - 1);
+                if (count == null) {
+                    adjacency.get(members[i]).clear(members[j]);
+                    adjacency.get(members[j]).clear(members[i]);
+                }
+            }
+        }
+        Arrays.stream(members).forEach(this::releaseId);
+    }
+
+    @Override
+    public void onReset(List<Project> elements) {
+        ids.clear();
+        names.clear();
+        adjacency.clear();
+        projectCounts.clear();
+        freeIds.clear();
+        edgeCounts.clear();
+        elements.forEach(this::onAdd);
+    }
+
+    private int getId(Person person) {
+        return ids.getOrDefault(person.getName().toString(), NO_ID);
+    }
+
+    /**
+     * Returns the id of {@code member}, giving it one if it has none, and counts one more project for it.
+     */
+    private int acquireId(Person member) {
+        String name = member.getName().toString();
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = freeIds.isEmpty() ? names.size() : freeIds.pop();
+            ids.put(name, id);
+            if (id == names.size()) {
+                names.add(name);
+                adjacency.add(new BitSet());
+                projectCounts.add(0);
+            } else {
+                names.set(id, name);
+            }
+        }
+        projectCounts.set(id, projectCounts.get(id) + 1);
+        return id;
+    }
+
+    /**
+     * Counts one less project for the member with {@code id}, freeing the id if the member has no projects left.
+     */
+    private void releaseId(int id) {
+        int count = projectCounts.get(id) - 1;
+        projectCounts.set(id, count);
+        if (count == 0) {
+            assert adjacency.get(id).isEmpty();
+            ids.remove(names.get(id));
+            names.set(id, null);
+            freeIds.push(id);
+        }
+    }
+
+    private static long getEdgeKey(int first, int second) {
+        return ((long) Math.min(first, second) << Integer.SIZE) | Math.max(first, second);
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.socket.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.tag.Language;
+import seedu.socket.model.person.tag.Tag;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * Keeps a {@code PrefixTrie} per completable field of the persons and projects in a {@code Socket}.
+ * The tries are updated from the per-element changes of the person and project lists, so they never need to be
+ * rebuilt from scratch after the initial load.
+ */
+public class AutocompleteIndex {
+    /**
+     * The fields that completions can be requested for.
+     */
+    public enum Field { NAME, PROFILE, TAG, LANGUAGE, PROJECT }
+
+    private final Map<Field, PrefixTrie> tries = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty {@code AutocompleteIndex}.
+     */
+    public AutocompleteIndex() {
+        for (Field field : Field.values()) {
+            tries.put(field, new PrefixTrie());
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} values of {@code field} that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> complete(Field field, String prefix, int limit) {
+        requireNonNull(field);
+        return tries.get(field).complete(prefix, limit);
+    }
+
+    /**
+     * Returns a listener that keeps the person fields of this index in sync with a person list.
+     */
+    public ListDeltaListener<Person> getPersonListener() {
+        return new ListDeltaListener<>() {
+            @Override
+            public void onAdd(Person added) {
+                addPerson(added);
+            }
+
+            @Override
+            public void onRemove(Person removed) {
+                removePerson(removed);
+            }
+
+            @Override
+            public void onReset(List<Person> elements) {
+                tries.get(Field.NAME).clear();
+                tries.get(Field.PROFILE).clear();
+                tries.get(Field.TAG).clear();
+                tries.get(Field.LANGUAGE).clear();
+                elements.forEach(this::onAdd);
+            }
+        };
+    }
+
+    /**
+     * Returns a listener that keeps the project fields of this index in sync with a project list.
+     */
+    public ListDeltaListener<Project> getProjectListener() {
+        return new ListDeltaListener<>() {
+            @Override
+            public void onAdd(Project added) {
+                tries.get(Field.PROJECT).insert(added.getName().projectName);
+            }
+
+            @Override
+            public void onRemove(Project removed) {
+                tries.get(Field.PROJECT).remove(removed.getName().projectName);
+            }
+
+            @Override
+            public void onReset(List<Project> elements) {
+                tries.get(Field.PROJECT).clear();
+                elements.forEach(this::onAdd);
+            }
+        };
+    }
+
+    private void addPerson(Person person) {
+        tries.get(Field.NAME).insert(person.getName().fullName);
+        tries.get(Field.PROFILE).insert(person.getProfile().value);
+        for (Tag tag : person.getTags()) {
+            tries.get(Field.TAG).insert(tag.tagName);
+        }
+        for (Language language : person.getLanguages()) {
+            tries.get(Field.LANGUAGE).insert(language.languageName);
+        }
+    }
+
+    private void removePerson(Person person) {
+        tries.get(Field.NAME).remove(person.getName().fullName);
+        tries.get(Field.PROFILE).remove(person.getProfile().value);
+        for (Tag tag : person.getTags()) {
+            tries.get(Field.TAG).remove(tag.tagName);
+        }
+        for (Language language : person.getLanguages()) {
+            tries.get(Field.LANGUAGE).remove(language.languageName);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.socket.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * Keeps a {@code TrigramIndex} over the names, emails and GitHub profiles of the persons in a {@code Socket}, to find
+ * persons by a keyword that may be misspelt.
+ */
+public class FuzzyPersonIndex implements ListDeltaListener<Person> {
+    /**
+     * The fields that can be searched.
+     */
+    public enum Field { NAME, EMAIL, PROFILE }
+
+    private final Map<Field, TrigramIndex<Person>> indexes = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty {@code FuzzyPersonIndex}.
+     */
+    public FuzzyPersonIndex() {
+        for (Field field : Field.values()) {
+            indexes.put(field, new TrigramIndex<>());
+        }
+    }
+
+    /**
+     * Returns the persons whose {@code field} has a word close to {@code keyword}.
+     * The number of typos tolerated grows with the length of {@code keyword}.
+     */
+    public Set<Person> search(Field field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        return indexes.get(field).search(keyword, getMaxEditDistance(keyword.trim()));
+    }
+
+    /**
+     * Returns the number of typos tolerated in {@code keyword}.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    @Override
+    public void onAdd(Person added) {
+        for (Field field : Field.values()) {
+            indexes.get(field).add(added, getWords(field, added));
+        }
+    }
+
+    @Override
+    public void onRemove(Person removed) {
+        for (Field field : Field.values()) {
+            indexes.get(field).remove(removed, getWords(field, removed));
+        }
+    }
+
+    @Override
+    public void onReset(List<Person> elements) {
+        indexes.values().forEach(TrigramIndex::clear);
+        elements.forEach(this::onAdd);
+    }
+
+    private static List<String> getWords(Field field, Person person) {
+        switch (field) {
+        case NAME:
+            return Arrays.asList(person.getName().fullName.split("\\s+"));
+        case EMAIL:
+            return Collections.singletonList(person.getEmail().value);
+        case PROFILE:
+            return Collections.singletonList(person.getProfile().value);
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.socket.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * A hash index from the identity of each element of a list of unique elements, such as the name of a person, to the
+ * element, to find an element or check whether one exists in constant time.
+ *
+ * @param <T> the type of the elements.
+ */
+public class IdentityIndex<T> implements ListDeltaListener<T> {
+    private final Function<T, String> identity;
+    private final Map<String, T> elements = new HashMap<>();
+
+    /**
+     * Creates an empty {@code IdentityIndex} over the identities given by {@code identity}.
+     * Two elements must have the same identity exactly when they are the same element of the list.
+     */
+    public IdentityIndex(Function<T, String> identity) {
+        requireNonNull(identity);
+        this.identity = identity;
+    }
+
+    /**
+     * Returns the element of the list with the same identity as {@code element}, if any.
+     */
+    public Optional<T> get(T element) {
+        requireNonNull(element);
+        return Optional.ofNullable(elements.get(identity.apply(element)));
+    }
+
+    /**
+     * Returns the element of the list with the identity {@code key}, if any.
+     */
+    public Optional<T> get(String key) {
+        requireNonNull(key);
+        return Optional.ofNullable(elements.get(key));
+    }
+
+    @Override
+    public void onAdd(T added) {
+        elements.put(identity.apply(added), added);
+    }
+
+    @Override
+    public void onRemove(T removed) {
+        elements.remove(identity.apply(removed), removed);
+    }
+
+    @Override
+    public void onReset(List<T> newElements) {
+        elements.clear();
+        newElements.forEach(this::onAdd);
+    }
+}
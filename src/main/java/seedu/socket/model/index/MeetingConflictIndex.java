@@ -0,0 +1,111 @@
+package seedu.socket.model.index;
+
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.socket.commons.util.StringUtil.toLowerCaseKey;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * An index from each person to the meetings of the projects they are a member of, ordered by start time, so the
+ * meetings that clash with a project's meeting can be found without scanning every project.
+ * Every meeting is assumed to last the same duration, which is only needed when looking for clashes. Two meetings of
+ * that duration overlap exactly when their start times are less than a duration apart, so the start times are all
+ * that needs to be indexed.
+ */
+public class MeetingConflictIndex implements ListDeltaListener<Project> {
+    private final Map<String, NavigableMap<LocalDateTime, Set<Project>>> meetingsByMember = new HashMap<>();
+
+    /**
+     * Returns the projects, other than {@code project}, that have a meeting overlapping with the meeting of
+     * {@code project} and share a member with it, grouped by member in order of name.
+     * Meetings are assumed to last {@code duration}.
+     */
+    public Map<Person, List<Project>> findConflicts(Project project, Duration duration) {
+        requireAllNonNull(project, duration);
+        Map<Person, List<Project>> conflicts = new LinkedHashMap<>();
+        if (project.getMeeting().isEmptyMeeting() || duration.isZero() || duration.isNegative()) {
+            return conflicts;
+        }
+
+        LocalDateTime start = project.getMeeting().toLocalDateTime();
+        List<Person> members = new ArrayList<>(project.getMembers());
+        members.sort(Comparator.comparing(member -> member.getName().toString()));
+        for (Person member : members) {
+            NavigableMap<LocalDateTime, Set<Project>> meetings = meetingsByMember.get(getKey(member));
+            if (meetings == null) {
+                continue;
+            }
+            List<Project> clashing = new ArrayList<>();
+            meetings.subMap(start.minus(duration), false, start.plus(duration), false).values()
+                    .forEach(projects -> projects.stream()
+                            .filter(other -> !other.isSameProject(project))
+                            .forEach(clashing::add));
+            if (!clashing.isEmpty()) {
+                conflicts.put(member, clashing);
+            }
+        }
+        return conflicts;
+    }
+
+    @Override
+    public void onAdd(Project added) {
+        if (added.getMeeting().isEmptyMeeting()) {
+            return;
+        }
+        LocalDateTime start = added.getMeeting().toLocalDateTime();
+        for (Person member : added.getMembers()) {
+            meetingsByMember.computeIfAbsent(getKey(member), unused -> new TreeMap<>())
+                    .computeIfAbsent(start, unused -> new HashSet<>()).add(added);
+        }
+    }
+
+    @Override
+    public void onRemove(Project removed) {
+        if (removed.getMeeting().isEmptyMeeting()) {
+            return;
+        }
+        LocalDateTime start = removed.getMeeting().toLocalDateTime();
+        for (Person member : removed.getMembers()) {
+            String key = getKey(member);
+            NavigableMap<LocalDateTime, Set<Project>> meetings = meetingsByMember.get(key);
+            if (meetings == null) {
+                continue;
+            }
+            meetings.computeIfPresent(start, (unused, projects) -> {
+                projects.remove(removed);
+                return projects.isEmpty() ? null : projects;
+            });
+            if (meetings.isEmpty()) {
+                meetingsByMember.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void onReset(List<Project> elements) {
+        meetingsByMember.clear();
+        elements.forEach(this::onAdd);
+    }
+
+    /**
+     * Returns the key of {@code member}, which matches the case-insensitive equality of {@code Name}.
+     */
+    private static String getKey(Person member) {
+        return toLowerCaseKey(member.getName().toString());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.socket.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.util.StringUtil.toLowerCaseKey;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.predicate.QueryPredicate.Field;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * An inverted index from the words in the fields of a person to the persons containing them.
+ * Addresses are free text and are not indexed; terms on them are answered by scanning instead.
+ */
+public class PersonAttributeIndex implements ListDeltaListener<Person> {
+    private final Map<Field, Map<String, Set<Person>>> personsByWord = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty {@code PersonAttributeIndex}.
+     */
+    public PersonAttributeIndex() {
+        for (Field field : Field.values()) {
+            if (field != Field.ADDRESS) {
+                personsByWord.put(field, new HashMap<>());
+            }
+        }
+    }
+
+    /**
+     * Returns true if terms on {@code field} can be answered by this index.
+     */
+    public boolean isIndexed(Field field) {
+        return personsByWord.containsKey(field);
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains {@code word}, ignoring case.
+     * {@code field} must be indexed.
+     */
+    public Set<Person> lookup(Field field, String word) {
+        requireNonNull(word);
+        assert isIndexed(field);
+        return Collections.unmodifiableSet(
+                personsByWord.get(field).getOrDefault(toLowerCaseKey(word), Collections.emptySet()));
+    }
+
+    @Override
+    public void onAdd(Person added) {
+        personsByWord.forEach((field, index) -> {
+            for (String word : field.getWords(added)) {
+                index.computeIfAbsent(toLowerCaseKey(word), unused -> new HashSet<>()).add(added);
+            }
+        });
+    }
+
+    @Override
+    public void onRemove(Person removed) {
+        personsByWord.forEach((field, index) -> {
+            for (String word : field.getWords(removed)) {
+                index.computeIfPresent(toLowerCaseKey(word), (unused, persons) -> {
+                    persons.remove(removed);
+                    return persons.isEmpty() ? null : persons;
+                });
+            }
+        });
+    }
+
+    @Override
+    public void onReset(List<Person> elements) {
+        personsByWord.values().forEach(Map::clear);
+        elements.forEach(this::onAdd);
+    }
+}
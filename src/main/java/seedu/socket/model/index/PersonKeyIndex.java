@@ -0,0 +1,135 @@
+package seedu.socket.model.index;
+
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.socket.commons.util.StringUtil.toLowerCaseKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * A hash index from the email, phone and GitHub profile of the persons in a {@code Socket} to the persons with them,
+ * to look persons up by these keys, and to find the persons sharing a key with another, without scanning every person.
+ * Emails and GitHub profiles are matched ignoring case. Empty values are not indexed.
+ * The keys are not required to be unique, so a key can map to several persons.
+ */
+public class PersonKeyIndex implements ListDeltaListener<Person> {
+    /**
+     * The fields that are indexed.
+     */
+    public enum Field {
+        EMAIL("email"), PHONE("phone"), PROFILE("GitHub profile");
+
+        private final String description;
+
+        Field(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Returns the normalized key of {@code person} for this field, or null if the field is empty.
+         */
+        public String getKey(Person person) {
+            switch (this) {
+            case EMAIL:
+                return person.getEmail().isEmptyEmail() ? null : normalize(person.getEmail().value);
+            case PHONE:
+                return person.getPhone().isEmptyPhone() ? null : normalize(person.getPhone().value);
+            case PROFILE:
+                return person.getProfile().isEmptyProfile() ? null : normalize(person.getProfile().value);
+            default:
+                throw new AssertionError(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final Map<Field, Map<String, Set<Person>>> indexes = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty {@code PersonKeyIndex}.
+     */
+    public PersonKeyIndex() {
+        for (Field field : Field.values()) {
+            indexes.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the persons whose {@code field} is {@code key}.
+     */
+    public Set<Person> find(Field field, String key) {
+        requireAllNonNull(field, key);
+        return Collections.unmodifiableSet(indexes.get(field).getOrDefault(normalize(key), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the persons, other than {@code person}, that share each of the indexed fields of {@code person} with it,
+     * in order of name. Fields that no other person shares are left out.
+     */
+    public Map<Field, List<Person>> findCollisions(Person person) {
+        requireAllNonNull(person);
+        Map<Field, List<Person>> collisions = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            String key = field.getKey(person);
+            if (key == null) {
+                continue;
+            }
+            List<Person> others = new ArrayList<>();
+            indexes.get(field).getOrDefault(key, Collections.emptySet()).stream()
+                    .filter(other -> !other.isSamePerson(person))
+                    .forEach(others::add);
+            if (!others.isEmpty()) {
+                others.sort(Comparator.comparing(other -> other.getName().toString()));
+                collisions.put(field, others);
+            }
+        }
+        return collisions;
+    }
+
+    @Override
+    public void onAdd(Person added) {
+        for (Field field : Field.values()) {
+            String key = field.getKey(added);
+            if (key != null) {
+                indexes.get(field).computeIfAbsent(key, unused -> new HashSet<>()).add(added);
+            }
+        }
+    }
+
+    @Override
+    public void onRemove(Person removed) {
+        for (Field field : Field.values()) {
+            String key = field.getKey(removed);
+            if (key != null) {
+                indexes.get(field).computeIfPresent(key, (unused, persons) -> {
+                    persons.remove(removed);
+                    return persons.isEmpty() ? null : persons;
+                });
+            }
+        }
+    }
+
+    @Override
+    public void onReset(List<Person> elements) {
+        indexes.values().forEach(Map::clear);
+        elements.forEach(this::onAdd);
+    }
+
+    private static String normalize(String key) {
+        return toLowerCaseKey(key.trim());
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.socket.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.util.StringUtil.toLowerCaseKey;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A case-insensitive prefix trie over a multiset of words.
+ * Each word is counted, so the same word may be inserted by several elements and is only dropped from the trie once
+ * every one of them has removed it. Completions are returned in alphabetical order and are bounded by a limit, so a
+ * lookup only walks as much of the trie as it needs to regardless of how many words are stored.
+ */
+public class PrefixTrie {
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code word} to the trie.
+     * Blank words are ignored.
+     */
+    public void insert(String word) {
+        requireNonNull(word);
+        if (word.isBlank()) {
+            return;
+        }
+        Node current = root;
+        for (char c : toKey(word).toCharArray()) {
+            current = current.children.computeIfAbsent(c, unused -> new Node());
+        }
+        if (current.count == 0) {
+            current.word = word;
+            size++;
+        }
+        current.count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code word} from the trie, pruning nodes that are no longer used.
+     * Does nothing if {@code word} is not in the trie.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        if (word.isBlank()) {
+            return;
+        }
+        String key = toKey(word);
+        Deque<Node> path = new ArrayDeque<>();
+        Node current = root;
+        for (char c : key.toCharArray()) {
+            path.push(current);
+            current = current.children.get(c);
+            if (current == null) {
+                return;
+            }
+        }
+        if (current.count == 0) {
+            return;
+        }
+        current.count--;
+        if (current.count > 0) {
+            return;
+        }
+        current.word = null;
+        size--;
+        for (int i = key.length() - 1; i >= 0 && current.isUnused(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(key.charAt(i));
+            current = parent;
+        }
+    }
+
+    /**
+     * Returns true if {@code word} is in the trie.
+     */
+    public boolean contains(String word) {
+        requireNonNull(word);
+        Node node = find(toKey(word));
+        return node != null && node.count > 0;
+    }
+
+    /**
+     * Returns up to {@code limit} words in the trie that start with {@code prefix}, in alphabetical order.
+     * Words are returned in the case they were first inserted with.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        Node start = find(toKey(prefix));
+        if (start == null || limit <= 0) {
+            return completions;
+        }
+
+        Deque<Iterator<Node>> stack = new ArrayDeque<>();
+        if (start.count > 0) {
+            completions.add(start.word);
+        }
+        stack.push(start.children.values().iterator());
+        while (!stack.isEmpty() && completions.size() < limit) {
+            Iterator<Node> siblings = stack.peek();
+            if (!siblings.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            Node next = siblings.next();
+            if (next.count > 0) {
+                completions.add(next.word);
+            }
+            stack.push(next.children.values().iterator());
+        }
+        return completions;
+    }
+
+    /**
+     * Removes every word from the trie.
+     */
+    public void clear() {
+        root.children.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of distinct words in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    private Node find(String key) {
+        Node current = root;
+        for (int i = 0; i < key.length() && current != null; i++) {
+            current = current.children.get(key.charAt(i));
+        }
+        return current;
+    }
+
+    private static String toKey(String word) {
+        return toLowerCaseKey(word);
+    }
+
+    /**
+     * A node of the trie. {@code word} is only set while {@code count} is positive.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String word;
+        private int count;
+
+        private boolean isUnused() {
+            return count == 0 && children.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.socket.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.socket.model.project.Project;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * An index from the deadlines and meeting times of projects to the projects, ordered by time, so the projects due
+ * or meeting within a period can be found without scanning every project.
+ */
+public class ProjectTimeIndex implements ListDeltaListener<Project> {
+
+    /**
+     * The times of a {@code Project} that are indexed.
+     */
+    public enum Field {
+        DEADLINE, MEETING;
+
+        /**
+         * Returns this time of {@code project}, or null if {@code project} does not have one.
+         */
+        public LocalDateTime getTime(Project project) {
+            switch (this) {
+            case DEADLINE:
+                return project.getDeadline().isEmptyDeadline() ? null : project.getDeadline().toLocalDateTime();
+            case MEETING:
+                return project.getMeeting().isEmptyMeeting() ? null : project.getMeeting().toLocalDateTime();
+            default:
+                throw new AssertionError("Unknown field: " + this);
+            }
+        }
+    }
+
+    private final Map<Field, NavigableMap<LocalDateTime, Set<Project>>> projectsByTime = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty {@code ProjectTimeIndex}.
+     */
+    public ProjectTimeIndex() {
+        for (Field field : Field.values()) {
+            projectsByTime.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Returns the projects whose {@code field} is at or after {@code start} and before {@code end},
+     * in order of {@code field}.
+     */
+    public List<Project> findBetween(Field field, LocalDateTime start, LocalDateTime end) {
+        requireNonNull(field);
+        requireNonNull(start);
+        requireNonNull(end);
+        List<Project> projects = new ArrayList<>();
+        if (start.isBefore(end)) {
+            projectsByTime.get(field).subMap(start, true, end, false).values().forEach(projects::addAll);
+        }
+        return projects;
+    }
+
+    @Override
+    public void onAdd(Project added) {
+        projectsByTime.forEach((field, index) -> {
+            LocalDateTime time = field.getTime(added);
+            if (time != null) {
+                index.computeIfAbsent(time, unused -> new HashSet<>()).add(added);
+            }
+        });
+    }
+
+    @Override
+    public void onRemove(Project removed) {
+        projectsByTime.forEach((field, index) -> {
+            LocalDateTime time = field.getTime(removed);
+            if (time != null) {
+                index.computeIfPresent(time, (unused, projects) -> {
+                    projects.remove(removed);
+                    return projects.isEmpty() ? null : projects;
+                });
+            }
+        });
+    }
+
+    @Override
+    public void onReset(List<Project> elements) {
+        projectsByTime.values().forEach(Map::clear);
+        elements.forEach(this::onAdd);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.socket.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.predicate.QueryPredicate;
+import seedu.socket.model.person.predicate.QueryPredicate.And;
+import seedu.socket.model.person.predicate.QueryPredicate.Not;
+import seedu.socket.model.person.predicate.QueryPredicate.Or;
+import seedu.socket.model.person.predicate.QueryPredicate.Term;
+
+/**
+ * Finds the persons matching a {@code QueryPredicate}, answering terms from a {@code PersonAttributeIndex} where the
+ * field is indexed and scanning the persons otherwise.
+ * Within an AND, the operands that can be answered from the index are intersected smallest first, and the remaining
+ * operands are only tested against the persons that survive, so a scan is only done over the whole list when no
+ * operand narrows it down.
+ */
+public class QueryPlanner {
+    private final PersonAttributeIndex index;
+
+    /**
+     * Creates a {@code QueryPlanner} that answers terms from {@code index}.
+     */
+    public QueryPlanner(PersonAttributeIndex index) {
+        requireNonNull(index);
+        this.index = index;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match {@code query}.
+     * {@code index} must be in sync with {@code persons}.
+     */
+    public Set<Person> evaluate(QueryPredicate query, Collection<Person> persons) {
+        requireNonNull(query);
+        requireNonNull(persons);
+        if (query instanceof Term) {
+            return evaluateTerm((Term) query, persons);
+        } else if (query instanceof And) {
+            return evaluateAnd((And) query, persons);
+        } else if (query instanceof Or) {
+            Set<Person> matches = new HashSet<>();
+            for (QueryPredicate operand : ((Or) query).getOperands()) {
+                matches.addAll(evaluate(operand, persons));
+            }
+            return matches;
+        } else if (query instanceof Not) {
+            Set<Person> matches = new HashSet<>(persons);
+            matches.removeAll(evaluate(((Not) query).getOperand(), persons));
+            return matches;
+        } else {
+            return scan(query, persons);
+        }
+    }
+
+    /**
+     * Returns true if {@code query} can be answered without scanning every person.
+     */
+    public boolean isIndexed(QueryPredicate query) {
+        if (query instanceof Term) {
+            return index.isIndexed(((Term) query).getField());
+        } else if (query instanceof And) {
+            return ((And) query).getOperands().stream().anyMatch(this::isIndexed);
+        } else if (query instanceof Or) {
+            return ((Or) query).getOperands().stream().allMatch(this::isIndexed);
+        } else {
+            return false;
+        }
+    }
+
+    private Set<Person> evaluateTerm(Term term, Collection<Person> persons) {
+        if (index.isIndexed(term.getField())) {
+            return new HashSet<>(index.lookup(term.getField(), term.getKeyword()));
+        }
+        return scan(term, persons);
+    }
+
+    private Set<Person> evaluateAnd(And and, Collection<Person> persons) {
+        List<Set<Person>> indexedMatches = new ArrayList<>();
+        List<QueryPredicate> filters = new ArrayList<>();
+        for (QueryPredicate operand : and.getOperands()) {
+            if (isIndexed(operand)) {
+                indexedMatches.add(evaluate(operand, persons));
+            } else {
+                filters.add(operand);
+            }
+        }
+
+        Set<Person> candidates;
+        if (indexedMatches.isEmpty()) {
+            candidates = new HashSet<>(persons);
+        } else {
+            indexedMatches.sort(Comparator.comparingInt(Set::size));
+            candidates = indexedMatches.get(0);
+            for (Set<Person> matches : indexedMatches.subList(1, indexedMatches.size())) {
+                candidates.retainAll(matches);
+            }
+        }
+
+        for (QueryPredicate filter : filters) {
+            if (candidates.isEmpty()) {
+                break;
+            }
+            if (filter instanceof Not && isIndexed(((Not) filter).getOperand())) {
+                candidates.removeAll(evaluate(((Not) filter).getOperand(), persons));
+            } else {
+                candidates.removeIf(filter.negate());
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<Person> scan(QueryPredicate query, Collection<Person> persons) {
+        return persons.stream().filter(query).collect(Collectors.toSet());
+    }
+}
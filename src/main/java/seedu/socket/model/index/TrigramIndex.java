@@ -0,0 +1,154 @@
+package seedu.socket.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.socket.commons.util.StringUtil;
+
+/**
+ * Indexes the words of a set of elements by their trigrams, to look up elements with a word close to a query word.
+ * Each word is padded with a boundary marker on both ends before being split into trigrams, so a word of length
+ * {@code n} has {@code n} trigrams. A single edit changes at most three of them, so a word within edit distance
+ * {@code k} of the query must share at least {@code n - 3k} trigrams with it. Only the words passing this filter are
+ * checked with a bounded Levenshtein distance. Queries too short for the filter to exclude anything, such as a
+ * three-letter query with one edit allowed, are instead checked against the words of length {@code n - k} to
+ * {@code n + k}, which are also indexed by length.
+ *
+ * @param <T> type of the elements indexed.
+ */
+public class TrigramIndex<T> {
+    private static final char BOUNDARY = '$';
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<String, Map<T, Integer>> elementsByWord = new HashMap<>();
+    private final Map<Integer, Set<String>> wordsByLength = new HashMap<>();
+
+    /**
+     * Indexes {@code element} under each of {@code words}.
+     */
+    public void add(T element, Collection<String> words) {
+        requireNonNull(element);
+        for (String word : toKeys(words)) {
+            Map<T, Integer> elements = elementsByWord.get(word);
+            if (elements == null) {
+                elements = new HashMap<>();
+                elementsByWord.put(word, elements);
+                for (String trigram : getTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+                wordsByLength.computeIfAbsent(word.length(), unused -> new HashSet<>()).add(word);
+            }
+            elements.merge(element, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes {@code element} from under each of {@code words}.
+     * {@code words} should be the same words {@code element} was added with.
+     */
+    public void remove(T element, Collection<String> words) {
+        requireNonNull(element);
+        for (String word : toKeys(words)) {
+            Map<T, Integer> elements = elementsByWord.get(word);
+            if (elements == null) {
+                continue;
+            }
+            elements.computeIfPresent(element, (unused, count) -> count == 1 ? null : count - 1);
+            if (!elements.isEmpty()) {
+                continue;
+            }
+            elementsByWord.remove(word);
+            for (String trigram : getTrigrams(word)) {
+                Set<String> wordsWithTrigram = wordsByTrigram.get(trigram);
+                wordsWithTrigram.remove(word);
+                if (wordsWithTrigram.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+            Set<String> wordsWithLength = wordsByLength.get(word.length());
+            wordsWithLength.remove(word);
+            if (wordsWithLength.isEmpty()) {
+                wordsByLength.remove(word.length());
+            }
+        }
+    }
+
+    /**
+     * Removes every element from the index.
+     */
+    public void clear() {
+        wordsByTrigram.clear();
+        elementsByWord.clear();
+        wordsByLength.clear();
+    }
+
+    /**
+     * Returns the elements with a word within {@code maxDistance} edits of {@code query}, ignoring case.
+     */
+    public Set<T> search(String query, int maxDistance) {
+        requireNonNull(query);
+        String key = StringUtil.toLowerCaseKey(query.trim());
+        if (key.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<T> matches = new HashSet<>();
+        for (String word : getCandidates(key, maxDistance)) {
+            if (StringUtil.isWithinEditDistance(key, word, maxDistance)) {
+                matches.addAll(elementsByWord.get(word).keySet());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indexed words that may be within {@code maxDistance} edits of {@code key}.
+     */
+    private Collection<String> getCandidates(String key, int maxDistance) {
+        Set<String> queryTrigrams = getTrigrams(key);
+        int minShared = queryTrigrams.size() - 3 * maxDistance;
+        if (minShared <= 0) {
+            // a word within distance may share no trigrams with a query this short, but its length is close
+            Set<String> candidates = new HashSet<>();
+            for (int length = key.length() - maxDistance; length <= key.length() + maxDistance; length++) {
+                candidates.addAll(wordsByLength.getOrDefault(length, Collections.emptySet()));
+            }
+            return candidates;
+        }
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigrams.merge(word, 1, Integer::sum);
+            }
+        }
+        sharedTrigrams.values().removeIf(shared -> shared < minShared);
+        return sharedTrigrams.keySet();
+    }
+
+    private static Set<String> toKeys(Collection<String> words) {
+        Set<String> keys = new HashSet<>();
+        for (String word : words) {
+            String key = StringUtil.toLowerCaseKey(word.trim());
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        String padded = BOUNDARY + word + BOUNDARY;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Set;
 
 import seedu.socket.model.person.tag.Language;
 import seedu.socket.model.person.tag.Tag;
+import seedu.socket.model.util.SortKey;
 
 /**
  * Represents a {@code Person} in SOCket.
@@ -106,6 +107,29 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the key to sort this person by when sorting by {@code category}.
+     * Persons without a value in the category are ordered last; ties are broken by name. Ignores case.
+     *
+     * @param category One of {@code CATEGORIES}.
+     * @return The {@code SortKey} of this person for {@code category}.
+     */
+    public SortKey getSortKey(String category) {
+        String nameKey = name.toString().toLowerCase();
+        switch (category) {
+        case CATEGORY_GITHUB:
+            return new SortKey(profile.toString().toLowerCase(), nameKey);
+        case CATEGORY_PHONE:
+            return new SortKey(phone.toString().toLowerCase(), nameKey);
+        case CATEGORY_EMAIL:
+            return new SortKey(email.toString().toLowerCase(), nameKey);
+        case CATEGORY_ADDRESS:
+            return new SortKey(address.toString().toLowerCase(), nameKey);
+        default:
+            return new SortKey(nameKey, nameKey);
+        }
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -122,6 +146,27 @@ public class Person {
                 && otherPerson.getName().equals(getName());
     }
 
+    /**
+     * Returns a person with the name of this person that combines the details of this person and {@code other}.
+     * Fields that this person leaves empty are taken from {@code other}, and the languages and tags of both are kept.
+     *
+     * @param other {@code Person} whose details are merged into this person.
+     * @return the merged {@code Person}.
+     */
+    public Person mergeWith(Person other) {
+        requireAllNonNull(other);
+        Set<Language> mergedLanguages = new HashSet<>(languages);
+        mergedLanguages.addAll(other.languages);
+        Set<Tag> mergedTags = new HashSet<>(tags);
+        mergedTags.addAll(other.tags);
+        return new Person(name,
+                profile.isEmptyProfile() ? other.profile : profile,
+                phone.isEmptyPhone() ? other.phone : phone,
+                email.isEmptyEmail() ? other.email : email,
+                address.isEmptyAddress() ? other.address : address,
+                mergedLanguages, mergedTags);
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
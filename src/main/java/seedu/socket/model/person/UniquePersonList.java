@@ -2,13 +2,8 @@ package seedu.socket.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.socket.model.person.Person.CATEGORY_ADDRESS;
-import static seedu.socket.model.person.Person.CATEGORY_EMAIL;
-import static seedu.socket.model.person.Person.CATEGORY_GITHUB;
-import static seedu.socket.model.person.Person.CATEGORY_NAME;
-import static seedu.socket.model.person.Person.CATEGORY_PHONE;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
@@ -17,6 +12,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.socket.model.person.exceptions.DuplicatePersonException;
 import seedu.socket.model.person.exceptions.PersonNotFoundException;
+import seedu.socket.model.util.ListDeltaListener;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -34,6 +30,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final List<ListDeltaListener<Person>> deltaListeners = new ArrayList<>();
+
+    /**
+     * Registers a {@code ListDeltaListener} to be notified of every person added, replaced or removed.
+     */
+    public void addDeltaListener(ListDeltaListener<Person> listener) {
+        requireNonNull(listener);
+        deltaListeners.add(listener);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -53,6 +58,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        deltaListeners.forEach(listener -> listener.onAdd(toAdd));
     }
 
     /**
@@ -86,6 +92,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        deltaListeners.forEach(listener -> listener.onSet(target, editedPerson));
     }
 
     /**
@@ -97,6 +104,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        deltaListeners.forEach(listener -> listener.onRemove(toRemove));
     }
 
     /**
@@ -105,13 +113,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean removeAll(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        boolean isRemoved = internalList.removeIf(predicate);
+        List<Person> removed = new ArrayList<>();
+        boolean isRemoved = internalList.removeIf(person -> predicate.test(person) && removed.add(person));
+        removed.forEach(person -> deltaListeners.forEach(listener -> listener.onRemove(person)));
         return isRemoved;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        deltaListeners.forEach(listener -> listener.onReset(internalUnmodifiableList));
     }
 
     /**
@@ -125,6 +136,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        deltaListeners.forEach(listener -> listener.onReset(internalUnmodifiableList));
     }
 
     /**
@@ -164,62 +176,4 @@ public class UniquePersonList implements Iterable<Person> {
         }
         return true;
     }
-
-    /**
-     * Sorts the list by given {@code category}.
-     * @param category
-     */
-    public void sort(String category) {
-        if (category.equals(CATEGORY_NAME)) {
-            internalList.sort(Comparator.comparing((Person a) -> a.getName().toString().toLowerCase()));
-        } else if (category.equals(CATEGORY_PHONE)) {
-            internalList.sort((Person a, Person b) -> {
-                if (a.getPhone().toString().isEmpty() && b.getPhone().toString().isEmpty()) {
-                    return a.getName().toString().toLowerCase().compareTo(b.getName().toString().toLowerCase());
-                } else if (a.getPhone().toString().isEmpty()) {
-                    return 1;
-                } else if (b.getPhone().toString().isEmpty()) {
-                    return -1;
-                } else {
-                    return a.getPhone().toString().toLowerCase().compareTo(b.getPhone().toString().toLowerCase());
-                }
-            });
-        } else if (category.equals(CATEGORY_EMAIL)) {
-            internalList.sort((Person a, Person b) -> {
-                if (a.getEmail().toString().isEmpty() && b.getEmail().toString().isEmpty()) {
-                    return a.getName().toString().toLowerCase().compareTo(b.getName().toString().toLowerCase());
-                } else if (a.getEmail().toString().isEmpty()) {
-                    return 1;
-                } else if (b.getEmail().toString().isEmpty()) {
-                    return -1;
-                } else {
-                    return a.getEmail().toString().toLowerCase().compareTo(b.getEmail().toString().toLowerCase());
-                }
-            });
-        } else if (category.equals(CATEGORY_ADDRESS)) {
-            internalList.sort((Person a, Person b) -> {
-                if (a.getAddress().toString().isEmpty() && b.getAddress().toString().isEmpty()) {
-                    return a.getName().toString().toLowerCase().compareTo(b.getName().toString().toLowerCase());
-                } else if (a.getAddress().toString().isEmpty()) {
-                    return 1;
-                } else if (b.getAddress().toString().isEmpty()) {
-                    return -1;
-                } else {
-                    return a.getAddress().toString().toLowerCase().compareTo(b.getAddress().toString().toLowerCase());
-                }
-            });
-        } else if (category.equals(CATEGORY_GITHUB)) {
-            internalList.sort((Person a, Person b) -> {
-                if (a.getProfile().toString().isEmpty() && b.getProfile().toString().isEmpty()) {
-                    return a.getName().toString().toLowerCase().compareTo(b.getName().toString().toLowerCase());
-                } else if (a.getProfile().toString().isEmpty()) {
-                    return 1;
-                } else if (b.getProfile().toString().isEmpty()) {
-                    return -1;
-                } else {
-                    return a.getProfile().toString().toLowerCase().compareTo(b.getProfile().toString().toLowerCase());
-                }
-            });
-        }
-    }
 }
@@ -1,8 +1,12 @@
 package seedu.socket.model.person.predicate;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import seedu.socket.model.index.PersonKeyIndex;
 import seedu.socket.model.person.Person;
 
 /**
@@ -17,6 +21,7 @@ public class FindCommandPersonPredicate implements Predicate<Person> {
     private FindCommandAddressPredicate addressPredicate;
     private FindCommandLanguagePredicate languagePredicate;
     private FindCommandTagPredicate tagPredicate;
+    private Map<PersonKeyIndex.Field, List<String>> keyLookups;
 
     /**
      * Constructor for FindCommandPersonPredicate class
@@ -35,6 +40,26 @@ public class FindCommandPersonPredicate implements Predicate<Person> {
         this.addressPredicate = new FindCommandAddressPredicate(addressKeywords);
         this.languagePredicate = new FindCommandLanguagePredicate(languageKeywords);
         this.tagPredicate = new FindCommandTagPredicate(tagKeywords);
+
+        boolean hasOnlyKeys = nameKeywords.isEmpty() && addressKeywords.isEmpty() && languageKeywords.isEmpty()
+                && tagKeywords.isEmpty();
+        boolean hasKeys = !profileKeywords.isEmpty() || !phoneKeywords.isEmpty() || !emailKeywords.isEmpty();
+        if (hasOnlyKeys && hasKeys) {
+            keyLookups = new EnumMap<>(PersonKeyIndex.Field.class);
+            keyLookups.put(PersonKeyIndex.Field.PROFILE, profileKeywords);
+            keyLookups.put(PersonKeyIndex.Field.PHONE, phoneKeywords);
+            keyLookups.put(PersonKeyIndex.Field.EMAIL, emailKeywords);
+        }
+    }
+
+    /**
+     * Returns the keywords of each of the email, phone and GitHub profile fields, if only these fields were given
+     * keywords.
+     * As these fields are single words, a person matches exactly when one of their keys is one of the keywords, so the
+     * matching persons can then be looked up by key instead of testing every person.
+     */
+    public Optional<Map<PersonKeyIndex.Field, List<String>>> getKeyLookups() {
+        return Optional.ofNullable(keyLookups);
     }
 
     @Override
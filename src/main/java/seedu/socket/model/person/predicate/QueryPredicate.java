@@ -0,0 +1,213 @@
+package seedu.socket.model.person.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.socket.model.person.Person;
+
+/**
+ * A node of a query over the fields of a {@code Person}, combining keyword terms with AND, OR and NOT.
+ * A query can be tested against a single {@code Person}, or planned against an index to find all matching persons
+ * at once (see {@code QueryPlanner}).
+ */
+public abstract class QueryPredicate implements Predicate<Person> {
+
+    /**
+     * The fields of a {@code Person} that a term can match.
+     */
+    public enum Field {
+        NAME, PROFILE, PHONE, EMAIL, ADDRESS, LANGUAGE, TAG;
+
+        /**
+         * Returns the words in this field of {@code person}.
+         * A term matches {@code person} if its keyword is one of these words, ignoring case.
+         */
+        public List<String> getWords(Person person) {
+            switch (this) {
+            case NAME:
+                return splitWords(person.getName().fullName);
+            case PROFILE:
+                return splitWords(person.getProfile().value);
+            case PHONE:
+                return splitWords(person.getPhone().value);
+            case EMAIL:
+                return splitWords(person.getEmail().value);
+            case ADDRESS:
+                return splitWords(person.getAddress().value);
+            case LANGUAGE:
+                return person.getLanguages().stream()
+                        .flatMap(language -> splitWords(language.languageName).stream())
+                        .collect(Collectors.toList());
+            case TAG:
+                return person.getTags().stream()
+                        .flatMap(tag -> splitWords(tag.tagName).stream())
+                        .collect(Collectors.toList());
+            default:
+                throw new AssertionError("Unknown field: " + this);
+            }
+        }
+
+        private static List<String> splitWords(String value) {
+            String trimmed = value.trim();
+            return trimmed.isEmpty() ? Collections.emptyList() : Arrays.asList(trimmed.split("\\s+"));
+        }
+    }
+
+    /**
+     * Matches persons whose {@code field} contains {@code keyword} as a full word, ignoring case.
+     */
+    public static class Term extends QueryPredicate {
+        private final Field field;
+        private final String keyword;
+
+        /**
+         * Creates a {@code Term} matching {@code keyword} in {@code field}.
+         */
+        public Term(Field field, String keyword) {
+            requireNonNull(field);
+            requireNonNull(keyword);
+            this.field = field;
+            this.keyword = keyword;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return field.getWords(person).stream().anyMatch(keyword::equalsIgnoreCase);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Term // instanceof handles nulls
+                    && field == ((Term) other).field
+                    && keyword.equalsIgnoreCase(((Term) other).keyword));
+        }
+
+        @Override
+        public String toString() {
+            return field + ":" + keyword;
+        }
+    }
+
+    /**
+     * Matches persons matched by every one of its operands.
+     */
+    public static class And extends QueryPredicate {
+        private final List<QueryPredicate> operands;
+
+        /**
+         * Creates an {@code And} of the given operands.
+         */
+        public And(List<QueryPredicate> operands) {
+            requireNonNull(operands);
+            this.operands = new ArrayList<>(operands);
+        }
+
+        public List<QueryPredicate> getOperands() {
+            return Collections.unmodifiableList(operands);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return operands.stream().allMatch(operand -> operand.test(person));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof And // instanceof handles nulls
+                    && operands.equals(((And) other).operands));
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Object::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches persons matched by at least one of its operands.
+     */
+    public static class Or extends QueryPredicate {
+        private final List<QueryPredicate> operands;
+
+        /**
+         * Creates an {@code Or} of the given operands.
+         */
+        public Or(List<QueryPredicate> operands) {
+            requireNonNull(operands);
+            this.operands = new ArrayList<>(operands);
+        }
+
+        public List<QueryPredicate> getOperands() {
+            return Collections.unmodifiableList(operands);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return operands.stream().anyMatch(operand -> operand.test(person));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Or // instanceof handles nulls
+                    && operands.equals(((Or) other).operands));
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Object::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches persons not matched by its operand.
+     */
+    public static class Not extends QueryPredicate {
+        private final QueryPredicate operand;
+
+        /**
+         * Creates a {@code Not} of the given operand.
+         */
+        public Not(QueryPredicate operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        public QueryPredicate getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Not // instanceof handles nulls
+                    && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.socket.model.person.predicate;
+
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import seedu.socket.model.index.ProjectTimeIndex;
+import seedu.socket.model.project.Project;
+
+/**
+ * Tests that a {@code Project}'s deadline or meeting is at or after a start time and before an end time.
+ */
+public class UpcomingCommandPredicate implements Predicate<Project> {
+    private final ProjectTimeIndex.Field field;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Creates an {@code UpcomingCommandPredicate} that tests whether the {@code field} of a project is at or after
+     * {@code start} and before {@code end}.
+     */
+    public UpcomingCommandPredicate(ProjectTimeIndex.Field field, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(field, start, end);
+        this.field = field;
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean test(Project project) {
+        LocalDateTime time = field.getTime(project);
+        return time != null && !time.isBefore(start) && time.isBefore(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UpcomingCommandPredicate // instanceof handles nulls
+                && field == ((UpcomingCommandPredicate) other).field
+                && start.equals(((UpcomingCommandPredicate) other).start)
+                && end.equals(((UpcomingCommandPredicate) other).end)); // state check
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.socket.model.project;
 import static java.util.Objects.requireNonNull;
 import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -12,6 +13,7 @@ import java.util.Set;
 
 import seedu.socket.model.person.Name;
 import seedu.socket.model.person.Person;
+import seedu.socket.model.util.SortKey;
 
 /**
  * Represents a {@code Project} in SOCket.
@@ -27,6 +29,8 @@ public class Project {
         PROJ_REPO_NAME, PROJ_DEADLINE, PROJ_MEETING};
 
     public static final List<String> CATEGORIES = Arrays.asList(categories);
+    /** Formats dates so that their text order is their chronological order. */
+    private static final DateTimeFormatter SORTABLE_FORMAT = DateTimeFormatter.ofPattern("uuuuMMddHHmm");
 
     // Identity fields
     /** {@code ProjectName} associated with the {@code Project} instance. */
@@ -86,6 +90,31 @@ public class Project {
         return Collections.unmodifiableSet(members);
     }
 
+    /**
+     * Returns the key to sort this project by when sorting by {@code category}.
+     * Projects without a value in the category are ordered last; ties are broken by name. Ignores case.
+     *
+     * @param category One of {@code CATEGORIES}.
+     * @return The {@code SortKey} of this project for {@code category}.
+     */
+    public SortKey getSortKey(String category) {
+        String nameKey = name.toString().toLowerCase();
+        switch (category) {
+        case PROJ_REPO_HOST:
+            return new SortKey(repoHost.toString().toLowerCase(), nameKey);
+        case PROJ_REPO_NAME:
+            return new SortKey(repoName.toString().toLowerCase(), nameKey);
+        case PROJ_DEADLINE:
+            return new SortKey(deadline.isEmptyDeadline()
+                    ? "" : deadline.toLocalDateTime().format(SORTABLE_FORMAT), nameKey);
+        case PROJ_MEETING:
+            return new SortKey(meeting.isEmptyMeeting()
+                    ? "" : meeting.toLocalDateTime().format(SORTABLE_FORMAT), nameKey);
+        default:
+            return new SortKey(nameKey, nameKey);
+        }
+    }
+
     /**
      * Returns true if both projects have the same name.
      * This defines a weaker notion of equality between two projects.
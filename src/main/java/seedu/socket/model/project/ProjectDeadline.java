@@ -20,6 +20,8 @@ public class ProjectDeadline {
         .ofPattern(DATE_TIME_FORMAT)
         .withResolverStyle(ResolverStyle.STRICT);
     public final String deadline;
+    /** The parsed {@code deadline}, or null if it is empty. Parsed once, as this class is immutable. */
+    private final LocalDateTime dateTime;
 
     /**
      * Constructs a {@code ProjectDeadline}.
@@ -27,7 +29,8 @@ public class ProjectDeadline {
      */
     public ProjectDeadline(String date) {
         requireNonNull(date);
-        checkArgument(isValidProjectDeadline(date), MESSAGE_CONSTRAINTS);
+        dateTime = date.equals("") ? null : parseOrNull(date);
+        checkArgument(date.equals("") || dateTime != null, MESSAGE_CONSTRAINTS);
         deadline = date;
     }
 
@@ -37,14 +40,17 @@ public class ProjectDeadline {
      * @return true if {@code String} is of valid DateTime format, else false.
      */
     public static Boolean isValidProjectDeadline(String test) {
-        if (test.equals("")) {
-            return true;
-        }
+        return test.equals("") || parseOrNull(test) != null;
+    }
+
+    /**
+     * Returns the {@code LocalDateTime} that {@code date} stands for, or null if it is not a valid date.
+     */
+    private static LocalDateTime parseOrNull(String date) {
         try {
-            LocalDateTime.parse(test, FORMAT);
-            return true;
+            return LocalDateTime.parse(date, FORMAT);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
@@ -64,7 +70,10 @@ public class ProjectDeadline {
      * @throws DateTimeParseException if {@code deadline} is empty.
      */
     public LocalDateTime toLocalDateTime() throws DateTimeParseException {
-        return LocalDateTime.parse(deadline, FORMAT);
+        if (dateTime == null) {
+            throw new DateTimeParseException("Empty deadline", deadline, 0);
+        }
+        return dateTime;
     }
 
     @Override
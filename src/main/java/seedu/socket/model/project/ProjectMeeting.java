@@ -20,6 +20,8 @@ public class ProjectMeeting {
         .ofPattern(DATE_TIME_FORMAT)
         .withResolverStyle(ResolverStyle.STRICT);
     public final String meeting;
+    /** The parsed {@code meeting}, or null if it is empty. Parsed once, as this class is immutable. */
+    private final LocalDateTime dateTime;
 
     /**
      * Constructs a {@code ProjectMeeting}.
@@ -27,7 +29,8 @@ public class ProjectMeeting {
      */
     public ProjectMeeting(String date) {
         requireNonNull(date);
-        checkArgument(isValidProjectMeeting(date), MESSAGE_CONSTRAINTS);
+        dateTime = date.equals("") ? null : parseOrNull(date);
+        checkArgument(date.equals("") || dateTime != null, MESSAGE_CONSTRAINTS);
         meeting = date;
     }
 
@@ -37,14 +40,17 @@ public class ProjectMeeting {
      * @return true if {@code String} is of valid DateTime format, else false.
      */
     public static Boolean isValidProjectMeeting(String test) {
-        if (test.equals("")) {
-            return true;
-        }
+        return test.equals("") || parseOrNull(test) != null;
+    }
+
+    /**
+     * Returns the {@code LocalDateTime} that {@code date} stands for, or null if it is not a valid date.
+     */
+    private static LocalDateTime parseOrNull(String date) {
         try {
-            LocalDateTime.parse(test, FORMAT);
-            return true;
+            return LocalDateTime.parse(date, FORMAT);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
@@ -63,7 +69,10 @@ public class ProjectMeeting {
      * @throws DateTimeParseException if {@code meeting} is empty.
      */
     public LocalDateTime toLocalDateTime() throws DateTimeParseException {
-        return LocalDateTime.parse(meeting, FORMAT);
+        if (dateTime == null) {
+            throw new DateTimeParseException("Empty meeting", meeting, 0);
+        }
+        return dateTime;
     }
 
     @Override
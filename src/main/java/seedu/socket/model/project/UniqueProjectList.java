@@ -2,14 +2,8 @@ package seedu.socket.model.project;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.socket.model.project.Project.PROJ_DEADLINE;
-import static seedu.socket.model.project.Project.PROJ_MEETING;
-import static seedu.socket.model.project.Project.PROJ_NAME;
-import static seedu.socket.model.project.Project.PROJ_REPO_HOST;
-import static seedu.socket.model.project.Project.PROJ_REPO_NAME;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -21,6 +15,7 @@ import javafx.collections.ObservableList;
 import seedu.socket.model.person.Person;
 import seedu.socket.model.project.exceptions.DuplicateProjectException;
 import seedu.socket.model.project.exceptions.ProjectNotFoundException;
+import seedu.socket.model.util.ListDeltaListener;
 
 /**
  * A list of projects that enforces uniqueness between its elements and does not allow nulls.
@@ -37,6 +32,15 @@ public class UniqueProjectList implements Iterable<Project> {
     private final ObservableList<Project> internalList = FXCollections.observableArrayList();
     private final ObservableList<Project> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final List<ListDeltaListener<Project>> deltaListeners = new ArrayList<>();
+
+    /**
+     * Registers a {@code ListDeltaListener} to be notified of every project added, replaced or removed.
+     */
+    public void addDeltaListener(ListDeltaListener<Project> listener) {
+        requireNonNull(listener);
+        deltaListeners.add(listener);
+    }
 
     /**
      * Returns true if the list contains an equivalent project as the given argument.
@@ -56,6 +60,7 @@ public class UniqueProjectList implements Iterable<Project> {
             throw new DuplicateProjectException();
         }
         internalList.add(toAdd);
+        deltaListeners.forEach(listener -> listener.onAdd(toAdd));
     }
 
     /**
@@ -76,6 +81,7 @@ public class UniqueProjectList implements Iterable<Project> {
         }
 
         internalList.set(index, editedProject);
+        deltaListeners.forEach(listener -> listener.onSet(target, editedProject));
     }
 
     /**
@@ -87,11 +93,13 @@ public class UniqueProjectList implements Iterable<Project> {
         if (!internalList.remove(toRemove)) {
             throw new ProjectNotFoundException();
         }
+        deltaListeners.forEach(listener -> listener.onRemove(toRemove));
     }
 
     public void setProjects(UniqueProjectList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        deltaListeners.forEach(listener -> listener.onReset(internalUnmodifiableList));
     }
 
     /**
@@ -105,6 +113,7 @@ public class UniqueProjectList implements Iterable<Project> {
         }
 
         internalList.setAll(projects);
+        deltaListeners.forEach(listener -> listener.onReset(internalUnmodifiableList));
     }
 
     /**
@@ -209,61 +218,4 @@ public class UniqueProjectList implements Iterable<Project> {
         }
         return true;
     }
-    /**
-     * Sorts the list by given {@code category}.
-     * @param category
-     */
-    public void sort(String category) {
-        if (category.equals(PROJ_NAME)) {
-            internalList.sort(Comparator.comparing((Project a) -> a.getName().toString().toLowerCase()));
-        } else if (category.equals(PROJ_REPO_HOST)) {
-            internalList.sort((Project a, Project b) -> {
-                if (a.getRepoHost().toString().isEmpty() && b.getRepoHost().toString().isEmpty()) {
-                    return a.getName().toString().toLowerCase().compareTo(b.getName().toString().toLowerCase());
-                } else if (a.getRepoHost().toString().isEmpty()) {
-                    return 1;
-                } else if (b.getRepoHost().toString().isEmpty()) {
-                    return -1;
-                } else {
-                    return a.getRepoHost().toString().toLowerCase().compareTo(b.getRepoHost().toString().toLowerCase());
-                }
-            });
-        } else if (category.equals(PROJ_REPO_NAME)) {
-            internalList.sort((Project a, Project b) -> {
-                if (a.getRepoName().toString().isEmpty() && b.getRepoName().toString().isEmpty()) {
-                    return a.getName().toString().toLowerCase().compareTo(b.getName().toString().toLowerCase());
-                } else if (a.getRepoName().toString().isEmpty()) {
-                    return 1;
-                } else if (b.getRepoName().toString().isEmpty()) {
-                    return -1;
-                } else {
-                    return a.getRepoName().toString().toLowerCase().compareTo(b.getRepoName().toString().toLowerCase());
-                }
-            });
-        } else if (category.equals(PROJ_DEADLINE)) {
-            internalList.sort((Project a, Project b) -> {
-                if (a.getDeadline().toString().isEmpty() && b.getDeadline().toString().isEmpty()) {
-                    return a.getName().toString().compareTo(b.getName().toString());
-                } else if (a.getDeadline().toString().isEmpty()) {
-                    return 1;
-                } else if (b.getDeadline().toString().isEmpty()) {
-                    return -1;
-                } else {
-                    return a.getDeadline().toLocalDateTime().compareTo(b.getDeadline().toLocalDateTime());
-                }
-            });
-        } else if (category.equals(PROJ_MEETING)) {
-            internalList.sort((Project a, Project b) -> {
-                if (a.getMeeting().toString().isEmpty() && b.getMeeting().toString().isEmpty()) {
-                    return a.getName().toString().compareTo(b.getName().toString());
-                } else if (a.getMeeting().toString().isEmpty()) {
-                    return 1;
-                } else if (b.getMeeting().toString().isEmpty()) {
-                    return -1;
-                } else {
-                    return a.getMeeting().toLocalDateTime().compareTo(b.getMeeting().toLocalDateTime());
-                }
-            });
-        }
-    }
 }
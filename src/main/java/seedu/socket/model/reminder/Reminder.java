@@ -0,0 +1,74 @@
+package seedu.socket.model.reminder;
+
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.socket.model.index.ProjectTimeIndex;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.project.ProjectDeadline;
+
+/**
+ * A reminder of a deadline or meeting of a project.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class Reminder {
+
+    public static final String MESSAGE_DEADLINE = "Reminder: %1$s is due at %2$s";
+    public static final String MESSAGE_MEETING = "Reminder: %1$s has a meeting at %2$s";
+
+    private final ProjectTimeIndex.Field field;
+    private final String projectName;
+    private final LocalDateTime time;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Reminder(ProjectTimeIndex.Field field, String projectName, LocalDateTime time) {
+        requireAllNonNull(field, projectName, time);
+        this.field = field;
+        this.projectName = projectName;
+        this.time = time;
+    }
+
+    /**
+     * Returns the reminder of the {@code field} of {@code project}, or null if {@code project} does not have one.
+     */
+    public static Reminder of(ProjectTimeIndex.Field field, Project project) {
+        LocalDateTime time = field.getTime(project);
+        return time == null ? null : new Reminder(field, project.getName().toString(), time);
+    }
+
+    public ProjectTimeIndex.Field getField() {
+        return field;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof Reminder // instanceof handles nulls
+            && field == ((Reminder) other).field
+            && projectName.equals(((Reminder) other).projectName)
+            && time.equals(((Reminder) other).time)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, projectName, time);
+    }
+
+    @Override
+    public String toString() {
+        String message = field == ProjectTimeIndex.Field.DEADLINE ? MESSAGE_DEADLINE : MESSAGE_MEETING;
+        return String.format(message, projectName, time.format(ProjectDeadline.FORMAT));
+    }
+}
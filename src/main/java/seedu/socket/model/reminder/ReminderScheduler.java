@@ -0,0 +1,179 @@
+package seedu.socket.model.reminder;
+
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.model.index.ProjectTimeIndex;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * Schedules a {@code Reminder} for every upcoming deadline and meeting of the projects in a project list.
+ * The reminders are kept in a priority queue ordered by time, which is updated as the list changes. Removed reminders
+ * are not searched for in the queue but dropped when they reach its head, so no change to the list, including
+ * replacing the whole list, requires the queue to be rebuilt. A reminder whose event is less than the lead time away
+ * when its project is added is due at once, while one whose event has already passed is not scheduled. Each reminder
+ * is only handed out once, even if its project is removed and added again.
+ * Once started, a single background thread sleeps until the next reminder is due and hands it to a handler.
+ */
+public class ReminderScheduler implements ListDeltaListener<Project> {
+    public static final Duration DEFAULT_LEAD_TIME = Duration.ofMinutes(15);
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+    private static final int MIN_COMPACTION_SIZE = 64;
+
+    private final Duration leadTime;
+    private final Clock clock;
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>(Comparator.comparing(Reminder::getTime));
+    /** The reminders in {@code queue}, some of which may no longer be {@code live}. */
+    private final Set<Reminder> queued = new HashSet<>();
+    /** The reminders of the projects currently in the list. */
+    private final Set<Reminder> live = new HashSet<>();
+    /** The reminders that have been polled, which are not scheduled again. */
+    private final Set<Reminder> delivered = new HashSet<>();
+    private Thread timer;
+
+    /**
+     * Creates a {@code ReminderScheduler} that reminds {@code leadTime} before each deadline or meeting,
+     * using {@code clock} to tell the time.
+     */
+    public ReminderScheduler(Duration leadTime, Clock clock) {
+        requireAllNonNull(leadTime, clock);
+        this.leadTime = leadTime;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts the background thread that passes each reminder to {@code handler} when it is due.
+     * {@code handler} is called on the background thread.
+     */
+    public synchronized void start(Consumer<Reminder> handler) {
+        requireAllNonNull(handler);
+        stop();
+        timer = new Thread(() -> run(handler), "reminder-scheduler");
+        timer.setDaemon(true);
+        timer.start();
+    }
+
+    /**
+     * Stops the background thread, if it is running.
+     */
+    public synchronized void stop() {
+        if (timer != null) {
+            timer.interrupt();
+            timer = null;
+        }
+    }
+
+    /**
+     * Removes and returns the reminders that are due at {@code now}, in order of time.
+     */
+    public synchronized List<Reminder> pollDue(LocalDateTime now) {
+        List<Reminder> due = new ArrayList<>();
+        Optional<LocalDateTime> next;
+        while ((next = peekNextReminderTime()).isPresent() && !next.get().isAfter(now)) {
+            Reminder reminder = queue.poll();
+            queued.remove(reminder);
+            delivered.add(reminder);
+            due.add(reminder);
+        }
+        return due;
+    }
+
+    /**
+     * Returns the time at which the next reminder is due, if any.
+     */
+    public synchronized Optional<LocalDateTime> peekNextReminderTime() {
+        while (!queue.isEmpty() && !live.contains(queue.peek())) {
+            queued.remove(queue.poll());
+        }
+        return queue.isEmpty() ? Optional.empty() : Optional.of(queue.peek().getTime().minus(leadTime));
+    }
+
+    @Override
+    public synchronized void onAdd(Project added) {
+        for (ProjectTimeIndex.Field field : ProjectTimeIndex.Field.values()) {
+            schedule(Reminder.of(field, added));
+        }
+    }
+
+    @Override
+    public synchronized void onRemove(Project removed) {
+        for (ProjectTimeIndex.Field field : ProjectTimeIndex.Field.values()) {
+            Reminder reminder = Reminder.of(field, removed);
+            if (reminder != null) {
+                live.remove(reminder);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onReset(List<Project> elements) {
+        live.clear();
+        elements.forEach(this::onAdd);
+        if (queued.size() > MIN_COMPACTION_SIZE && queued.size() > 2 * live.size()) {
+            queue.removeIf(reminder -> !live.contains(reminder));
+            queued.retainAll(live);
+            delivered.retainAll(live);
+        }
+    }
+
+    private void schedule(Reminder reminder) {
+        if (reminder == null || reminder.getTime().isBefore(LocalDateTime.now(clock)) || delivered.contains(reminder)) {
+            return;
+        }
+        live.add(reminder);
+        if (queued.add(reminder)) {
+            queue.add(reminder);
+            if (queue.peek() == reminder) {
+                notifyAll(); // wakes the timer thread up earlier than it planned to
+            }
+        }
+    }
+
+    private void run(Consumer<Reminder> handler) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Reminder> due = awaitDue();
+                due.forEach(reminder -> handle(handler, reminder));
+            }
+        } catch (InterruptedException e) {
+            logger.fine("Reminder scheduler stopped");
+        }
+    }
+
+    private void handle(Consumer<Reminder> handler, Reminder reminder) {
+        try {
+            handler.accept(reminder);
+        } catch (RuntimeException e) {
+            logger.warning("Reminder handler failed for " + reminder + ": " + e);
+        }
+    }
+
+    private synchronized List<Reminder> awaitDue() throws InterruptedException {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Optional<LocalDateTime> next = peekNextReminderTime();
+            if (next.isEmpty()) {
+                wait();
+            } else if (next.get().isAfter(now)) {
+                wait(Math.max(1, Duration.between(now, next.get()).toMillis()));
+            } else {
+                return pollDue(now);
+            }
+        }
+    }
+}
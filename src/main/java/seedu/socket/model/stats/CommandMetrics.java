@@ -0,0 +1,188 @@
+package seedu.socket.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Records how long each phase of each command takes, by command word, and how much is written when SOCket is saved,
+ * so the phase responsible for a slow command can be told apart.
+ * Metrics can be recorded and read from any thread.
+ */
+public class CommandMetrics {
+    /**
+     * A phase of running a command.
+     */
+    public enum Phase { PARSE, EXECUTE, SAVE }
+
+    /** The command word that commands that cannot be parsed are recorded under. */
+    public static final String INVALID_COMMAND = "(invalid)";
+    public static final Duration DEFAULT_SUMMARY_INTERVAL = Duration.ofMinutes(10);
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet";
+    public static final String MESSAGE_HEADER = "Command latency in ms (p50/p95/max):";
+    public static final String MESSAGE_COMMAND = "%1$s x%2$d: parse %3$s, execute %4$s, save %5$s";
+    public static final String MESSAGE_SAVES = "%1$d saves, last of %2$d persons and projects, %3$d bytes in %4$s ms; "
+            + "%5$d bytes written in total";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new TreeMap<>();
+    private final LongSupplier nanoClock;
+    private final long summaryIntervalNanos;
+    private long lastSummaryNanos;
+    private boolean hasRecordedSinceSummary;
+    private long saveCount;
+    private int lastSaveRecordCount;
+    private long lastSaveByteCount;
+    private long lastSaveNanos;
+    private long totalByteCount;
+
+    /**
+     * Creates a {@code CommandMetrics} that has a summary due every {@code DEFAULT_SUMMARY_INTERVAL}.
+     */
+    public CommandMetrics() {
+        this(System::nanoTime, DEFAULT_SUMMARY_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code CommandMetrics} that has a summary due every {@code summaryInterval}, as told by
+     * {@code nanoClock}.
+     */
+    public CommandMetrics(LongSupplier nanoClock, Duration summaryInterval) {
+        requireNonNull(nanoClock);
+        requireNonNull(summaryInterval);
+        this.nanoClock = nanoClock;
+        this.summaryIntervalNanos = summaryInterval.toNanos();
+        this.lastSummaryNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public synchronized void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        histograms.computeIfAbsent(commandWord, unused -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, unused -> new LatencyHistogram())
+                .record(nanos);
+        hasRecordedSinceSummary = true;
+    }
+
+    /**
+     * Records that {@code recordCount} persons and projects were saved as {@code byteCount} bytes in {@code nanos}
+     * nanoseconds.
+     */
+    public synchronized void recordSave(int recordCount, long byteCount, long nanos) {
+        saveCount++;
+        lastSaveRecordCount = recordCount;
+        lastSaveByteCount = byteCount;
+        lastSaveNanos = nanos;
+        totalByteCount += byteCount;
+    }
+
+    /**
+     * Returns the durations of {@code phase} of the commands with {@code commandWord}, which is empty if there are
+     * none.
+     */
+    public synchronized LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        Map<Phase, LatencyHistogram> phases = histograms.get(commandWord);
+        LatencyHistogram histogram = phases == null ? null : phases.get(phase);
+        return histogram == null ? new LatencyHistogram() : histogram;
+    }
+
+    /**
+     * Returns the command words that have been recorded, in alphabetical order.
+     */
+    public synchronized List<String> getCommandWords() {
+        return new ArrayList<>(histograms.keySet());
+    }
+
+    /**
+     * Returns the number of commands with {@code commandWord} that have been run.
+     */
+    public long getCommandCount(String commandWord) {
+        return getHistogram(commandWord, Phase.PARSE).getCount();
+    }
+
+    /**
+     * Returns the number of commands that have been run with each command word, in alphabetical order of command word.
+     */
+    public synchronized Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        histograms.keySet().forEach(commandWord -> counts.put(commandWord, getCommandCount(commandWord)));
+        return counts;
+    }
+
+    public synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    public synchronized int getLastSaveRecordCount() {
+        return lastSaveRecordCount;
+    }
+
+    public synchronized long getLastSaveByteCount() {
+        return lastSaveByteCount;
+    }
+
+    public synchronized long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    public synchronized long getTotalByteCount() {
+        return totalByteCount;
+    }
+
+    /**
+     * Returns a summary of the metrics, with a line for each command word and a line for saves.
+     */
+    public synchronized String getSummary() {
+        if (histograms.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        for (String commandWord : histograms.keySet()) {
+            summary.append('\n').append(String.format(MESSAGE_COMMAND, commandWord, getCommandCount(commandWord),
+                    describe(getHistogram(commandWord, Phase.PARSE)),
+                    describe(getHistogram(commandWord, Phase.EXECUTE)),
+                    describe(getHistogram(commandWord, Phase.SAVE))));
+        }
+        summary.append('\n').append(String.format(MESSAGE_SAVES, saveCount, lastSaveRecordCount, lastSaveByteCount,
+                toMillis(lastSaveNanos), totalByteCount));
+        return summary.toString();
+    }
+
+    /**
+     * Returns the summary if commands have been recorded since the last summary returned by this method and the
+     * summary interval has passed since then, for a rolling summary in the log.
+     */
+    public synchronized Optional<String> pollSummary() {
+        long now = nanoClock.getAsLong();
+        if (!hasRecordedSinceSummary || now - lastSummaryNanos < summaryIntervalNanos) {
+            return Optional.empty();
+        }
+        lastSummaryNanos = now;
+        hasRecordedSinceSummary = false;
+        return Optional.of(getSummary());
+    }
+
+    private static String describe(LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return "-";
+        }
+        return toMillis(histogram.getPercentileNanos(50)) + "/" + toMillis(histogram.getPercentileNanos(95)) + "/"
+                + toMillis(histogram.getMaxNanos());
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.1f", nanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.socket.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Counts the occurrences of keys. Keys whose count drops to zero are removed.
+ * The keys are also kept in buckets by their count, ordered by count and then by key, so the most frequent keys can
+ * be listed without looking at the others.
+ *
+ * @param <K> type of the keys counted.
+ */
+public class Counter<K extends Comparable<? super K>> {
+    private final Map<K, Integer> counts = new HashMap<>();
+    private final NavigableMap<Integer, NavigableSet<K>> keysByCount = new TreeMap<>(Comparator.reverseOrder());
+
+    /**
+     * Counts one more occurrence of {@code key}.
+     */
+    void increment(K key) {
+        requireNonNull(key);
+        int count = counts.merge(key, 1, Integer::sum);
+        moveBucket(key, count - 1, count);
+    }
+
+    /**
+     * Counts one less occurrence of {@code key}, which must have been counted.
+     */
+    void decrement(K key) {
+        requireNonNull(key);
+        Integer count = counts.computeIfPresent(key, (unused, current) -> current == 1 ? null : current - 1);
+        assert count == null || count > 0;
+        int newCount = count == null ? 0 : count;
+        moveBucket(key, newCount + 1, newCount);
+    }
+
+    /**
+     * Moves {@code key} from the bucket of keys counted {@code from} times to that of keys counted {@code to} times.
+     * Keys counted zero times are not kept in a bucket.
+     */
+    private void moveBucket(K key, int from, int to) {
+        if (from > 0) {
+            NavigableSet<K> bucket = keysByCount.get(from);
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                keysByCount.remove(from);
+            }
+        }
+        if (to > 0) {
+            keysByCount.computeIfAbsent(to, unused -> new TreeSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Returns the number of occurrences of {@code key}.
+     */
+    public int get(K key) {
+        return counts.getOrDefault(key, 0);
+    }
+
+    /**
+     * Removes every count.
+     */
+    void clear() {
+        counts.clear();
+        keysByCount.clear();
+    }
+
+    /**
+     * Returns the counts as an unmodifiable map.
+     */
+    public Map<K, Integer> asMap() {
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns up to {@code limit} of the counted keys, most frequent first, with ties in the natural order of the keys.
+     * Only the buckets holding the returned keys are visited, so this takes time in proportion to {@code limit} and
+     * the logarithm of the number of keys, however many keys there are.
+     */
+    public List<K> getMostFrequent(int limit) {
+        List<K> keys = new ArrayList<>(Math.min(limit, counts.size()));
+        for (NavigableSet<K> bucket : keysByCount.values()) {
+            for (K key : bucket) {
+                if (keys.size() >= limit) {
+                    return keys;
+                }
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.socket.model.stats;
+
+/**
+ * A histogram of durations in buckets that double in width, so percentiles are estimated to within a factor of two
+ * in constant space however many durations are recorded.
+ * Bucket 0 holds durations under a microsecond, and bucket {@code i} holds durations from {@code 2^(i-1)} up to
+ * {@code 2^i} microseconds. Durations can be recorded and read from any thread.
+ */
+public class LatencyHistogram {
+    private static final int BUCKET_COUNT = 42; // the last bucket holds everything from about 12 days up
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public synchronized void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        counts[getBucket(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns an upper bound of the {@code percentile}th percentile duration, which is within a factor of two of
+     * the exact percentile, or 0 if nothing has been recorded.
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(getUpperBoundNanos(bucket), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    private static int getBucket(long nanos) {
+        long micros = nanos / NANOS_PER_MICRO;
+        int bucket = micros == 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    private static long getUpperBoundNanos(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) * NANOS_PER_MICRO;
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.socket.model.stats;
+
+import java.util.List;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * Keeps counts over the persons and projects in a {@code Socket}: the number of projects of each member, the number
+ * of persons with each tag and language, and the number of projects on each repo host.
+ * The counts are updated from the per-element changes of the person and project lists, including the membership
+ * changes made when persons are edited or deleted, so reading them never needs a scan of either list.
+ */
+public class SocketStatistics {
+    private final Counter<String> projectsPerMember = new Counter<>();
+    private final Counter<String> tags = new Counter<>();
+    private final Counter<String> languages = new Counter<>();
+    private final Counter<String> projectsPerRepoHost = new Counter<>();
+    private int personCount;
+    private int projectCount;
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getProjectCount() {
+        return projectCount;
+    }
+
+    /**
+     * Returns the number of projects of each person with at least one project, by name.
+     */
+    public Counter<String> getProjectsPerMember() {
+        return projectsPerMember;
+    }
+
+    /**
+     * Returns the number of persons with each tag.
+     */
+    public Counter<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the number of persons with each language.
+     */
+    public Counter<String> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * Returns the number of projects on each repo host, for the projects with one.
+     */
+    public Counter<String> getProjectsPerRepoHost() {
+        return projectsPerRepoHost;
+    }
+
+    /**
+     * Returns a listener that keeps the person counts in sync with a person list.
+     */
+    public ListDeltaListener<Person> getPersonListener() {
+        return new ListDeltaListener<>() {
+            @Override
+            public void onAdd(Person added) {
+                personCount++;
+                added.getTags().forEach(tag -> tags.increment(tag.tagName));
+                added.getLanguages().forEach(language -> languages.increment(language.languageName));
+            }
+
+            @Override
+            public void onRemove(Person removed) {
+                personCount--;
+                removed.getTags().forEach(tag -> tags.decrement(tag.tagName));
+                removed.getLanguages().forEach(language -> languages.decrement(language.languageName));
+            }
+
+            @Override
+            public void onReset(List<Person> elements) {
+                personCount = 0;
+                tags.clear();
+                languages.clear();
+                elements.forEach(this::onAdd);
+            }
+        };
+    }
+
+    /**
+     * Returns a listener that keeps the project counts in sync with a project list.
+     */
+    public ListDeltaListener<Project> getProjectListener() {
+        return new ListDeltaListener<>() {
+            @Override
+            public void onAdd(Project added) {
+                projectCount++;
+                added.getMembers().forEach(member -> projectsPerMember.increment(member.getName().toString()));
+                if (!added.getRepoHost().isEmptyRepoHost()) {
+                    projectsPerRepoHost.increment(added.getRepoHost().value);
+                }
+            }
+
+            @Override
+            public void onRemove(Project removed) {
+                projectCount--;
+                removed.getMembers().forEach(member -> projectsPerMember.decrement(member.getName().toString()));
+                if (!removed.getRepoHost().isEmptyRepoHost()) {
+                    projectsPerRepoHost.decrement(removed.getRepoHost().value);
+                }
+            }
+
+            @Override
+            public void onReset(List<Project> elements) {
+                projectCount = 0;
+                projectsPerMember.clear();
+                projectsPerRepoHost.clear();
+                elements.forEach(this::onAdd);
+            }
+        };
+    }
+}
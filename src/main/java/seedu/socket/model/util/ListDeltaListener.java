@@ -0,0 +1,36 @@
+package seedu.socket.model.util;
+
+import java.util.List;
+
+/**
+ * Receives the per-element changes made to a unique list (e.g. {@code UniquePersonList}), so that structures
+ * derived from the list can be kept in sync without rescanning the whole list on every change.
+ *
+ * @param <T> type of the elements in the list.
+ */
+public interface ListDeltaListener<T> {
+
+    /**
+     * Called after {@code added} is added to the list.
+     */
+    void onAdd(T added);
+
+    /**
+     * Called after {@code removed} is removed from the list.
+     */
+    void onRemove(T removed);
+
+    /**
+     * Called after {@code target} is replaced by {@code edited} in the list.
+     * Defaults to a removal followed by an addition.
+     */
+    default void onSet(T target, T edited) {
+        onRemove(target);
+        onAdd(edited);
+    }
+
+    /**
+     * Called after the whole contents of the list are replaced by {@code elements}.
+     */
+    void onReset(List<T> elements);
+}
@@ -0,0 +1,50 @@
+package seedu.socket.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A precomputed key to sort an element by, so that the key is built once per element instead of on every comparison.
+ * Keys with an empty value are ordered after all keys with a value. Keys with the same value are ordered by their
+ * tie-breakers.
+ */
+public class SortKey implements Comparable<SortKey> {
+    private final String value;
+    private final String tieBreaker;
+
+    /**
+     * Creates a {@code SortKey} ordering by {@code value}, then by {@code tieBreaker}.
+     */
+    public SortKey(String value, String tieBreaker) {
+        requireNonNull(value);
+        requireNonNull(tieBreaker);
+        this.value = value;
+        this.tieBreaker = tieBreaker;
+    }
+
+    @Override
+    public int compareTo(SortKey other) {
+        if (value.isEmpty() != other.value.isEmpty()) {
+            return value.isEmpty() ? 1 : -1;
+        }
+        int byValue = value.compareTo(other.value);
+        return byValue != 0 ? byValue : tieBreaker.compareTo(other.tieBreaker);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortKey // instanceof handles nulls
+                && value.equals(((SortKey) other).value)
+                && tieBreaker.equals(((SortKey) other).tieBreaker));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode() * 31 + tieBreaker.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value + "/" + tieBreaker;
+    }
+}
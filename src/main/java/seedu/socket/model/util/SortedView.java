@@ -0,0 +1,238 @@
+package seedu.socket.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} of the elements of a source list in the order of a key, optionally cut off
+ * after the first few elements. The source list is not reordered.
+ * The key of each element is computed once, when the element enters the source list, rather than on every
+ * comparison. Additions and removals are applied by binary search; when only the first {@code limit} elements are
+ * kept, the view is instead rebuilt by a partial sort, which only orders the elements that are kept. A rebuild
+ * computes the key of every element of the source list again, so a limited view costs O(n log limit) per change to
+ * the source list and is meant to be short-lived.
+ *
+ * @param <T> type of the elements in the list.
+ * @param <K> type of the sort key.
+ */
+public class SortedView<T, K extends Comparable<? super K>> extends ObservableListBase<T> {
+    /** The limit for keeping every element of the source list. */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private final ObservableList<T> source;
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final int limit;
+    private final ListChangeListener<T> sourceListener = this::onSourceChanged;
+    private final List<T> elements = new ArrayList<>();
+    /** The keys of the elements in {@code elements}, in ascending order. */
+    private final List<K> keys = new ArrayList<>();
+
+    /**
+     * Creates a {@code SortedView} of the first {@code limit} elements of {@code source} in ascending order of the
+     * keys given by {@code keyExtractor}. Elements with equal keys keep their order in {@code source}.
+     * The view follows {@code source} until it is disposed.
+     */
+    public SortedView(ObservableList<T> source, Function<? super T, ? extends K> keyExtractor, int limit) {
+        requireNonNull(source);
+        requireNonNull(keyExtractor);
+        assert limit > 0;
+        this.source = source;
+        this.keyExtractor = keyExtractor;
+        this.limit = limit;
+        sortInto(source, keyExtractor, limit, elements, keys);
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Returns the first {@code limit} elements of {@code elements} in ascending order of the keys given by
+     * {@code keyExtractor}, computing each key once. Elements with equal keys keep their order.
+     */
+    public static <T, K extends Comparable<? super K>> List<T> sortByKey(Collection<? extends T> elements,
+            Function<? super T, ? extends K> keyExtractor, int limit) {
+        requireNonNull(elements);
+        requireNonNull(keyExtractor);
+        List<T> sorted = new ArrayList<>();
+        sortInto(elements, keyExtractor, limit, sorted, new ArrayList<>());
+        return sorted;
+    }
+
+    /**
+     * Returns the function that gives the key of each element.
+     */
+    public Function<? super T, ? extends K> getKeyExtractor() {
+        return keyExtractor;
+    }
+
+    /**
+     * Returns the number of elements kept, which is {@link #NO_LIMIT} if every element is kept.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Stops following the source list.
+     */
+    public void dispose() {
+        source.removeListener(sourceListener);
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends T> change) {
+        boolean hasUpdates = false;
+        while (change.next()) {
+            hasUpdates |= change.wasUpdated();
+        }
+        if (limit != NO_LIMIT || hasUpdates) {
+            rebuild();
+            return;
+        }
+
+        change.reset();
+        beginChange();
+        while (change.next()) {
+            // a permutation of the source does not change the order of the keys
+            for (T removed : change.getRemoved()) {
+                removeElement(removed);
+            }
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(this::insertElement);
+            }
+        }
+        endChange();
+    }
+
+    private void removeElement(T removed) {
+        K key = keyExtractor.apply(removed);
+        int index = lowerBound(key);
+        while (elements.get(index) != removed) {
+            index++;
+        }
+        elements.remove(index);
+        keys.remove(index);
+        nextRemove(index, removed);
+    }
+
+    private void insertElement(T added) {
+        K key = keyExtractor.apply(added);
+        int index = upperBound(key);
+        elements.add(index, added);
+        keys.add(index, key);
+        nextAdd(index, index + 1);
+    }
+
+    private void rebuild() {
+        List<T> oldElements = new ArrayList<>(elements);
+        elements.clear();
+        keys.clear();
+        sortInto(source, keyExtractor, limit, elements, keys);
+
+        beginChange();
+        if (!oldElements.isEmpty()) {
+            nextRemove(0, oldElements);
+        }
+        if (!elements.isEmpty()) {
+            nextAdd(0, elements.size());
+        }
+        endChange();
+    }
+
+    /** Returns the index of the first key that is not less than {@code key}. */
+    private int lowerBound(K key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys.get(mid).compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Returns the index of the first key that is greater than {@code key}. */
+    private int upperBound(K key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys.get(mid).compareTo(key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Adds the first {@code limit} elements of {@code source} in key order to {@code sortedElements}, and their keys
+     * to {@code sortedKeys}. Only {@code limit} elements are kept in a heap while scanning, so the cost of finding
+     * the first few elements grows with the logarithm of {@code limit} rather than the size of {@code source}.
+     */
+    private static <T, K extends Comparable<? super K>> void sortInto(Collection<? extends T> source,
+            Function<? super T, ? extends K> keyExtractor, int limit, List<T> sortedElements, List<K> sortedKeys) {
+        Comparator<Entry<T, K>> order = Comparator.<Entry<T, K>, K>comparing(entry -> entry.key)
+                .thenComparingInt(entry -> entry.sourceIndex);
+
+        List<Entry<T, K>> entries = new ArrayList<>();
+        if (limit >= source.size()) {
+            int sourceIndex = 0;
+            for (T element : source) {
+                entries.add(new Entry<>(element, keyExtractor.apply(element), sourceIndex++));
+            }
+        } else {
+            PriorityQueue<Entry<T, K>> firstEntries = new PriorityQueue<>(limit + 1, order.reversed());
+            int sourceIndex = 0;
+            for (T element : source) {
+                firstEntries.add(new Entry<>(element, keyExtractor.apply(element), sourceIndex++));
+                if (firstEntries.size() > limit) {
+                    firstEntries.poll();
+                }
+            }
+            entries.addAll(firstEntries);
+        }
+        entries.sort(order);
+
+        for (Entry<T, K> entry : entries) {
+            sortedElements.add(entry.element);
+            sortedKeys.add(entry.key);
+        }
+    }
+
+    /**
+     * An element of the source list together with its key and its index in the source list.
+     */
+    private static class Entry<T, K> {
+        private final T element;
+        private final K key;
+        private final int sourceIndex;
+
+        private Entry(T element, K key, int sourceIndex) {
+            this.element = element;
+            this.key = key;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+}
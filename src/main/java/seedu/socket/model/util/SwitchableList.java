@@ -0,0 +1,91 @@
+package seedu.socket.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} that mirrors one of several source lists, and can be switched to mirror
+ * another source in constant time. Changes to the current source are forwarded to the listeners of this list, so
+ * anything bound to it (e.g. a {@code ListView}) does not need to be rebound when the source is switched.
+ *
+ * @param <E> type of the elements in the list.
+ */
+public class SwitchableList<E> extends ObservableListBase<E> {
+    private final ListChangeListener<E> forwarder = this::forwardChange;
+    private ObservableList<E> source;
+
+    /**
+     * Creates a {@code SwitchableList} mirroring {@code source}.
+     */
+    public SwitchableList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(forwarder);
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Switches this list to mirror {@code newSource}.
+     * Listeners are notified with a single change replacing the old contents by the new ones.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(forwarder);
+        source = newSource;
+        newSource.addListener(forwarder);
+
+        beginChange();
+        if (!oldSource.isEmpty()) {
+            nextRemove(0, oldSource);
+        }
+        if (!newSource.isEmpty()) {
+            nextAdd(0, newSource.size());
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+}
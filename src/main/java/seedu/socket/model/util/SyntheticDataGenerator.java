@@ -0,0 +1,233 @@
+package seedu.socket.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.socket.commons.util.AppUtil.checkArgument;
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.socket.model.Socket;
+import seedu.socket.model.person.Address;
+import seedu.socket.model.person.Email;
+import seedu.socket.model.person.GitHubProfile;
+import seedu.socket.model.person.Name;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.Phone;
+import seedu.socket.model.person.tag.Language;
+import seedu.socket.model.person.tag.Tag;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.project.ProjectDeadline;
+import seedu.socket.model.project.ProjectMeeting;
+import seedu.socket.model.project.ProjectName;
+import seedu.socket.model.project.ProjectRepoHost;
+import seedu.socket.model.project.ProjectRepoName;
+
+/**
+ * Generates persons and projects that look like real SOCket data, in any number, for testing how SOCket copes with
+ * a lot of data.
+ * The data depends only on the seed and the settings, so a generator with the same seed and settings always generates
+ * the same data.
+ */
+public class SyntheticDataGenerator {
+    /** How the members of projects are picked from the persons. */
+    public enum Membership {
+        /** Every person is as likely as any other to be picked. */
+        UNIFORM,
+        /** Persons near the start of the list are much more likely to be picked, like the few busy people of a team. */
+        SKEWED
+    }
+
+    public static final List<String> DEFAULT_TAGS = Arrays.asList("friends", "colleagues", "family", "classmates",
+            "neighbours", "alumni", "cs2103t", "cs2101", "mentor", "ta");
+    public static final List<String> DEFAULT_LANGUAGES = Arrays.asList("Java", "Python", "C", "C++", "JavaScript",
+            "TypeScript", "Go", "Rust", "Kotlin", "Ruby");
+    public static final LocalDateTime DEFAULT_DEADLINE_START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    public static final Duration DEFAULT_DEADLINE_SPREAD = Duration.ofDays(365);
+
+    private static final List<String> FIRST_NAMES = Arrays.asList("Alex", "Bernice", "Charlotte", "David", "Irfan",
+            "Roy", "Wei Ling", "Priya", "Ahmad", "Mei", "Jun Jie", "Siti", "Arjun", "Hui Min", "Daniel", "Nur");
+    private static final List<String> LAST_NAMES = Arrays.asList("Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim",
+            "Balakrishnan", "Tan", "Kumar", "Lim", "Wong", "Ng", "Rahman", "Chua", "Goh");
+    private static final List<String> STREETS = Arrays.asList("Clementi Ave", "Geylang Street", "Serangoon Gardens",
+            "Tampines Street", "Ang Mo Kio Ave", "Jurong West Street", "Bedok North Road");
+    private static final List<String> PROJECT_WORDS = Arrays.asList("Alpha", "Bravo", "Charlie", "Delta", "Echo",
+            "Orbit", "Lumen", "Atlas", "Nova", "Pulse");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern(ProjectDeadline.DATE_TIME_FORMAT);
+    /** How strongly {@link Membership#SKEWED} favours the persons near the start of the list. */
+    private static final int SKEW_EXPONENT = 3;
+    private static final int REPO_HOST_COUNT = 100;
+
+    private final Random random;
+    private List<Tag> tags = toTags(DEFAULT_TAGS);
+    private int maxTagsPerPerson = 2;
+    private List<Language> languages = toLanguages(DEFAULT_LANGUAGES);
+    private int maxLanguagesPerPerson = 3;
+    private int minMembersPerProject = 1;
+    private int maxMembersPerProject = 8;
+    private Membership membership = Membership.UNIFORM;
+    private LocalDateTime deadlineStart = DEFAULT_DEADLINE_START;
+    private Duration deadlineSpread = DEFAULT_DEADLINE_SPREAD;
+    private double meetingRatio = 0.5;
+
+    /**
+     * Creates a {@code SyntheticDataGenerator} whose data is determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Gives each person up to {@code maxPerPerson} tags picked from {@code tags}.
+     */
+    public SyntheticDataGenerator withTags(List<String> tags, int maxPerPerson) {
+        requireNonNull(tags);
+        checkArgument(maxPerPerson >= 0 && (maxPerPerson == 0 || !tags.isEmpty()));
+        this.tags = toTags(tags);
+        this.maxTagsPerPerson = maxPerPerson;
+        return this;
+    }
+
+    /**
+     * Gives each person up to {@code maxPerPerson} languages picked from {@code languages}.
+     */
+    public SyntheticDataGenerator withLanguages(List<String> languages, int maxPerPerson) {
+        requireNonNull(languages);
+        checkArgument(maxPerPerson >= 0 && (maxPerPerson == 0 || !languages.isEmpty()));
+        this.languages = toLanguages(languages);
+        this.maxLanguagesPerPerson = maxPerPerson;
+        return this;
+    }
+
+    /**
+     * Gives each project between {@code min} and {@code max} members, picked as {@code membership} describes.
+     */
+    public SyntheticDataGenerator withMembers(int min, int max, Membership membership) {
+        requireNonNull(membership);
+        checkArgument(0 <= min && min <= max);
+        this.minMembersPerProject = min;
+        this.maxMembersPerProject = max;
+        this.membership = membership;
+        return this;
+    }
+
+    /**
+     * Spreads the deadlines of projects evenly over {@code spread} from {@code start}, and gives a meeting in the week
+     * before its deadline to about {@code meetingRatio} of the projects.
+     */
+    public SyntheticDataGenerator withDeadlines(LocalDateTime start, Duration spread, double meetingRatio) {
+        requireAllNonNull(start, spread);
+        checkArgument(!spread.isNegative() && 0 <= meetingRatio && meetingRatio <= 1);
+        this.deadlineStart = start;
+        this.deadlineSpread = spread;
+        this.meetingRatio = meetingRatio;
+        return this;
+    }
+
+    /**
+     * Returns a {@code Socket} of {@code personCount} persons and {@code projectCount} projects of them.
+     */
+    public Socket generateSocket(int personCount, int projectCount) {
+        List<Person> persons = generatePersons(personCount);
+        Socket socket = new Socket();
+        socket.setPersons(persons);
+        socket.setProjects(generateProjects(persons, projectCount));
+        return socket;
+    }
+
+    /**
+     * Returns {@code count} persons, numbered from 0, with distinct names.
+     */
+    public List<Person> generatePersons(int count) {
+        checkArgument(count >= 0);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a person whose name differs from that of the person of every other {@code number}.
+     */
+    public Person generatePerson(int number) {
+        checkArgument(number >= 0);
+        String name = pick(FIRST_NAMES) + " " + pick(LAST_NAMES) + " " + number;
+        String handle = name.toLowerCase().replace(' ', '-');
+        Set<Language> personLanguages = pickSome(languages, maxLanguagesPerPerson);
+        Set<Tag> personTags = pickSome(tags, maxTagsPerPerson);
+        return new Person(new Name(name), new GitHubProfile(handle.length() <= 39 ? handle : "user-" + number),
+                new Phone(String.valueOf(80000000 + number)), new Email(handle.replace("-", "") + "@example.com"),
+                new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS) + " " + (1 + random.nextInt(30))
+                        + ", #" + String.format("%02d-%02d", 1 + random.nextInt(20), 1 + random.nextInt(99))),
+                personLanguages, personTags);
+    }
+
+    /**
+     * Returns {@code count} projects, numbered from 0, with distinct names and members picked from {@code persons}.
+     */
+    public List<Project> generateProjects(List<Person> persons, int count) {
+        requireNonNull(persons);
+        checkArgument(count >= 0);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(generateProject(persons, i));
+        }
+        return projects;
+    }
+
+    private Project generateProject(List<Person> persons, int number) {
+        String name = pick(PROJECT_WORDS) + " " + number;
+        LocalDateTime deadline = deadlineStart.plusMinutes((long) (random.nextDouble() * deadlineSpread.toMinutes()));
+        String meeting = random.nextDouble() < meetingRatio
+                ? deadline.minusDays(1 + random.nextInt(7)).format(DATE_TIME_FORMATTER)
+                : "";
+        return new Project(new ProjectName(name), new ProjectRepoHost("host-" + random.nextInt(REPO_HOST_COUNT)),
+                new ProjectRepoName(name.toLowerCase().replace(' ', '-')),
+                new ProjectDeadline(deadline.format(DATE_TIME_FORMATTER)), new ProjectMeeting(meeting),
+                pickMembers(persons));
+    }
+
+    private Set<Person> pickMembers(List<Person> persons) {
+        int memberCount = Math.min(persons.size(),
+                minMembersPerProject + random.nextInt(maxMembersPerProject - minMembersPerProject + 1));
+        Set<Person> members = new HashSet<>();
+        while (members.size() < memberCount) {
+            double position = membership == Membership.SKEWED
+                    ? Math.pow(random.nextDouble(), SKEW_EXPONENT)
+                    : random.nextDouble();
+            members.add(persons.get((int) (position * persons.size())));
+        }
+        return members;
+    }
+
+    private String pick(List<String> words) {
+        return words.get(random.nextInt(words.size()));
+    }
+
+    private <T> Set<T> pickSome(List<T> choices, int max) {
+        Set<T> picked = new HashSet<>();
+        int count = max == 0 ? 0 : random.nextInt(max + 1);
+        for (int i = 0; i < count; i++) {
+            picked.add(choices.get(random.nextInt(choices.size())));
+        }
+        return picked;
+    }
+
+    private static List<Tag> toTags(List<String> names) {
+        return names.stream().map(Tag::new).collect(Collectors.toList());
+    }
+
+    private static List<Language> toLanguages(List<String> names) {
+        return names.stream().map(Language::new).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.socket.model.view;
+
+import static seedu.socket.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A named filter over a list whose result is kept materialized, in the order of the underlying list.
+ * The result is updated one element at a time as the underlying list changes (see {@code SavedViewRegistry}), so
+ * showing the view never requires the filter to be re-run over the whole list.
+ *
+ * @param <T> type of the elements in the list.
+ */
+public class SavedView<T> {
+    private final String name;
+    private final Predicate<? super T> predicate;
+    private final ObservableList<T> elements = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableElements = FXCollections.unmodifiableObservableList(elements);
+    /** The positions in the underlying list of the elements in {@code elements}, in ascending order. */
+    private final List<Long> positions = new ArrayList<>();
+
+    /**
+     * Creates an empty {@code SavedView} named {@code name} that keeps the elements matching {@code predicate}.
+     */
+    public SavedView(String name, Predicate<? super T> predicate) {
+        requireAllNonNull(name, predicate);
+        this.name = name;
+        this.predicate = predicate;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the elements currently in the view as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableElements;
+    }
+
+    /**
+     * Updates the view after {@code added} is added at {@code position} in the underlying list.
+     */
+    void add(T added, long position) {
+        if (predicate.test(added)) {
+            insert(added, position);
+        }
+    }
+
+    /**
+     * Updates the view after the element at {@code position} in the underlying list is removed.
+     */
+    void remove(long position) {
+        int index = Collections.binarySearch(positions, position);
+        if (index >= 0) {
+            positions.remove(index);
+            elements.remove(index);
+        }
+    }
+
+    /**
+     * Updates the view after the element at {@code position} in the underlying list is replaced by {@code edited}.
+     */
+    void set(T edited, long position) {
+        int index = Collections.binarySearch(positions, position);
+        boolean isMatch = predicate.test(edited);
+        if (index >= 0 && isMatch) {
+            elements.set(index, edited);
+        } else if (index >= 0) {
+            positions.remove(index);
+            elements.remove(index);
+        } else if (isMatch) {
+            insert(edited, position);
+        }
+    }
+
+    /**
+     * Replaces the contents of the view with the matching elements of {@code all}, where the element at index
+     * {@code i} of {@code all} is at position {@code positionsOfAll.get(i)} of the underlying list.
+     */
+    void reset(List<T> all, List<Long> positionsOfAll) {
+        List<Integer> matchingIndexes = new ArrayList<>();
+        for (int i = 0; i < all.size(); i++) {
+            if (predicate.test(all.get(i))) {
+                matchingIndexes.add(i);
+            }
+        }
+        matchingIndexes.sort((first, second) -> Long.compare(positionsOfAll.get(first), positionsOfAll.get(second)));
+
+        List<T> matches = new ArrayList<>();
+        positions.clear();
+        for (int i : matchingIndexes) {
+            matches.add(all.get(i));
+            positions.add(positionsOfAll.get(i));
+        }
+        elements.setAll(matches);
+    }
+
+    private void insert(T element, long position) {
+        int index = Collections.binarySearch(positions, position);
+        assert index < 0 : "Element already in view";
+        int insertionPoint = -index - 1;
+        positions.add(insertionPoint, position);
+        elements.add(insertionPoint, element);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.socket.model.view;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import seedu.socket.model.util.ListDeltaListener;
+
+/**
+ * Holds the {@code SavedView}s over a list and keeps them in sync with the per-element changes of the list.
+ * Every element of the list is given a position number when it is added, which edits preserve, so each view can keep
+ * its elements in list order and find where an element belongs with a binary search instead of a scan.
+ *
+ * @param <T> type of the elements in the list.
+ */
+public class SavedViewRegistry<T> implements ListDeltaListener<T> {
+    private final Map<String, SavedView<T>> views = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<T, Long> positions = new HashMap<>();
+    private final List<T> source;
+    private long nextPosition;
+
+    /**
+     * Creates a {@code SavedViewRegistry} over {@code source}.
+     * The registry must be notified of every change to {@code source}.
+     */
+    public SavedViewRegistry(List<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        onReset(source);
+    }
+
+    /**
+     * Saves a view named {@code name} over the elements matching {@code predicate}, replacing any view with the
+     * same name (case-insensitive). Building the view scans the list once.
+     */
+    public SavedView<T> save(String name, Predicate<? super T> predicate) {
+        SavedView<T> view = new SavedView<>(name, predicate);
+        view.reset(source, getPositions(source));
+        views.put(name, view);
+        return view;
+    }
+
+    /**
+     * Returns the view named {@code name} (case-insensitive), if any.
+     */
+    public Optional<SavedView<T>> get(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(views.get(name));
+    }
+
+    /**
+     * Removes the view named {@code name} (case-insensitive), if any.
+     */
+    public void remove(String name) {
+        requireNonNull(name);
+        views.remove(name);
+    }
+
+    /**
+     * Returns the names of the saved views, in alphabetical order.
+     */
+    public Set<String> getNames() {
+        return views.keySet();
+    }
+
+    @Override
+    public void onAdd(T added) {
+        long position = nextPosition++;
+        positions.put(added, position);
+        views.values().forEach(view -> view.add(added, position));
+    }
+
+    @Override
+    public void onRemove(T removed) {
+        Long position = positions.remove(removed);
+        assert position != null;
+        views.values().forEach(view -> view.remove(position));
+    }
+
+    @Override
+    public void onSet(T target, T edited) {
+        Long position = positions.remove(target);
+        assert position != null;
+        positions.put(edited, position);
+        views.values().forEach(view -> view.set(edited, position));
+    }
+
+    @Override
+    public void onReset(List<T> elements) {
+        positions.clear();
+        nextPosition = 0;
+        for (T element : elements) {
+            positions.put(element, nextPosition++);
+        }
+        List<Long> positionsOfAll = getPositions(elements);
+        views.values().forEach(view -> view.reset(elements, positionsOfAll));
+    }
+
+    private List<Long> getPositions(List<T> elements) {
+        List<Long> positionsOfElements = new ArrayList<>();
+        for (T element : elements) {
+            positionsOfElements.add(positions.get(element));
+        }
+        return positionsOfElements;
+    }
+}
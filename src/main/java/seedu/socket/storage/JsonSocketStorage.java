@@ -3,6 +3,7 @@ package seedu.socket.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -16,6 +17,7 @@ import seedu.socket.model.ReadOnlySocket;
 
 /**
  * A class to access SOCket data stored as a json file on the hard disk.
+ * Each successful load and save is reported as a {@code SocketFileEvent} to Java Flight Recorder.
  */
 public class JsonSocketStorage implements SocketStorage {
 
@@ -45,6 +47,8 @@ public class JsonSocketStorage implements SocketStorage {
     public Optional<ReadOnlySocket> readSocket(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        SocketFileEvent event = new SocketFileEvent(SocketFileEvent.LOAD, filePath);
+        event.begin();
         Optional<JsonSerializableSocket> jsonSocket = JsonUtil.readJsonFile(
                 filePath, JsonSerializableSocket.class);
         if (!jsonSocket.isPresent()) {
@@ -52,7 +56,9 @@ public class JsonSocketStorage implements SocketStorage {
         }
 
         try {
-            return Optional.of(jsonSocket.get().toModelType());
+            ReadOnlySocket socket = jsonSocket.get().toModelType();
+            commitEvent(event, socket, filePath);
+            return Optional.of(socket);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +79,30 @@ public class JsonSocketStorage implements SocketStorage {
         requireNonNull(socket);
         requireNonNull(filePath);
 
+        SocketFileEvent event = new SocketFileEvent(SocketFileEvent.SAVE, filePath);
+        event.begin();
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableSocket(socket), filePath);
+        commitEvent(event, socket, filePath);
+    }
+
+    /**
+     * Ends {@code event} and, only if it is being recorded, fills in the size of {@code filePath} and the counts of
+     * {@code socket} before committing it.
+     */
+    private static void commitEvent(SocketFileEvent event, ReadOnlySocket socket, Path filePath) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        try {
+            event.bytes = Files.size(filePath);
+        } catch (IOException e) {
+            logger.fine("Could not find the size of " + filePath + ": " + e.getMessage());
+        }
+        event.personCount = socket.getPersonList().size();
+        event.projectCount = socket.getProjectList().size();
+        event.commit();
     }
 
 }
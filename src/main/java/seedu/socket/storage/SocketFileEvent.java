@@ -0,0 +1,43 @@
+package seedu.socket.storage;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a load or save of the SOCket data file.
+ */
+@Name("seedu.socket.SocketFile")
+@Label("SOCket File")
+@Category({"SOCket", "Storage"})
+@Description("A load or save of the SOCket data file")
+class SocketFileEvent extends Event {
+    static final String LOAD = "load";
+    static final String SAVE = "save";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Path")
+    String path;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Persons")
+    int personCount;
+
+    @Label("Projects")
+    int projectCount;
+
+    SocketFileEvent(String operation, Path path) {
+        this.operation = operation;
+        this.path = path.toString();
+    }
+}
@@ -1,12 +1,19 @@
 package seedu.socket.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.socket.logic.commands.CommandResult;
-import seedu.socket.logic.commands.exceptions.CommandException;
-import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.logic.parser.CommandCompleter;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,18 +24,24 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final InputCompleter inputCompleter;
+    private final ContextMenu suggestions = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code InputCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, InputCompleter inputCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.inputCompleter = inputCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // the caret moves on every edit, so this also refreshes the suggestions whenever the text changes.
+        commandTextField.caretPositionProperty().addListener((unused1, unused2, unused3) -> refreshSuggestions());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
     }
 
     /**
@@ -41,12 +54,76 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        suggestions.hide();
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            // the user may have started typing the next command while this one ran
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Accepts the first suggestion when TAB is pressed, and dismisses the suggestions when ESCAPE is pressed.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (!suggestions.isShowing()) {
+            return;
+        }
+        if (event.getCode() == KeyCode.TAB) {
+            suggestions.getItems().get(0).fire();
+            event.consume();
+        } else if (event.getCode() == KeyCode.ESCAPE) {
+            suggestions.hide();
+            event.consume();
+        }
+    }
+
+    /**
+     * Shows the values that can complete the field being typed just before the caret.
+     */
+    private void refreshSuggestions() {
+        String textBeforeCaret = getTextBeforeCaret();
+        List<String> completions = inputCompleter.complete(textBeforeCaret);
+        String partial = textBeforeCaret.substring(Math.max(CommandCompleter.getPartialStart(textBeforeCaret), 0));
+        if (completions.isEmpty() || (completions.size() == 1 && completions.get(0).equalsIgnoreCase(partial))) {
+            suggestions.hide();
+            return;
+        }
+
+        suggestions.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> acceptSuggestion(completion));
+            suggestions.getItems().add(item);
+        }
+        if (!suggestions.isShowing()) {
+            suggestions.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the partial value just before the caret with {@code completion}.
+     */
+    private void acceptSuggestion(String completion) {
+        String textBeforeCaret = getTextBeforeCaret();
+        int partialStart = CommandCompleter.getPartialStart(textBeforeCaret);
+        if (partialStart == -1) {
+            return;
         }
+        String textAfterCaret = commandTextField.getText().substring(textBeforeCaret.length());
+        commandTextField.setText(textBeforeCaret.substring(0, partialStart) + completion + textAfterCaret);
+        commandTextField.positionCaret(partialStart + completion.length());
+        suggestions.hide();
+    }
+
+    private String getTextBeforeCaret() {
+        return commandTextField.getText().substring(0, commandTextField.getCaretPosition());
     }
 
     /**
@@ -75,11 +152,24 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which is completed on the JavaFX application thread.
+         *
+         * @see seedu.socket.logic.Logic#submit(String, seedu.socket.logic.CommandTask.ProgressListener)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that suggests values for the field being typed.
+     */
+    @FunctionalInterface
+    public interface InputCompleter {
+        /**
+         * Returns suggested values for the field being typed at the end of {@code textBeforeCaret}.
          *
-         * @see seedu.socket.logic.Logic#execute(String)
+         * @see seedu.socket.logic.Logic#getCompletions(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        List<String> complete(String textBeforeCaret);
     }
 
 }
@@ -1,7 +1,14 @@
 package seedu.socket.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,10 +21,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.socket.commons.core.GuiSettings;
 import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.logic.CommandTask;
 import seedu.socket.logic.Logic;
 import seedu.socket.logic.commands.CommandResult;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -26,6 +35,7 @@ import seedu.socket.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_PROGRESS = "Running %1$s: %2$d of %3$d done. Press Esc to cancel.";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -35,9 +45,12 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    // created the first time they are needed rather than at start up, as many sessions never need them
     private HelpWindow helpWindow;
     private PersonDetailPanel personDetailPanel;
     private ProjectListPanel projectListPanel;
+    /** The commands entered that have not finished, in the order they were entered. */
+    private final List<CommandTask> pendingTasks = new ArrayList<>();
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -77,8 +90,12 @@ public class MainWindow extends UiPart<Stage> {
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
         setAccelerators();
-
-        helpWindow = new HelpWindow();
+        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE && !pendingTasks.isEmpty()) {
+                handleCancel();
+                event.consume();
+            }
+        });
     }
 
     public Stage getPrimaryStage() {
@@ -133,8 +150,7 @@ public class MainWindow extends UiPart<Stage> {
         projectListPanel = new ProjectListPanel(logic);
         projectListPanelPlaceholder.getChildren().add(projectListPanel.getRoot());
 
-        personDetailPanel = new PersonDetailPanel(logic.getViewedPerson());
-        personDetailPanelPlaceholder.getChildren().add(personDetailPanel.getRoot());
+        fillPersonDetailPanelWhenViewed();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -142,8 +158,38 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getSocketFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.startReminders(reminder -> Platform.runLater(() -> {
+            logger.info("Reminder: " + reminder.getProjectName());
+            resultDisplay.setFeedbackToUser(reminder.toString());
+        }));
+    }
+
+    /**
+     * Fills the person detail placeholder the first time a person is viewed, as the panel stays empty until then.
+     */
+    private void fillPersonDetailPanelWhenViewed() {
+        ObservableList<Person> viewedPerson = logic.getViewedPerson();
+        if (!viewedPerson.isEmpty()) {
+            fillPersonDetailPanel();
+            return;
+        }
+        viewedPerson.addListener(new ListChangeListener<Person>() {
+            @Override
+            public void onChanged(Change<? extends Person> change) {
+                if (personDetailPanel == null && !viewedPerson.isEmpty()) {
+                    viewedPerson.removeListener(this);
+                    fillPersonDetailPanel();
+                }
+            }
+        });
+    }
+
+    private void fillPersonDetailPanel() {
+        personDetailPanel = new PersonDetailPanel(logic.getViewedPerson());
+        personDetailPanelPlaceholder.getChildren().add(personDetailPanel.getRoot());
     }
 
     /**
@@ -163,6 +209,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -182,45 +231,61 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
     @FXML
     private void handleUndo() {
-        try {
-            resultDisplay.setFeedbackToUser(
-                    logic.execute("undo").getFeedbackToUser());
-        } catch (CommandException | ParseException e) {
-            resultDisplay.setFeedbackToUser(e.getMessage());
-        }
+        executeCommand("undo");
     }
 
     @FXML
     private void handleRedo() {
-        try {
-            resultDisplay.setFeedbackToUser(logic.execute("redo").getFeedbackToUser());
-        } catch (CommandException | ParseException e) {
-            resultDisplay.setFeedbackToUser(e.getMessage());
-        }
+        executeCommand("redo");
+    }
+
+    /**
+     * Cancels the commands that have been entered but have not finished.
+     */
+    @FXML
+    private void handleCancel() {
+        pendingTasks.forEach(CommandTask::cancel);
     }
 
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
 
+    /**
+     * Returns the person detail panel, which is null until a person is viewed.
+     */
     public PersonDetailPanel getPersonDetailPanel() {
         return personDetailPanel;
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to be executed in the background, showing its progress while it runs, and returns its
+     * result, which is completed on the JavaFX application thread after the result is shown.
      *
-     * @see seedu.socket.logic.Logic#execute(String)
+     * @see seedu.socket.logic.Logic#submit(String, CommandTask.ProgressListener)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CommandTask task = logic.submit(commandText, (done, total) ->
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_PROGRESS, commandText, done, total)));
+        pendingTasks.add(task);
+        return task.getResult().whenCompleteAsync((commandResult, error) -> {
+            pendingTasks.remove(task);
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause instanceof CommandException || cause instanceof ParseException
+                        ? cause.getMessage() : cause.toString());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -231,12 +296,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
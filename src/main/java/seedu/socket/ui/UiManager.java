@@ -9,6 +9,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.socket.MainApp;
 import seedu.socket.commons.core.LogsCenter;
+import seedu.socket.commons.core.StartupProfiler;
 import seedu.socket.commons.util.StringUtil;
 import seedu.socket.logic.Logic;
 
@@ -40,10 +41,19 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
+            long start = System.nanoTime();
             mainWindow = new MainWindow(primaryStage, logic);
+            StartupProfiler.record("main window", start);
+
+            start = System.nanoTime();
             mainWindow.show(); //This should be called before creating other UI parts
+            StartupProfiler.record("show", start);
+
+            start = System.nanoTime();
             mainWindow.fillInnerParts();
+            StartupProfiler.record("inner parts", start);
 
+            StartupProfiler.finish();
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
@@ -7,6 +7,7 @@ import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
 import seedu.socket.MainApp;
+import seedu.socket.commons.core.StartupProfiler;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
@@ -60,6 +61,7 @@ public abstract class UiPart<T> {
 
     /**
      * Loads the object hierarchy from a FXML document.
+     * While SOCket is starting, how long it took is recorded with the {@link StartupProfiler}.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
      */
@@ -68,11 +70,15 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
+        long start = System.nanoTime();
         try {
             fxmlLoader.load();
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        if (StartupProfiler.isRecording()) {
+            StartupProfiler.record("FXML " + getClass().getSimpleName(), start);
+        }
     }
 
     /**
@@ -0,0 +1,79 @@
+package seedu.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.socket.logic.Logic;
+import seedu.socket.logic.LogicManager;
+import seedu.socket.logic.commands.ExitCommand;
+import seedu.socket.logic.commands.ListCommand;
+import seedu.socket.model.ModelManager;
+import seedu.socket.storage.JsonSocketStorage;
+import seedu.socket.storage.JsonUserPrefsStorage;
+import seedu.socket.storage.StorageManager;
+
+public class HeadlessMainTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonSocketStorage(temporaryFolder.resolve("socket.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(), storage);
+    }
+
+    @Test
+    public void execute_validCommands_printsResults() throws IOException {
+        int status = execute("# comment\n" + ListCommand.COMMAND_WORD + "\n\n  " + ListCommand.COMMAND_WORD + "  \n");
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, status);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS, ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void execute_invalidCommand_continuesAndFails() throws IOException {
+        int status = execute("unknown\n" + ListCommand.COMMAND_WORD + "\n");
+
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, status);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals(lines(MESSAGE_UNKNOWN_COMMAND), err.toString());
+    }
+
+    @Test
+    public void execute_exitCommand_stopsReading() throws IOException {
+        int status = execute(ExitCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD + "\n");
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, status);
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), out.toString());
+    }
+
+    private int execute(String input) throws IOException {
+        return HeadlessMain.execute(logic, new BufferedReader(new StringReader(input)),
+                new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.socket.logic.LogicManager;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.util.SyntheticDataGenerator;
+import seedu.socket.storage.JsonSocketStorage;
+import seedu.socket.storage.JsonUserPrefsStorage;
+import seedu.socket.storage.StorageManager;
+
+public class LoadDriverTest {
+    private static final int PERSON_COUNT = 50;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+    private ModelManager model;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonSocketStorage(temporaryFolder.resolve("socket.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(generator.generateSocket(PERSON_COUNT, 5), new UserPrefs());
+        logic = new LogicManager(model, storage);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logic.stop();
+    }
+
+    @Test
+    public void drive_mixOfCommands_everyCommandReported() {
+        LoadDriver.Report report = new LoadDriver(logic, generator, new Random(1), PERSON_COUNT).drive(200);
+
+        assertEquals(200, report.getCommandCount());
+        assertEquals(200, Arrays.stream(LoadDriver.CommandKind.values())
+                .mapToLong(kind -> report.getHistogram(kind).getCount()).sum());
+        for (LoadDriver.CommandKind kind : LoadDriver.CommandKind.values()) {
+            assertTrue(report.getHistogram(kind).getCount() > 0, kind + " was never picked");
+        }
+        // only undos with nothing left to undo and repeated assignments may fail
+        assertTrue(report.getFailureCount() <= report.getHistogram(LoadDriver.CommandKind.UNDO).getCount()
+                + report.getHistogram(LoadDriver.CommandKind.ASSIGN).getCount());
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(model.getSocket().getPersonList().size() > PERSON_COUNT);
+        assertTrue(report.toString().startsWith(String.format("%d commands (%d failed)", 200,
+                report.getFailureCount())));
+    }
+
+    @Test
+    public void drive_sameSeed_sameCommands() {
+        new LoadDriver(logic, generator, new Random(1), PERSON_COUNT).drive(50);
+
+        SyntheticDataGenerator otherGenerator = new SyntheticDataGenerator(1);
+        ModelManager otherModel = new ModelManager(otherGenerator.generateSocket(PERSON_COUNT, 5), new UserPrefs());
+        LogicManager otherLogic = new LogicManager(otherModel, new StorageManager(
+                new JsonSocketStorage(temporaryFolder.resolve("other.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("otherUserPrefs.json"))));
+        new LoadDriver(otherLogic, otherGenerator, new Random(1), PERSON_COUNT).drive(50);
+        otherLogic.stop();
+
+        assertEquals(model.getSocket(), otherModel.getSocket());
+    }
+}
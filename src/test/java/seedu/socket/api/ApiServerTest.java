@@ -0,0 +1,320 @@
+package seedu.socket.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.socket.commons.util.FileUtil;
+import seedu.socket.logic.LogicManager;
+import seedu.socket.logic.commands.DeleteCommand;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.storage.JsonSocketStorage;
+import seedu.socket.storage.JsonUserPrefsStorage;
+import seedu.socket.storage.StorageManager;
+
+public class ApiServerTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private static final int REQUEST_TIMEOUT_MILLIS = 5000;
+
+    private StorageManager storage;
+    private ModelManager model;
+    private LogicManager logic;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        storage = new StorageManager(new JsonSocketStorage(temporaryFolder.resolve("socket.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(getTypicalSocket(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+        server = new ApiServer(logic, 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        logic.stop();
+    }
+
+    @Test
+    public void getPersons_noCommand_allPersons() throws IOException {
+        JsonNode response = request("GET", ApiServer.PERSONS_PATH, null, ApiServer.STATUS_OK);
+
+        assertEquals(getTypicalSocket().getPersonList().size(), response.get("persons").size());
+        assertEquals(ALICE.getName().fullName, response.get("persons").get(0).get("name").asText());
+    }
+
+    @Test
+    public void getPersons_findCommand_matchingPersons() throws IOException {
+        JsonNode response = request("GET", ApiServer.PERSONS_PATH + "?" + ApiServer.COMMAND_PARAMETER + "="
+                + URLEncoder.encode("find n/alice", StandardCharsets.UTF_8), null, ApiServer.STATUS_OK);
+
+        assertEquals(List.of(ALICE.getName().fullName), getNames(response.get("persons")));
+    }
+
+    @Test
+    public void getPersons_commandNotAFilter_badRequest() throws IOException {
+        JsonNode response = request("GET", ApiServer.PERSONS_PATH + "?" + ApiServer.COMMAND_PARAMETER + "="
+                + URLEncoder.encode("delete 1", StandardCharsets.UTF_8), null, ApiServer.STATUS_BAD_REQUEST);
+
+        assertEquals(String.format(ApiServer.MESSAGE_NOT_A_FILTER, "delete 1"), response.get("error").asText());
+        assertEquals(getTypicalSocket().getPersonList().size(), model.getSocket().getPersonList().size());
+    }
+
+    @Test
+    public void getPersons_runCommand_badRequestWithoutReadingFile() throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        FileUtil.writeToFile(script, "secret word\n");
+        String runCommand = "run " + script;
+
+        JsonNode existing = request("GET", ApiServer.PERSONS_PATH + "?" + ApiServer.COMMAND_PARAMETER + "="
+                + URLEncoder.encode(runCommand, StandardCharsets.UTF_8), null, ApiServer.STATUS_BAD_REQUEST);
+        assertEquals(String.format(ApiServer.MESSAGE_NOT_A_FILTER, runCommand), existing.get("error").asText());
+
+        String missingCommand = "run " + temporaryFolder.resolve("missing.txt");
+        JsonNode missing = request("GET", ApiServer.PERSONS_PATH + "?" + ApiServer.COMMAND_PARAMETER + "="
+                + URLEncoder.encode(missingCommand, StandardCharsets.UTF_8), null, ApiServer.STATUS_BAD_REQUEST);
+        assertEquals(String.format(ApiServer.MESSAGE_NOT_A_FILTER, missingCommand), missing.get("error").asText());
+    }
+
+    @Test
+    public void getProjects_allProjects() throws IOException {
+        JsonNode response = request("GET", ApiServer.PROJECTS_PATH, null, ApiServer.STATUS_OK);
+
+        assertEquals(getTypicalSocket().getProjectList().size(), response.get("projects").size());
+    }
+
+    @Test
+    public void postCommand_validCommand_executedAndVisibleToReads() throws IOException {
+        JsonNode response = request("POST", ApiServer.COMMANDS_PATH, "{\"command\":\"delete 1\"}",
+                ApiServer.STATUS_OK);
+
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, ALICE),
+                response.get("feedback").asText());
+        JsonNode persons = request("GET", ApiServer.PERSONS_PATH, null, ApiServer.STATUS_OK).get("persons");
+        assertEquals(BENSON.getName().fullName, persons.get(0).get("name").asText());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws IOException {
+        JsonNode response = request("POST", ApiServer.COMMANDS_PATH, "{\"command\":\"delete 0\"}",
+                ApiServer.STATUS_BAD_REQUEST);
+
+        assertEquals(true, response.has("error"));
+        assertEquals(getTypicalSocket().getPersonList().size(), model.getSocket().getPersonList().size());
+    }
+
+    @Test
+    public void postCommand_missingCommand_badRequest() throws IOException {
+        JsonNode response = request("POST", ApiServer.COMMANDS_PATH, "{}", ApiServer.STATUS_BAD_REQUEST);
+
+        assertEquals(ApiServer.MESSAGE_MISSING_COMMAND, response.get("error").asText());
+    }
+
+    @Test
+    public void postCommand_malformedJson_badRequest() throws IOException {
+        JsonNode response = request("POST", ApiServer.COMMANDS_PATH, "{\"command\":", ApiServer.STATUS_BAD_REQUEST);
+
+        assertEquals(ApiServer.MESSAGE_INVALID_BODY, response.get("error").asText());
+        assertEquals(ApiServer.MESSAGE_MISSING_COMMAND,
+                request("POST", ApiServer.COMMANDS_PATH, "null", ApiServer.STATUS_BAD_REQUEST).get("error").asText());
+    }
+
+    @Test
+    public void postCommand_commandsWaitingForModel_readsStillServed() throws Exception {
+        HeldExecutor modelThread = new HeldExecutor();
+        server.stop();
+        logic.stop();
+        logic = new LogicManager(model, storage, modelThread);
+        server = new ApiServer(logic, 0);
+        server.start();
+
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < ApiServer.READER_THREADS; i++) {
+            Thread writer = new Thread(() -> {
+                try {
+                    request("POST", ApiServer.COMMANDS_PATH, "{\"command\":\"list\"}", ApiServer.STATUS_OK);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        assertTrue(modelThread.isHolding.await(5, TimeUnit.SECONDS));
+
+        JsonNode response = request("GET", ApiServer.PROJECTS_PATH, null, ApiServer.STATUS_OK);
+        assertEquals(getTypicalSocket().getProjectList().size(), response.get("projects").size());
+
+        modelThread.release();
+        for (Thread writer : writers) {
+            writer.join(5000);
+        }
+    }
+
+    @Test
+    public void getCommands_methodNotAllowed() throws IOException {
+        JsonNode response = request("GET", ApiServer.COMMANDS_PATH, null, ApiServer.STATUS_METHOD_NOT_ALLOWED);
+
+        assertEquals(String.format(ApiServer.MESSAGE_METHOD_NOT_ALLOWED, "GET"), response.get("error").asText());
+    }
+
+    @Test
+    public void postCommand_textPlain_rejectedAndNotExecuted() throws IOException {
+        JsonNode response = request("POST", ApiServer.COMMANDS_PATH, "{\"command\":\"clear\"}",
+                Map.of("Content-Type", "text/plain"), ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE);
+
+        assertEquals(ApiServer.MESSAGE_NOT_JSON, response.get("error").asText());
+        assertEquals(getTypicalSocket().getPersonList().size(), model.getSocket().getPersonList().size());
+    }
+
+    @Test
+    public void request_withOrigin_forbidden() throws IOException {
+        String response = requestPersonsByHand("localhost:" + server.getPort(), "Origin: http://example.com\r\n");
+
+        assertTrue(response.startsWith("HTTP/1.1 " + ApiServer.STATUS_FORBIDDEN));
+        assertTrue(response.contains(ApiServer.MESSAGE_ORIGIN_NOT_ALLOWED));
+    }
+
+    @Test
+    public void request_otherHost_forbidden() throws IOException {
+        String host = "attacker.example:" + server.getPort();
+        String response = requestPersonsByHand(host, "");
+
+        assertTrue(response.startsWith("HTTP/1.1 " + ApiServer.STATUS_FORBIDDEN));
+        assertTrue(response.contains(String.format(ApiServer.MESSAGE_HOST_NOT_ALLOWED, host)));
+        assertTrue(requestPersonsByHand("127.0.0.1:" + server.getPort(), "")
+                .startsWith("HTTP/1.1 " + ApiServer.STATUS_OK));
+    }
+
+    @Test
+    public void request_tokenRequired_servedOnlyWithToken() throws IOException {
+        server.stop();
+        server = new ApiServer(logic, 0, "secret");
+        server.start();
+
+        JsonNode response = request("GET", ApiServer.PROJECTS_PATH, null, ApiServer.STATUS_UNAUTHORIZED);
+        assertEquals(ApiServer.MESSAGE_MISSING_TOKEN, response.get("error").asText());
+        request("GET", ApiServer.PROJECTS_PATH, null, Map.of("Authorization", "Bearer wrong"),
+                ApiServer.STATUS_UNAUTHORIZED);
+        request("GET", ApiServer.PROJECTS_PATH, null, Map.of("Authorization", "Bearer secret"), ApiServer.STATUS_OK);
+    }
+
+    /**
+     * Sends a request with {@code body}, if any, as JSON to {@code path} of the server, checks that its status is
+     * {@code expectedStatus} and returns the JSON it responds with.
+     */
+    private JsonNode request(String method, String path, String body, int expectedStatus) throws IOException {
+        return request(method, path, body, body == null ? Map.of() : Map.of("Content-Type", "application/json"),
+                expectedStatus);
+    }
+
+    /**
+     * Sends a request with {@code headers} and {@code body}, if any, to {@code path} of the server, checks that its
+     * status is {@code expectedStatus} and returns the JSON it responds with.
+     */
+    private JsonNode request(String method, String path, String body, Map<String, String> headers,
+            int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path)
+                .openConnection();
+        connection.setReadTimeout(REQUEST_TIMEOUT_MILLIS);
+        connection.setRequestMethod(method);
+        headers.forEach(connection::setRequestProperty);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(expectedStatus, connection.getResponseCode());
+        try (InputStream in = expectedStatus == ApiServer.STATUS_OK
+                ? connection.getInputStream() : connection.getErrorStream()) {
+            return mapper.readTree(in);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Sends a request for the persons to the server for {@code host} with {@code extraHeaders}, and returns the whole
+     * response. The request is written by hand, as {@code HttpURLConnection} does not send some of these headers.
+     */
+    private String requestPersonsByHand(String host, String extraHeaders) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+            socket.getOutputStream().write(("GET " + ApiServer.PERSONS_PATH + " HTTP/1.1\r\nHost: " + host + "\r\n"
+                    + extraHeaders + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<String> getNames(JsonNode persons) {
+        List<String> names = new ArrayList<>();
+        persons.forEach(person -> names.add(person.get("name").asText()));
+        return names;
+    }
+
+    /**
+     * An executor that holds the tasks given to it until it is released, and then runs them and every later task on
+     * the thread that gives it.
+     */
+    private static class HeldExecutor implements Executor {
+        private final CountDownLatch isHolding = new CountDownLatch(1);
+        private final List<Runnable> held = new ArrayList<>();
+        private boolean isReleased;
+
+        @Override
+        public void execute(Runnable task) {
+            synchronized (this) {
+                if (!isReleased) {
+                    held.add(task);
+                    isHolding.countDown();
+                    return;
+                }
+            }
+            task.run();
+        }
+
+        void release() {
+            List<Runnable> tasks;
+            synchronized (this) {
+                isReleased = true;
+                tasks = new ArrayList<>(held);
+                held.clear();
+            }
+            tasks.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.socket.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @AfterEach
+    public void tearDown() {
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(Collections.singletonList(target), 0));
+    }
+
+    @Test
+    public void publish_records_writtenInOrderAfterFlush() {
+        handler = new AsyncLogHandler(Collections.singletonList(target), 16);
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.flush();
+
+        String written = target.getText();
+        int previous = -1;
+        for (int i = 0; i < 10; i++) {
+            int position = written.indexOf("record " + i);
+            assertTrue(position > previous, "record " + i + " missing or out of order");
+            previous = position;
+        }
+        assertTrue(written.contains("INFO"));
+        assertTrue(target.isFlushed);
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        handler = new AsyncLogHandler(Collections.singletonList(target), 16);
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "quiet"));
+        handler.publish(new LogRecord(Level.SEVERE, "loud"));
+        handler.flush();
+
+        assertFalse(target.getText().contains("quiet"));
+        assertTrue(target.getText().contains("loud"));
+    }
+
+    @Test
+    public void publish_fromAnotherThread_callerRecorded() throws Exception {
+        handler = new AsyncLogHandler(Collections.singletonList(target), 16);
+        Thread caller = new Thread(this::logFromCaller);
+        caller.start();
+        caller.join();
+        handler.flush();
+
+        assertTrue(target.getText().contains(AsyncLogHandlerTest.class.getName() + " logFromCaller"));
+    }
+
+    @Test
+    public void publish_bufferFull_lessSevereRecordsDroppedAndReported() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingHandler blockingTarget = new BlockingHandler(release);
+        handler = new AsyncLogHandler(Arrays.asList(blockingTarget, target), 2);
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(blockingTarget.isWriting.await(5, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "queued 1"));
+        handler.publish(new LogRecord(Level.INFO, "queued 2"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        release.countDown();
+        handler.flush();
+
+        String written = target.getText();
+        assertTrue(written.contains("queued 2"));
+        assertFalse(written.contains("INFO: dropped"));
+        assertTrue(written.contains(String.format(AsyncLogHandler.MESSAGE_DROPPED, 1)));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void close_recordsQueued_writtenAndTargetsClosed() {
+        handler = new AsyncLogHandler(Collections.singletonList(target), 1024);
+        for (int i = 0; i < 500; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.close();
+
+        assertTrue(target.getText().contains("record 499"));
+        assertTrue(target.isClosed);
+
+        // closed handlers ignore records and can be closed again
+        handler.publish(new LogRecord(Level.SEVERE, "too late"));
+        handler.close();
+        assertFalse(target.getText().contains("too late"));
+    }
+
+    private void logFromCaller() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("from caller");
+    }
+
+    /**
+     * A handler that keeps everything written to it.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            written.add(getFormatter().format(record));
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        String getText() {
+            synchronized (written) {
+                return String.join("", written);
+            }
+        }
+    }
+
+    /**
+     * A handler whose first write waits until it is released.
+     */
+    private static class BlockingHandler extends Handler {
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        BlockingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            isWriting.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
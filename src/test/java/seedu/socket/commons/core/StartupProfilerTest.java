@@ -0,0 +1,52 @@
+package seedu.socket.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StartupProfilerTest {
+
+    @BeforeEach
+    public void setUp() {
+        StartupProfiler.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        StartupProfiler.reset();
+    }
+
+    @Test
+    public void getSummary_phasesRecorded_inOrderFirstRecorded() {
+        long start = System.nanoTime();
+        StartupProfiler.record("config", start);
+        StartupProfiler.record("FXML PersonCard", start);
+        StartupProfiler.record("model build", start);
+        StartupProfiler.record("FXML PersonCard", start);
+
+        String summary = StartupProfiler.getSummary();
+        assertTrue(summary.startsWith("Started in "));
+        int config = summary.indexOf("config ");
+        int personCard = summary.indexOf("FXML PersonCard x2 ");
+        int modelBuild = summary.indexOf("model build ");
+        assertTrue(0 <= config && config < personCard && personCard < modelBuild, summary);
+    }
+
+    @Test
+    public void finish_phaseRecordedAfterwards_ignored() {
+        StartupProfiler.record("config", System.nanoTime());
+        assertTrue(StartupProfiler.isRecording());
+
+        String summary = StartupProfiler.finish();
+        assertFalse(StartupProfiler.isRecording());
+        assertTrue(summary.contains("config "));
+
+        StartupProfiler.record("FXML HelpWindow", System.nanoTime());
+        assertEquals(summary.substring(summary.indexOf(':')),
+                StartupProfiler.getSummary().substring(StartupProfiler.getSummary().indexOf(':')));
+    }
+}
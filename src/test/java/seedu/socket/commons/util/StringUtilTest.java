@@ -8,6 +8,7 @@ import static seedu.socket.testutil.Assert.assertThrows;
 import java.io.FileNotFoundException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -143,6 +144,58 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for isWithinEditDistance --------------------------------------
+
+    @Test
+    public void isWithinEditDistance_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isWithinEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.isWithinEditDistance("abc", null, 1));
+    }
+
+    @Test
+    public void isWithinEditDistance_negativeDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.isWithinEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        // identical, ignoring case
+        assertTrue(StringUtil.isWithinEditDistance("Bernice", "bernice", 0));
+        assertTrue(StringUtil.isWithinEditDistance("", "", 0));
+
+        // substitution, insertion and deletion
+        assertTrue(StringUtil.isWithinEditDistance("Bernise", "Bernice", 1));
+        assertTrue(StringUtil.isWithinEditDistance("Bernce", "Bernice", 1));
+        assertTrue(StringUtil.isWithinEditDistance("Berniece", "Bernice", 1));
+        assertTrue(StringUtil.isWithinEditDistance("ab", "", 2));
+
+        // too many edits
+        assertFalse(StringUtil.isWithinEditDistance("Bernise", "Bernice", 0));
+        assertFalse(StringUtil.isWithinEditDistance("Bernise", "Bernard", 2));
+        assertFalse(StringUtil.isWithinEditDistance("abc", "abcdef", 2));
+        assertFalse(StringUtil.isWithinEditDistance("kitten", "sitting", 2));
+        assertTrue(StringUtil.isWithinEditDistance("kitten", "sitting", 3));
+    }
+
+    //---------------- Tests for toLowerCaseKey --------------------------------------
+
+    @Test
+    public void toLowerCaseKey_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseKey(null));
+    }
+
+    @Test
+    public void toLowerCaseKey_turkishDefaultLocale_sameAsEverywhere() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("title", StringUtil.toLowerCaseKey("TITLE"));
+            assertEquals("bernice yu", StringUtil.toLowerCaseKey("Bernice YU"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     //---------------- Tests for convertArgumentsIntoList --------------------------------------
 
     @Test
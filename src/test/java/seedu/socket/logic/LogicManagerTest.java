@@ -1,6 +1,9 @@
 package seedu.socket.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.socket.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.socket.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,26 +12,43 @@ import static seedu.socket.logic.commands.CommandTestUtil.LANGUAGE_DESC_PYTHON;
 import static seedu.socket.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.socket.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.socket.logic.commands.CommandTestUtil.PROFILE_DESC_AMY;
+import static seedu.socket.model.person.Person.CATEGORY_PHONE;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 import static seedu.socket.testutil.Assert.assertThrows;
 import static seedu.socket.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.socket.commons.util.FileUtil;
 import seedu.socket.logic.commands.AddCommand;
 import seedu.socket.logic.commands.CommandResult;
+import seedu.socket.logic.commands.DeleteCommand;
 import seedu.socket.logic.commands.ListCommand;
+import seedu.socket.logic.commands.RunCommand;
+import seedu.socket.logic.commands.SortCommand;
 import seedu.socket.logic.commands.exceptions.CommandException;
 import seedu.socket.logic.parser.exceptions.ParseException;
 import seedu.socket.model.Model;
 import seedu.socket.model.ModelManager;
 import seedu.socket.model.ReadOnlySocket;
+import seedu.socket.model.SocketSnapshot;
 import seedu.socket.model.UserPrefs;
 import seedu.socket.model.person.Person;
+import seedu.socket.model.stats.CommandMetrics;
 import seedu.socket.storage.JsonSocketStorage;
 import seedu.socket.storage.JsonUserPrefsStorage;
 import seedu.socket.storage.StorageManager;
@@ -36,6 +56,9 @@ import seedu.socket.testutil.PersonBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PROFILE_DESC_AMY
+            + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LANGUAGE_DESC_PYTHON;
+    private static final Person AMY_WITHOUT_TAGS = new PersonBuilder(AMY).withTags().build();
 
     @TempDir
     public Path temporaryFolder;
@@ -90,11 +113,227 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_unmodifyingCommand_notSaved() throws Exception {
+        // storage that fails on every save, so the command only succeeds if nothing is saved
+        JsonSocketStorage socketStorage =
+                new JsonSocketIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionSocket.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(socketStorage, userPrefsStorage));
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.sortPersonList(CATEGORY_PHONE, NO_LIMIT);
+        assertCommandSuccess(SortCommand.COMMAND_WORD + " " + CATEGORY_PHONE,
+                SortCommand.MESSAGE_SUCCESS + CATEGORY_PHONE, expectedModel);
+    }
+
+    @Test
+    public void execute_runScript_savedOnce() throws Exception {
+        JsonSocketSaveCountingStub socketStorage =
+                new JsonSocketSaveCountingStub(temporaryFolder.resolve("countingSocket.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(socketStorage, userPrefsStorage));
+
+        Path script = temporaryFolder.resolve("script.txt");
+        FileUtil.writeToFile(script, AddCommand.COMMAND_WORD + NAME_DESC_AMY + PROFILE_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LANGUAGE_DESC_PYTHON + "\n"
+                + DeleteCommand.COMMAND_WORD + " 1\n");
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        expectedModel.deletePerson(new PersonBuilder(AMY).withTags().build());
+
+        assertCommandSuccess(RunCommand.COMMAND_WORD + " " + script,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, script), expectedModel);
+        assertEquals(1, socketStorage.saveCount);
+    }
+
+    @Test
+    public void getSocketSnapshot_modifyingCommand_snapshotPublished() throws Exception {
+        SocketSnapshot before = logic.getSocketSnapshot();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PROFILE_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LANGUAGE_DESC_PYTHON);
+
+        SocketSnapshot after = logic.getSocketSnapshot();
+        assertEquals(0, before.getPersonList().size());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertEquals(model.getSocket().getPersonList(), after.getPersonList());
+    }
+
+    @Test
+    public void getSocketSnapshot_unmodifyingCommand_snapshotUnchanged() throws Exception {
+        SocketSnapshot before = logic.getSocketSnapshot();
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertSame(before, logic.getSocketSnapshot());
+    }
+
+    @Test
+    public void execute_commands_metricsRecorded() throws Exception {
+        logic.execute(ADD_AMY_COMMAND);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandMetrics metrics = model.getCommandMetrics();
+        assertEquals(1, metrics.getCommandCount(AddCommand.COMMAND_WORD));
+        assertEquals(1, metrics.getHistogram(AddCommand.COMMAND_WORD, CommandMetrics.Phase.EXECUTE).getCount());
+        assertEquals(1, metrics.getHistogram(AddCommand.COMMAND_WORD, CommandMetrics.Phase.SAVE).getCount());
+        assertEquals(0, metrics.getHistogram(ListCommand.COMMAND_WORD, CommandMetrics.Phase.SAVE).getCount());
+        assertEquals(1, metrics.getCommandCount(CommandMetrics.INVALID_COMMAND));
+        assertEquals(1, metrics.getSaveCount());
+        assertEquals(1, metrics.getLastSaveRecordCount());
+        assertTrue(metrics.getLastSaveByteCount() > 0);
+    }
+
+    @Test
+    public void submit_severalCommands_executedAndSavedInOrder() throws Exception {
+        JsonSocketSaveCountingStub socketStorage =
+                new JsonSocketSaveCountingStub(temporaryFolder.resolve("countingSocket.json"));
+        logic = new LogicManager(model, new StorageManager(socketStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        CommandTask add = logic.submit(ADD_AMY_COMMAND, CommandTask.ProgressListener.NONE);
+        CommandTask delete = logic.submit(DeleteCommand.COMMAND_WORD + " 1", CommandTask.ProgressListener.NONE);
+        CommandTask invalid = logic.submit(DeleteCommand.COMMAND_WORD + " 1", CommandTask.ProgressListener.NONE);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY_WITHOUT_TAGS),
+                add.getResult().get().getFeedbackToUser());
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, AMY_WITHOUT_TAGS),
+                delete.getResult().get().getFeedbackToUser());
+        assertFailsWith(invalid, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertEquals(2, socketStorage.saveCount);
+        assertFalse(model.hasUnsavedChanges());
+    }
+
+    @Test
+    public void submit_runScriptCancelledPartWay_rolledBack() throws Exception {
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        JsonSocketSaveCountingStub socketStorage =
+                new JsonSocketSaveCountingStub(temporaryFolder.resolve("countingSocket.json"));
+        logic = new LogicManager(model, new StorageManager(socketStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))), modelThread::add);
+        Path script = temporaryFolder.resolve("script.txt");
+        FileUtil.writeToFile(script, ADD_AMY_COMMAND + "\n" + ListCommand.COMMAND_WORD + "\n");
+        String runCommand = RunCommand.COMMAND_WORD + " " + script;
+
+        List<Integer> progress = new ArrayList<>();
+        AtomicReference<CommandTask> task = new AtomicReference<>();
+        task.set(logic.submit(runCommand, (done, total) -> {
+            progress.add(done);
+            if (done == 1) {
+                task.get().cancel();
+            }
+        }));
+        runOnModelThreadUntilDone(modelThread, task.get());
+
+        assertFailsWith(task.get(), String.format(LogicManager.MESSAGE_CANCELLED, runCommand));
+        assertEquals(Arrays.asList(0, 1), progress);
+        assertEquals(new ModelManager(), model);
+        assertEquals(0, logic.getSocketSnapshot().getPersonList().size());
+        assertEquals(0, socketStorage.saveCount);
+    }
+
+    @Test
+    public void submit_cancelledBeforeStarting_notExecuted() throws Exception {
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, new StorageManager(new JsonSocketStorage(temporaryFolder.resolve("s.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("p.json"))), modelThread::add);
+
+        CommandTask list = logic.submit(ListCommand.COMMAND_WORD, CommandTask.ProgressListener.NONE);
+        CommandTask add = logic.submit(ADD_AMY_COMMAND, CommandTask.ProgressListener.NONE);
+        add.cancel();
+        runOnModelThreadUntilDone(modelThread, list);
+        runOnModelThreadUntilDone(modelThread, add);
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, list.getResult().get().getFeedbackToUser());
+        assertFailsWith(add, String.format(LogicManager.MESSAGE_CANCELLED, ADD_AMY_COMMAND));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void getPendingCommandCount_commandsWaitingForModelThread_counted() throws Exception {
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, new StorageManager(new JsonSocketStorage(temporaryFolder.resolve("s.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("p.json"))), modelThread::add);
+        assertEquals(0, logic.getPendingCommandCount());
+
+        CommandTask list = logic.submit(ListCommand.COMMAND_WORD, CommandTask.ProgressListener.NONE);
+        CommandTask add = logic.submit(ADD_AMY_COMMAND, CommandTask.ProgressListener.NONE);
+        assertEquals(2, logic.getPendingCommandCount());
+
+        runOnModelThreadUntilDone(modelThread, list);
+        runOnModelThreadUntilDone(modelThread, add);
+        logic.stop();
+        assertEquals(0, logic.getPendingCommandCount());
+    }
+
+    @Test
+    public void stop_commandWaitingForModelThread_finishedAndSaved() throws Exception {
+        // a model thread that never gets to its tasks, as it is the thread calling stop
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        Path socketPath = temporaryFolder.resolve("stopped.json");
+        logic = new LogicManager(model, new StorageManager(new JsonSocketStorage(socketPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("p.json"))), modelThread::add);
+
+        CommandTask add = logic.submit(ADD_AMY_COMMAND, CommandTask.ProgressListener.NONE);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (modelThread.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        long start = System.nanoTime();
+        logic.stop();
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY_WITHOUT_TAGS),
+                add.getResult().get().getFeedbackToUser());
+        assertFalse(model.hasUnsavedChanges());
+        assertEquals(Collections.singletonList(AMY_WITHOUT_TAGS),
+                new JsonSocketStorage(socketPath).readSocket().get().getPersonList());
+    }
+
+    @Test
+    public void submit_afterStop_notExecuted() throws Exception {
+        logic.stop();
+        CommandTask add = logic.submit(ADD_AMY_COMMAND, CommandTask.ProgressListener.NONE);
+
+        assertFailsWith(add, String.format(LogicManager.MESSAGE_STOPPED, ADD_AMY_COMMAND));
+        assertEquals(new ModelManager(), model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    /**
+     * Runs the tasks handed to {@code modelThread} on this thread, as the model thread, until {@code task} is done.
+     */
+    private static void runOnModelThreadUntilDone(BlockingQueue<Runnable> modelThread, CommandTask task)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!task.isDone() && System.nanoTime() < deadline) {
+            Runnable modelTask = modelThread.poll(10, TimeUnit.MILLISECONDS);
+            if (modelTask != null) {
+                modelTask.run();
+            }
+        }
+        assertTrue(task.isDone());
+    }
+
+    /**
+     * Confirms that {@code task} failed with a {@code CommandException} with {@code expectedMessage}.
+     */
+    private static void assertFailsWith(CommandTask task, String expectedMessage) throws InterruptedException {
+        try {
+            task.getResult().get();
+            throw new AssertionError("The command was expected to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CommandException);
+            assertEquals(expectedMessage, e.getCause().getMessage());
+        }
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -148,6 +387,23 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class to count the number of times the save method is called.
+     */
+    private static class JsonSocketSaveCountingStub extends JsonSocketStorage {
+        private int saveCount;
+
+        private JsonSocketSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSocket(ReadOnlySocket socket, Path filePath) throws IOException {
+            saveCount++;
+            super.saveSocket(socket, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -7,9 +7,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.socket.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,8 +27,18 @@ import seedu.socket.model.Model;
 import seedu.socket.model.ReadOnlySocket;
 import seedu.socket.model.ReadOnlyUserPrefs;
 import seedu.socket.model.Socket;
+import seedu.socket.model.SocketSnapshot;
+import seedu.socket.model.dedupe.DuplicateCandidate;
+import seedu.socket.model.index.AutocompleteIndex;
+import seedu.socket.model.index.FuzzyPersonIndex;
+import seedu.socket.model.index.PersonKeyIndex;
+import seedu.socket.model.index.ProjectTimeIndex;
 import seedu.socket.model.person.Person;
+import seedu.socket.model.person.predicate.QueryPredicate;
 import seedu.socket.model.project.Project;
+import seedu.socket.model.reminder.Reminder;
+import seedu.socket.model.stats.CommandMetrics;
+import seedu.socket.model.stats.SocketStatistics;
 import seedu.socket.testutil.ProjectBuilder;
 
 public class AddProjectCommandTest {
@@ -178,7 +194,7 @@ public class AddProjectCommandTest {
         }
 
         @Override
-        public void sortPersonList(String category) {
+        public void sortPersonList(String category, int limit) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -218,7 +234,7 @@ public class AddProjectCommandTest {
         }
 
         @Override
-        public void sortProjectList(String category) {
+        public void sortProjectList(String category, int limit) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -246,6 +262,177 @@ public class AddProjectCommandTest {
         public boolean canRedoSocket() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<String> getCompletions(AutocompleteIndex.Field field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsFuzzy(FuzzyPersonIndex.Field field, String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(QueryPredicate query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void savePersonView(String name, Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasPersonView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showPersonView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersonView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveProjectView(String name, Predicate<Project> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasProjectView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showProjectView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteProjectView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markSocketSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Project> findProjectsBetween(ProjectTimeIndex.Field field, LocalDateTime start,
+                LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startReminders(Consumer<Reminder> handler) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void stopReminders() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, List<Project>> findMeetingConflicts(Project project) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SocketStatistics getStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findCollaborators(Person person, int hops) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findCollaborationPath(Person from, Person to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person mergePersons(Person target, Person source) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DuplicateCandidate> findDuplicates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByKey(PersonKeyIndex.Field field, String key) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<PersonKeyIndex.Field, List<Person>> findKeyCollisions(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> getPersonByName(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Project> getProjectByName(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SocketSnapshot getSocketSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void publishSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandMetrics getCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getUndoDepth() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUndoHistorySizeEstimate() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -293,6 +480,11 @@ public class AddProjectCommandTest {
         @Override
         public void commitSocket() {
         }
+
+        @Override
+        public Map<Person, List<Project>> findMeetingConflicts(Project project) {
+            return Collections.emptyMap();
+        }
     }
 
 }
@@ -12,6 +12,7 @@ import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PROJECT;
 import static seedu.socket.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.socket.testutil.TypicalPersons.ALICE;
 import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.CARL;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.model.Model;
 import seedu.socket.model.ModelManager;
 import seedu.socket.model.UserPrefs;
@@ -33,7 +35,7 @@ public class AssignCommandTest {
     public void constructor_nullIndex_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new AssignCommand(INDEX_FIRST_PERSON, null));
         assertThrows(NullPointerException.class, () -> new AssignCommand(null, INDEX_FIRST_PROJECT));
-        assertThrows(NullPointerException.class, () -> new AssignCommand(null, null));
+        assertThrows(NullPointerException.class, () -> new AssignCommand((Index) null, null));
     }
 
     @Test
@@ -56,6 +58,45 @@ public class AssignCommandTest {
         assertCommandSuccess(assignCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_assignByKey_success() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Project editedProject = new ProjectBuilder(TypicalProjects.ALPHA).withMembers(ALICE, BENSON, CARL).build();
+
+        Model expectedModel = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        expectedModel.setProject(TypicalProjects.ALPHA, editedProject);
+        AssignCommand assignCommand = new AssignCommand(Target.fromKey("Carl Kurz"), Target.fromKey("alpha project"));
+        String expectedMessage = String.format(AssignCommand.MESSAGE_ASSIGN_SUCCESS, CARL.getName(),
+                TypicalProjects.ALPHA.getName());
+        assertCommandSuccess(assignCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownProjectKey_failure() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        AssignCommand assignCommand = new AssignCommand(Target.fromKey("Carl Kurz"), Target.fromKey("Omega"));
+        assertCommandFailure(assignCommand, model, String.format(Messages.MESSAGE_UNKNOWN_PROJECT_KEY, "Omega"));
+    }
+
+    @Test
+    public void execute_meetingClash_successWithWarning() {
+        Project clashing = new ProjectBuilder().withName("Clashing").withProjectMeeting("01/01/23-1000")
+                .withMembers(ALICE).build();
+        Project target = new ProjectBuilder().withName("Target").withProjectMeeting("01/01/23-1030").build();
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addProject(clashing);
+        model.addProject(target);
+
+        Model expectedModel = new ModelManager(model.getSocket(), new UserPrefs());
+        expectedModel.setProject(target, new ProjectBuilder(target).withMembers(ALICE).build());
+        AssignCommand assignCommand = new AssignCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PROJECT);
+        String expectedMessage = String.format(AssignCommand.MESSAGE_ASSIGN_SUCCESS, ALICE.getName(),
+                target.getName())
+                + String.format(MeetingConflictWarning.MESSAGE_MEETING_CONFLICT, ALICE.getName(), clashing);
+        assertCommandSuccess(assignCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_duplicateMember_failure() {
         Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
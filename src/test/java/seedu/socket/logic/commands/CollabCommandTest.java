@@ -0,0 +1,74 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.commons.core.index.Index;
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.testutil.TypicalProjects;
+
+public class CollabCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        expectedModel = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        CollabCommand collabCommand = new CollabCommand(INDEX_FIRST_PERSON, 1);
+
+        // same object -> returns true
+        assertTrue(collabCommand.equals(collabCommand));
+
+        // same values -> returns true
+        assertTrue(collabCommand.equals(new CollabCommand(INDEX_FIRST_PERSON, 1)));
+
+        // different types -> returns false
+        assertFalse(collabCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(collabCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(collabCommand.equals(new CollabCommand(INDEX_SECOND_PERSON, 1)));
+
+        // different hops -> returns false
+        assertFalse(collabCommand.equals(new CollabCommand(INDEX_FIRST_PERSON, 2)));
+    }
+
+    @Test
+    public void execute_memberOfProject_listsCollaborators() {
+        // ALICE and BENSON are the members of the first typical project
+        expectedModel.updateFilteredPersonList(BENSON::isSamePerson);
+        assertCommandSuccess(new CollabCommand(INDEX_FIRST_PERSON, 1), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new CollabCommand(outOfBoundIndex, 1), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.socket.logic.commands;
+
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.person.Person;
+import seedu.socket.testutil.PersonBuilder;
+import seedu.socket.testutil.TypicalProjects;
+
+public class DedupeCommandTest {
+
+    @Test
+    public void execute_noDuplicates_listUnchanged() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Model expectedModel = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        assertCommandSuccess(new DedupeCommand(), model, DedupeCommand.MESSAGE_NO_DUPLICATES, expectedModel);
+    }
+
+    @Test
+    public void execute_duplicates_listsPairs() {
+        Person aliceTypo = new PersonBuilder().withName("Alice Paulin").build();
+        Person aliceSameEmail = new PersonBuilder().withName("Pauline A").withEmail("alice@example.com").build();
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        model.addPerson(aliceTypo);
+        model.addPerson(aliceSameEmail);
+        Model expectedModel = new ModelManager(model.getSocket(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person.isSamePerson(ALICE) || person.isSamePerson(aliceTypo)
+                || person.isSamePerson(aliceSameEmail));
+
+        String expectedMessage = String.format(DedupeCommand.MESSAGE_SUCCESS, 2)
+                + String.format(DedupeCommand.MESSAGE_PAIR, 1, 3, ALICE.getName(), aliceSameEmail.getName(),
+                        DedupeCommand.MESSAGE_SHARED_KEY)
+                + String.format(DedupeCommand.MESSAGE_PAIR, 1, 2, ALICE.getName(), aliceTypo.getName(),
+                        String.format(DedupeCommand.MESSAGE_SIMILARITY, 56));
+        assertCommandSuccess(new DedupeCommand(), model, expectedMessage, expectedModel);
+    }
+}
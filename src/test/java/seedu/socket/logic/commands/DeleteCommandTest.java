@@ -7,15 +7,18 @@ import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.socket.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.socket.commons.core.Messages;
 import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.model.Model;
 import seedu.socket.model.ModelManager;
 import seedu.socket.model.UserPrefs;
 import seedu.socket.model.person.Person;
+import seedu.socket.testutil.PersonBuilder;
 import seedu.socket.testutil.TypicalPersons;
 import seedu.socket.testutil.TypicalProjects;
 
@@ -62,6 +65,42 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_validKeyFilteredList_success() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        // Keys are looked up in the whole list, not only the displayed persons
+        Person personToDelete = BENSON;
+        ModelManager expectedModel = new ModelManager(model.getSocket(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        expectedModel.deletePerson(personToDelete);
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, personToDelete);
+
+        assertCommandSuccess(new DeleteCommand(Target.fromKey("benson meier")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_validEmailKey_success() {
+        Person personToDelete = BENSON;
+        ModelManager expectedModel = new ModelManager(model.getSocket(), new UserPrefs());
+        expectedModel.deletePerson(personToDelete);
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, personToDelete);
+
+        assertCommandSuccess(new DeleteCommand(Target.fromKey(BENSON.getEmail().value)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_unknownOrAmbiguousKey_throwsCommandException() {
+        assertCommandFailure(new DeleteCommand(Target.fromKey("Nobody")), model,
+                String.format(Messages.MESSAGE_UNKNOWN_PERSON_KEY, "Nobody"));
+
+        model.addPerson(new PersonBuilder().withName("Benson Twin").withPhone(BENSON.getPhone().value).build());
+        assertCommandFailure(new DeleteCommand(Target.fromKey(BENSON.getPhone().value)), model,
+                String.format(Messages.MESSAGE_AMBIGUOUS_PERSON_KEY, BENSON.getPhone().value));
+    }
+
     @Test
     public void execute_validIndexFilteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.socket.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
 import static seedu.socket.testutil.TypicalPersons.CARL;
 import static seedu.socket.testutil.TypicalPersons.ELLE;
 import static seedu.socket.testutil.TypicalPersons.FIONA;
@@ -197,6 +198,23 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_keyKeywords_personsFoundByKey() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommandPersonPredicate predicate = preparePersonPredicate(" ",
+                " ",
+                "95352563",
+                "ALICE@example.com nobody@example.com",
+                " ",
+                " ",
+                " ");
+        assertTrue(predicate.getKeyLookups().isPresent());
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindCommandPersonPredicate}.
      */
@@ -0,0 +1,88 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.DANIEL;
+import static seedu.socket.testutil.TypicalPersons.ELLE;
+import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalSocket(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalSocket(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        List<String> first = Collections.singletonList("first");
+        List<String> second = Collections.singletonList("second");
+        FuzzyFindCommand firstCommand = new FuzzyFindCommand(first, first, first);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FuzzyFindCommand(first, first, first)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstCommand.equals(new FuzzyFindCommand(second, first, first)));
+        assertFalse(firstCommand.equals(new FuzzyFindCommand(first, second, first)));
+        assertFalse(firstCommand.equals(new FuzzyFindCommand(first, first, second)));
+    }
+
+    @Test
+    public void execute_misspeltName_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        List<String> emptyKeywords = Collections.emptyList();
+        FuzzyFindCommand command = new FuzzyFindCommand(Collections.singletonList("Meyer"), emptyKeywords,
+                emptyKeywords);
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON) || person.equals(DANIEL)
+                || person.equals(ELLE));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_misspeltEmailAndProfile_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        List<String> emptyKeywords = Collections.emptyList();
+        FuzzyFindCommand command = new FuzzyFindCommand(emptyKeywords, Collections.singletonList("alice-paulin"),
+                Collections.singletonList("cornelai@example.com"));
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noCloseMatch_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        List<String> emptyKeywords = Collections.emptyList();
+        FuzzyFindCommand command = new FuzzyFindCommand(Collections.singletonList("Zyxwvut"), emptyKeywords,
+                emptyKeywords);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.CARL;
+import static seedu.socket.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.commons.core.index.Index;
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.testutil.TypicalProjects;
+
+public class MergeCommandTest {
+
+    @Test
+    public void equals() {
+        MergeCommand mergeCommand = new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+
+        // same object -> returns true
+        assertTrue(mergeCommand.equals(mergeCommand));
+
+        // same values -> returns true
+        assertTrue(mergeCommand.equals(new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+
+        // different types -> returns false
+        assertFalse(mergeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(mergeCommand.equals(null));
+
+        // different indexes -> returns false
+        assertFalse(mergeCommand.equals(new MergeCommand(INDEX_SECOND_PERSON, INDEX_FIRST_PERSON)));
+    }
+
+    @Test
+    public void execute_validIndexes_mergeSuccessful() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Model expectedModel = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Person merged = expectedModel.mergePersons(ALICE, CARL);
+        expectedModel.commitSocket();
+
+        String expectedMessage = String.format(MergeCommand.MESSAGE_MERGE_SUCCESS, ALICE.getName(), CARL.getName());
+        assertCommandSuccess(new MergeCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), model, expectedMessage,
+                expectedModel);
+
+        // the merged person keeps the projects of both
+        Project alpha = model.getFilteredProjectList().get(0);
+        Project bravo = model.getFilteredProjectList().get(1);
+        assertEquals(new HashSet<>(Arrays.asList(merged, BENSON)), alpha.getMembers());
+        assertEquals(new HashSet<>(Arrays.asList(merged, DANIEL)), bravo.getMembers());
+        assertEquals(CARL.getLanguages(), merged.getLanguages());
+    }
+
+    @Test
+    public void execute_viewedPersonMerged_viewsMergedPerson() throws Exception {
+        Person merged = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs())
+                .mergePersons(ALICE, CARL);
+
+        // viewing the person merged away
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        model.updateViewedPerson(CARL);
+        new MergeCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON).execute(model);
+        assertEquals(Collections.singletonList(merged), model.getViewedPerson());
+
+        // viewing the person merged into
+        model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        model.updateViewedPerson(ALICE);
+        new MergeCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON).execute(model);
+        assertEquals(Collections.singletonList(merged), model.getViewedPerson());
+
+        // viewing someone else
+        model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        model.updateViewedPerson(BENSON);
+        new MergeCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON).execute(model);
+        assertEquals(Collections.singletonList(BENSON), model.getViewedPerson());
+    }
+
+    @Test
+    public void execute_samePerson_failure() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        assertCommandFailure(new MergeCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON), model,
+                MergeCommand.MESSAGE_SAME_PERSON);
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new MergeCommand(INDEX_FIRST_PERSON, outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.socket.logic.commands;
+
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.stats.CommandMetrics;
+
+public class MetricsCommandTest {
+
+    @Test
+    public void execute_noCommands_showsNone() {
+        Model model = new ModelManager();
+        assertCommandSuccess(new MetricsCommand(), model, CommandMetrics.MESSAGE_NO_COMMANDS, new ModelManager());
+    }
+
+    @Test
+    public void execute_commandsRecorded_showsSummary() {
+        Model model = new ModelManager();
+        model.getCommandMetrics().record("list", CommandMetrics.Phase.PARSE, 1_000_000);
+        String expectedMessage = model.getCommandMetrics().getSummary();
+        assertCommandSuccess(new MetricsCommand(), model, expectedMessage, new ModelManager());
+    }
+}
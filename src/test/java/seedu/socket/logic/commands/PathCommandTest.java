@@ -0,0 +1,79 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.CARL;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.commons.core.index.Index;
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.project.Project;
+import seedu.socket.testutil.ProjectBuilder;
+import seedu.socket.testutil.TypicalProjects;
+
+public class PathCommandTest {
+
+    @Test
+    public void equals() {
+        PathCommand pathCommand = new PathCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+
+        // same object -> returns true
+        assertTrue(pathCommand.equals(pathCommand));
+
+        // same values -> returns true
+        assertTrue(pathCommand.equals(new PathCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+
+        // different types -> returns false
+        assertFalse(pathCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(pathCommand.equals(null));
+
+        // different indexes -> returns false
+        assertFalse(pathCommand.equals(new PathCommand(INDEX_SECOND_PERSON, INDEX_FIRST_PERSON)));
+    }
+
+    @Test
+    public void execute_connected_listsPath() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Project bridge = new ProjectBuilder().withName("Bridge").withMembers(BENSON, CARL).build();
+        model.addProject(bridge);
+        Model expectedModel = new ModelManager(model.getSocket(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person.isSamePerson(ALICE) || person.isSamePerson(BENSON)
+                || person.isSamePerson(CARL));
+
+        String expectedMessage = String.format(PathCommand.MESSAGE_SUCCESS,
+                ALICE.getName() + " -> " + BENSON.getName() + " -> " + CARL.getName());
+        assertCommandSuccess(new PathCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_notConnected_listUnchanged() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Model expectedModel = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+
+        String expectedMessage = String.format(PathCommand.MESSAGE_NO_PATH, ALICE.getName(), CARL.getName());
+        assertCommandSuccess(new PathCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new PathCommand(INDEX_FIRST_PERSON, outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.DANIEL;
+import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.person.predicate.QueryPredicate;
+import seedu.socket.model.person.predicate.QueryPredicate.And;
+import seedu.socket.model.person.predicate.QueryPredicate.Field;
+import seedu.socket.model.person.predicate.QueryPredicate.Not;
+import seedu.socket.model.person.predicate.QueryPredicate.Term;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalSocket(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalSocket(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand friendsCommand = new QueryCommand(new Term(Field.TAG, "friends"));
+        QueryCommand javaCommand = new QueryCommand(new Term(Field.LANGUAGE, "java"));
+
+        // same object -> returns true
+        assertTrue(friendsCommand.equals(friendsCommand));
+
+        // same values -> returns true
+        assertTrue(friendsCommand.equals(new QueryCommand(new Term(Field.TAG, "friends"))));
+
+        // different types -> returns false
+        assertFalse(friendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(friendsCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(friendsCommand.equals(javaCommand));
+    }
+
+    @Test
+    public void execute_friendsWithoutLanguages_personsFound() {
+        QueryPredicate query = new And(Arrays.asList(new Term(Field.TAG, "friends"),
+                new Not(new Term(Field.TAG, "owesMoney")), new Not(new Term(Field.LANGUAGE, "java"))));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(new QueryCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.AMY;
+import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.commons.core.Messages;
+import seedu.socket.commons.core.index.Index;
+import seedu.socket.commons.core.index.Target;
+import seedu.socket.logic.commands.exceptions.CommandException;
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.Socket;
+import seedu.socket.model.UserPrefs;
+
+public class RunCommandTest {
+    private static final Path SCRIPT = Paths.get("script.txt");
+
+    private final Model model = new ModelManager(getTypicalSocket(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_committedOnce() throws CommandException {
+        Socket originalSocket = new Socket(model.getSocket());
+        RunCommand runCommand = new RunCommand(SCRIPT, Map.of(
+                1, new AddCommand(AMY),
+                3, new DeleteCommand(Target.fromKey(ALICE.getName().fullName))));
+
+        CommandResult result = runCommand.execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, SCRIPT), result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(ALICE));
+        assertTrue(model.hasUnsavedChanges());
+
+        // a single undo reverts every command in the script
+        model.undoSocket();
+        assertEquals(originalSocket, model.getSocket());
+        assertFalse(model.canUndoSocket());
+    }
+
+    @Test
+    public void execute_commandFails_rolledBack() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 2);
+        RunCommand runCommand = new RunCommand(SCRIPT, Map.of(
+                1, new AddCommand(AMY),
+                2, new DeleteCommand(outOfBoundIndex)));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, SCRIPT,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertFalse(model.canUndoSocket());
+        assertFalse(model.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_undoWithinScript_failsAndRollsBack() {
+        model.addPerson(AMY);
+        model.commitSocket();
+        RunCommand runCommand = new RunCommand(SCRIPT, Map.of(
+                1, new DeleteCommand(Target.fromKey(ALICE.getName().fullName)),
+                2, new UndoCommand()));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, SCRIPT,
+                UndoCommand.MESSAGE_CANNOT_UNDO));
+        assertTrue(model.canUndoSocket());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(SCRIPT, Map.of(1, new AddCommand(AMY)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(SCRIPT, Map.of(1, new AddCommand(AMY)))));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"), Map.of(1, new AddCommand(AMY)))));
+
+        // different line -> returns false
+        assertFalse(runCommand.equals(new RunCommand(SCRIPT, Map.of(2, new AddCommand(AMY)))));
+    }
+}
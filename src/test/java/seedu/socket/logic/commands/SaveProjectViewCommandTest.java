@@ -0,0 +1,130 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.socket.model.Model.PREDICATE_SHOW_ALL_PROJECTS;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.index.ProjectTimeIndex;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.project.ProjectDeadline;
+import seedu.socket.testutil.ProjectBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SaveProjectViewCommand},
+ * {@code ShowProjectViewCommand} and {@code DeleteProjectViewCommand}.
+ */
+public class SaveProjectViewCommandTest {
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final UpcomingCommand DUE_THIS_WEEK = new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 7);
+
+    private Model model = new ModelManager();
+    private Project dueToday;
+    private Project dueNextMonth;
+
+    @BeforeEach
+    public void setUp() {
+        dueToday = buildProject("Today", TODAY);
+        dueNextMonth = buildProject("Next month", TODAY.plusDays(30));
+        model.addProject(dueNextMonth);
+        model.addProject(dueToday);
+    }
+
+    @Test
+    public void equals() {
+        SaveProjectViewCommand dueCommand = new SaveProjectViewCommand("due", DUE_THIS_WEEK);
+
+        // same object -> returns true
+        assertTrue(dueCommand.equals(dueCommand));
+
+        // same values, name in different case -> returns true
+        assertTrue(dueCommand.equals(
+                new SaveProjectViewCommand("Due", new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 7))));
+
+        // different types -> returns false
+        assertFalse(dueCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(dueCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(dueCommand.equals(new SaveProjectViewCommand("soon", DUE_THIS_WEEK)));
+
+        // different period -> returns false
+        assertFalse(dueCommand.equals(
+                new SaveProjectViewCommand("due", new UpcomingCommand(ProjectTimeIndex.Field.MEETING, 7))));
+    }
+
+    @Test
+    public void execute_saveProjectView_viewShown() {
+        CommandResult result = new SaveProjectViewCommand("due", DUE_THIS_WEEK).execute(model);
+        assertEquals(String.format(SaveProjectViewCommand.MESSAGE_SUCCESS, "due", 1), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(dueToday), model.getFilteredProjectList());
+    }
+
+    @Test
+    public void execute_showProjectViewAfterEdits_viewUpToDate() throws Exception {
+        new SaveProjectViewCommand("due", DUE_THIS_WEEK).execute(model);
+        model.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+
+        Project dueTomorrow = buildProject("Tomorrow", TODAY.plusDays(1));
+        model.addProject(dueTomorrow);
+        Project postponed = new ProjectBuilder(dueToday)
+                .withProjectDeadline(TODAY.plusDays(20).atTime(12, 0).format(ProjectDeadline.FORMAT)).build();
+        model.setProject(dueToday, postponed);
+
+        CommandResult result = new ShowProjectViewCommand("DUE").execute(model);
+        assertEquals(String.format(ShowProjectViewCommand.MESSAGE_SUCCESS, "DUE", 1), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(dueTomorrow), model.getFilteredProjectList());
+
+        // the shown view keeps following the list
+        Project brought = new ProjectBuilder(dueNextMonth)
+                .withProjectDeadline(TODAY.plusDays(2).atTime(12, 0).format(ProjectDeadline.FORMAT)).build();
+        model.setProject(dueNextMonth, brought);
+        assertEquals(Arrays.asList(brought, dueTomorrow), model.getFilteredProjectList());
+    }
+
+    @Test
+    public void execute_showMissingProjectView_throwsCommandException() {
+        assertCommandFailure(new ShowProjectViewCommand("due"), model,
+                String.format(ShowProjectViewCommand.MESSAGE_VIEW_NOT_FOUND, "due"));
+    }
+
+    @Test
+    public void execute_deleteShownProjectView_allProjectsShown() throws Exception {
+        new SaveProjectViewCommand("due", DUE_THIS_WEEK).execute(model);
+
+        CommandResult result = new DeleteProjectViewCommand("due").execute(model);
+        assertEquals(String.format(DeleteProjectViewCommand.MESSAGE_SUCCESS, "due"), result.getFeedbackToUser());
+        assertFalse(model.hasProjectView("due"));
+        assertEquals(model.getSocket().getProjectList(), model.getFilteredProjectList());
+
+        assertCommandFailure(new DeleteProjectViewCommand("due"), model,
+                String.format(ShowProjectViewCommand.MESSAGE_VIEW_NOT_FOUND, "due"));
+    }
+
+    @Test
+    public void execute_personViewShown_projectViewsSeparate() throws Exception {
+        new SaveProjectViewCommand("due", DUE_THIS_WEEK).execute(model);
+
+        assertFalse(model.hasPersonView("due"));
+        assertCommandFailure(new ShowViewCommand("due"), model,
+                String.format(ShowViewCommand.MESSAGE_VIEW_NOT_FOUND, "due"));
+    }
+
+    private static Project buildProject(String name, LocalDate deadline) {
+        return new ProjectBuilder().withName(name)
+                .withProjectDeadline(deadline.atTime(12, 0).format(ProjectDeadline.FORMAT))
+                .withProjectMeeting("").build();
+    }
+}
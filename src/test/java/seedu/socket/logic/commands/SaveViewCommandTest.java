@@ -0,0 +1,102 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.socket.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.AMY;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.DANIEL;
+import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.predicate.QueryPredicate.Field;
+import seedu.socket.model.person.predicate.QueryPredicate.Term;
+import seedu.socket.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SaveViewCommand}, {@code ShowViewCommand}
+ * and {@code DeleteViewCommand}.
+ */
+public class SaveViewCommandTest {
+    private static final Term FRIENDS = new Term(Field.TAG, "friends");
+
+    private Model model = new ModelManager(getTypicalSocket(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SaveViewCommand friendsCommand = new SaveViewCommand("friends", FRIENDS);
+
+        // same object -> returns true
+        assertTrue(friendsCommand.equals(friendsCommand));
+
+        // same values, name in different case -> returns true
+        assertTrue(friendsCommand.equals(new SaveViewCommand("Friends", new Term(Field.TAG, "friends"))));
+
+        // different types -> returns false
+        assertFalse(friendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(friendsCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(friendsCommand.equals(new SaveViewCommand("pals", FRIENDS)));
+
+        // different query -> returns false
+        assertFalse(friendsCommand.equals(new SaveViewCommand("friends", new Term(Field.LANGUAGE, "java"))));
+    }
+
+    @Test
+    public void execute_saveView_viewShown() {
+        CommandResult result = new SaveViewCommand("friends", FRIENDS).execute(model);
+        assertEquals(String.format(SaveViewCommand.MESSAGE_SUCCESS, "friends", 3), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_showViewAfterEdits_viewUpToDate() throws Exception {
+        new SaveViewCommand("friends", FRIENDS).execute(model);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        Person amyFriend = new PersonBuilder(AMY).withTags("friends").build();
+        model.addPerson(amyFriend);
+        model.deletePerson(BENSON);
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withTags().build());
+
+        CommandResult result = new ShowViewCommand("FRIENDS").execute(model);
+        assertEquals(String.format(ShowViewCommand.MESSAGE_SUCCESS, "FRIENDS", 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(DANIEL, amyFriend), model.getFilteredPersonList());
+
+        // the shown view keeps following the list
+        model.deletePerson(DANIEL);
+        assertEquals(Arrays.asList(amyFriend), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_showMissingView_throwsCommandException() {
+        assertCommandFailure(new ShowViewCommand("friends"), model,
+                String.format(ShowViewCommand.MESSAGE_VIEW_NOT_FOUND, "friends"));
+    }
+
+    @Test
+    public void execute_deleteShownView_allPersonsShown() throws Exception {
+        new SaveViewCommand("friends", FRIENDS).execute(model);
+
+        CommandResult result = new DeleteViewCommand("friends").execute(model);
+        assertEquals(String.format(DeleteViewCommand.MESSAGE_SUCCESS, "friends"), result.getFeedbackToUser());
+        assertFalse(model.hasPersonView("friends"));
+        assertEquals(model.getSocket().getPersonList(), model.getFilteredPersonList());
+
+        assertCommandFailure(new DeleteViewCommand("friends"), model,
+                String.format(ShowViewCommand.MESSAGE_VIEW_NOT_FOUND, "friends"));
+    }
+}
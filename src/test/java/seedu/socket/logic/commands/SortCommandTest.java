@@ -8,6 +8,7 @@ import static seedu.socket.model.person.Person.CATEGORY_EMAIL;
 import static seedu.socket.model.person.Person.CATEGORY_GITHUB;
 import static seedu.socket.model.person.Person.CATEGORY_NAME;
 import static seedu.socket.model.person.Person.CATEGORY_PHONE;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -50,35 +51,35 @@ class SortCommandTest {
 
     @Test
     public void execute_sortByName() {
-        expectedModel.sortPersonList(CATEGORY_NAME);
+        expectedModel.sortPersonList(CATEGORY_NAME, NO_LIMIT);
         assertCommandSuccess(new SortCommand(CATEGORY_NAME), model, SortCommand.MESSAGE_SUCCESS
             + CATEGORY_NAME, expectedModel);
     }
 
     @Test
     public void execute_sortByPhone() {
-        expectedModel.sortPersonList(CATEGORY_PHONE);
+        expectedModel.sortPersonList(CATEGORY_PHONE, NO_LIMIT);
         assertCommandSuccess(new SortCommand(CATEGORY_PHONE), model, SortCommand.MESSAGE_SUCCESS
             + CATEGORY_PHONE, expectedModel);
     }
 
     @Test
     public void execute_sortByEmail() {
-        expectedModel.sortPersonList(CATEGORY_EMAIL);
+        expectedModel.sortPersonList(CATEGORY_EMAIL, NO_LIMIT);
         assertCommandSuccess(new SortCommand(CATEGORY_EMAIL), model, SortCommand.MESSAGE_SUCCESS
             + CATEGORY_EMAIL, expectedModel);
     }
 
     @Test
     public void execute_sortByAddress() {
-        expectedModel.sortPersonList(CATEGORY_ADDRESS);
+        expectedModel.sortPersonList(CATEGORY_ADDRESS, NO_LIMIT);
         assertCommandSuccess(new SortCommand(CATEGORY_ADDRESS), model, SortCommand.MESSAGE_SUCCESS
             + CATEGORY_ADDRESS, expectedModel);
     }
 
     @Test
     public void execute_sortByGithub() {
-        expectedModel.sortPersonList(CATEGORY_GITHUB);
+        expectedModel.sortPersonList(CATEGORY_GITHUB, NO_LIMIT);
         assertCommandSuccess(new SortCommand(CATEGORY_GITHUB), model, SortCommand.MESSAGE_SUCCESS
             + CATEGORY_GITHUB, expectedModel);
     }
@@ -7,6 +7,7 @@ import static seedu.socket.model.project.Project.PROJ_DEADLINE;
 import static seedu.socket.model.project.Project.PROJ_NAME;
 import static seedu.socket.model.project.Project.PROJ_REPO_HOST;
 import static seedu.socket.model.project.Project.PROJ_REPO_NAME;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -49,28 +50,28 @@ class SortProjectCommandTest {
 
     @Test
     public void execute_sortByName() {
-        expectedModel.sortProjectList(PROJ_NAME);
+        expectedModel.sortProjectList(PROJ_NAME, NO_LIMIT);
         assertCommandSuccess(new SortProjectCommand(PROJ_NAME), model, SortProjectCommand.MESSAGE_SUCCESS
             + PROJ_NAME, expectedModel);
     }
 
     @Test
     public void execute_sortByDeadline() {
-        expectedModel.sortProjectList(PROJ_DEADLINE);
+        expectedModel.sortProjectList(PROJ_DEADLINE, NO_LIMIT);
         assertCommandSuccess(new SortProjectCommand(PROJ_DEADLINE), model, SortProjectCommand.MESSAGE_SUCCESS
             + PROJ_DEADLINE, expectedModel);
     }
 
     @Test
     public void execute_sortByRepoHost() {
-        expectedModel.sortProjectList(PROJ_REPO_HOST);
+        expectedModel.sortProjectList(PROJ_REPO_HOST, NO_LIMIT);
         assertCommandSuccess(new SortProjectCommand(PROJ_REPO_HOST), model, SortProjectCommand.MESSAGE_SUCCESS
             + PROJ_REPO_HOST, expectedModel);
     }
 
     @Test
     public void execute_sortByRepoName() {
-        expectedModel.sortProjectList(PROJ_REPO_NAME);
+        expectedModel.sortProjectList(PROJ_REPO_NAME, NO_LIMIT);
         assertCommandSuccess(new SortProjectCommand(PROJ_REPO_NAME), model, SortProjectCommand.MESSAGE_SUCCESS
             + PROJ_REPO_NAME, expectedModel);
     }
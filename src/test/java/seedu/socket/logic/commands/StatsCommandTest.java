@@ -0,0 +1,34 @@
+package seedu.socket.logic.commands;
+
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.testutil.TypicalProjects;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptySocket_showsNone() {
+        Model model = new ModelManager();
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 0, 0, StatsCommand.MESSAGE_NONE,
+                StatsCommand.MESSAGE_NONE, StatsCommand.MESSAGE_NONE, StatsCommand.MESSAGE_NONE);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void execute_typicalSocket_showsMostFrequentFirst() {
+        Model model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        Model expectedModel = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 7, 3,
+                "Alice Pauline (1), Benson Meier (1), Carl Kurz (1), Daniel Meier (1), Elle Meyer (1), "
+                        + "Fiona Kunz (1)",
+                "friends (3), owesmoney (1)",
+                "Python (2), C (1), Java (1), JavaScript (1)",
+                "alice-pauline (1), benson-meier (1), carl-kurz (1)");
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.socket.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.commons.core.Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW;
+import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.index.ProjectTimeIndex;
+import seedu.socket.model.project.Project;
+import seedu.socket.model.project.ProjectDeadline;
+import seedu.socket.testutil.ProjectBuilder;
+
+public class UpcomingCommandTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private Model model;
+    private Model expectedModel;
+    private Project dueToday;
+    private Project dueNextWeek;
+    private Project overdue;
+
+    @BeforeEach
+    public void setUp() {
+        dueToday = buildProject("Today", TODAY);
+        dueNextWeek = buildProject("Next week", TODAY.plusDays(7));
+        overdue = buildProject("Overdue", TODAY.minusDays(1));
+
+        model = new ModelManager();
+        expectedModel = new ModelManager();
+        for (Project project : Arrays.asList(overdue, dueNextWeek, dueToday)) {
+            model.addProject(project);
+            expectedModel.addProject(project);
+        }
+    }
+
+    @Test
+    public void equals() {
+        UpcomingCommand deadlineCommand = new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 7);
+
+        // same object -> returns true
+        assertTrue(deadlineCommand.equals(deadlineCommand));
+
+        // same values -> returns true
+        assertTrue(deadlineCommand.equals(new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 7)));
+
+        // different types -> returns false
+        assertFalse(deadlineCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(deadlineCommand.equals(null));
+
+        // different field -> returns false
+        assertFalse(deadlineCommand.equals(new UpcomingCommand(ProjectTimeIndex.Field.MEETING, 7)));
+
+        // different days -> returns false
+        assertFalse(deadlineCommand.equals(new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 0)));
+    }
+
+    @Test
+    public void execute_today_onlyProjectsDueToday() {
+        expectedModel.updateFilteredProjectList(dueToday::equals);
+        assertCommandSuccess(new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 0), model,
+                String.format(MESSAGE_PROJECTS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Collections.singletonList(dueToday), model.getFilteredProjectList());
+    }
+
+    @Test
+    public void execute_nextWeek_excludesOverdueProjects() {
+        expectedModel.updateFilteredProjectList(project -> !project.equals(overdue));
+        assertCommandSuccess(new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 7), model,
+                String.format(MESSAGE_PROJECTS_LISTED_OVERVIEW, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_noMeetings_noProjectFound() {
+        expectedModel.updateFilteredProjectList(unused -> false);
+        assertCommandSuccess(new UpcomingCommand(ProjectTimeIndex.Field.MEETING, 7), model,
+                String.format(MESSAGE_PROJECTS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
+    private static Project buildProject(String name, LocalDate deadline) {
+        return new ProjectBuilder().withName(name)
+                .withProjectDeadline(deadline.atTime(12, 0).format(ProjectDeadline.FORMAT))
+                .withProjectMeeting("").build();
+    }
+}
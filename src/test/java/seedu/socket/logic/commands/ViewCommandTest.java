@@ -7,6 +7,8 @@ import static seedu.socket.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.socket.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.CARL;
 import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
 
 import org.junit.jupiter.api.Test;
@@ -16,7 +18,9 @@ import seedu.socket.commons.core.index.Index;
 import seedu.socket.model.Model;
 import seedu.socket.model.ModelManager;
 import seedu.socket.model.UserPrefs;
+import seedu.socket.model.index.PersonKeyIndex;
 import seedu.socket.model.person.Person;
+import seedu.socket.testutil.PersonBuilder;
 
 public class ViewCommandTest {
     private Model model = new ModelManager(getTypicalSocket(), new UserPrefs());
@@ -71,6 +75,41 @@ public class ViewCommandTest {
         assertCommandFailure(viewCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_existingKey_success() {
+        ViewCommand viewCommand = new ViewCommand(PersonKeyIndex.Field.PROFILE, "CARL-KURZ");
+
+        String expectedMessage = String.format(ViewCommand.MESSAGE_VIEW_PERSON_SUCCESS, CARL);
+
+        ModelManager expectedModel = new ModelManager(model.getSocket(), new UserPrefs());
+        expectedModel.updateViewedPerson(CARL);
+
+        assertCommandSuccess(viewCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sharedKey_listsPersons() {
+        Person aliceTwin = new PersonBuilder().withName("Alice Twin").withEmail(ALICE.getEmail().value).build();
+        model.addPerson(aliceTwin);
+        ViewCommand viewCommand = new ViewCommand(PersonKeyIndex.Field.EMAIL, ALICE.getEmail().value);
+
+        String expectedMessage = String.format(ViewCommand.MESSAGE_MULTIPLE_PERSONS, 2, PersonKeyIndex.Field.EMAIL,
+                ALICE.getEmail().value);
+
+        ModelManager expectedModel = new ModelManager(model.getSocket(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(aliceTwin));
+
+        assertCommandSuccess(viewCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingKey_throwsCommandException() {
+        ViewCommand viewCommand = new ViewCommand(PersonKeyIndex.Field.PHONE, "12345678");
+
+        assertCommandFailure(viewCommand, model,
+                String.format(ViewCommand.MESSAGE_PERSON_NOT_FOUND, PersonKeyIndex.Field.PHONE, "12345678"));
+    }
+
     @Test
     public void equals() {
         ViewCommand viewFirstCommand = new ViewCommand(INDEX_FIRST_PERSON);
@@ -91,6 +130,12 @@ public class ViewCommandTest {
 
         // different person -> returns false
         assertFalse(viewFirstCommand.equals(viewSecondCommand));
+
+        // by key -> compares field and key
+        ViewCommand viewProfileCommand = new ViewCommand(PersonKeyIndex.Field.PROFILE, "alex-yeoh");
+        assertTrue(viewProfileCommand.equals(new ViewCommand(PersonKeyIndex.Field.PROFILE, "alex-yeoh")));
+        assertFalse(viewProfileCommand.equals(new ViewCommand(PersonKeyIndex.Field.EMAIL, "alex-yeoh")));
+        assertFalse(viewProfileCommand.equals(viewFirstCommand));
     }
 
 }
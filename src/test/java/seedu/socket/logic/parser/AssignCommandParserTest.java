@@ -8,6 +8,7 @@ import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PROJECT;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.AssignCommand;
 
 public class AssignCommandParserTest {
@@ -25,6 +26,15 @@ public class AssignCommandParserTest {
         assertParseSuccess(parser, "  \t \n 1   \t  \n 1 \t ", expectedAssignCommand);
     }
 
+    @Test
+    public void parse_validKeys_returnsAssignCommand() {
+        assertParseSuccess(parser, "\"Alex Yeoh\" \"Alpha Project\"",
+                new AssignCommand(Target.fromKey("Alex Yeoh"), Target.fromKey("Alpha Project")));
+        // Index and key mixed
+        assertParseSuccess(parser, " 1  \"Alpha Project\" ",
+                new AssignCommand(Target.fromIndex(INDEX_FIRST_PERSON), Target.fromKey("Alpha Project")));
+    }
+
     @Test
     public void parse_emptyArgs_throwsParseException() {
         // Empty String
@@ -55,5 +65,7 @@ public class AssignCommandParserTest {
         assertParseFailure(parser, "1 a", MESSAGE_INVALID_FORMAT);
         // Invalid person & project index
         assertParseFailure(parser, "a a", MESSAGE_INVALID_FORMAT);
+        // Unclosed person key
+        assertParseFailure(parser, "\"Alex Yeoh 1", MESSAGE_INVALID_FORMAT);
     }
 }
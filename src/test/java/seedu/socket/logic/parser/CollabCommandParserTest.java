@@ -0,0 +1,30 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.logic.commands.CollabCommand;
+
+public class CollabCommandParserTest {
+
+    private CollabCommandParser parser = new CollabCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsCollabCommand() {
+        assertParseSuccess(parser, " 1 ", new CollabCommand(INDEX_FIRST_PERSON, CollabCommand.DEFAULT_HOPS));
+        assertParseSuccess(parser, "1   2", new CollabCommand(INDEX_FIRST_PERSON, 2));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CollabCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+        assertParseFailure(parser, "1 0", expectedMessage);
+        assertParseFailure(parser, "1 2 3", expectedMessage);
+    }
+}
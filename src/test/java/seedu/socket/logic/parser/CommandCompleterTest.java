@@ -0,0 +1,62 @@
+package seedu.socket.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalProjects.getTypicalSocket;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private final Model model = new ModelManager(getTypicalSocket(), new UserPrefs());
+    private final CommandCompleter completer = new CommandCompleter(model);
+
+    @Test
+    public void complete_personName_returnsMatchingNames() {
+        assertEquals(Arrays.asList("Benson Meier"), completer.complete("find n/ben"));
+        assertEquals(Arrays.asList("Alice Pauline"), completer.complete("edit 1 p/98765432 n/Alice P"));
+    }
+
+    @Test
+    public void complete_projectName_returnsMatchingProjects() {
+        assertEquals(Arrays.asList("Alpha Project"), completer.complete("editpj 1 n/al"));
+        assertEquals(Arrays.asList("Bravo Project"), completer.complete("addpj n/b"));
+    }
+
+    @Test
+    public void complete_tagsAndLanguages_returnsMatchingValues() {
+        assertEquals(Arrays.asList("friends"), completer.complete("list t/fr"));
+        assertEquals(Arrays.asList("Java", "JavaScript"), completer.complete("list l/ja"));
+    }
+
+    @Test
+    public void complete_notInCompletableField_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), completer.complete("find"));
+        assertEquals(Collections.emptyList(), completer.complete("add n/Amy p/9"));
+        assertEquals(Collections.emptyList(), completer.complete("list t/friends o"));
+        // no command takes a project through a prefix of its own
+        assertEquals(Collections.emptyList(), completer.complete("find pj/b"));
+    }
+
+    @Test
+    public void complete_modelChanged_reflectsChange() {
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        assertEquals(Arrays.asList("Alicia Pauline"), completer.complete("find n/ali"));
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        assertEquals(Collections.emptyList(), completer.complete("find n/ali"));
+    }
+
+    @Test
+    public void getPartialStart() {
+        assertEquals(7, CommandCompleter.getPartialStart("find n/Al"));
+        assertEquals(-1, CommandCompleter.getPartialStart("find"));
+    }
+}
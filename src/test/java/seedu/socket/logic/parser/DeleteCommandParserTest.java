@@ -7,6 +7,7 @@ import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.commands.DeleteCommand;
 
 /**
@@ -23,6 +24,7 @@ public class DeleteCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PERSON));
+        assertParseSuccess(parser, " \"Alex Yeoh\" ", new DeleteCommand(Target.fromKey("Alex Yeoh")));
     }
 
     @Test
@@ -0,0 +1,59 @@
+package seedu.socket.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.logic.commands.FuzzyFindCommand;
+
+public class FuzzyFindCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE);
+
+    private FuzzyFindCommandParser parser = new FuzzyFindCommandParser();
+
+    @Test
+    public void isFuzzyMode() {
+        assertTrue(FuzzyFindCommandParser.isFuzzyMode(" fuzzy n/alice"));
+        assertFalse(FuzzyFindCommandParser.isFuzzyMode(" n/fuzzy"));
+        assertFalse(FuzzyFindCommandParser.isFuzzyMode(""));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFuzzyFindCommand() {
+        List<String> emptyKeywords = Collections.emptyList();
+        FuzzyFindCommand expectedCommand = new FuzzyFindCommand(Arrays.asList("Bernise", "Alx"),
+                Collections.singletonList("alice-paulin"), emptyKeywords);
+        assertParseSuccess(parser, " fuzzy n/Bernise Alx g/alice-paulin", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " fuzzy \n n/Bernise \n \t Alx  \t g/alice-paulin", expectedCommand);
+
+        // email only
+        assertParseSuccess(parser, " fuzzy e/alice@exmple.com", new FuzzyFindCommand(emptyKeywords,
+                emptyKeywords, Collections.singletonList("alice@exmple.com")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no keywords
+        assertParseFailure(parser, " fuzzy", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " fuzzy n/ ", MESSAGE_INVALID_FORMAT);
+
+        // unexpected preamble
+        assertParseFailure(parser, " fuzzy alice n/alice", MESSAGE_INVALID_FORMAT);
+
+        // field that is not indexed
+        assertParseFailure(parser, " fuzzy n/alice t/friends", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " fuzzy p/9435", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.logic.commands.MergeCommand;
+
+public class MergeCommandParserTest {
+
+    private MergeCommandParser parser = new MergeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMergeCommand() {
+        assertParseSuccess(parser, " 1  2 ", new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "1", expectedMessage);
+        assertParseFailure(parser, "1 a", expectedMessage);
+        assertParseFailure(parser, "1 2 3", expectedMessage);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.socket.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.socket.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.socket.logic.parser.ParserUtil.MESSAGE_INVALID_TARGET;
 import static seedu.socket.testutil.Assert.assertThrows;
 import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -13,6 +14,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.socket.commons.core.index.Target;
 import seedu.socket.logic.parser.exceptions.ParseException;
 import seedu.socket.model.person.Address;
 import seedu.socket.model.person.Email;
@@ -77,6 +79,30 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseTarget_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseTarget("Alex Yeoh"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_TARGET, () -> ParserUtil.parseTarget("\"  \""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_TARGET, () -> ParserUtil.parseTarget("\"a\"b\""));
+    }
+
+    @Test
+    public void parseTarget_validInput_success() throws Exception {
+        assertEquals(Target.fromIndex(INDEX_FIRST_PERSON), ParserUtil.parseTarget("  1  "));
+        assertEquals(Target.fromKey(VALID_NAME), ParserUtil.parseTarget(" \" " + VALID_NAME + " \" "));
+    }
+
+    @Test
+    public void splitTargets_unclosedQuote_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_TARGET, () -> ParserUtil.splitTargets("1 \"Alex Yeoh"));
+    }
+
+    @Test
+    public void splitTargets_validInput_keepsQuotedTargetsWhole() throws Exception {
+        assertEquals(Collections.emptyList(), ParserUtil.splitTargets(WHITESPACE));
+        assertEquals(Arrays.asList("1", "\"Alex  Yeoh\"", "2"), ParserUtil.splitTargets(" 1 \"Alex  Yeoh\"\t2 "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,29 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.logic.commands.PathCommand;
+
+public class PathCommandParserTest {
+
+    private PathCommandParser parser = new PathCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPathCommand() {
+        assertParseSuccess(parser, " 1  2 ", new PathCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PathCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "1", expectedMessage);
+        assertParseFailure(parser, "1 a", expectedMessage);
+        assertParseFailure(parser, "1 2 3", expectedMessage);
+    }
+}
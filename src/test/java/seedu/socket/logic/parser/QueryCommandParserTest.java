@@ -0,0 +1,76 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.logic.commands.QueryCommand;
+import seedu.socket.model.person.predicate.QueryPredicate.And;
+import seedu.socket.model.person.predicate.QueryPredicate.Field;
+import seedu.socket.model.person.predicate.QueryPredicate.Not;
+import seedu.socket.model.person.predicate.QueryPredicate.Or;
+import seedu.socket.model.person.predicate.QueryPredicate.Term;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final Term JAVA = new Term(Field.LANGUAGE, "java");
+    private static final Term COLLEAGUES = new Term(Field.TAG, "colleagues");
+    private static final Term ALUMNI = new Term(Field.TAG, "alumni");
+    private static final Term ALEX = new Term(Field.NAME, "alex");
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_singleTerm_returnsQueryCommand() {
+        assertParseSuccess(parser, " n/alex", new QueryCommand(ALEX));
+        assertParseSuccess(parser, " g/alex-yeoh", new QueryCommand(new Term(Field.PROFILE, "alex-yeoh")));
+        assertParseSuccess(parser, " a/Clementi", new QueryCommand(new Term(Field.ADDRESS, "Clementi")));
+    }
+
+    @Test
+    public void parse_operators_returnsQueryCommand() {
+        QueryCommand expected = new QueryCommand(new And(Arrays.asList(JAVA, COLLEAGUES, new Not(ALUMNI))));
+        assertParseSuccess(parser, " l/java AND t/colleagues AND NOT t/alumni", expected);
+
+        // operators are case-insensitive and AND is implied
+        assertParseSuccess(parser, " l/java t/colleagues not t/alumni", expected);
+    }
+
+    @Test
+    public void parse_precedence_andBindsTighterThanOr() {
+        assertParseSuccess(parser, " n/alex OR l/java AND t/colleagues",
+                new QueryCommand(new Or(Arrays.asList(ALEX, new And(Arrays.asList(JAVA, COLLEAGUES))))));
+        assertParseSuccess(parser, " (n/alex OR l/java) AND t/colleagues",
+                new QueryCommand(new And(Arrays.asList(new Or(Arrays.asList(ALEX, JAVA)), COLLEAGUES))));
+        assertParseSuccess(parser, " NOT (n/alex OR l/java)",
+                new QueryCommand(new Not(new Or(Arrays.asList(ALEX, JAVA)))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // empty query
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+
+        // unknown prefix or missing keyword
+        assertParseFailure(parser, " x/alex", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " alex", MESSAGE_INVALID_FORMAT);
+
+        // dangling operators
+        assertParseFailure(parser, " n/alex AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " OR n/alex", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/alex NOT", MESSAGE_INVALID_FORMAT);
+
+        // unbalanced parentheses
+        assertParseFailure(parser, " (n/alex OR l/java", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/alex)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " ()", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.socket.commons.core.index.Target;
+import seedu.socket.commons.util.FileUtil;
+import seedu.socket.logic.commands.AssignCommand;
+import seedu.socket.logic.commands.DeleteCommand;
+import seedu.socket.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+    @TempDir
+    public Path testFolder;
+
+    private RunCommandParser parser = new RunCommandParser(new SocketParser());
+
+    @Test
+    public void parse_validScript_returnsRunCommand() throws IOException {
+        Path script = writeScript("# onboarding\n" + DeleteCommand.COMMAND_WORD + " 1\n\n"
+                + DeleteCommand.COMMAND_WORD + " \"Alex Yeoh\"\r\n  " + AssignCommand.COMMAND_WORD + " 1 \"Alpha\" \n");
+        RunCommand expectedCommand = new RunCommand(script, Map.of(
+                2, new DeleteCommand(INDEX_FIRST_PERSON),
+                4, new DeleteCommand(Target.fromKey("Alex Yeoh")),
+                5, new AssignCommand(Target.fromIndex(INDEX_FIRST_PERSON), Target.fromKey("Alpha"))));
+
+        assertParseSuccess(parser, " " + script + " ", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws IOException {
+        Path script = writeScript(DeleteCommand.COMMAND_WORD + " 1\n" + DeleteCommand.COMMAND_WORD + " a\n");
+        assertParseFailure(parser, script.toString(), String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2, script,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE)));
+    }
+
+    @Test
+    public void parse_disallowedCommand_throwsParseException() throws IOException {
+        Path script = writeScript("undo\n");
+        assertParseFailure(parser, script.toString(), String.format(RunCommandParser.MESSAGE_INVALID_LINE, 1, script,
+                String.format(RunCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, "undo")));
+    }
+
+    private Path writeScript(String content) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        FileUtil.writeToFile(script, content);
+        return script;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.logic.commands.DeleteProjectViewCommand;
+import seedu.socket.logic.commands.SaveProjectViewCommand;
+import seedu.socket.logic.commands.ShowProjectViewCommand;
+import seedu.socket.logic.commands.UpcomingCommand;
+import seedu.socket.model.index.ProjectTimeIndex;
+
+public class SaveProjectViewCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveProjectViewCommand.MESSAGE_USAGE);
+
+    private SaveProjectViewCommandParser parser = new SaveProjectViewCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSaveProjectViewCommand() {
+        assertParseSuccess(parser, " meetings meeting 3", new SaveProjectViewCommand("meetings",
+                new UpcomingCommand(ProjectTimeIndex.Field.MEETING, 3)));
+
+        // no period -> deadlines in the default number of days
+        assertParseSuccess(parser, " due ", new SaveProjectViewCommand("due",
+                new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, UpcomingCommand.DEFAULT_DAYS)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no name
+        assertParseFailure(parser, " ", MESSAGE_INVALID_FORMAT);
+
+        // non-alphanumeric name
+        assertParseFailure(parser, " due-soon deadline", MESSAGE_INVALID_FORMAT);
+
+        // invalid period
+        assertParseFailure(parser, " due deadline soon", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_viewName_returnsShowAndDeleteProjectViewCommands() {
+        assertParseSuccess(new ShowProjectViewCommandParser(), " due ", new ShowProjectViewCommand("due"));
+        assertParseSuccess(new DeleteProjectViewCommandParser(), " due", new DeleteProjectViewCommand("due"));
+
+        assertParseFailure(new ShowProjectViewCommandParser(), " ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowProjectViewCommand.MESSAGE_USAGE));
+        assertParseFailure(new DeleteProjectViewCommandParser(), " due soon",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteProjectViewCommand.MESSAGE_USAGE));
+    }
+}
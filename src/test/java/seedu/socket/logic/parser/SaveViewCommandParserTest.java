@@ -0,0 +1,53 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.logic.commands.DeleteViewCommand;
+import seedu.socket.logic.commands.SaveViewCommand;
+import seedu.socket.logic.commands.ShowViewCommand;
+import seedu.socket.model.person.predicate.QueryPredicate.And;
+import seedu.socket.model.person.predicate.QueryPredicate.Field;
+import seedu.socket.model.person.predicate.QueryPredicate.Term;
+
+public class SaveViewCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE);
+
+    private SaveViewCommandParser parser = new SaveViewCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSaveViewCommand() {
+        assertParseSuccess(parser, " javafriends l/java t/friends", new SaveViewCommand("javafriends",
+                new And(Arrays.asList(new Term(Field.LANGUAGE, "java"), new Term(Field.TAG, "friends")))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no query
+        assertParseFailure(parser, " javafriends", MESSAGE_INVALID_FORMAT);
+
+        // non-alphanumeric name
+        assertParseFailure(parser, " java-friends l/java", MESSAGE_INVALID_FORMAT);
+
+        // invalid query
+        assertParseFailure(parser, " javafriends l/java AND", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_viewName_returnsShowAndDeleteViewCommands() {
+        assertParseSuccess(new ShowViewCommandParser(), " javafriends ", new ShowViewCommand("javafriends"));
+        assertParseSuccess(new DeleteViewCommandParser(), " javafriends", new DeleteViewCommand("javafriends"));
+
+        assertParseFailure(new ShowViewCommandParser(), " ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowViewCommand.MESSAGE_USAGE));
+        assertParseFailure(new DeleteViewCommandParser(), " java friends",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteViewCommand.MESSAGE_USAGE));
+    }
+}
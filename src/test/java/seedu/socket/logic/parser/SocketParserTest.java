@@ -32,6 +32,7 @@ import static seedu.socket.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.socket.testutil.Assert.assertThrows;
 import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PROJECT;
+import static seedu.socket.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -45,28 +46,45 @@ import seedu.socket.logic.commands.AddProjectCommand;
 import seedu.socket.logic.commands.AssignCommand;
 import seedu.socket.logic.commands.ClearCommand;
 import seedu.socket.logic.commands.ClearProjectCommand;
+import seedu.socket.logic.commands.CollabCommand;
+import seedu.socket.logic.commands.DedupeCommand;
 import seedu.socket.logic.commands.DeleteCommand;
 import seedu.socket.logic.commands.DeleteProjectCommand;
+import seedu.socket.logic.commands.DeleteProjectViewCommand;
+import seedu.socket.logic.commands.DeleteViewCommand;
 import seedu.socket.logic.commands.EditCommand;
 import seedu.socket.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.socket.logic.commands.EditProjectCommand;
 import seedu.socket.logic.commands.ExitCommand;
 import seedu.socket.logic.commands.FindCommand;
+import seedu.socket.logic.commands.FuzzyFindCommand;
 import seedu.socket.logic.commands.HelpCommand;
 import seedu.socket.logic.commands.ListCommand;
+import seedu.socket.logic.commands.MergeCommand;
+import seedu.socket.logic.commands.MetricsCommand;
+import seedu.socket.logic.commands.PathCommand;
 import seedu.socket.logic.commands.RedoCommand;
 import seedu.socket.logic.commands.RemoveCommand;
 import seedu.socket.logic.commands.RemoveCommand.RemovePersonDescriptor;
 import seedu.socket.logic.commands.RemoveProjectCommand;
+import seedu.socket.logic.commands.SaveProjectViewCommand;
+import seedu.socket.logic.commands.SaveViewCommand;
+import seedu.socket.logic.commands.ShowProjectViewCommand;
+import seedu.socket.logic.commands.ShowViewCommand;
 import seedu.socket.logic.commands.SortCommand;
 import seedu.socket.logic.commands.SortProjectCommand;
+import seedu.socket.logic.commands.StatsCommand;
 import seedu.socket.logic.commands.UnassignCommand;
 import seedu.socket.logic.commands.UndoCommand;
+import seedu.socket.logic.commands.UpcomingCommand;
 import seedu.socket.logic.commands.ViewCommand;
 import seedu.socket.logic.parser.exceptions.ParseException;
+import seedu.socket.model.index.ProjectTimeIndex;
 import seedu.socket.model.person.Name;
 import seedu.socket.model.person.Person;
 import seedu.socket.model.person.predicate.FindCommandPersonPredicate;
+import seedu.socket.model.person.predicate.QueryPredicate.Field;
+import seedu.socket.model.person.predicate.QueryPredicate.Term;
 import seedu.socket.model.project.Project;
 import seedu.socket.testutil.EditPersonDescriptorBuilder;
 import seedu.socket.testutil.EditProjectDescriptorBuilder;
@@ -258,6 +276,69 @@ public class SocketParserTest {
                 tagKeywords)), findTagCommand);
     }
 
+    @Test
+    public void parseCommand_fuzzyFind() throws Exception {
+        List<String> emptyKeywords = Collections.emptyList();
+        FuzzyFindCommand command = (FuzzyFindCommand) parser.parseCommand(
+                FindCommand.COMMAND_WORD + " " + FuzzyFindCommand.MODE_WORD + " " + PREFIX_NAME + "bernise");
+        assertEquals(new FuzzyFindCommand(Collections.singletonList("bernise"), emptyKeywords, emptyKeywords),
+                command);
+    }
+
+    @Test
+    public void parseCommand_collaborationGraph() throws Exception {
+        assertEquals(new CollabCommand(INDEX_FIRST_PERSON, 2),
+                parser.parseCommand(CollabCommand.COMMAND_WORD + " 1 2"));
+        assertEquals(new PathCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON),
+                parser.parseCommand(PathCommand.COMMAND_WORD + " 1 1"));
+    }
+
+    @Test
+    public void parseCommand_dedupeAndMerge() throws Exception {
+        assertTrue(parser.parseCommand(DedupeCommand.COMMAND_WORD) instanceof DedupeCommand);
+        assertEquals(new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                parser.parseCommand(MergeCommand.COMMAND_WORD + " 1 2"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3") instanceof MetricsCommand);
+    }
+
+    @Test
+    public void parseCommand_upcoming() throws Exception {
+        assertEquals(new UpcomingCommand(ProjectTimeIndex.Field.MEETING, 0),
+                parser.parseCommand(UpcomingCommand.COMMAND_WORD + " meeting 0"));
+    }
+
+    @Test
+    public void parseCommand_saveView() throws Exception {
+        SaveViewCommand command = (SaveViewCommand) parser.parseCommand(
+                SaveViewCommand.COMMAND_WORD + " javafriends " + PREFIX_LANGUAGE + "java");
+        assertEquals(new SaveViewCommand("javafriends", new Term(Field.LANGUAGE, "java")), command);
+        assertEquals(new ShowViewCommand("javafriends"),
+                parser.parseCommand(ShowViewCommand.COMMAND_WORD + " javafriends"));
+        assertEquals(new DeleteViewCommand("javafriends"),
+                parser.parseCommand(DeleteViewCommand.COMMAND_WORD + " javafriends"));
+    }
+
+    @Test
+    public void parseCommand_saveProjectView() throws Exception {
+        assertEquals(new SaveProjectViewCommand("due", new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 7)),
+                parser.parseCommand(SaveProjectViewCommand.COMMAND_WORD + " due deadline 7"));
+        assertEquals(new ShowProjectViewCommand("due"),
+                parser.parseCommand(ShowProjectViewCommand.COMMAND_WORD + " due"));
+        assertEquals(new DeleteProjectViewCommand("due"),
+                parser.parseCommand(DeleteProjectViewCommand.COMMAND_WORD + " due"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -58,9 +58,25 @@ class SortCommandParserTest {
         assertParseSuccess(parser, "  address  ", expectedSortCommand);
     }
 
+    @Test
+    public void parse_count_returnsTopSortCommand() {
+        assertParseSuccess(parser, "phone 20", new SortCommand("phone", 20));
+
+        // count without category
+        assertParseSuccess(parser, " 5 ", new SortCommand("name", 5));
+    }
+
     @Test
     public void parse_invalidCategory_throwsParseException() {
         assertParseFailure(parser, "sort invalid",
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // zero count
+        assertParseFailure(parser, "phone 0",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // count before category
+        assertParseFailure(parser, "20 phone",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
     }
 }
@@ -0,0 +1,38 @@
+package seedu.socket.logic.parser;
+
+import static seedu.socket.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.socket.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.logic.commands.UpcomingCommand;
+import seedu.socket.model.index.ProjectTimeIndex;
+
+public class UpcomingCommandParserTest {
+
+    private UpcomingCommandParser parser = new UpcomingCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsDefaultUpcomingCommand() {
+        assertParseSuccess(parser, "  ",
+                new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, UpcomingCommand.DEFAULT_DAYS));
+    }
+
+    @Test
+    public void parse_validArgs_returnsUpcomingCommand() {
+        assertParseSuccess(parser, "meeting",
+                new UpcomingCommand(ProjectTimeIndex.Field.MEETING, UpcomingCommand.DEFAULT_DAYS));
+        assertParseSuccess(parser, "0", new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 0));
+        assertParseSuccess(parser, "  deadline   14 ", new UpcomingCommand(ProjectTimeIndex.Field.DEADLINE, 14));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "repo", expectedMessage);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "7 meeting", expectedMessage);
+        assertParseFailure(parser, "meeting 7 7", expectedMessage);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.socket.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import org.junit.jupiter.api.Test;
 
 import seedu.socket.logic.commands.ViewCommand;
+import seedu.socket.model.index.PersonKeyIndex;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -24,8 +25,21 @@ public class ViewCommandParserTest {
         assertParseSuccess(parser, "1", new ViewCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_validKey_returnsViewCommand() {
+        assertParseSuccess(parser, " g/alex-yeoh", new ViewCommand(PersonKeyIndex.Field.PROFILE, "alex-yeoh"));
+        assertParseSuccess(parser, " p/ 91234567 ", new ViewCommand(PersonKeyIndex.Field.PHONE, "91234567"));
+        assertParseSuccess(parser, " e/alexyeoh@example.com",
+                new ViewCommand(PersonKeyIndex.Field.EMAIL, "alexyeoh@example.com"));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " g/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 g/alex-yeoh",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " g/alex-yeoh p/91234567",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
     }
 }
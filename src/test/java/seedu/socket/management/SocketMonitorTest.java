@@ -0,0 +1,89 @@
+package seedu.socket.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.Assert.assertThrows;
+import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.socket.logic.LogicManager;
+import seedu.socket.logic.commands.DeleteCommand;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.storage.JsonSocketStorage;
+import seedu.socket.storage.JsonUserPrefsStorage;
+import seedu.socket.storage.StorageManager;
+
+public class SocketMonitorTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private ModelManager model;
+    private LogicManager logic;
+    private SocketMonitor monitor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(new JsonSocketStorage(temporaryFolder.resolve("socket.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(getTypicalSocket(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+        monitor = new SocketMonitor(logic, model);
+        monitor.register();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        monitor.unregister();
+        logic.stop();
+    }
+
+    @Test
+    public void register_attributesReadOverJmx() throws Exception {
+        SocketMXBean proxy = JMX.newMXBeanProxy(server, SocketMonitor.getObjectName(), SocketMXBean.class);
+        int personCount = getTypicalSocket().getPersonList().size();
+        assertEquals(personCount, proxy.getPersonCount());
+        assertEquals(0, proxy.getUndoDepth());
+        assertEquals(0, proxy.getSaveCount());
+        assertEquals(Collections.emptyMap(), proxy.getCommandCounts());
+
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+
+        assertEquals(personCount - 1, proxy.getPersonCount());
+        assertEquals(getTypicalSocket().getProjectList().size(), proxy.getProjectCount());
+        assertEquals(1, proxy.getUndoDepth());
+        assertEquals(model.getUndoHistorySizeEstimate(), proxy.getUndoHistorySizeEstimate());
+        assertEquals(1, proxy.getSaveCount());
+        assertEquals(Files.size(temporaryFolder.resolve("socket.json")), proxy.getLastSaveBytes());
+        assertTrue(proxy.getLastSaveMillis() > 0);
+        assertEquals(0, proxy.getPendingCommandCount());
+        assertEquals(Collections.singletonMap(DeleteCommand.COMMAND_WORD, 1L), proxy.getCommandCounts());
+    }
+
+    @Test
+    public void register_alreadyRegistered_throwsInstanceAlreadyExistsException() {
+        assertThrows(InstanceAlreadyExistsException.class, () -> new SocketMonitor(logic, model).register());
+    }
+
+    @Test
+    public void unregister_notRegistered_doesNothing() {
+        monitor.unregister();
+        assertFalse(server.isRegistered(SocketMonitor.getObjectName()));
+        monitor.unregister();
+        assertFalse(server.isRegistered(SocketMonitor.getObjectName()));
+    }
+}
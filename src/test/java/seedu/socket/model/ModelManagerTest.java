@@ -2,23 +2,36 @@ package seedu.socket.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.socket.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.socket.model.Model.PREDICATE_SHOW_ALL_PROJECTS;
+import static seedu.socket.model.person.Person.CATEGORY_NAME;
+import static seedu.socket.model.project.Project.PROJ_NAME;
 import static seedu.socket.testutil.Assert.assertThrows;
+import static seedu.socket.testutil.FlightRecorderUtil.recordEvents;
 import static seedu.socket.testutil.TypicalPersons.ALICE;
 import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.CARL;
 import static seedu.socket.testutil.TypicalProjects.ALPHA;
+import static seedu.socket.testutil.TypicalProjects.BRAVO;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.socket.commons.core.GuiSettings;
 import seedu.socket.model.person.predicate.FindCommandNamePredicate;
 import seedu.socket.model.person.predicate.FindCommandProjectNamePredicate;
+import seedu.socket.testutil.PersonBuilder;
 import seedu.socket.testutil.SocketBuilder;
 
 public class ModelManagerTest {
@@ -32,6 +45,104 @@ public class ModelManagerTest {
         assertEquals(new Socket(), new Socket(modelManager.getSocket()));
     }
 
+    @Test
+    public void commitBatch_changesCommitted_savesSingleState() {
+        modelManager.startBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.commitSocket();
+        modelManager.addPerson(BENSON);
+        modelManager.commitSocket();
+        assertFalse(modelManager.canUndoSocket());
+        modelManager.commitBatch();
+
+        assertTrue(modelManager.canUndoSocket());
+        modelManager.undoSocket();
+        assertEquals(new Socket(), new Socket(modelManager.getSocket()));
+        assertFalse(modelManager.canUndoSocket());
+    }
+
+    @Test
+    public void rollbackBatch_restoresStateBeforeBatch() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitSocket();
+        modelManager.markSocketSaved();
+        Socket expectedSocket = new Socket(modelManager.getSocket());
+
+        modelManager.startBatch();
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitSocket();
+        modelManager.rollbackBatch();
+
+        assertEquals(expectedSocket, modelManager.getSocket());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.hasUnsavedChanges());
+        assertTrue(modelManager.canUndoSocket());
+        assertFalse(modelManager.canRedoSocket());
+    }
+
+    @Test
+    public void publishSnapshot_personsChanged_onlyPersonsCopied() {
+        SocketSnapshot before = modelManager.getSocketSnapshot();
+        modelManager.addPerson(ALICE);
+        assertSame(before, modelManager.getSocketSnapshot());
+
+        modelManager.publishSnapshot();
+        SocketSnapshot after = modelManager.getSocketSnapshot();
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertEquals(Arrays.asList(ALICE), after.getPersonList());
+        assertSame(before.getProjectList(), after.getProjectList());
+        assertEquals(0, before.getPersonList().size());
+    }
+
+    @Test
+    public void publishSnapshot_noChanges_snapshotUnchanged() {
+        SocketSnapshot before = modelManager.getSocketSnapshot();
+        modelManager.publishSnapshot();
+        assertSame(before, modelManager.getSocketSnapshot());
+    }
+
+    @Test
+    public void publishSnapshot_duringBatch_publishedWhenBatchEnds() {
+        SocketSnapshot before = modelManager.getSocketSnapshot();
+        modelManager.startBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.publishSnapshot();
+        assertSame(before, modelManager.getSocketSnapshot());
+
+        modelManager.commitBatch();
+        modelManager.publishSnapshot();
+        assertEquals(Arrays.asList(ALICE), modelManager.getSocketSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getSocketSnapshot_readWhileWriting_consistentSnapshots() throws Exception {
+        int personCount = 200;
+        AtomicReference<String> inconsistency = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            long lastVersion = 0;
+            while (lastVersion < personCount) {
+                SocketSnapshot snapshot = modelManager.getSocketSnapshot();
+                // each published version adds exactly one person
+                if (snapshot.getVersion() < lastVersion || snapshot.getPersonList().size() != snapshot.getVersion()) {
+                    inconsistency.set(snapshot.toString());
+                    return;
+                }
+                lastVersion = snapshot.getVersion();
+            }
+        });
+        reader.start();
+        for (int i = 0; i < personCount; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Person " + i).build());
+            modelManager.publishSnapshot();
+        }
+        reader.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertFalse(reader.isAlive());
+        assertNull(inconsistency.get());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -117,6 +228,61 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredProjectList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_recording_eventRecorded(@TempDir Path tempDir) throws Throwable {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        FindCommandNamePredicate predicate = new FindCommandNamePredicate(Arrays.asList("Alice"));
+
+        List<RecordedEvent> events = recordEvents("seedu.socket.PersonFilter", tempDir, () ->
+                modelManager.updateFilteredPersonList(predicate));
+
+        assertEquals(1, events.size());
+        assertEquals(FindCommandNamePredicate.class.getName(), events.get(0).getString("predicateType"));
+        assertEquals(2, events.get(0).getInt("inputSize"));
+        assertEquals(1, events.get(0).getInt("matches"));
+    }
+
+    @Test
+    public void sortPersonList_topTwo_storageOrderUnchanged() {
+        modelManager = new ModelManager(new SocketBuilder().withPerson(BENSON).withPerson(CARL).withPerson(ALICE)
+                .build(), new UserPrefs());
+        modelManager.sortPersonList(CATEGORY_NAME, 2);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(BENSON, CARL, ALICE), modelManager.getSocket().getPersonList());
+        assertFalse(modelManager.hasUnsavedChanges());
+
+        // the sort stays in place as the list changes
+        modelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(BENSON, CARL), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.hasUnsavedChanges());
+
+        modelManager.markSocketSaved();
+        assertFalse(modelManager.hasUnsavedChanges());
+    }
+
+    @Test
+    public void sortPersonList_topTwoThenFilterUpdated_everyMatchShownInOrder() {
+        modelManager = new ModelManager(new SocketBuilder().withPerson(BENSON).withPerson(CARL).withPerson(ALICE)
+                .build(), new UserPrefs());
+        modelManager.sortPersonList(CATEGORY_NAME, 2);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortProjectList_topOneThenFilterUpdated_everyMatchShownInOrder() {
+        modelManager = new ModelManager(new SocketBuilder().withProject(BRAVO).withProject(ALPHA).build(),
+                new UserPrefs());
+        modelManager.sortProjectList(PROJ_NAME, 1);
+        assertEquals(Arrays.asList(ALPHA), modelManager.getFilteredProjectList());
+
+        modelManager.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+        assertEquals(Arrays.asList(ALPHA, BRAVO), modelManager.getFilteredProjectList());
+    }
+
     @Test
     public void equals() {
         Socket socket = new SocketBuilder().withPerson(ALICE).withPerson(BENSON).withProject(ALPHA).build();
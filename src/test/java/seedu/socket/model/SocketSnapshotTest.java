@@ -0,0 +1,69 @@
+package seedu.socket.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.Assert.assertThrows;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
+
+import org.junit.jupiter.api.Test;
+
+public class SocketSnapshotTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SocketSnapshot.of(null));
+    }
+
+    @Test
+    public void of_socketModifiedAfterwards_snapshotUnchanged() {
+        Socket socket = getTypicalSocket();
+        SocketSnapshot snapshot = SocketSnapshot.of(socket);
+        socket.removePerson(ALICE);
+
+        assertEquals(0, snapshot.getVersion());
+        assertEquals(getTypicalSocket().getPersonList(), snapshot.getPersonList());
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() {
+        SocketSnapshot snapshot = SocketSnapshot.of(getTypicalSocket());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void next_onlyChangedListsCopied() {
+        Socket socket = getTypicalSocket();
+        SocketSnapshot first = SocketSnapshot.of(socket);
+        socket.removePerson(ALICE);
+
+        SocketSnapshot second = first.next(socket, true, false);
+        assertEquals(1, second.getVersion());
+        assertEquals(socket.getPersonList(), second.getPersonList());
+        assertNotSame(first.getPersonList(), second.getPersonList());
+        assertSame(first.getProjectList(), second.getProjectList());
+    }
+
+    @Test
+    public void equals() {
+        SocketSnapshot snapshot = SocketSnapshot.of(getTypicalSocket());
+
+        // same values -> returns true
+        assertTrue(snapshot.equals(SocketSnapshot.of(getTypicalSocket())));
+
+        // same object -> returns true
+        assertTrue(snapshot.equals(snapshot));
+
+        // null -> returns false
+        assertFalse(snapshot.equals(null));
+
+        // different version -> returns false
+        assertFalse(snapshot.equals(snapshot.next(getTypicalSocket(), false, false)));
+
+        // different persons -> returns false
+        assertFalse(snapshot.equals(SocketSnapshot.of(new Socket())));
+    }
+}
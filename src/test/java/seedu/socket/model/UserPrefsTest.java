@@ -18,4 +18,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setSocketFilePath(null));
     }
 
+    @Test
+    public void setMeetingMinutes_nonPositive_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMeetingMinutes(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMeetingMinutes(-30));
+    }
+
 }
@@ -0,0 +1,72 @@
+package seedu.socket.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.model.VersionedSocket.ESTIMATED_ENTRY_BYTES;
+import static seedu.socket.model.VersionedSocket.ESTIMATED_STATE_BYTES;
+import static seedu.socket.testutil.FlightRecorderUtil.recordEvents;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+public class VersionedSocketTest {
+    private final Socket socket = new Socket();
+    private final VersionedSocket versionedSocket = new VersionedSocket(socket);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_initialState() {
+        assertEquals(1, versionedSocket.getStateCount());
+        assertEquals(0, versionedSocket.getUndoDepth());
+        assertEquals(ESTIMATED_STATE_BYTES, versionedSocket.getRetainedSizeEstimate());
+    }
+
+    @Test
+    public void getRetainedSizeEstimate_undoneStatesDiscardedOnCommit() {
+        socket.addPerson(ALICE);
+        versionedSocket.commit(socket);
+        socket.addPerson(BENSON);
+        versionedSocket.commit(socket);
+        assertEquals(3, versionedSocket.getStateCount());
+        assertEquals(3 * ESTIMATED_STATE_BYTES + 3 * ESTIMATED_ENTRY_BYTES, versionedSocket.getRetainedSizeEstimate());
+
+        versionedSocket.undo();
+        versionedSocket.undo();
+        assertEquals(0, versionedSocket.getUndoDepth());
+        socket.addPerson(CARL);
+        versionedSocket.commit(socket);
+
+        assertEquals(2, versionedSocket.getStateCount());
+        assertEquals(1, versionedSocket.getUndoDepth());
+        assertEquals(2 * ESTIMATED_STATE_BYTES + ESTIMATED_ENTRY_BYTES, versionedSocket.getRetainedSizeEstimate());
+    }
+
+    @Test
+    public void commitUndoRedo_recording_eventsRecorded() throws Throwable {
+        List<RecordedEvent> events = recordEvents("seedu.socket.UndoHistory", testFolder, () -> {
+            socket.addPerson(ALICE);
+            versionedSocket.commit(socket);
+            versionedSocket.undo();
+            versionedSocket.redo();
+        });
+
+        assertEquals(3, events.size());
+        assertEquals(UndoHistoryEvent.COMMIT, events.get(0).getString("operation"));
+        assertEquals(UndoHistoryEvent.UNDO, events.get(1).getString("operation"));
+        assertEquals(0, events.get(1).getInt("undoDepth"));
+        assertEquals(UndoHistoryEvent.REDO, events.get(2).getString("operation"));
+        for (RecordedEvent event : events) {
+            assertEquals(2, event.getInt("stateCount"));
+            assertEquals(versionedSocket.getRetainedSizeEstimate(), event.getLong("retainedSizeEstimate"));
+        }
+    }
+}
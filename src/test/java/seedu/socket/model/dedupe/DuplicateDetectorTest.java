@@ -0,0 +1,91 @@
+package seedu.socket.model.dedupe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.testutil.PersonBuilder;
+import seedu.socket.testutil.TypicalPersons;
+
+public class DuplicateDetectorTest {
+
+    private static final Person ALICE_TYPO = new PersonBuilder().withName("Alice Paulin").build();
+    private static final Person ALICE_SAME_EMAIL = new PersonBuilder().withName("Pauline A")
+            .withEmail("alice@example.com").build();
+
+    private DuplicateDetector detector;
+
+    @BeforeEach
+    public void setUp() {
+        detector = new DuplicateDetector();
+        detector.onReset(TypicalPersons.getTypicalPersons());
+    }
+
+    @Test
+    public void findCandidates_distinctPersons_returnsEmptyList() {
+        assertTrue(detector.findCandidates().isEmpty());
+    }
+
+    @Test
+    public void findCandidates_similarName_returnsPair() {
+        detector.onAdd(ALICE_TYPO);
+        List<DuplicateCandidate> candidates = detector.findCandidates();
+
+        assertEquals(1, candidates.size());
+        DuplicateCandidate candidate = candidates.get(0);
+        assertEquals(ALICE_TYPO, candidate.getFirst()); // pairs are ordered by name
+        assertEquals(ALICE, candidate.getSecond());
+        assertFalse(candidate.hasSharedKey());
+        assertTrue(candidate.getSimilarity() >= DuplicateDetector.SIMILARITY_THRESHOLD);
+    }
+
+    @Test
+    public void findCandidates_sharedEmail_returnsPairFirst() {
+        detector.onAdd(ALICE_TYPO);
+        detector.onAdd(ALICE_SAME_EMAIL);
+        List<DuplicateCandidate> candidates = detector.findCandidates();
+
+        assertEquals(ALICE, candidates.get(0).getFirst());
+        assertEquals(ALICE_SAME_EMAIL, candidates.get(0).getSecond());
+        assertTrue(candidates.get(0).hasSharedKey());
+        assertTrue(candidates.stream().anyMatch(candidate -> candidate.getFirst().equals(ALICE_TYPO)));
+    }
+
+    @Test
+    public void findCandidates_afterRemove_pairDropped() {
+        detector.onAdd(ALICE_TYPO);
+        detector.onRemove(ALICE_TYPO);
+        assertTrue(detector.findCandidates().isEmpty());
+
+        detector.onSet(BENSON, ALICE_SAME_EMAIL);
+        assertEquals(1, detector.findCandidates().size());
+    }
+
+    @Test
+    public void onReset_replacesPersons() {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, ALICE_TYPO));
+        detector.onReset(persons);
+        assertEquals(1, detector.findCandidates().size());
+
+        detector.onReset(new ArrayList<>());
+        assertTrue(detector.findCandidates().isEmpty());
+    }
+
+    @Test
+    public void getShingles_prefixedByField() {
+        Person person = new PersonBuilder().withName("Al Yeo").withEmail("al@example.com").withPhone("91234567")
+                .withProfile("AlYeo").build();
+        assertEquals(Arrays.asList("n:aly", "n:lye", "n:yeo", "e:al@example.com", "l:al", "p:91234567", "g:alyeo"),
+                new ArrayList<>(DuplicateDetector.getShingles(person)));
+    }
+}
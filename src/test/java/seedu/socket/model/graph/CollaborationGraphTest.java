@@ -0,0 +1,122 @@
+package seedu.socket.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.testutil.Assert.assertThrows;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.CARL;
+import static seedu.socket.testutil.TypicalPersons.DANIEL;
+import static seedu.socket.testutil.TypicalPersons.ELLE;
+import static seedu.socket.testutil.TypicalPersons.FIONA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.testutil.PersonBuilder;
+import seedu.socket.testutil.ProjectBuilder;
+
+public class CollaborationGraphTest {
+
+    // ALICE - BENSON - CARL - DANIEL, with ALICE and BENSON sharing two projects; ELLE and FIONA on their own
+    private static final Project FIRST = new ProjectBuilder().withName("First").withMembers(ALICE, BENSON).build();
+    private static final Project SECOND = new ProjectBuilder().withName("Second").withMembers(ALICE, BENSON).build();
+    private static final Project THIRD = new ProjectBuilder().withName("Third").withMembers(BENSON, CARL).build();
+    private static final Project FOURTH = new ProjectBuilder().withName("Fourth").withMembers(CARL, DANIEL).build();
+    private static final Project FIFTH = new ProjectBuilder().withName("Fifth").withMembers(ELLE, FIONA).build();
+
+    private CollaborationGraph graph;
+
+    @BeforeEach
+    public void setUp() {
+        graph = new CollaborationGraph();
+        graph.onReset(Arrays.asList(FIRST, SECOND, THIRD, FOURTH, FIFTH));
+    }
+
+    @Test
+    public void getCollaborators_invalidHops_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> graph.getCollaborators(ALICE, 0));
+    }
+
+    @Test
+    public void getCollaborators_withinHops_returnsSortedNames() {
+        assertEquals(names(ALICE, CARL), graph.getCollaborators(BENSON, 1));
+        assertEquals(names(BENSON, CARL), graph.getCollaborators(ALICE, 2));
+        assertEquals(names(BENSON, CARL, DANIEL), graph.getCollaborators(ALICE, 10));
+        assertEquals(names(FIONA), graph.getCollaborators(ELLE, 2));
+    }
+
+    @Test
+    public void getCollaborators_notMember_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), graph.getCollaborators(new PersonBuilder().build(), 1));
+    }
+
+    @Test
+    public void findShortestPath_connected_returnsPath() {
+        assertEquals(names(ALICE, BENSON, CARL, DANIEL), graph.findShortestPath(ALICE, DANIEL));
+        assertEquals(names(DANIEL, CARL), graph.findShortestPath(DANIEL, CARL));
+        assertEquals(names(ALICE), graph.findShortestPath(ALICE, ALICE));
+    }
+
+    @Test
+    public void findShortestPath_notConnected_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), graph.findShortestPath(ALICE, FIONA));
+    }
+
+    @Test
+    public void onRemove_sharedEdge_keptUntilLastProjectRemoved() {
+        graph.onRemove(FIRST);
+        assertEquals(names(BENSON), graph.getCollaborators(ALICE, 1));
+
+        graph.onRemove(SECOND);
+        assertEquals(Collections.emptyList(), graph.getCollaborators(ALICE, 1));
+        assertEquals(names(BENSON, DANIEL), graph.getCollaborators(CARL, 1));
+    }
+
+    @Test
+    public void onSet_memberAssigned_edgesAdded() {
+        graph.onSet(FIFTH, new ProjectBuilder(FIFTH).withMembers(ELLE, FIONA, DANIEL).build());
+        assertEquals(names(ELLE, DANIEL, CARL, BENSON, ALICE), graph.findShortestPath(ELLE, ALICE));
+        assertEquals(names(CARL, ELLE, FIONA), graph.getCollaborators(DANIEL, 1));
+    }
+
+    @Test
+    public void onRemove_idReused_noStaleEdges() {
+        graph.onRemove(FIFTH);
+        Person george = new PersonBuilder().withName("George").build();
+        graph.onAdd(new ProjectBuilder().withName("Sixth").withMembers(george, ALICE).build());
+
+        assertEquals(names(ALICE), graph.getCollaborators(george, 1));
+        assertEquals(Collections.emptyList(), graph.findShortestPath(george, ELLE));
+    }
+
+    @Test
+    public void findShortestPath_longChain_returnsWholeChain() {
+        List<Project> projects = new ArrayList<>();
+        Person previous = new PersonBuilder().withName("Person 0").build();
+        for (int i = 1; i <= 2000; i++) {
+            Person next = new PersonBuilder().withName("Person " + i).build();
+            projects.add(new ProjectBuilder().withName("Project " + i).withMembers(previous, next).build());
+            previous = next;
+        }
+        graph.onReset(projects);
+
+        Person first = new PersonBuilder().withName("Person 0").build();
+        assertEquals(2001, graph.findShortestPath(first, previous).size());
+        assertEquals(2000, graph.getCollaborators(first, Integer.MAX_VALUE).size());
+    }
+
+    private static List<String> names(Person... persons) {
+        List<String> names = new ArrayList<>();
+        for (Person person : persons) {
+            names.add(person.getName().toString());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.socket.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.Assert.assertThrows;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.testutil.PersonBuilder;
+import seedu.socket.testutil.TypicalPersons;
+
+public class IdentityIndexTest {
+
+    private IdentityIndex<Person> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new IdentityIndex<>(person -> person.getName().fullName.toLowerCase());
+        index.onReset(TypicalPersons.getTypicalPersons());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IdentityIndex<Person>(null));
+    }
+
+    @Test
+    public void get_existingElement_returnsElement() {
+        assertEquals(Optional.of(ALICE), index.get("alice pauline"));
+        Person aliceWithOtherDetails = new PersonBuilder(ALICE).withPhone("99999999").build();
+        assertEquals(Optional.of(ALICE), index.get(aliceWithOtherDetails));
+    }
+
+    @Test
+    public void get_missingElement_returnsEmpty() {
+        assertTrue(index.get("Alice Pauline").isEmpty());
+        assertTrue(index.get(new PersonBuilder().withName("Nobody").build()).isEmpty());
+    }
+
+    @Test
+    public void onSet_renamedElement_updatesIdentity() {
+        Person renamed = new PersonBuilder(ALICE).withName("Alice Renamed").build();
+        index.onSet(ALICE, renamed);
+        assertTrue(index.get("alice pauline").isEmpty());
+        assertEquals(Optional.of(renamed), index.get("alice renamed"));
+    }
+
+    @Test
+    public void onRemove_staleElement_keepsCurrentElement() {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        index.onAdd(editedBenson);
+        index.onRemove(BENSON);
+        assertEquals(Optional.of(editedBenson), index.get("benson meier"));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.socket.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.Assert.assertThrows;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.CARL;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.testutil.ProjectBuilder;
+
+public class MeetingConflictIndexTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private static final Project MORNING = new ProjectBuilder().withName("Morning")
+            .withProjectMeeting("01/01/23-0900").withMembers(ALICE, BENSON).build();
+    private static final Project NOON = new ProjectBuilder().withName("Noon")
+            .withProjectMeeting("01/01/23-1200").withMembers(ALICE).build();
+    private static final Project NO_MEETING = new ProjectBuilder().withName("None")
+            .withProjectMeeting("").withMembers(ALICE).build();
+
+    private MeetingConflictIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new MeetingConflictIndex();
+        index.onReset(Arrays.asList(MORNING, NOON, NO_MEETING));
+    }
+
+    @Test
+    public void findConflicts_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findConflicts(null, HOUR));
+        assertThrows(NullPointerException.class, () -> index.findConflicts(MORNING, null));
+    }
+
+    @Test
+    public void findConflicts_overlappingMeeting_returnsClashesByMember() {
+        Project project = new ProjectBuilder().withName("Clash")
+                .withProjectMeeting("01/01/23-0930").withMembers(BENSON, ALICE, CARL).build();
+
+        Map<Person, List<Project>> expected = new LinkedHashMap<>();
+        expected.put(ALICE, Collections.singletonList(MORNING));
+        expected.put(BENSON, Collections.singletonList(MORNING));
+        Map<Person, List<Project>> conflicts = index.findConflicts(project, HOUR);
+        assertEquals(expected, conflicts);
+        assertEquals(Arrays.asList(ALICE, BENSON), Arrays.asList(conflicts.keySet().toArray()));
+    }
+
+    @Test
+    public void findConflicts_backToBackMeetings_noConflict() {
+        Project project = new ProjectBuilder().withName("After")
+                .withProjectMeeting("01/01/23-1000").withMembers(ALICE).build();
+        assertTrue(index.findConflicts(project, HOUR).isEmpty());
+
+        // a longer meeting overlaps with both
+        assertEquals(Collections.singletonMap(ALICE, Arrays.asList(MORNING, NOON)),
+                index.findConflicts(project, Duration.ofHours(3)));
+    }
+
+    @Test
+    public void findConflicts_sameProject_ignored() {
+        assertTrue(index.findConflicts(NOON, HOUR).isEmpty());
+        assertTrue(index.findConflicts(NO_MEETING, HOUR).isEmpty());
+    }
+
+    @Test
+    public void onSet_memberRemoved_noLongerConflicts() {
+        index.onSet(MORNING, new ProjectBuilder(MORNING).withMembers(BENSON).build());
+        Project project = new ProjectBuilder().withName("Clash")
+                .withProjectMeeting("01/01/23-0930").withMembers(ALICE).build();
+
+        assertTrue(index.findConflicts(project, HOUR).isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.socket.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.index.PersonKeyIndex.Field;
+import seedu.socket.model.person.Person;
+import seedu.socket.testutil.PersonBuilder;
+import seedu.socket.testutil.TypicalPersons;
+
+public class PersonKeyIndexTest {
+
+    private PersonKeyIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new PersonKeyIndex();
+        index.onReset(TypicalPersons.getTypicalPersons());
+    }
+
+    @Test
+    public void find_existingKey_returnsPerson() {
+        assertEquals(Set.of(ALICE), index.find(Field.EMAIL, "ALICE@example.com"));
+        assertEquals(Set.of(BENSON), index.find(Field.PHONE, "98765432"));
+        assertEquals(Set.of(CARL), index.find(Field.PROFILE, " Carl-Kurz "));
+    }
+
+    @Test
+    public void find_missingOrEmptyKey_returnsEmptySet() {
+        assertTrue(index.find(Field.EMAIL, "nobody@example.com").isEmpty());
+        assertTrue(index.find(Field.PROFILE, "").isEmpty());
+    }
+
+    @Test
+    public void findCollisions_sharedKeys_returnsOtherPersonsByField() {
+        Person aliceTwin = new PersonBuilder().withName("Alice Twin").withEmail("Alice@example.com")
+                .withPhone("98765432").build();
+        index.onAdd(aliceTwin);
+
+        Map<Field, List<Person>> expected = new EnumMap<>(Field.class);
+        expected.put(Field.EMAIL, Collections.singletonList(ALICE));
+        expected.put(Field.PHONE, Collections.singletonList(BENSON));
+        assertEquals(expected, index.findCollisions(aliceTwin));
+        assertEquals(Map.of(Field.EMAIL, Collections.singletonList(aliceTwin)), index.findCollisions(ALICE));
+    }
+
+    @Test
+    public void findCollisions_noSharedKeys_returnsEmptyMap() {
+        assertTrue(index.findCollisions(ALICE).isEmpty());
+    }
+
+    @Test
+    public void onSetAndRemove_updatesKeys() {
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("pauline@example.com").build();
+        index.onSet(ALICE, editedAlice);
+        assertTrue(index.find(Field.EMAIL, "alice@example.com").isEmpty());
+        assertEquals(Set.of(editedAlice), index.find(Field.EMAIL, "pauline@example.com"));
+
+        index.onRemove(editedAlice);
+        assertTrue(index.find(Field.PHONE, editedAlice.getPhone().value).isEmpty());
+
+        index.onReset(Arrays.asList(ALICE));
+        assertEquals(Set.of(ALICE), index.find(Field.PHONE, ALICE.getPhone().value));
+        assertTrue(index.find(Field.PHONE, BENSON.getPhone().value).isEmpty());
+    }
+}
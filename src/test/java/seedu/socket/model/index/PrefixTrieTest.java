@@ -0,0 +1,91 @@
+package seedu.socket.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new PrefixTrie();
+        trie.insert("Alice Pauline");
+        trie.insert("Alex Yeoh");
+        trie.insert("Bernice Yu");
+    }
+
+    @Test
+    public void insert_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.insert(null));
+    }
+
+    @Test
+    public void insert_blankWord_ignored() {
+        trie.insert(" ");
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void complete_matchingPrefix_returnsSortedMatches() {
+        assertEquals(Arrays.asList("Alex Yeoh", "Alice Pauline"), trie.complete("al", 10));
+        assertEquals(Arrays.asList("Alex Yeoh", "Alice Pauline", "Bernice Yu"), trie.complete("", 10));
+    }
+
+    @Test
+    public void complete_ignoresCase() {
+        assertEquals(Collections.singletonList("Bernice Yu"), trie.complete("BERN", 10));
+    }
+
+    @Test
+    public void complete_limit_returnsAtMostLimit() {
+        assertEquals(Collections.singletonList("Alex Yeoh"), trie.complete("a", 1));
+        assertEquals(Collections.emptyList(), trie.complete("a", 0));
+    }
+
+    @Test
+    public void complete_noMatch_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), trie.complete("charlotte", 10));
+    }
+
+    @Test
+    public void remove_duplicateWord_keptUntilAllRemoved() {
+        trie.insert("alex yeoh");
+        trie.remove("Alex Yeoh");
+        assertTrue(trie.contains("alex yeoh"));
+        trie.remove("Alex Yeoh");
+        assertFalse(trie.contains("alex yeoh"));
+        assertEquals(Collections.singletonList("Alice Pauline"), trie.complete("al", 10));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    public void remove_absentWord_noChange() {
+        trie.remove("Alexander");
+        trie.remove("Ale");
+        assertEquals(3, trie.size());
+        assertTrue(trie.contains("Alex Yeoh"));
+    }
+
+    @Test
+    public void remove_prefixOfAnotherWord_keepsLongerWord() {
+        trie.insert("Alex");
+        trie.remove("Alex");
+        assertEquals(Arrays.asList("Alex Yeoh", "Alice Pauline"), trie.complete("al", 10));
+    }
+
+    @Test
+    public void clear() {
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertEquals(Collections.emptyList(), trie.complete("", 10));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.socket.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.project.Project;
+import seedu.socket.testutil.ProjectBuilder;
+
+public class ProjectTimeIndexTest {
+
+    private static final Project EARLY = new ProjectBuilder().withName("Early")
+            .withProjectDeadline("01/01/23-0800").withProjectMeeting("05/01/23-1000").build();
+    private static final Project LATE = new ProjectBuilder().withName("Late")
+            .withProjectDeadline("10/01/23-2359").withProjectMeeting("").build();
+    private static final Project NO_TIMES = new ProjectBuilder().withName("None")
+            .withProjectDeadline("").withProjectMeeting("").build();
+
+    private ProjectTimeIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new ProjectTimeIndex();
+        index.onReset(Arrays.asList(LATE, NO_TIMES, EARLY));
+    }
+
+    @Test
+    public void findBetween_null_throwsNullPointerException() {
+        LocalDateTime time = LocalDateTime.of(2023, 1, 1, 0, 0);
+        assertThrows(NullPointerException.class, () -> index.findBetween(null, time, time));
+        assertThrows(NullPointerException.class, () ->
+                index.findBetween(ProjectTimeIndex.Field.DEADLINE, null, time));
+        assertThrows(NullPointerException.class, () ->
+                index.findBetween(ProjectTimeIndex.Field.DEADLINE, time, null));
+    }
+
+    @Test
+    public void findBetween_deadlines_returnsProjectsInOrder() {
+        assertEquals(Arrays.asList(EARLY, LATE), index.findBetween(ProjectTimeIndex.Field.DEADLINE,
+                LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 2, 1, 0, 0)));
+
+        // start is inclusive, end is exclusive
+        assertEquals(Collections.singletonList(EARLY), index.findBetween(ProjectTimeIndex.Field.DEADLINE,
+                LocalDateTime.of(2023, 1, 1, 8, 0), LocalDateTime.of(2023, 1, 10, 23, 59)));
+
+        // empty or reversed period
+        assertEquals(Collections.emptyList(), index.findBetween(ProjectTimeIndex.Field.DEADLINE,
+                LocalDateTime.of(2023, 1, 1, 8, 0), LocalDateTime.of(2023, 1, 1, 8, 0)));
+        assertEquals(Collections.emptyList(), index.findBetween(ProjectTimeIndex.Field.DEADLINE,
+                LocalDateTime.of(2023, 2, 1, 0, 0), LocalDateTime.of(2023, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void findBetween_meetings_skipsProjectsWithoutMeeting() {
+        assertEquals(Collections.singletonList(EARLY), index.findBetween(ProjectTimeIndex.Field.MEETING,
+                LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void onSet_changedDeadline_moved() {
+        Project edited = new ProjectBuilder(EARLY).withProjectDeadline("20/01/23-0800").build();
+        index.onSet(EARLY, edited);
+
+        assertEquals(Arrays.asList(LATE, edited), index.findBetween(ProjectTimeIndex.Field.DEADLINE,
+                LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void onRemove_sameTime_keepsOtherProjects() {
+        Project sameDeadline = new ProjectBuilder().withName("Same")
+                .withProjectDeadline("10/01/23-2359").withProjectMeeting("").build();
+        index.onAdd(sameDeadline);
+        index.onRemove(LATE);
+
+        assertEquals(Arrays.asList(EARLY, sameDeadline), index.findBetween(ProjectTimeIndex.Field.DEADLINE,
+                LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+}
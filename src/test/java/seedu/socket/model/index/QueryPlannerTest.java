@@ -0,0 +1,90 @@
+package seedu.socket.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+import static seedu.socket.testutil.TypicalPersons.DANIEL;
+import static seedu.socket.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.predicate.QueryPredicate;
+import seedu.socket.model.person.predicate.QueryPredicate.And;
+import seedu.socket.model.person.predicate.QueryPredicate.Field;
+import seedu.socket.model.person.predicate.QueryPredicate.Not;
+import seedu.socket.model.person.predicate.QueryPredicate.Or;
+import seedu.socket.model.person.predicate.QueryPredicate.Term;
+import seedu.socket.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private static final Term FRIENDS = new Term(Field.TAG, "FRIENDS");
+    private static final Term OWES_MONEY = new Term(Field.TAG, "owesMoney");
+    private static final Term PYTHON = new Term(Field.LANGUAGE, "python");
+    private static final Term MEIER = new Term(Field.NAME, "meier");
+    private static final Term STREET = new Term(Field.ADDRESS, "street");
+
+    private final List<Person> persons = getTypicalPersons();
+    private final PersonAttributeIndex index = new PersonAttributeIndex();
+    private final QueryPlanner planner = new QueryPlanner(index);
+
+    @BeforeEach
+    public void setUp() {
+        index.onReset(persons);
+    }
+
+    @Test
+    public void evaluate_indexedTerms_sameAsScan() {
+        List<QueryPredicate> queries = Arrays.asList(FRIENDS, PYTHON, MEIER, STREET,
+                new And(Arrays.asList(FRIENDS, new Not(OWES_MONEY))),
+                new And(Arrays.asList(MEIER, STREET)),
+                new And(Arrays.asList(STREET, new Not(PYTHON))),
+                new Or(Arrays.asList(PYTHON, new And(Arrays.asList(FRIENDS, OWES_MONEY)))),
+                new Not(new Or(Arrays.asList(FRIENDS, STREET))));
+        for (QueryPredicate query : queries) {
+            assertEquals(scan(query), planner.evaluate(query, persons), query.toString());
+        }
+    }
+
+    @Test
+    public void evaluate_teamSelection_returnsMatchingPersons() {
+        QueryPredicate query = new And(Arrays.asList(FRIENDS, MEIER, new Not(OWES_MONEY)));
+        assertEquals(new HashSet<>(Arrays.asList(DANIEL)), planner.evaluate(query, persons));
+    }
+
+    @Test
+    public void evaluate_afterEdit_reflectsChange() {
+        Person editedAlice = new PersonBuilder(ALICE).withLanguages("Python").build();
+        index.onSet(ALICE, editedAlice);
+        index.onRemove(BENSON);
+        persons.set(persons.indexOf(ALICE), editedAlice);
+        persons.remove(BENSON);
+
+        assertTrue(planner.evaluate(PYTHON, persons).contains(editedAlice));
+        assertFalse(planner.evaluate(OWES_MONEY, persons).contains(BENSON));
+        assertEquals(scan(FRIENDS), planner.evaluate(FRIENDS, persons));
+    }
+
+    @Test
+    public void isIndexed() {
+        assertTrue(planner.isIndexed(FRIENDS));
+        assertFalse(planner.isIndexed(STREET));
+        assertTrue(planner.isIndexed(new And(Arrays.asList(STREET, FRIENDS))));
+        assertFalse(planner.isIndexed(new Or(Arrays.asList(STREET, FRIENDS))));
+        assertFalse(planner.isIndexed(new Not(FRIENDS)));
+    }
+
+    private Set<Person> scan(QueryPredicate query) {
+        return persons.stream().filter(query).collect(Collectors.toSet());
+    }
+}
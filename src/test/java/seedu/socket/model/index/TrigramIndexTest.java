@@ -0,0 +1,77 @@
+package seedu.socket.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex<Integer> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TrigramIndex<>();
+        index.add(1, Arrays.asList("Bernice", "Yu"));
+        index.add(2, Arrays.asList("Bernard", "Tan"));
+        index.add(3, Arrays.asList("Alex", "Yeoh"));
+    }
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null, 1));
+    }
+
+    @Test
+    public void search_exactWord_returnsElement() {
+        assertEquals(Collections.singleton(1), index.search("bernice", 0));
+        assertEquals(Collections.singleton(3), index.search("YEOH", 0));
+    }
+
+    @Test
+    public void search_misspeltWord_returnsCloseElements() {
+        assertEquals(Collections.singleton(1), index.search("Bernise", 1));
+        assertEquals(Collections.singleton(1), index.search("Berniece", 2));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), index.search("Bernace", 2));
+    }
+
+    @Test
+    public void search_shortWordSharingNoTrigram_returnsCloseElements() {
+        index.add(4, Arrays.asList("Tom", "Tam"));
+        index.add(5, Collections.singletonList("Timothy"));
+
+        // "tim" shares no trigram with "tom" or "tam", as the edit is at the start or in the middle
+        assertEquals(Collections.singleton(4), index.search("Tim", 1));
+        assertEquals(Collections.singleton(4), index.search("Tm", 1));
+        assertEquals(Collections.emptySet(), index.search("Tim", 0));
+    }
+
+    @Test
+    public void search_tooFar_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), index.search("Bernise", 0));
+        assertEquals(Collections.emptySet(), index.search("Charlotte", 2));
+        assertEquals(Collections.emptySet(), index.search(" ", 2));
+    }
+
+    @Test
+    public void remove_element_noLongerReturned() {
+        index.add(4, Collections.singletonList("Bernice"));
+        index.remove(1, Arrays.asList("Bernice", "Yu"));
+        assertEquals(Collections.singleton(4), index.search("Bernice", 0));
+        assertEquals(Collections.emptySet(), index.search("Yu", 0));
+
+        index.remove(4, Collections.singletonList("Bernice"));
+        assertEquals(Collections.emptySet(), index.search("Bernice", 1));
+    }
+
+    @Test
+    public void clear() {
+        index.clear();
+        assertEquals(Collections.emptySet(), index.search("Alex", 0));
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.socket.model.person.Person.CATEGORY_EMAIL;
 import static seedu.socket.model.person.Person.CATEGORY_GITHUB;
 import static seedu.socket.model.person.Person.CATEGORY_NAME;
 import static seedu.socket.model.person.Person.CATEGORY_PHONE;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 import static seedu.socket.testutil.Assert.assertThrows;
 import static seedu.socket.testutil.TypicalPersons.ALICE;
 import static seedu.socket.testutil.TypicalPersons.BENSON;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.socket.model.person.exceptions.DuplicatePersonException;
 import seedu.socket.model.person.exceptions.PersonNotFoundException;
+import seedu.socket.model.util.SortedView;
 import seedu.socket.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -203,8 +205,7 @@ public class UniquePersonListTest {
         sortByNameList.add(CARL);
         sortByNameList.add(EMPTY);
         sortByNameList.add(EMPTY_TWO);
-        uniquePersonList.sort(CATEGORY_NAME);
-        assertEquals(uniquePersonList, sortByNameList);
+        assertEquals(sortByNameList.asUnmodifiableObservableList(), sortedBy(uniquePersonList, CATEGORY_NAME));
     }
     @Test
     public void sort_phone() {
@@ -219,8 +220,7 @@ public class UniquePersonListTest {
         sortByPhoneList.add(BENSON);
         sortByPhoneList.add(EMPTY);
         sortByPhoneList.add((EMPTY_TWO));
-        uniquePersonList.sort(CATEGORY_PHONE);
-        assertEquals(uniquePersonList, sortByPhoneList);
+        assertEquals(sortByPhoneList.asUnmodifiableObservableList(), sortedBy(uniquePersonList, CATEGORY_PHONE));
     }
     @Test
     public void sort_email() {
@@ -235,8 +235,7 @@ public class UniquePersonListTest {
         sortByEmailList.add(BENSON);
         sortByEmailList.add(EMPTY);
         sortByEmailList.add(EMPTY_TWO);
-        uniquePersonList.sort(CATEGORY_EMAIL);
-        assertEquals(uniquePersonList, sortByEmailList);
+        assertEquals(sortByEmailList.asUnmodifiableObservableList(), sortedBy(uniquePersonList, CATEGORY_EMAIL));
     }
     @Test
     public void sort_address() {
@@ -251,8 +250,7 @@ public class UniquePersonListTest {
         sortByAddressList.add(CARL);
         sortByAddressList.add(EMPTY);
         sortByAddressList.add(EMPTY_TWO);
-        uniquePersonList.sort(CATEGORY_ADDRESS);
-        assertEquals(uniquePersonList, sortByAddressList);
+        assertEquals(sortByAddressList.asUnmodifiableObservableList(), sortedBy(uniquePersonList, CATEGORY_ADDRESS));
     }
 
     @Test
@@ -268,7 +266,14 @@ public class UniquePersonListTest {
         sortByProfileList.add(CARL);
         sortByProfileList.add(EMPTY);
         sortByProfileList.add(EMPTY_TWO);
-        uniquePersonList.sort(CATEGORY_GITHUB);
-        assertEquals(uniquePersonList, sortByProfileList);
+        assertEquals(sortByProfileList.asUnmodifiableObservableList(), sortedBy(uniquePersonList, CATEGORY_GITHUB));
+    }
+
+    /**
+     * Returns the {@code Person}s in {@code list} in the order of {@code category}, the same way the sort commands do.
+     */
+    private static List<Person> sortedBy(UniquePersonList list, String category) {
+        return SortedView.sortByKey(list.asUnmodifiableObservableList(), person -> person.getSortKey(category),
+                NO_LIMIT);
     }
 }
@@ -8,6 +8,7 @@ import static seedu.socket.model.project.Project.PROJ_DEADLINE;
 import static seedu.socket.model.project.Project.PROJ_NAME;
 import static seedu.socket.model.project.Project.PROJ_REPO_HOST;
 import static seedu.socket.model.project.Project.PROJ_REPO_NAME;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
 import static seedu.socket.testutil.Assert.assertThrows;
 import static seedu.socket.testutil.TypicalPersons.CARL;
 import static seedu.socket.testutil.TypicalPersons.DANIEL;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.socket.model.project.exceptions.DuplicateProjectException;
 import seedu.socket.model.project.exceptions.ProjectNotFoundException;
+import seedu.socket.model.util.SortedView;
 import seedu.socket.testutil.ProjectBuilder;
 
 public class UniqueProjectListTest {
@@ -188,8 +190,7 @@ public class UniqueProjectListTest {
         sortByNameList.add(CHARLIE);
         sortByNameList.add(EMPTY_PROJECT);
         sortByNameList.add(EMPTY_PROJECT_TWO);
-        uniqueProjectList.sort(PROJ_NAME);
-        assertEquals(uniqueProjectList, sortByNameList);
+        assertEquals(sortByNameList.asUnmodifiableObservableList(), sortedBy(uniqueProjectList, PROJ_NAME));
     }
 
     @Test
@@ -205,8 +206,7 @@ public class UniqueProjectListTest {
         sortByPhoneList.add(BRAVO);
         sortByPhoneList.add(EMPTY_PROJECT);
         sortByPhoneList.add((EMPTY_PROJECT_TWO));
-        uniqueProjectList.sort(PROJ_REPO_HOST);
-        assertEquals(uniqueProjectList, sortByPhoneList);
+        assertEquals(sortByPhoneList.asUnmodifiableObservableList(), sortedBy(uniqueProjectList, PROJ_REPO_HOST));
     }
 
     @Test
@@ -222,8 +222,7 @@ public class UniqueProjectListTest {
         sortByEmailList.add(CHARLIE);
         sortByEmailList.add(EMPTY_PROJECT);
         sortByEmailList.add(EMPTY_PROJECT_TWO);
-        uniqueProjectList.sort(PROJ_REPO_NAME);
-        assertEquals(uniqueProjectList, sortByEmailList);
+        assertEquals(sortByEmailList.asUnmodifiableObservableList(), sortedBy(uniqueProjectList, PROJ_REPO_NAME));
     }
 
     @Test
@@ -239,7 +238,14 @@ public class UniqueProjectListTest {
         sortByAddressList.add(CHARLIE);
         sortByAddressList.add(EMPTY_PROJECT);
         sortByAddressList.add(EMPTY_PROJECT_TWO);
-        uniqueProjectList.sort(PROJ_DEADLINE);
-        assertEquals(uniqueProjectList, sortByAddressList);
+        assertEquals(sortByAddressList.asUnmodifiableObservableList(), sortedBy(uniqueProjectList, PROJ_DEADLINE));
+    }
+
+    /**
+     * Returns the {@code Project}s in {@code list} in the order of {@code category}, the same way the sort commands do.
+     */
+    private static List<Project> sortedBy(UniqueProjectList list, String category) {
+        return SortedView.sortByKey(list.asUnmodifiableObservableList(), project -> project.getSortKey(category),
+                NO_LIMIT);
     }
 }
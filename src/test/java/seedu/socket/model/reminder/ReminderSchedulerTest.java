@@ -0,0 +1,142 @@
+package seedu.socket.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.index.ProjectTimeIndex;
+import seedu.socket.model.project.Project;
+import seedu.socket.testutil.ProjectBuilder;
+
+public class ReminderSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 1, 1, 12, 0);
+    private static final Duration LEAD_TIME = Duration.ofMinutes(15);
+
+    private static final Project ALPHA = new ProjectBuilder().withName("Alpha")
+            .withProjectDeadline("02/01/23-1200").withProjectMeeting("01/01/23-1300").build();
+    private static final Project BRAVO = new ProjectBuilder().withName("Bravo")
+            .withProjectDeadline("01/01/23-1800").withProjectMeeting("").build();
+    private static final Project OVERDUE = new ProjectBuilder().withName("Overdue")
+            .withProjectDeadline("01/01/23-1000").withProjectMeeting("").build();
+    private static final Project SOON = new ProjectBuilder().withName("Soon")
+            .withProjectDeadline("").withProjectMeeting("01/01/23-1210").build();
+
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new ReminderScheduler(LEAD_TIME, Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE));
+        scheduler.onReset(Arrays.asList(ALPHA, BRAVO, OVERDUE));
+    }
+
+    @Test
+    public void peekNextReminderTime_leadTimeBeforeEarliestEvent() {
+        assertEquals(Optional.of(LocalDateTime.of(2023, 1, 1, 12, 45)), scheduler.peekNextReminderTime());
+    }
+
+    @Test
+    public void pollDue_returnsDueRemindersInOrder() {
+        assertEquals(Collections.emptyList(), scheduler.pollDue(LocalDateTime.of(2023, 1, 1, 12, 44)));
+        assertEquals(Arrays.asList(Reminder.of(ProjectTimeIndex.Field.MEETING, ALPHA),
+                Reminder.of(ProjectTimeIndex.Field.DEADLINE, BRAVO)),
+                scheduler.pollDue(LocalDateTime.of(2023, 1, 1, 17, 45)));
+
+        // polled reminders are not returned again
+        assertEquals(Collections.singletonList(Reminder.of(ProjectTimeIndex.Field.DEADLINE, ALPHA)),
+                scheduler.pollDue(LocalDateTime.MAX));
+        assertEquals(Optional.empty(), scheduler.peekNextReminderTime());
+    }
+
+    @Test
+    public void onRemove_reminderDropped() {
+        scheduler.onRemove(ALPHA);
+        assertEquals(Collections.singletonList(Reminder.of(ProjectTimeIndex.Field.DEADLINE, BRAVO)),
+                scheduler.pollDue(LocalDateTime.MAX));
+    }
+
+    @Test
+    public void onSet_changedMeeting_rescheduled() {
+        Project edited = new ProjectBuilder(ALPHA).withProjectMeeting("01/01/23-2000").build();
+        scheduler.onSet(ALPHA, edited);
+
+        assertEquals(Arrays.asList(Reminder.of(ProjectTimeIndex.Field.DEADLINE, BRAVO),
+                Reminder.of(ProjectTimeIndex.Field.MEETING, edited),
+                Reminder.of(ProjectTimeIndex.Field.DEADLINE, ALPHA)),
+                scheduler.pollDue(LocalDateTime.MAX));
+    }
+
+    @Test
+    public void onReset_keepsUnchangedReminders() {
+        scheduler.onReset(Collections.singletonList(BRAVO));
+        scheduler.onReset(Arrays.asList(ALPHA, BRAVO));
+
+        assertEquals(3, scheduler.pollDue(LocalDateTime.MAX).size());
+    }
+
+    @Test
+    public void onAdd_eventWithinLeadTime_dueAtOnce() {
+        scheduler.onAdd(SOON);
+
+        assertEquals(Optional.of(LocalDateTime.of(2023, 1, 1, 11, 55)), scheduler.peekNextReminderTime());
+        assertEquals(Collections.singletonList(Reminder.of(ProjectTimeIndex.Field.MEETING, SOON)),
+                scheduler.pollDue(NOW));
+    }
+
+    @Test
+    public void onReset_deliveredReminder_notScheduledAgain() {
+        scheduler.onAdd(SOON);
+        scheduler.pollDue(NOW);
+        scheduler.onReset(Arrays.asList(ALPHA, BRAVO, OVERDUE, SOON));
+
+        assertEquals(Collections.emptyList(), scheduler.pollDue(NOW));
+    }
+
+    @Test
+    public void start_reminderDue_passedToHandler() throws Exception {
+        BlockingQueue<Reminder> received = new LinkedBlockingQueue<>();
+        scheduler.start(received::add);
+        try {
+            scheduler.onAdd(SOON);
+
+            Reminder reminder = received.poll(5, TimeUnit.SECONDS);
+            assertEquals(Reminder.of(ProjectTimeIndex.Field.MEETING, SOON), reminder);
+            assertTrue(reminder.toString().contains("Soon"));
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    public void start_handlerThrows_laterRemindersStillPassed() throws Exception {
+        Project later = new ProjectBuilder(SOON).withName("Later").build();
+        BlockingQueue<Reminder> received = new LinkedBlockingQueue<>();
+        scheduler.start(reminder -> {
+            received.add(reminder);
+            throw new IllegalStateException();
+        });
+        try {
+            scheduler.onAdd(SOON);
+            assertEquals(Reminder.of(ProjectTimeIndex.Field.MEETING, SOON), received.poll(5, TimeUnit.SECONDS));
+
+            scheduler.onAdd(later);
+            assertEquals(Reminder.of(ProjectTimeIndex.Field.MEETING, later), received.poll(5, TimeUnit.SECONDS));
+        } finally {
+            scheduler.stop();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.socket.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+    private static final long MILLI = 1_000_000;
+
+    private final AtomicLong now = new AtomicLong();
+    private final CommandMetrics metrics = new CommandMetrics(now::get, Duration.ofMinutes(1));
+
+    @Test
+    public void record_groupedByCommandWordAndPhase() {
+        metrics.record("list", CommandMetrics.Phase.PARSE, MILLI);
+        metrics.record("list", CommandMetrics.Phase.EXECUTE, 2 * MILLI);
+        metrics.record("add", CommandMetrics.Phase.PARSE, MILLI);
+        metrics.record("list", CommandMetrics.Phase.PARSE, MILLI);
+
+        assertEquals(Arrays.asList("add", "list"), metrics.getCommandWords());
+        assertEquals(2, metrics.getCommandCount("list"));
+        assertEquals(1, metrics.getHistogram("list", CommandMetrics.Phase.EXECUTE).getCount());
+        assertEquals(0, metrics.getHistogram("list", CommandMetrics.Phase.SAVE).getCount());
+        assertEquals(0, metrics.getCommandCount("delete"));
+    }
+
+    @Test
+    public void recordSave_keepsLastAndTotal() {
+        metrics.recordSave(10, 1000, 3 * MILLI);
+        metrics.recordSave(12, 1200, 4 * MILLI);
+
+        assertEquals(2, metrics.getSaveCount());
+        assertEquals(12, metrics.getLastSaveRecordCount());
+        assertEquals(1200, metrics.getLastSaveByteCount());
+        assertEquals(4 * MILLI, metrics.getLastSaveNanos());
+        assertEquals(2200, metrics.getTotalByteCount());
+    }
+
+    @Test
+    public void getSummary_noCommands_none() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, metrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsRecorded_lineForEachCommandWord() {
+        metrics.record("list", CommandMetrics.Phase.PARSE, MILLI);
+        metrics.recordSave(10, 1000, 3 * MILLI);
+
+        String[] lines = metrics.getSummary().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(CommandMetrics.MESSAGE_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith("list x1: parse "));
+        assertTrue(lines[1].endsWith("execute -, save -"));
+        assertTrue(lines[2].startsWith("1 saves, last of 10 persons and projects, 1000 bytes"));
+    }
+
+    @Test
+    public void pollSummary_dueAfterIntervalWithNewCommands() {
+        assertFalse(metrics.pollSummary().isPresent());
+
+        metrics.record("list", CommandMetrics.Phase.PARSE, MILLI);
+        assertFalse(metrics.pollSummary().isPresent());
+
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertEquals(metrics.getSummary(), metrics.pollSummary().get());
+
+        // nothing new since the last summary
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertFalse(metrics.pollSummary().isPresent());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.socket.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CounterTest {
+
+    private Counter<String> counter;
+
+    @BeforeEach
+    public void setUp() {
+        counter = new Counter<>();
+        Arrays.asList("b", "a", "c", "a", "c", "c").forEach(counter::increment);
+    }
+
+    @Test
+    public void increment_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> counter.increment(null));
+    }
+
+    @Test
+    public void decrement_toZero_keyRemoved() {
+        counter.decrement("b");
+        assertEquals(0, counter.get("b"));
+        assertEquals(2, counter.asMap().size());
+
+        counter.decrement("c");
+        assertEquals(2, counter.get("c"));
+    }
+
+    @Test
+    public void getMostFrequent_tiesInNaturalOrder() {
+        counter.increment("b");
+        assertEquals(Arrays.asList("c", "a", "b"), counter.getMostFrequent(5));
+        assertEquals(Arrays.asList("c", "a"), counter.getMostFrequent(2));
+        assertEquals(Collections.emptyList(), counter.getMostFrequent(0));
+    }
+
+    @Test
+    public void getMostFrequent_afterDecrementAndClear_followsCounts() {
+        counter.decrement("c");
+        counter.decrement("c");
+        assertEquals(Arrays.asList("a", "b", "c"), counter.getMostFrequent(5));
+
+        counter.decrement("a");
+        counter.decrement("a");
+        assertEquals(Arrays.asList("b", "c"), counter.getMostFrequent(5));
+
+        counter.clear();
+        assertEquals(Collections.emptyList(), counter.getMostFrequent(5));
+        counter.increment("a");
+        assertEquals(Collections.singletonList("a"), counter.getMostFrequent(5));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.socket.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+    private static final long MICRO = 1000;
+
+    @Test
+    public void getPercentileNanos_empty_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    public void record_updatesCountTotalAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3 * MICRO);
+        histogram.record(5 * MICRO);
+        histogram.record(-1);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(8 * MICRO, histogram.getTotalNanos());
+        assertEquals(5 * MICRO, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_withinFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 100 * MICRO);
+        }
+
+        long median = histogram.getPercentileNanos(50);
+        assertTrue(median >= 5000 * MICRO && median <= 2 * 5000 * MICRO);
+        long p95 = histogram.getPercentileNanos(95);
+        assertTrue(p95 >= 9500 * MICRO && p95 <= 10000 * MICRO); // capped by the maximum
+        assertEquals(10000 * MICRO, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void getPercentileNanos_subMicrosecond_atMostOneMicrosecond() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(400);
+        assertEquals(400, histogram.getPercentileNanos(99));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.socket.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.testutil.TypicalPersons.ALICE;
+import static seedu.socket.testutil.TypicalPersons.BENSON;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Model;
+import seedu.socket.model.ModelManager;
+import seedu.socket.model.UserPrefs;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.project.Project;
+import seedu.socket.testutil.PersonBuilder;
+import seedu.socket.testutil.TypicalProjects;
+
+public class SocketStatisticsTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalProjects.getTypicalSocket(), new UserPrefs());
+    }
+
+    @Test
+    public void getStatistics_typicalSocket_matchesFullScan() {
+        assertMatchesFullScan();
+        SocketStatistics statistics = model.getStatistics();
+        assertEquals(3, statistics.getTags().get("friends"));
+        assertEquals(1, statistics.getProjectsPerMember().get(ALICE.getName().toString()));
+    }
+
+    @Test
+    public void getStatistics_afterEditsAndDeletes_matchesFullScan() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").withTags("colleagues")
+                .withLanguages("Go").build();
+        model.setPerson(ALICE, editedAlice);
+        model.deletePerson(BENSON);
+        model.deleteProject(model.getFilteredProjectList().get(1));
+        assertMatchesFullScan();
+
+        SocketStatistics statistics = model.getStatistics();
+        assertEquals(0, statistics.getProjectsPerMember().get(ALICE.getName().toString()));
+        assertEquals(1, statistics.getProjectsPerMember().get("Alice Tan"));
+        assertEquals(1, statistics.getLanguages().get("Go"));
+    }
+
+    @Test
+    public void getStatistics_afterUndo_matchesFullScan() {
+        model.deleteProject(model.getFilteredProjectList().get(0));
+        model.commitSocket();
+        model.undoSocket();
+        assertMatchesFullScan();
+    }
+
+    private void assertMatchesFullScan() {
+        Map<String, Integer> projectsPerMember = new TreeMap<>();
+        Map<String, Integer> projectsPerRepoHost = new TreeMap<>();
+        for (Project project : model.getSocket().getProjectList()) {
+            project.getMembers().forEach(member ->
+                    projectsPerMember.merge(member.getName().toString(), 1, Integer::sum));
+            if (!project.getRepoHost().isEmptyRepoHost()) {
+                projectsPerRepoHost.merge(project.getRepoHost().value, 1, Integer::sum);
+            }
+        }
+        Map<String, Integer> tags = new TreeMap<>();
+        Map<String, Integer> languages = new TreeMap<>();
+        for (Person person : model.getSocket().getPersonList()) {
+            person.getTags().forEach(tag -> tags.merge(tag.tagName, 1, Integer::sum));
+            person.getLanguages().forEach(language -> languages.merge(language.languageName, 1, Integer::sum));
+        }
+
+        SocketStatistics statistics = model.getStatistics();
+        assertEquals(model.getSocket().getPersonList().size(), statistics.getPersonCount());
+        assertEquals(model.getSocket().getProjectList().size(), statistics.getProjectCount());
+        assertEquals(projectsPerMember, new TreeMap<>(statistics.getProjectsPerMember().asMap()));
+        assertEquals(projectsPerRepoHost, new TreeMap<>(statistics.getProjectsPerRepoHost().asMap()));
+        assertEquals(tags, new TreeMap<>(statistics.getTags().asMap()));
+        assertEquals(languages, new TreeMap<>(statistics.getLanguages().asMap()));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.socket.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SortKeyTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortKey(null, "alice"));
+        assertThrows(NullPointerException.class, () -> new SortKey("alice", null));
+    }
+
+    @Test
+    public void compareTo() {
+        // ordered by value
+        assertTrue(new SortKey("123", "bob").compareTo(new SortKey("456", "alice")) < 0);
+
+        // empty values last
+        assertTrue(new SortKey("", "alice").compareTo(new SortKey("456", "bob")) > 0);
+        assertTrue(new SortKey("456", "bob").compareTo(new SortKey("", "alice")) < 0);
+
+        // same value -> ordered by tie-breaker
+        assertTrue(new SortKey("", "alice").compareTo(new SortKey("", "bob")) < 0);
+        assertTrue(new SortKey("123", "bob").compareTo(new SortKey("123", "alice")) > 0);
+        assertEquals(0, new SortKey("123", "bob").compareTo(new SortKey("123", "bob")));
+    }
+}
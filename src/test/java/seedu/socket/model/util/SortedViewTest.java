@@ -0,0 +1,81 @@
+package seedu.socket.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.socket.model.util.SortedView.NO_LIMIT;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class SortedViewTest {
+
+    private static final Function<String, Integer> LENGTH = String::length;
+
+    private ObservableList<String> source;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("ccc", "a", "dddd", "bb", "e");
+    }
+
+    @Test
+    public void constructor_noLimit_sortedByKeyStably() {
+        SortedView<String, Integer> view = new SortedView<>(source, LENGTH, NO_LIMIT);
+        assertEquals(Arrays.asList("a", "e", "bb", "ccc", "dddd"), view);
+
+        // source order is unchanged
+        assertEquals(Arrays.asList("ccc", "a", "dddd", "bb", "e"), source);
+    }
+
+    @Test
+    public void constructor_limit_firstElementsOnly() {
+        assertEquals(Arrays.asList("a", "e", "bb"), new SortedView<>(source, LENGTH, 3));
+        assertEquals(Arrays.asList("a"), new SortedView<>(source, LENGTH, 1));
+        assertEquals(Arrays.asList("a", "e", "bb", "ccc", "dddd"), new SortedView<>(source, LENGTH, 10));
+    }
+
+    @Test
+    public void sourceChanged_noLimit_viewUpdated() {
+        SortedView<String, Integer> view = new SortedView<>(source, LENGTH, NO_LIMIT);
+        source.add("ff");
+        assertEquals(Arrays.asList("a", "e", "bb", "ff", "ccc", "dddd"), view);
+
+        source.remove("bb");
+        source.set(0, "g");
+        assertEquals(Arrays.asList("a", "e", "g", "ff", "dddd"), view);
+
+        // reordering the source does not reorder the view
+        source.sort(Comparator.reverseOrder());
+        assertEquals(Arrays.asList("a", "e", "g", "ff", "dddd"), view);
+    }
+
+    @Test
+    public void sourceChanged_limit_viewRebuilt() {
+        SortedView<String, Integer> view = new SortedView<>(source, LENGTH, 2);
+        source.remove("a");
+        assertEquals(Arrays.asList("e", "bb"), view);
+
+        source.add(0, "h");
+        assertEquals(Arrays.asList("h", "e"), view);
+    }
+
+    @Test
+    public void dispose_sourceChanged_viewNotUpdated() {
+        SortedView<String, Integer> view = new SortedView<>(source, LENGTH, NO_LIMIT);
+        view.dispose();
+        source.clear();
+        assertEquals(5, view.size());
+    }
+
+    @Test
+    public void sortByKey_limit_firstElementsInKeyOrder() {
+        assertEquals(Arrays.asList("a", "e"), SortedView.sortByKey(source, LENGTH, 2));
+        assertEquals(Arrays.asList("a", "e", "bb", "ccc", "dddd"), SortedView.sortByKey(source, LENGTH, NO_LIMIT));
+    }
+}
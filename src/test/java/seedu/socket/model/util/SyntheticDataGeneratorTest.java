@@ -0,0 +1,92 @@
+package seedu.socket.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.socket.model.Socket;
+import seedu.socket.model.person.Person;
+import seedu.socket.model.person.tag.Tag;
+import seedu.socket.model.project.Project;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generateSocket_sameSeed_sameData() {
+        Socket socket = new SyntheticDataGenerator(1).generateSocket(200, 20);
+        assertEquals(200, socket.getPersonList().size());
+        assertEquals(20, socket.getProjectList().size());
+        assertEquals(socket, new SyntheticDataGenerator(1).generateSocket(200, 20));
+        assertNotEquals(socket, new SyntheticDataGenerator(2).generateSocket(200, 20));
+    }
+
+    @Test
+    public void generatePersons_withTags_tagsFromVocabulary() {
+        List<Person> persons = new SyntheticDataGenerator(1)
+                .withTags(Arrays.asList("alpha", "beta"), 1)
+                .withLanguages(Collections.emptyList(), 0)
+                .generatePersons(100);
+
+        for (Person person : persons) {
+            assertTrue(person.getTags().size() <= 1);
+            assertTrue(person.getTags().stream().allMatch(tag -> tag.equals(new Tag("alpha"))
+                    || tag.equals(new Tag("beta"))));
+            assertTrue(person.getLanguages().isEmpty());
+        }
+    }
+
+    @Test
+    public void generateProjects_withMembers_memberCountsInRange() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1)
+                .withMembers(2, 4, SyntheticDataGenerator.Membership.UNIFORM);
+        List<Person> persons = generator.generatePersons(50);
+
+        for (Project project : generator.generateProjects(persons, 30)) {
+            assertTrue(2 <= project.getMembers().size() && project.getMembers().size() <= 4);
+            assertTrue(persons.containsAll(project.getMembers()));
+        }
+    }
+
+    @Test
+    public void generateProjects_skewedMembership_firstPersonsPickedMore() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1)
+                .withMembers(5, 5, SyntheticDataGenerator.Membership.SKEWED);
+        List<Person> persons = generator.generatePersons(100);
+        List<Project> projects = generator.generateProjects(persons, 100);
+
+        long firstTenth = projects.stream().flatMap(project -> project.getMembers().stream())
+                .filter(member -> persons.indexOf(member) < 10).count();
+        long lastTenth = projects.stream().flatMap(project -> project.getMembers().stream())
+                .filter(member -> persons.indexOf(member) >= 90).count();
+        assertTrue(firstTenth > 5 * lastTenth);
+    }
+
+    @Test
+    public void generateProjects_withDeadlines_deadlinesWithinSpread() {
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 0, 0);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1)
+                .withDeadlines(start, Duration.ofDays(7), 1);
+        List<Person> persons = generator.generatePersons(10);
+
+        for (Project project : generator.generateProjects(persons, 30)) {
+            LocalDateTime deadline = project.getDeadline().toLocalDateTime();
+            assertTrue(!deadline.isBefore(start) && !deadline.isAfter(start.plusDays(7)));
+            assertTrue(project.getMeeting().toLocalDateTime().isBefore(deadline));
+        }
+    }
+
+    @Test
+    public void withTags_invalidTag_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1)
+                .withTags(Arrays.asList("not a tag"), 1));
+    }
+}
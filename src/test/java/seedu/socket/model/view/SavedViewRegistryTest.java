@@ -0,0 +1,108 @@
+package seedu.socket.model.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.socket.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SavedViewRegistryTest {
+
+    private List<Integer> source;
+    private SavedViewRegistry<Integer> registry;
+    private SavedView<Integer> evens;
+
+    @BeforeEach
+    public void setUp() {
+        source = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6));
+        registry = new SavedViewRegistry<>(source);
+        evens = registry.save("evens", number -> number % 2 == 0);
+    }
+
+    @Test
+    public void save_existingElements_matchingElementsInOrder() {
+        assertEquals(Arrays.asList(2, 4, 6), evens.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void save_sameNameDifferentCase_replacesView() {
+        registry.save("EVENS", number -> number > 4);
+        assertEquals(Arrays.asList(5, 6), registry.get("evens").get().asUnmodifiableObservableList());
+        assertEquals(Collections.singleton("evens"), registry.getNames());
+    }
+
+    @Test
+    public void get_missingView_returnsEmpty() {
+        assertFalse(registry.get("odds").isPresent());
+        assertThrows(NullPointerException.class, () -> registry.get(null));
+    }
+
+    @Test
+    public void remove_existingView_viewRemoved() {
+        registry.remove("Evens");
+        assertFalse(registry.get("evens").isPresent());
+        assertTrue(registry.getNames().isEmpty());
+    }
+
+    @Test
+    public void onAdd_matchingElement_appendedToView() {
+        add(8);
+        add(9);
+        assertEquals(Arrays.asList(2, 4, 6, 8), evens.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void onRemove_matchingElement_removedFromView() {
+        remove(4);
+        remove(3);
+        assertEquals(Arrays.asList(2, 6), evens.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void onSet_editedElement_viewUpdatedInPlace() {
+        // matching -> matching, keeps its place
+        set(4, 10);
+        assertEquals(Arrays.asList(2, 10, 6), evens.asUnmodifiableObservableList());
+
+        // not matching -> matching, inserted at its place in the list
+        set(3, 12);
+        assertEquals(Arrays.asList(2, 12, 10, 6), evens.asUnmodifiableObservableList());
+
+        // matching -> not matching, removed
+        set(2, 7);
+        assertEquals(Arrays.asList(12, 10, 6), evens.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void onReset_newElements_viewRebuilt() {
+        source.clear();
+        source.addAll(Arrays.asList(20, 11, 14));
+        registry.onReset(source);
+        assertEquals(Arrays.asList(20, 14), evens.asUnmodifiableObservableList());
+
+        add(16);
+        assertEquals(Arrays.asList(20, 14, 16), evens.asUnmodifiableObservableList());
+    }
+
+    private void add(int number) {
+        source.add(number);
+        registry.onAdd(number);
+    }
+
+    private void remove(int number) {
+        source.remove(Integer.valueOf(number));
+        registry.onRemove(number);
+    }
+
+    private void set(int target, int edited) {
+        source.set(source.indexOf(target), edited);
+        registry.onSet(target, edited);
+    }
+}
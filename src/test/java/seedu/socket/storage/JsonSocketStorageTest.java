@@ -3,18 +3,22 @@ package seedu.socket.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.socket.testutil.Assert.assertThrows;
+import static seedu.socket.testutil.FlightRecorderUtil.recordEvents;
 import static seedu.socket.testutil.TypicalPersons.ALICE;
 import static seedu.socket.testutil.TypicalPersons.HOON;
 import static seedu.socket.testutil.TypicalPersons.IDA;
 import static seedu.socket.testutil.TypicalPersons.getTypicalSocket;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.socket.commons.exceptions.DataConversionException;
 import seedu.socket.model.ReadOnlySocket;
 import seedu.socket.model.Socket;
@@ -85,6 +89,28 @@ public class JsonSocketStorageTest {
         assertEquals(original, new Socket(readBack));
     }
 
+    @Test
+    public void readAndSaveSocket_recording_eventsRecorded() throws Throwable {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Socket original = getTypicalSocket();
+        JsonSocketStorage jsonAddressBookStorage = new JsonSocketStorage(filePath);
+
+        List<RecordedEvent> events = recordEvents("seedu.socket.SocketFile", testFolder, () -> {
+            jsonAddressBookStorage.saveSocket(original);
+            jsonAddressBookStorage.readSocket();
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(SocketFileEvent.SAVE, events.get(0).getString("operation"));
+        assertEquals(SocketFileEvent.LOAD, events.get(1).getString("operation"));
+        for (RecordedEvent event : events) {
+            assertEquals(filePath.toString(), event.getString("path"));
+            assertEquals(Files.size(filePath), event.getLong("bytes"));
+            assertEquals(original.getPersonList().size(), event.getInt("personCount"));
+            assertEquals(original.getProjectList().size(), event.getInt("projectCount"));
+        }
+    }
+
     @Test
     public void saveSocket_nullSocket_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveSocket(null, "SomeFile.json"));
@@ -0,0 +1,33 @@
+package seedu.socket.testutil;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A utility class for checking the Java Flight Recorder events of the code under test.
+ */
+public class FlightRecorderUtil {
+
+    /**
+     * Runs {@code executable} while recording the events named {@code eventName}, and returns the recorded events.
+     * The recording is written to a file in {@code folder} to be read back.
+     */
+    public static List<RecordedEvent> recordEvents(String eventName, Path folder, Executable executable)
+            throws Throwable {
+        Path recordingFile = folder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile);
+    }
+}